@@ -191,6 +191,14 @@ public interface ArcConfig {
     @WithDefault("false")
     boolean strictCompatibility();
 
+    /**
+     * If set to {@code true}, the beans are validated in parallel on the build executor, in batches of 64 beans. The
+     * validation errors and the bytecode transformations are reported in the same order as with a sequential validation.
+     * Setting this to {@code false} validates the beans sequentially on the build step thread.
+     */
+    @WithDefault("true")
+    boolean parallelValidation();
+
     /**
      * Dev mode configuration.
      */
@@ -222,8 +230,9 @@ public interface ArcConfig {
      * then optimize the contexts if there's less than 1000 beans in the application. If set to {@code false} do not optimize
      * the contexts.
      * <p>
-     * Typically, some implementation parts of the context for {@link jakarta.enterprise.context.ApplicationScoped} could be
-     * pregenerated during build.
+     * Typically, some implementation parts of the context for {@link jakarta.enterprise.context.RequestScoped} could be
+     * pregenerated during build. The context for {@link jakarta.enterprise.context.ApplicationScoped} does not need this
+     * optimization, the instances of its beans are always stored in slots assigned when the container is initialized.
      */
     @WithDefault("auto")
     @ConfigDocIgnore
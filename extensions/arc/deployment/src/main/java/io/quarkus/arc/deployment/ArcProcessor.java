@@ -472,11 +472,12 @@ public ObserverRegistrationPhaseBuildItem registerSyntheticObservers(BeanRegistr
 
     // PHASE 4 - initialize and validate the bean deployment
     @BuildStep
-    public ValidationPhaseBuildItem validate(ObserverRegistrationPhaseBuildItem observerRegistrationPhase,
+    public ValidationPhaseBuildItem validate(ArcConfig config, ObserverRegistrationPhaseBuildItem observerRegistrationPhase,
             List<ObserverConfiguratorBuildItem> observerConfigurationRegistry,
             List<UnremovableBeanBuildItem> unremovableBeans,
             BuildProducer<BytecodeTransformerBuildItem> bytecodeTransformer,
-            BuildProducer<SynthesisFinishedBuildItem> synthesisFinished) {
+            BuildProducer<SynthesisFinishedBuildItem> synthesisFinished,
+            ExecutorService buildExecutor) {
 
         for (ObserverConfiguratorBuildItem configurator : observerConfigurationRegistry) {
             // Just make sure the configurator is processed
@@ -490,7 +491,8 @@ public ValidationPhaseBuildItem validate(ObserverRegistrationPhaseBuildItem obse
 
         beanProcessor.initialize(bytecodeTransformerConsumer,
                 unremovableBeans.stream().map(UnremovableBeanBuildItem::getPredicate).collect(Collectors.toList()));
-        BeanDeploymentValidator.ValidationContext validationContext = beanProcessor.validate(bytecodeTransformerConsumer);
+        BeanDeploymentValidator.ValidationContext validationContext = beanProcessor.validate(bytecodeTransformerConsumer,
+                config.parallelValidation() ? buildExecutor : null);
 
         return new ValidationPhaseBuildItem(validationContext, beanProcessor);
     }
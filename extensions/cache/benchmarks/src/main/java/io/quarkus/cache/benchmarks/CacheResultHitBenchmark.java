@@ -0,0 +1,304 @@
+package io.quarkus.cache.benchmarks;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import jakarta.interceptor.InvocationContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.quarkus.arc.AbstractAnnotationLiteral;
+import io.quarkus.arc.ArcInvocationContext;
+import io.quarkus.arc.runtime.InterceptorBindings;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheKeyGenerator;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.runtime.CacheInterceptionContexts;
+import io.quarkus.cache.runtime.CacheInterceptor;
+import io.quarkus.cache.runtime.CacheKeyParameterPositions;
+import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.cache.runtime.CacheResultInterceptor;
+import io.quarkus.cache.runtime.UndefinedCacheKeyGenerator;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+
+/**
+ * Measures the cache hit path of a synchronous method annotated with {@code @CacheResult} and intercepted by ArC.
+ * <ul>
+ * <li>{@code before}: the interception as it was done before the interception contexts were kept, the interceptor bindings
+ * are resolved from the ArC invocation context on each invocation, the key is built from the cache key parameter positions
+ * and the value is read through the {@code Uni} returned by the cache</li>
+ * <li>{@code after}: {@link CacheResultInterceptor#intercept(InvocationContext)}, which looks up the interception context
+ * of the method and reads the completed value synchronously</li>
+ * </ul>
+ * Both benchmarks are given the same invocation context as the one created by ArC.
+ * <p>
+ * Running the {@link #main(String[])} method executes the benchmark with the GC profiler, which reports the allocation rate
+ * per operation. To run from the command line, use {@code java -jar target/benchmark.jar CacheResultHitBenchmark -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheResultHitBenchmark {
+
+    private static final String CACHE_NAME = "benchmark";
+
+    private static final Function<Object, Object> LOADER = new Function<Object, Object>() {
+        @Override
+        public Object apply(Object key) {
+            throw new IllegalStateException("The benchmark only measures cache hits");
+        }
+    };
+
+    /*
+     * single: see Service#single
+     * composite: see Service#composite
+     */
+    @Param({ "single", "composite" })
+    public String key;
+
+    private CacheManager cacheManager;
+    private CacheResultInterceptor interceptor;
+    private BenchmarkInvocationContext invocationContext;
+
+    @Setup
+    public void setup() throws Throwable {
+        CaffeineCacheInfo cacheInfo = new CaffeineCacheInfo();
+        cacheInfo.name = CACHE_NAME;
+        cacheInfo.maximumSize = 10_000L;
+        CaffeineCacheImpl cache = new CaffeineCacheImpl(cacheInfo, false);
+        cacheManager = new CacheManagerImpl(Map.of(CACHE_NAME, cache));
+
+        interceptor = new CacheResultInterceptor();
+        inject(interceptor, "cacheManager", cacheManager);
+        inject(interceptor, "interceptionContexts", new CacheInterceptionContexts());
+
+        if (key.equals("single")) {
+            invocationContext = new BenchmarkInvocationContext(Service.class.getMethod("single", String.class),
+                    new Object[] { "id-42" }, Set.of(new CacheResultLiteral()));
+        } else {
+            invocationContext = new BenchmarkInvocationContext(
+                    Service.class.getMethod("composite", String.class, int.class, Locale.class),
+                    new Object[] { "id-42", 7, Locale.ENGLISH },
+                    Set.of(new CacheResultLiteral(), new CacheKeyParameterPositionsLiteral((short) 0, (short) 1)));
+        }
+        // The keys built by both benchmarks are equal.
+        invocationContext.value = "value";
+        interceptor.intercept(invocationContext);
+        invocationContext.value = null;
+        if (!"value".equals(before())) {
+            throw new IllegalStateException("The benchmarks don't read the same entry");
+        }
+    }
+
+    @Benchmark
+    public Object before() {
+        // The resolution of the interceptor bindings from CacheInterceptor#getArcCacheInterceptionContext
+        Set<AbstractAnnotationLiteral> bindings = InterceptorBindings.getInterceptorBindingLiterals(invocationContext);
+        List<CacheResult> interceptorBindings = new ArrayList<>();
+        List<Short> cacheKeyParameterPositions = new ArrayList<>();
+        for (AbstractAnnotationLiteral binding : bindings) {
+            if (binding.annotationType().isAssignableFrom(CacheKeyParameterPositions.class)) {
+                for (short position : ((CacheKeyParameterPositions) binding).value()) {
+                    cacheKeyParameterPositions.add(position);
+                }
+            } else if (binding.annotationType().isAssignableFrom(CacheResult.class)) {
+                interceptorBindings.add((CacheResult) binding);
+            }
+        }
+        CacheResult binding = interceptorBindings.get(0);
+        Cache cache = cacheManager.getCache(binding.cacheName()).get();
+
+        // The default key resolution from CacheInterceptor#getCacheKey
+        Object[] methodParameterValues = invocationContext.getParameters();
+        Object cacheKey;
+        if (methodParameterValues == null || methodParameterValues.length == 0) {
+            cacheKey = cache.getDefaultKey();
+        } else if (cacheKeyParameterPositions.size() == 1) {
+            cacheKey = methodParameterValues[cacheKeyParameterPositions.get(0)];
+        } else if (cacheKeyParameterPositions.size() >= 2) {
+            List<Object> keyElements = new ArrayList<>();
+            for (short position : cacheKeyParameterPositions) {
+                keyElements.add(methodParameterValues[position]);
+            }
+            cacheKey = new CompositeCacheKey(keyElements.toArray(new Object[0]));
+        } else if (methodParameterValues.length == 1) {
+            cacheKey = methodParameterValues[0];
+        } else {
+            cacheKey = new CompositeCacheKey(methodParameterValues);
+        }
+
+        // The synchronous read from CacheResultInterceptor#intercept
+        return cache.get(cacheKey, LOADER).await().indefinitely();
+    }
+
+    @Benchmark
+    public Object after() throws Throwable {
+        return interceptor.intercept(invocationContext);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CacheResultHitBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+
+    private static void inject(CacheInterceptor interceptor, String name, Object value) throws ReflectiveOperationException {
+        Field field = CacheInterceptor.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(interceptor, value);
+    }
+
+    public static class Service {
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String single(String id) {
+            throw new IllegalStateException();
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String composite(@CacheKey String id, @CacheKey int version, Locale locale) {
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * The invocation context of an intercepted method of {@link Service}, which holds the interceptor bindings the same way
+     * as the invocation contexts created by ArC.
+     */
+    static class BenchmarkInvocationContext implements InvocationContext {
+
+        private final Method method;
+        private final Object[] parameters;
+        private final Map<String, Object> contextData = new HashMap<>();
+        // The value returned when the method is invoked, only set while the cache is filled
+        Object value;
+
+        BenchmarkInvocationContext(Method method, Object[] parameters, Set<AbstractAnnotationLiteral> bindings) {
+            this.method = method;
+            this.parameters = parameters;
+            contextData.put(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS, bindings);
+        }
+
+        @Override
+        public Object getTarget() {
+            return null;
+        }
+
+        @Override
+        public Object getTimer() {
+            return null;
+        }
+
+        @Override
+        public Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public Constructor<?> getConstructor() {
+            return null;
+        }
+
+        @Override
+        public Object[] getParameters() {
+            return parameters;
+        }
+
+        @Override
+        public void setParameters(Object[] params) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<String, Object> getContextData() {
+            return contextData;
+        }
+
+        @Override
+        public Object proceed() {
+            if (value == null) {
+                throw new IllegalStateException("The benchmark only measures cache hits");
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Stands for the annotation literals generated by ArC.
+     */
+    static final class CacheResultLiteral extends AbstractAnnotationLiteral implements CacheResult {
+
+        @Override
+        public String cacheName() {
+            return CACHE_NAME;
+        }
+
+        @Override
+        public long lockTimeout() {
+            return 0;
+        }
+
+        @Override
+        public Class<? extends CacheKeyGenerator> keyGenerator() {
+            return UndefinedCacheKeyGenerator.class;
+        }
+
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return CacheResult.class;
+        }
+    }
+
+    static final class CacheKeyParameterPositionsLiteral extends AbstractAnnotationLiteral
+            implements CacheKeyParameterPositions {
+
+        private final short[] value;
+
+        CacheKeyParameterPositionsLiteral(short... value) {
+            this.value = value;
+        }
+
+        @Override
+        public short[] value() {
+            return value;
+        }
+
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return CacheKeyParameterPositions.class;
+        }
+    }
+}
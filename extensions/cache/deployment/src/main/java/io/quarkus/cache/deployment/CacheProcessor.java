@@ -1,19 +1,31 @@
 package io.quarkus.cache.deployment;
 
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_KEYS_TYPES;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_BULK_RESULT;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL_LIST;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_LIST;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATION_TRANSPORT;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_WEIGHER;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COMPLETION_STAGE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.MAP;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.MULTI;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.OFF_HEAP_CACHE_CODEC;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.UNI;
 import static io.quarkus.cache.runtime.CacheBuildConfig.CAFFEINE_CACHE_TYPE;
+import static io.quarkus.cache.runtime.CacheBuildConfig.KAFKA_TRANSPORT;
+import static io.quarkus.cache.runtime.CacheBuildConfig.OFF_HEAP_CACHE_TYPE;
+import static io.quarkus.cache.runtime.CacheBuildConfig.REDIS_TRANSPORT;
+import static io.quarkus.cache.runtime.CacheBuildConfig.VERTX_EVENT_BUS_TRANSPORT;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.runtime.metrics.MetricsFactory.MICROMETER;
 import static java.util.stream.Collectors.toList;
@@ -44,10 +56,13 @@
 import io.quarkus.arc.deployment.AutoInjectAnnotationBuildItem;
 import io.quarkus.arc.deployment.BeanDiscoveryFinishedBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.arc.deployment.SyntheticBeansRuntimeInitBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
+import io.quarkus.cache.CacheInvalidationTransport;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.deployment.exception.BulkResultTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
@@ -60,15 +75,22 @@
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
 import io.quarkus.cache.runtime.CacheManagerRecorder;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
+import io.quarkus.cache.runtime.invalidation.CacheInvalidationRecorder;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.Consume;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.rest.client.reactive.spi.RestClientAnnotationsTransformerBuildItem;
+import io.quarkus.runtime.configuration.ConfigurationException;
 
 class CacheProcessor {
 
@@ -96,8 +118,8 @@ RestClientAnnotationsTransformerBuildItem restClientAnnotationsTransformer() {
 
     @BuildStep
     CacheTypeBuildItem type(CacheBuildConfig config) {
-        return new CacheTypeBuildItem(
-                CAFFEINE_CACHE_TYPE.equals(config.type()) ? CacheTypeBuildItem.Type.LOCAL : CacheTypeBuildItem.Type.REMOTE);
+        boolean local = CAFFEINE_CACHE_TYPE.equals(config.type()) || OFF_HEAP_CACHE_TYPE.equals(config.type());
+        return new CacheTypeBuildItem(local ? CacheTypeBuildItem.Type.LOCAL : CacheTypeBuildItem.Type.REMOTE);
     }
 
     @BuildStep
@@ -202,6 +224,8 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
                         LOGGER.warnf("@CacheResult is not currently supported on a method returning %s [class=%s, method=%s]",
                                 MULTI, methodInfo.declaringClass().name(), methodInfo.name());
                     }
+                } else if (CACHE_BULK_RESULT.equals(binding.name())) {
+                    throwables.addAll(validateBulkResultTarget(methodInfo));
                 }
                 break;
             default:
@@ -211,6 +235,43 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
         return throwables;
     }
 
+    private List<Throwable> validateBulkResultTarget(MethodInfo methodInfo) {
+        List<Throwable> throwables = new ArrayList<>();
+        if (!isBulkResultReturnType(methodInfo.returnType())) {
+            throwables.add(new BulkResultTargetException(methodInfo,
+                    "the return type must be Map, Uni<Map> or CompletionStage<Map>"));
+        }
+        List<AnnotationInstance> cacheKeys = methodInfo.annotations(CACHE_KEY);
+        Type keysType;
+        if (methodInfo.parametersCount() == 1) {
+            keysType = methodInfo.parameterType(0);
+        } else if (cacheKeys.size() == 1) {
+            keysType = methodInfo.parameterType(cacheKeys.get(0).target().asMethodParameter().position());
+        } else {
+            throwables.add(new BulkResultTargetException(methodInfo,
+                    "the keys must be the only argument or the only argument annotated with @CacheKey"));
+            return throwables;
+        }
+        if (!BULK_KEYS_TYPES.contains(keysType.name())) {
+            throwables.add(new BulkResultTargetException(methodInfo, "the keys argument must be a Collection, Set or List"));
+        }
+        if (methodInfo.declaringClass().declaredAnnotation(REGISTER_REST_CLIENT) != null) {
+            throwables.add(new BulkResultTargetException(methodInfo, "REST Client methods are not supported"));
+        }
+        return throwables;
+    }
+
+    private static boolean isBulkResultReturnType(Type returnType) {
+        if (MAP.equals(returnType.name())) {
+            return true;
+        }
+        if ((UNI.equals(returnType.name()) || COMPLETION_STAGE.equals(returnType.name()))
+                && returnType.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            return MAP.equals(returnType.asParameterizedType().arguments().get(0).name());
+        }
+        return false;
+    }
+
     private Optional<DotName> findCacheKeyGenerator(AnnotationInstance binding, AnnotationTarget target) {
         if (target.kind() == METHOD && (CACHE_RESULT.equals(binding.name()) || CACHE_INVALIDATE.equals(binding.name()))) {
             AnnotationValue keyGenerator = binding.value("keyGenerator");
@@ -251,9 +312,31 @@ void cacheManagerInfos(BuildProducer<CacheManagerInfoBuildItem> producer,
             Optional<MetricsCapabilityBuildItem> metricsCapability, CacheManagerRecorder recorder) {
         producer.produce(new CacheManagerInfoBuildItem(recorder.noOpCacheManagerInfo()));
         producer.produce(new CacheManagerInfoBuildItem(recorder.getCacheManagerInfoWithoutMetrics()));
+        producer.produce(new CacheManagerInfoBuildItem(recorder.getOffHeapCacheManagerInfoWithoutMetrics()));
         if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MICROMETER)) {
             // if we include this unconditionally the native image building will fail when Micrometer is not around
             producer.produce(new CacheManagerInfoBuildItem(recorder.getCacheManagerInfoWithMicrometerMetrics()));
+            producer.produce(new CacheManagerInfoBuildItem(recorder.getOffHeapCacheManagerInfoWithMicrometerMetrics()));
+        }
+    }
+
+    @BuildStep
+    void configuredCacheComponents(CombinedIndexBuildItem combinedIndex,
+            BuildProducer<UnremovableBeanBuildItem> unremovableBeans,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        // The codecs, weighers and invalidation transports are selected from the configuration at runtime, so their beans must
+        // not be removed and the other implementations must be instantiable through reflection in native mode.
+        List<String> classNames = new ArrayList<>();
+        for (DotName componentType : List.of(OFF_HEAP_CACHE_CODEC, CACHE_WEIGHER, CACHE_INVALIDATION_TRANSPORT)) {
+            unremovableBeans.produce(UnremovableBeanBuildItem.beanTypes(componentType));
+            for (ClassInfo component : combinedIndex.getIndex().getAllKnownImplementors(componentType)) {
+                classNames.add(component.name().toString());
+            }
+        }
+        if (!classNames.isEmpty()) {
+            reflectiveClasses.produce(ReflectiveClassBuildItem.builder(classNames.toArray(new String[0]))
+                    .reason(getClass().getName())
+                    .build());
         }
     }
 
@@ -276,6 +359,42 @@ SyntheticBeanBuildItem configureCacheManagerSyntheticBean(List<CacheManagerInfoB
                 .done();
     }
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    @Consume(SyntheticBeansRuntimeInitBuildItem.class)
+    void startInvalidationBus(CacheBuildConfig config, Capabilities capabilities, ShutdownContextBuildItem shutdownContext,
+            CacheInvalidationRecorder recorder) {
+        if (!config.invalidation().enabled()) {
+            return;
+        }
+        // Only the selected transport is recorded, the Redis and Kafka clients are optional dependencies of this extension.
+        String transport = config.invalidation().transport();
+        Supplier<CacheInvalidationTransport> transportSupplier;
+        switch (transport) {
+            case VERTX_EVENT_BUS_TRANSPORT:
+                transportSupplier = recorder.vertxEventBusTransport();
+                break;
+            case REDIS_TRANSPORT:
+                if (!capabilities.isPresent(Capability.REDIS_CLIENT)) {
+                    throw new ConfigurationException("The [" + REDIS_TRANSPORT
+                            + "] cache invalidation transport requires the quarkus-redis-client extension");
+                }
+                transportSupplier = recorder.redisTransport();
+                break;
+            case KAFKA_TRANSPORT:
+                if (!capabilities.isPresent(Capability.KAFKA)) {
+                    throw new ConfigurationException("The [" + KAFKA_TRANSPORT
+                            + "] cache invalidation transport requires the quarkus-kafka-client extension");
+                }
+                transportSupplier = recorder.kafkaTransport();
+                break;
+            default:
+                transportSupplier = recorder.customTransport(transport);
+                break;
+        }
+        recorder.startInvalidationBus(transportSupplier, shutdownContext);
+    }
+
     @BuildStep
     List<BytecodeTransformerBuildItem> enhanceRestClientMethods(CombinedIndexBuildItem combinedIndex,
             BuildProducer<UnremovableBeanBuildItem> unremovableBeans) {
@@ -5,6 +5,8 @@
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -17,11 +19,13 @@
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheBulkResult;
 import io.quarkus.cache.CacheInvalidate;
 import io.quarkus.cache.CacheInvalidateAll;
 import io.quarkus.cache.CacheKeyGenerator;
 import io.quarkus.cache.CacheName;
 import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.deployment.exception.BulkResultTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.VoidReturnTypeTargetException;
@@ -43,7 +47,7 @@ public class DeploymentExceptionsTest {
             .withApplicationRoot((jar) -> jar.addClasses(TestResource.class, TestBean.class))
             .assertException(t -> {
                 assertEquals(DeploymentException.class, t.getClass());
-                assertEquals(8, t.getSuppressed().length);
+                assertEquals(10, t.getSuppressed().length);
                 assertVoidReturnTypeTargetException(t, "showThrowVoidReturnTypeTargetException");
                 assertClassTargetException(t, TestResource.class, 1);
                 assertClassTargetException(t, TestBean.class, 2);
@@ -51,6 +55,8 @@ public class DeploymentExceptionsTest {
                 assertKeyGeneratorConstructorException(t, KeyGen2.class);
                 assertKeyGeneratorConstructorException(t, KeyGen3.class);
                 assertKeyGeneratorConstructorException(t, KeyGen4.class);
+                assertBulkResultTargetException(t, "shouldThrowBulkResultTargetException");
+                assertBulkResultTargetException(t, "shouldAlsoThrowBulkResultTargetException");
             });
 
     private static void assertVoidReturnTypeTargetException(Throwable t, String expectedMethodName) {
@@ -68,6 +74,11 @@ private static void assertKeyGeneratorConstructorException(Throwable t, Class<?>
                 .filter(s -> expectedClassName.getName().equals(s.getClassInfo().name().toString())).count());
     }
 
+    private static void assertBulkResultTargetException(Throwable t, String expectedMethodName) {
+        assertEquals(1, filterSuppressed(t, BulkResultTargetException.class)
+                .filter(s -> expectedMethodName.equals(s.getMethodInfo().name())).count());
+    }
+
     private static <T extends RuntimeException> Stream<T> filterSuppressed(Throwable t, Class<T> filterClass) {
         return stream(t.getSuppressed()).filter(filterClass::isInstance).map(filterClass::cast);
     }
@@ -116,6 +127,16 @@ public void shouldAlsoThrowKeyGeneratorConstructorException() {
         @CacheInvalidate(cacheName = "should-throw-key-generator-constructor-exception", keyGenerator = KeyGen4.class)
         public void shouldThrowKeyGeneratorConstructorExceptionAsWell() {
         }
+
+        @CacheBulkResult(cacheName = "should-throw-bulk-result-target-exception")
+        public String shouldThrowBulkResultTargetException(List<String> keys) {
+            return new String();
+        }
+
+        @CacheBulkResult(cacheName = "should-throw-bulk-result-target-exception")
+        public Map<String, String> shouldAlsoThrowBulkResultTargetException(String key) {
+            return Map.of();
+        }
     }
 
     private static class KeyGen1 implements CacheKeyGenerator {
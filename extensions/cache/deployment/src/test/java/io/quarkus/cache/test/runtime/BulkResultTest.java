@@ -0,0 +1,156 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheBulkResult;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheName;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the bulk operations of the {@link Cache} API and the {@link CacheBulkResult} annotation.
+ */
+public class BulkResultTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot(jar -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testGetAllAndPutAll() {
+        cache.invalidateAll().await().indefinitely();
+        cache.putAll(Map.of("a", "value-a", "b", "value-b")).await().indefinitely();
+
+        List<Set<String>> loaderCalls = new ArrayList<>();
+        Map<String, String> values = cache.<String, String> getAll(new LinkedHashSet<>(List.of("c", "a", "d", "b")),
+                missingKeys -> {
+                    loaderCalls.add(Set.copyOf(missingKeys));
+                    // "d" is not returned and must therefore neither be cached nor be part of the result.
+                    return Map.of("c", "value-c");
+                }).await().indefinitely();
+
+        assertEquals(List.of(Set.of("c", "d")), loaderCalls);
+        assertEquals(List.of("c", "a", "b"), new ArrayList<>(values.keySet()));
+        assertEquals("value-a", values.get("a"));
+        assertEquals("value-c", values.get("c"));
+
+        // Only "d" is still missing.
+        Map<String, String> asyncValues = cache.<String, String> getAllAsync(Set.of("a", "c", "d"), missingKeys -> {
+            loaderCalls.add(Set.copyOf(missingKeys));
+            return Uni.createFrom().item(Map.of("d", "value-d"));
+        }).await().indefinitely();
+
+        assertEquals(List.of(Set.of("c", "d"), Set.of("d")), loaderCalls);
+        assertEquals(Map.of("a", "value-a", "c", "value-c", "d", "value-d"), asyncValues);
+    }
+
+    @Test
+    public void testGetAllWithLoaderFailure() {
+        cache.invalidateAll().await().indefinitely();
+        assertThrows(IllegalStateException.class, () -> cache.getAll(Set.of("x"), missingKeys -> {
+            throw new IllegalStateException();
+        }).await().indefinitely());
+        Map<String, String> values = cache.<String, String> getAll(Set.of("x"), missingKeys -> Map.of())
+                .await().indefinitely();
+        assertFalse(values.containsKey("x"));
+    }
+
+    @Test
+    public void testCacheBulkResult() {
+        cache.invalidateAll().await().indefinitely();
+        cachedService.getInvocations().clear();
+
+        Map<Integer, String> values1 = cachedService.load(List.of(1, 2, 3));
+        assertEquals(Map.of(1, "1", 2, "2", 3, "3"), values1);
+        assertEquals(List.of(List.of(1, 2, 3)), cachedService.getInvocations());
+
+        // Only the missing keys are passed to the method.
+        Map<Integer, String> values2 = cachedService.load(List.of(3, 4, 1, 5));
+        assertEquals(List.of(3, 4, 1, 5), new ArrayList<>(values2.keySet()));
+        assertEquals(List.of(List.of(1, 2, 3), List.of(4, 5)), cachedService.getInvocations());
+
+        // Nothing is missing, the method is not invoked.
+        cachedService.load(List.of(5, 2));
+        assertEquals(2, cachedService.getInvocations().size());
+    }
+
+    @Test
+    public void testCacheBulkResultAsync() {
+        cache.invalidateAll().await().indefinitely();
+        cachedService.getInvocations().clear();
+
+        assertEquals(Map.of(10, "prefix-10"), cachedService.loadUni("prefix-", Set.of(10)).await().indefinitely());
+        Map<Integer, String> values = cachedService.loadCompletionStage(Set.of(10, 11)).toCompletableFuture().join();
+        // The second method shares the cache, 10 was loaded by the first one.
+        assertEquals(Map.of(10, "prefix-10", 11, "11"), values);
+        assertEquals(List.of(List.of(10), List.of(11)), cachedService.getInvocations());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final List<List<Integer>> invocations = new ArrayList<>();
+
+        @CacheBulkResult(cacheName = CACHE_NAME)
+        public Map<Integer, String> load(List<Integer> keys) {
+            invocations.add(List.copyOf(keys));
+            Map<Integer, String> values = new HashMap<>();
+            for (Integer key : keys) {
+                values.put(key, String.valueOf(key));
+            }
+            return values;
+        }
+
+        @CacheBulkResult(cacheName = CACHE_NAME)
+        public Uni<Map<Integer, String>> loadUni(String prefix, @CacheKey Set<Integer> keys) {
+            invocations.add(List.copyOf(keys));
+            return Uni.createFrom().item(() -> toValues(prefix, keys));
+        }
+
+        @CacheBulkResult(cacheName = CACHE_NAME)
+        public CompletionStage<Map<Integer, String>> loadCompletionStage(Collection<Integer> keys) {
+            invocations.add(List.copyOf(keys));
+            return CompletableFuture.completedFuture(toValues("", keys));
+        }
+
+        public List<List<Integer>> getInvocations() {
+            return invocations;
+        }
+
+        private static Map<Integer, String> toValues(String prefix, Collection<Integer> keys) {
+            Map<Integer, String> values = new LinkedHashMap<>();
+            for (Integer key : keys) {
+                values.put(key, prefix + key);
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cache.CacheInvalidationTransport;
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.cache.runtime.invalidation.CacheInvalidationBus;
+import io.smallrye.mutiny.Uni;
+
+public class CacheInvalidationBusTest {
+
+    private static final String CACHE_NAME = "test-cache";
+    private static final Duration BATCH_DELAY = Duration.ofMillis(10L);
+
+    private final InMemoryTransport.Network network = new InMemoryTransport.Network();
+    private final CaffeineCacheImpl cache1 = newCache();
+    private final CaffeineCacheImpl cache2 = newCache();
+    private final CacheInvalidationBus bus1 = new CacheInvalidationBus(new InMemoryTransport(network),
+            Map.of(CACHE_NAME, cache1), 100, BATCH_DELAY);
+    private final CacheInvalidationBus bus2 = new CacheInvalidationBus(new InMemoryTransport(network),
+            Map.of(CACHE_NAME, cache2), 100, BATCH_DELAY);
+
+    @AfterEach
+    void close() {
+        bus1.close();
+        bus2.close();
+    }
+
+    @Test
+    public void testInvalidate() {
+        bus1.start();
+        bus2.start();
+        CompositeCacheKey key = new CompositeCacheKey("foo", 1);
+        put(cache1, key, "value1");
+        put(cache2, key, "value2");
+        put(cache2, "other", "other");
+
+        cache1.invalidate(key).await().indefinitely();
+        assertNull(cache1.getCompletedValue(key));
+        await().until(() -> cache2.getCompletedValue(key) == null);
+        assertEquals("other", cache2.getCompletedValue("other"));
+
+        // The invalidations received from the other instances are not broadcast again.
+        put(cache1, key, "value1");
+        cache2.invalidate("other").await().indefinitely();
+        await().during(BATCH_DELAY.multipliedBy(5)).until(() -> network.published.size() == 2);
+        assertEquals("value1", cache1.getCompletedValue(key));
+    }
+
+    @Test
+    public void testInvalidateAll() {
+        bus1.start();
+        bus2.start();
+        put(cache2, "foo", "foo");
+        put(cache2, "bar", "bar");
+
+        cache1.invalidateAll().await().indefinitely();
+        await().until(() -> cache2.getCompletedValue("foo") == null && cache2.getCompletedValue("bar") == null);
+    }
+
+    @Test
+    public void testBatch() {
+        bus1.start();
+        bus2.start();
+        for (int i = 0; i < 10; i++) {
+            put(cache2, i, "value");
+        }
+
+        for (int i = 0; i < 10; i++) {
+            cache1.invalidate(i).await().indefinitely();
+            cache1.invalidate(i).await().indefinitely();
+        }
+        await().until(() -> cache2.keySet().isEmpty());
+        // All the invalidations fit in a single batch, whose duplicates are removed.
+        assertEquals(1, network.published.size());
+    }
+
+    @Test
+    public void testUnserializableKey() {
+        bus1.start();
+        bus2.start();
+        Object key = new Object();
+        put(cache2, "foo", "foo");
+
+        // A key which can't be sent to the other instances invalidates their whole cache.
+        cache1.invalidate(key).await().indefinitely();
+        await().until(() -> cache2.getCompletedValue("foo") == null);
+    }
+
+    @Test
+    public void testRejectedKeyClass() {
+        bus1.start();
+        bus2.start();
+        SerializableKey key = new SerializableKey("foo");
+        put(cache1, key, "value1");
+        put(cache2, key, "value2");
+        put(cache2, "other", "other");
+
+        // Only the key types built by the caching annotations are deserialized, the whole cache is invalidated otherwise.
+        cache1.invalidate(key).await().indefinitely();
+        await().until(() -> cache2.keySet().isEmpty());
+    }
+
+    @Test
+    public void testPutAll() {
+        bus1.start();
+        bus2.start();
+        put(cache2, "foo", "foo");
+        put(cache2, "bar", "bar");
+
+        cache1.putAll(Map.of("foo", "new")).await().indefinitely();
+        assertEquals("new", cache1.getCompletedValue("foo"));
+        await().until(() -> cache2.getCompletedValue("foo") == null);
+        assertEquals("bar", cache2.getCompletedValue("bar"));
+    }
+
+    @Test
+    public void testMessagesLost() {
+        bus1.start();
+        bus2.start();
+        put(cache2, "foo", "foo");
+
+        network.listeners.get(1).onMessagesLost();
+        assertNull(cache2.getCompletedValue("foo"));
+    }
+
+    private static CaffeineCacheImpl newCache() {
+        CaffeineCacheInfo cacheInfo = new CaffeineCacheInfo();
+        cacheInfo.name = CACHE_NAME;
+        return new CaffeineCacheImpl(cacheInfo, false);
+    }
+
+    private static void put(CaffeineCacheImpl cache, Object key, Object value) {
+        cache.get(key, new Function<Object, Object>() {
+            @Override
+            public Object apply(Object k) {
+                return value;
+            }
+        }).await().indefinitely();
+    }
+
+    static class InMemoryTransport implements CacheInvalidationTransport {
+
+        private final Network network;
+
+        InMemoryTransport(Network network) {
+            this.network = network;
+        }
+
+        @Override
+        public void start(Listener listener) {
+            network.listeners.add(listener);
+        }
+
+        @Override
+        public Uni<Void> publish(byte[] message) {
+            network.published.add(message);
+            // Like a broadcast, the message is also received by the instance which published it.
+            for (Listener listener : network.listeners) {
+                listener.onMessage(message);
+            }
+            return Uni.createFrom().voidItem();
+        }
+
+        static class Network {
+            final List<Listener> listeners = new CopyOnWriteArrayList<>();
+            final List<byte[]> published = new CopyOnWriteArrayList<>();
+        }
+    }
+
+    record SerializableKey(String value) implements Serializable {
+    }
+}
@@ -0,0 +1,143 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheInvalidationTransport;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.cache.runtime.invalidation.CacheInvalidationBus;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the distributed invalidation of an application whose transport is a custom bean, with another instance of the
+ * application simulated by a bus of the test.
+ */
+public class CacheInvalidationTransportTest {
+
+    private static final String CACHE_NAME = "invalidated";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot(jar -> jar
+            .addClasses(CachedService.class, SharedTransport.class)
+            .addAsResource(new StringAsset("quarkus.cache.invalidation.enabled=true\n"
+                    + "quarkus.cache.invalidation.transport=" + SharedTransport.class.getName() + "\n"
+                    + "quarkus.cache.invalidation.batch-delay=10ms\n"), "application.properties"));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    private CaffeineCacheImpl otherCache;
+    private CacheInvalidationBus otherBus;
+
+    @BeforeEach
+    void startOtherInstance() {
+        CaffeineCacheInfo cacheInfo = new CaffeineCacheInfo();
+        cacheInfo.name = CACHE_NAME;
+        otherCache = new CaffeineCacheImpl(cacheInfo, false);
+        otherBus = new CacheInvalidationBus(new SharedTransport(), Map.of(CACHE_NAME, otherCache), 100,
+                Duration.ofMillis(10L));
+        otherBus.start();
+    }
+
+    @AfterEach
+    void stopOtherInstance() {
+        otherBus.close();
+    }
+
+    @Test
+    public void testLocalInvalidationIsBroadcast() {
+        otherCache.get("foo", k -> "other").await().indefinitely();
+
+        cachedService.invalidate("foo");
+        await().until(() -> otherCache.getCompletedValue("foo") == null);
+    }
+
+    @Test
+    public void testReceivedInvalidationIsApplied() {
+        String value = cachedService.load("bar");
+        assertEquals(value, cachedService.load("bar"));
+
+        otherCache.invalidate("bar").await().indefinitely();
+        await().until(() -> !value.equals(cachedService.load("bar")));
+    }
+
+    @Test
+    public void testPutAllIsBroadcast() {
+        otherCache.get("baz", k -> "other").await().indefinitely();
+
+        cache.putAll(Map.of("baz", "new")).await().indefinitely();
+        await().until(() -> otherCache.getCompletedValue("baz") == null);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String load(String key) {
+            return key + "#" + invocations.incrementAndGet();
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidate(String key) {
+        }
+    }
+
+    /**
+     * Delivers the published messages to all the started transports of the JVM, the application bean and the ones of the
+     * test.
+     */
+    @Singleton
+    public static class SharedTransport implements CacheInvalidationTransport {
+
+        private static final List<Listener> LISTENERS = new CopyOnWriteArrayList<>();
+
+        private volatile Listener listener;
+
+        @Override
+        public void start(Listener listener) {
+            this.listener = listener;
+            LISTENERS.add(listener);
+        }
+
+        @Override
+        public Uni<Void> publish(byte[] message) {
+            for (Listener listener : LISTENERS) {
+                listener.onMessage(message);
+            }
+            return Uni.createFrom().voidItem();
+        }
+
+        @Override
+        public void close() {
+            LISTENERS.remove(listener);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.DefaultCacheKey;
+import io.quarkus.cache.runtime.CacheKeyFactory;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+
+public class CacheKeyFactoryTest {
+
+    @Test
+    public void testDefaultKey() {
+        CaffeineCacheInfo cacheInfo = new CaffeineCacheInfo();
+        cacheInfo.name = "test-cache";
+        CaffeineCache cache = new CaffeineCacheImpl(cacheInfo, false);
+
+        CacheKeyFactory factory = CacheKeyFactory.of(Collections.emptyList(), new Class<?>[0]);
+        assertEquals(new DefaultCacheKey(cacheInfo.name), factory.create(cache, new Object[] {}));
+    }
+
+    @Test
+    public void testSimpleKeys() {
+        Object keyElement = new Object();
+        CacheKeyFactory explicit = CacheKeyFactory.of(List.of((short) 1), new Class<?>[] { String.class, Object.class });
+        assertSame(keyElement, explicit.create(null, new Object[] { "foo", keyElement }));
+
+        CacheKeyFactory implicit = CacheKeyFactory.of(Collections.emptyList(), new Class<?>[] { Object.class });
+        assertSame(keyElement, implicit.create(null, new Object[] { keyElement }));
+    }
+
+    @Test
+    public void testFlatCompositeKeys() {
+        // The keys of the primitive and String parameters must be interchangeable with the programmatic composite keys.
+        CacheKeyFactory explicit = CacheKeyFactory.of(List.of((short) 0, (short) 2),
+                new Class<?>[] { String.class, Object.class, int.class });
+        Object key = explicit.create(null, new Object[] { "foo", new Object(), 42 });
+        assertKeysEqual(new CompositeCacheKey("foo", 42), key);
+        assertNotEquals(new CompositeCacheKey("foo", 43), key);
+        assertNotEquals(explicit.create(null, new Object[] { "foo", new Object(), 43 }), key);
+
+        CacheKeyFactory implicit = CacheKeyFactory.of(Collections.emptyList(), new Class<?>[] { long.class, Boolean.class });
+        assertKeysEqual(new CompositeCacheKey(1L, null), implicit.create(null, new Object[] { 1L, null }));
+    }
+
+    @Test
+    public void testCompositeKeys() {
+        CacheKeyFactory implicit = CacheKeyFactory.of(Collections.emptyList(), new Class<?>[] { int[].class, String.class });
+        Object key = implicit.create(null, new Object[] { new int[] { 1, 2 }, "foo" });
+        assertKeysEqual(new CompositeCacheKey(new int[] { 1, 2 }, "foo"), key);
+    }
+
+    @Test
+    public void testCompositeKeysDontShareParameters() {
+        Object[] parameters = { "foo", 42 };
+        CacheKeyFactory implicit = CacheKeyFactory.of(Collections.emptyList(), new Class<?>[] { String.class, int.class });
+        Object key = implicit.create(null, parameters);
+        int hashCode = key.hashCode();
+
+        // The key must not change when the parameters of the invocation are modified after it was built.
+        parameters[0] = "bar";
+        assertKeysEqual(new CompositeCacheKey("foo", 42), key);
+        assertEquals(hashCode, key.hashCode());
+
+        Object[] arrayParameters = { new int[] { 1, 2 }, "foo" };
+        Object arrayKey = CacheKeyFactory.of(Collections.emptyList(), new Class<?>[] { int[].class, String.class })
+                .create(null, arrayParameters);
+        arrayParameters[1] = "bar";
+        assertKeysEqual(new CompositeCacheKey(new int[] { 1, 2 }, "foo"), arrayKey);
+    }
+
+    private static void assertKeysEqual(Object expected, Object actual) {
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+    }
+}
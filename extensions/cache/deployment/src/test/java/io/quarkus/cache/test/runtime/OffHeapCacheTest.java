@@ -0,0 +1,124 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.OffHeapCache;
+import io.quarkus.cache.OffHeapCacheCodec;
+import io.quarkus.cache.runtime.offheap.OffHeapCacheImpl;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the off-heap cache backend selected through the configuration.
+ */
+public class OffHeapCacheTest {
+
+    private static final String OFF_HEAP_CACHE = "off-heap-cache";
+    private static final String CODEC_CACHE = "codec-cache";
+    private static final String NO_VALUE = "no-value";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot((jar) -> jar
+            .addClasses(CachedService.class, Value.class, StringCodec.class)
+            .addAsResource(new StringAsset(
+                    "quarkus.cache.\"" + OFF_HEAP_CACHE + "\".type=off-heap\n"
+                            + "quarkus.cache.off-heap.\"" + OFF_HEAP_CACHE + "\".maximum-memory=1M\n"
+                            + "quarkus.cache.off-heap.\"" + OFF_HEAP_CACHE + "\".chunk-size=64K\n"
+                            + "quarkus.cache.\"" + CODEC_CACHE + "\".type=off-heap\n"
+                            + "quarkus.cache.off-heap.\"" + CODEC_CACHE + "\".codec=" + StringCodec.class.getName() + "\n"),
+                    "application.properties"));
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(OFF_HEAP_CACHE)
+    Cache offHeapCache;
+
+    @CacheName(CODEC_CACHE)
+    Cache codecCache;
+
+    @Test
+    public void testCacheResult() {
+        assertTrue(offHeapCache instanceof OffHeapCacheImpl);
+        assertEquals(1048576L, ((OffHeapCacheImpl) offHeapCache).getCacheInfo().maximumMemory);
+
+        Value value1 = cachedService.cachedMethod("foo");
+        Value value2 = cachedService.cachedMethod("foo");
+        assertEquals(1, cachedService.getInvocations());
+        // The cached values are deserialized on each read.
+        assertEquals(value1, value2);
+        assertNotSame(value1, value2);
+
+        assertNull(cachedService.cachedMethod(NO_VALUE));
+        assertNull(cachedService.cachedMethod(NO_VALUE));
+        assertEquals(2, cachedService.getInvocations());
+
+        OffHeapCache cache = offHeapCache.as(OffHeapCache.class);
+        assertEquals(2, cache.estimatedSize());
+        assertTrue(cache.usedMemory() > 0);
+        assertTrue(cache.allocatedMemory() >= cache.usedMemory());
+
+        cache.invalidateAll().await().indefinitely();
+        cachedService.cachedMethod("foo");
+        assertEquals(3, cachedService.getInvocations());
+    }
+
+    @Test
+    public void testCodec() {
+        assertEquals("bar", codecCache.get("foo", k -> "bar").await().indefinitely());
+        assertEquals("bar", codecCache.get("foo", k -> "baz").await().indefinitely());
+        assertTrue(StringCodec.DECODED.get() > 0);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = OFF_HEAP_CACHE)
+        public Value cachedMethod(String key) {
+            invocations.incrementAndGet();
+            return NO_VALUE.equals(key) ? null : new Value(key);
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+    }
+
+    public record Value(String content) implements Serializable {
+    }
+
+    public static class StringCodec implements OffHeapCacheCodec {
+
+        static final AtomicInteger DECODED = new AtomicInteger();
+
+        @Override
+        public byte[] encode(Object value) {
+            return ((String) value).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Object decode(ByteBuffer buffer) {
+            DECODED.incrementAndGet();
+            return StandardCharsets.UTF_8.decode(buffer).toString();
+        }
+    }
+}
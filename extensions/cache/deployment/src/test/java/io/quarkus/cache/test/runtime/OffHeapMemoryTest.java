@@ -0,0 +1,168 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cache.OffHeapCacheCodec;
+import io.quarkus.cache.runtime.offheap.OffHeapCacheImpl;
+import io.quarkus.cache.runtime.offheap.OffHeapCacheInfo;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
+
+/**
+ * Tests how the off-heap cache allocates, shares and gives back its direct memory, and how it stores the loaded values.
+ */
+public class OffHeapMemoryTest {
+
+    private static final int KB = 1024;
+
+    @Test
+    public void testAllocatedMemoryIsBounded() {
+        OffHeapCacheImpl cache = newCache(128 * KB, 64 * KB, new StringCodec());
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            String key = "key-" + random.nextInt(300);
+            cache.get(key, k -> value('v', 50 + random.nextInt(20000))).await().indefinitely();
+            assertTrue(cache.allocatedMemory() <= 128 * KB, "Allocated " + cache.allocatedMemory() + " bytes");
+        }
+        assertTrue(cache.estimatedSize() > 0);
+
+        // A value larger than a chunk is stored in a dedicated buffer, which is accounted for as well.
+        cache.get("large", k -> value('l', 100 * KB)).await().indefinitely();
+        assertTrue(cache.allocatedMemory() <= 128 * KB, "Allocated " + cache.allocatedMemory() + " bytes");
+    }
+
+    @Test
+    public void testBlocksAreSharedBetweenSizes() {
+        OffHeapCacheImpl cache = newCache(KB * KB, 64 * KB, new StringCodec());
+        // 1024 blocks of 64 bytes fill a chunk.
+        for (int i = 0; i < 1024; i++) {
+            cache.get("small-" + i, k -> value('s', 60)).await().indefinitely();
+        }
+        assertEquals(64 * KB, cache.allocatedMemory());
+        assertEquals(64 * KB, cache.usedMemory());
+
+        for (int i = 1; i < 1024; i++) {
+            cache.invalidate("small-" + i).await().indefinitely();
+        }
+        assertEquals(64 * KB, cache.allocatedMemory());
+        assertEquals(64, cache.usedMemory());
+
+        // The free small blocks were merged, so a larger value fits in the same chunk.
+        cache.get("medium", k -> value('m', 16000)).await().indefinitely();
+        assertEquals(64 * KB, cache.allocatedMemory());
+        assertEquals(64 + 16 * KB, cache.usedMemory());
+
+        // The chunk is given back once all its blocks are free.
+        cache.invalidateAll().await().indefinitely();
+        assertEquals(0, cache.allocatedMemory());
+        assertEquals(0, cache.usedMemory());
+    }
+
+    @Test
+    public void testBlockIsKeptWhileRead() {
+        StringCodec codec = new StringCodec();
+        OffHeapCacheImpl cache = newCache(KB * KB, 64 * KB, codec);
+        String a = value('a', 100);
+        String b = value('b', 100);
+        cache.get("a", k -> a).await().indefinitely();
+
+        // The entry is removed and a value of the same size is stored while the entry is being read.
+        codec.onDecode = () -> {
+            cache.invalidate("a").await().indefinitely();
+            cache.get("b", k -> b).await().indefinitely();
+        };
+        assertEquals(a, cache.get("a", k -> "unused").await().indefinitely());
+        codec.onDecode = null;
+
+        // The block of the removed entry is only released once the read is over.
+        assertEquals(128, cache.usedMemory());
+        assertEquals(b, cache.get("b", k -> "unused").await().indefinitely());
+        assertEquals("reloaded", cache.get("a", k -> "reloaded").await().indefinitely());
+    }
+
+    @Test
+    public void testConcurrentAsyncLoadsAreShared() {
+        OffHeapCacheImpl cache = newCache(KB * KB, 64 * KB, new StringCodec());
+        AtomicInteger loads = new AtomicInteger();
+        UnicastProcessor<String> loadedValue = UnicastProcessor.create();
+        Function<String, Uni<String>> loader = k -> {
+            loads.incrementAndGet();
+            return loadedValue.toUni();
+        };
+        CompletableFuture<String> first = cache.getAsync("a", loader).subscribeAsCompletionStage();
+        CompletableFuture<String> second = cache.getAsync("a", loader).subscribeAsCompletionStage();
+        loadedValue.onNext(value('a', 100));
+
+        assertEquals(value('a', 100), first.join());
+        assertEquals(value('a', 100), second.join());
+        assertEquals(1, loads.get());
+        assertEquals(128, cache.usedMemory());
+    }
+
+    @Test
+    public void testAsyncLoadDoesNotOverwrite() {
+        OffHeapCacheImpl cache = newCache(KB * KB, 64 * KB, new StringCodec());
+        UnicastProcessor<String> loadedValue = UnicastProcessor.create();
+        CompletableFuture<String> load = cache.<String, String> getAsync("a", k -> loadedValue.toUni())
+                .subscribeAsCompletionStage();
+
+        // The value stored while the load is in progress is kept and returned to the caller.
+        cache.get("a", k -> "stored").await().indefinitely();
+        loadedValue.onNext("loaded");
+        assertEquals("stored", load.join());
+        assertEquals("stored", cache.get("a", k -> "unused").await().indefinitely());
+
+        // The value of a key invalidated while it is loaded is returned but not stored.
+        cache.invalidate("a").await().indefinitely();
+        UnicastProcessor<String> reloadedValue = UnicastProcessor.create();
+        CompletableFuture<String> reload = cache.<String, String> getAsync("a", k -> reloadedValue.toUni())
+                .subscribeAsCompletionStage();
+        cache.invalidate("a").await().indefinitely();
+        reloadedValue.onNext("reloaded");
+        assertEquals("reloaded", reload.join());
+        assertEquals(0, cache.estimatedSize());
+        assertEquals(0, cache.usedMemory());
+    }
+
+    private static OffHeapCacheImpl newCache(long maximumMemory, int chunkSize, OffHeapCacheCodec codec) {
+        OffHeapCacheInfo cacheInfo = new OffHeapCacheInfo();
+        cacheInfo.name = "off-heap-memory";
+        cacheInfo.maximumMemory = maximumMemory;
+        cacheInfo.chunkSize = chunkSize;
+        return new OffHeapCacheImpl(cacheInfo, codec, false);
+    }
+
+    private static String value(char c, int length) {
+        return String.valueOf(c).repeat(length);
+    }
+
+    static class StringCodec implements OffHeapCacheCodec {
+
+        volatile Runnable onDecode;
+
+        @Override
+        public byte[] encode(Object value) {
+            return ((String) value).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Object decode(ByteBuffer buffer) {
+            Runnable hook = onDecode;
+            if (hook != null) {
+                onDecode = null;
+                hook.run();
+            }
+            return StandardCharsets.UTF_8.decode(buffer).toString();
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.vertx.VertxContext;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Tests the refresh-after-write, stale-while-revalidate and stale-if-error policies of the Caffeine caches.
+ */
+public class RefreshAheadTest {
+
+    private static final String REFRESH_CACHE = "refresh-cache";
+    private static final String UNI_REFRESH_CACHE = "uni-refresh-cache";
+    private static final String CONTEXT_REFRESH_CACHE = "context-refresh-cache";
+    private static final String STALE_CACHE = "stale-cache";
+    private static final String BULK_REVALIDATE_CACHE = "bulk-revalidate-cache";
+    private static final String BULK_STALE_IF_ERROR_CACHE = "bulk-stale-if-error-cache";
+    private static final String KEY = "key";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot((jar) -> jar
+            .addClass(CachedService.class)
+            .addAsResource(new StringAsset(
+                    "quarkus.cache.caffeine.\"" + REFRESH_CACHE + "\".refresh-after-write=0.2S\n"
+                            + "quarkus.cache.caffeine.\"" + UNI_REFRESH_CACHE + "\".refresh-after-write=0.2S\n"
+                            + "quarkus.cache.caffeine.\"" + CONTEXT_REFRESH_CACHE + "\".refresh-after-write=0.2S\n"
+                            + "quarkus.cache.caffeine.\"" + STALE_CACHE + "\".expire-after-write=0.2S\n"
+                            + "quarkus.cache.caffeine.\"" + STALE_CACHE + "\".stale-while-revalidate=0.4S\n"
+                            + "quarkus.cache.caffeine.\"" + STALE_CACHE + "\".stale-if-error=1H\n"
+                            + "quarkus.cache.caffeine.\"" + BULK_REVALIDATE_CACHE + "\".expire-after-write=0.2S\n"
+                            + "quarkus.cache.caffeine.\"" + BULK_REVALIDATE_CACHE + "\".stale-while-revalidate=1H\n"
+                            + "quarkus.cache.caffeine.\"" + BULK_STALE_IF_ERROR_CACHE + "\".expire-after-write=0.2S\n"
+                            + "quarkus.cache.caffeine.\"" + BULK_STALE_IF_ERROR_CACHE + "\".stale-if-error=1H\n"),
+                    "application.properties"));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    Vertx vertx;
+
+    @CacheName(BULK_REVALIDATE_CACHE)
+    Cache bulkRevalidateCache;
+
+    @CacheName(BULK_STALE_IF_ERROR_CACHE)
+    Cache bulkStaleIfErrorCache;
+
+    @Test
+    public void testRefreshAfterWrite() throws InterruptedException {
+        assertEquals(1, cachedService.refresh(KEY));
+        assertEquals(1, cachedService.refresh(KEY));
+
+        // The current value is returned while it is reloaded in the background.
+        CountDownLatch reload = cachedService.blockRefresh();
+        await().until(() -> cachedService.refresh(KEY) == 1 && cachedService.getRefreshInvocations() == 2);
+        assertEquals(1, cachedService.refresh(KEY));
+        reload.countDown();
+        await().until(() -> cachedService.refresh(KEY) == 2);
+        assertEquals(2, cachedService.getRefreshInvocations());
+    }
+
+    @Test
+    public void testUniRefreshAfterWrite() {
+        assertEquals(1, cachedService.uniRefresh(KEY).await().indefinitely());
+
+        await().until(() -> cachedService.uniRefresh(KEY).await().indefinitely() == 2);
+        assertEquals(2, cachedService.getUniRefreshInvocations());
+    }
+
+    @Test
+    public void testRefreshRunsOnCallerContext() {
+        Context context = VertxContext.createNewDuplicatedContext(vertx.getOrCreateContext());
+        context.putLocal("caller", "test");
+        assertEquals(1, callOn(context));
+
+        await().until(() -> callOn(context) == 2);
+        // The background refresh sees the context of the caller, like the first load.
+        assertEquals("test", cachedService.lastCaller.get());
+    }
+
+    @Test
+    public void testStaleWhileRevalidateAndStaleIfError() {
+        assertEquals(1, cachedService.stale(KEY));
+
+        // Once expired but still within the stale-while-revalidate window, the value is returned while it is reloaded.
+        await().until(() -> cachedService.stale(KEY) == 2);
+        assertEquals(2, cachedService.getStaleInvocations());
+
+        // Beyond the stale-while-revalidate window, the value is reloaded by the caller, and the stale value is returned
+        // because the reload fails.
+        cachedService.failing.set(true);
+        await().pollDelay(Duration.ofMillis(700)).until(() -> cachedService.stale(KEY) == 2);
+        assertEquals(3, cachedService.getStaleInvocations());
+
+        cachedService.failing.set(false);
+        assertEquals(4, cachedService.stale(KEY));
+        assertEquals(4, cachedService.stale(KEY));
+    }
+
+    @Test
+    public void testBulkStaleWhileRevalidate() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        Function<Set<String>, Map<String, Integer>> loader = keys -> {
+            int load = loads.incrementAndGet();
+            Map<String, Integer> values = new HashMap<>();
+            for (String key : keys) {
+                values.put(key, load);
+            }
+            return values;
+        };
+        assertEquals(Map.of("a", 1, "b", 1), bulkRevalidateCache.getAll(Set.of("a", "b"), loader).await().indefinitely());
+
+        // The expired values are returned while they are reloaded in the background with a single call.
+        Thread.sleep(300);
+        assertEquals(Map.of("a", 1, "b", 1), bulkRevalidateCache.getAll(Set.of("a", "b"), loader).await().indefinitely());
+        await().until(() -> bulkRevalidateCache.<String, Integer> getAllAsync(Set.of("a", "b"),
+                keys -> Uni.createFrom().item(loader.apply(keys))).await().indefinitely().equals(Map.of("a", 2, "b", 2)));
+        assertEquals(2, loads.get());
+
+        // The asynchronous lookups refresh the expired values too.
+        Thread.sleep(300);
+        await().until(() -> bulkRevalidateCache.<String, Integer> getAllAsync(Set.of("a", "b"),
+                keys -> Uni.createFrom().item(loader.apply(keys))).await().indefinitely().equals(Map.of("a", 3, "b", 3)));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void testBulkStaleIfError() throws InterruptedException {
+        List<Set<String>> loaderCalls = new CopyOnWriteArrayList<>();
+        assertEquals(Map.of("a", "a1"), bulkStaleIfErrorCache.<String, String> getAll(Set.of("a"), keys -> {
+            loaderCalls.add(Set.copyOf(keys));
+            return Map.of("a", "a1");
+        }).await().indefinitely());
+
+        // The expired value is treated as missing and is reloaded with the other missing keys.
+        Thread.sleep(300);
+        assertEquals(Map.of("a", "a2", "b", "b2"), bulkStaleIfErrorCache.<String, String> getAll(Set.of("a", "b"), keys -> {
+            loaderCalls.add(Set.copyOf(keys));
+            return Map.of("a", "a2", "b", "b2");
+        }).await().indefinitely());
+        assertEquals(List.of(Set.of("a"), Set.of("a", "b")), loaderCalls);
+
+        Thread.sleep(300);
+        assertEquals(Map.of("a", "a3", "b", "b3"),
+                bulkStaleIfErrorCache.<String, String> getAllAsync(Set.of("a", "b"), keys -> {
+                    loaderCalls.add(Set.copyOf(keys));
+                    return Uni.createFrom().item(Map.of("a", "a3", "b", "b3"));
+                }).await().indefinitely());
+        assertEquals(List.of(Set.of("a"), Set.of("a", "b"), Set.of("a", "b")), loaderCalls);
+    }
+
+    private int callOn(Context context) {
+        return context.executeBlocking(() -> cachedService.contextRefresh(KEY), false)
+                .toCompletionStage().toCompletableFuture().join();
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final AtomicBoolean failing = new AtomicBoolean();
+        final AtomicReference<String> lastCaller = new AtomicReference<>();
+
+        private final AtomicInteger refreshInvocations = new AtomicInteger();
+        private final AtomicInteger uniRefreshInvocations = new AtomicInteger();
+        private final AtomicInteger contextRefreshInvocations = new AtomicInteger();
+        private final AtomicInteger staleInvocations = new AtomicInteger();
+        private volatile CountDownLatch refreshLatch;
+
+        @CacheResult(cacheName = REFRESH_CACHE)
+        public int refresh(String key) throws InterruptedException {
+            int invocations = refreshInvocations.incrementAndGet();
+            CountDownLatch latch = refreshLatch;
+            if (latch != null && !latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("The reload was not released");
+            }
+            return invocations;
+        }
+
+        @CacheResult(cacheName = UNI_REFRESH_CACHE)
+        public Uni<Integer> uniRefresh(String key) {
+            return Uni.createFrom().item(uniRefreshInvocations::incrementAndGet);
+        }
+
+        @CacheResult(cacheName = CONTEXT_REFRESH_CACHE)
+        public int contextRefresh(String key) {
+            Context context = Vertx.currentContext();
+            lastCaller.set(context != null ? context.getLocal("caller") : null);
+            return contextRefreshInvocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = STALE_CACHE)
+        public int stale(String key) {
+            int invocations = staleInvocations.incrementAndGet();
+            if (failing.get()) {
+                throw new IllegalStateException("Unable to load the value");
+            }
+            return invocations;
+        }
+
+        CountDownLatch blockRefresh() {
+            refreshLatch = new CountDownLatch(1);
+            return refreshLatch;
+        }
+
+        public int getRefreshInvocations() {
+            return refreshInvocations.get();
+        }
+
+        public int getUniRefreshInvocations() {
+            return uniRefreshInvocations.get();
+        }
+
+        public int getStaleInvocations() {
+            return staleInvocations.get();
+        }
+    }
+}
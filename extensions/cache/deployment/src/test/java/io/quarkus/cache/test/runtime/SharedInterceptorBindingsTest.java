@@ -0,0 +1,72 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests methods of the same bean whose interceptor bindings are equal, which ArC may share between them, while the methods
+ * don't have the same number of parameters and therefore don't build the same cache keys.
+ */
+public class SharedInterceptorBindingsTest {
+
+    private static final String CACHE_NAME = "shared-bindings";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot(jar -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testMethodsWithDifferentArities() {
+        assertEquals("one(x)#1", cachedService.one("x"));
+        // The key of this method is a composite key, it must not be the key of the previous one.
+        assertEquals("two(x, y)#2", cachedService.two("x", "y"));
+        assertEquals("one(x)#1", cachedService.one("x"));
+        assertEquals("two(x, y)#2", cachedService.two("x", "y"));
+
+        cachedService.invalidateOne("x");
+        assertEquals("one(x)#3", cachedService.one("x"));
+        assertEquals("two(x, y)#2", cachedService.two("x", "y"));
+
+        // The invalidated key must be the composite key, not the key of invalidateOne.
+        cachedService.invalidateTwo("x", "y");
+        assertEquals("one(x)#3", cachedService.one("x"));
+        assertEquals("two(x, y)#4", cachedService.two("x", "y"));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String one(String a) {
+            return "one(" + a + ")#" + invocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String two(String a, String b) {
+            return "two(" + a + ", " + b + ")#" + invocations.incrementAndGet();
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidateOne(String a) {
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidateTwo(String a, String b) {
+        }
+    }
+}
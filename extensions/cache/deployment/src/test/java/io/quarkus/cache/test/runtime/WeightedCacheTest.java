@@ -0,0 +1,96 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheWeigher;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the Caffeine caches bounded by a maximum weight.
+ */
+public class WeightedCacheTest {
+
+    private static final String SERIALIZED_SIZE_CACHE = "serialized-size-cache";
+    private static final String CUSTOM_WEIGHER_CACHE = "custom-weigher-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot((jar) -> jar
+            .addClass(LengthWeigher.class)
+            .addAsResource(new StringAsset(
+                    "quarkus.cache.caffeine.maximum-size=1000\n"
+                            + "quarkus.cache.caffeine.\"" + SERIALIZED_SIZE_CACHE + "\".maximum-weight=10K\n"
+                            + "quarkus.cache.caffeine.\"" + CUSTOM_WEIGHER_CACHE + "\".maximum-weight=100\n"
+                            + "quarkus.cache.caffeine.\"" + CUSTOM_WEIGHER_CACHE + "\".weigher="
+                            + LengthWeigher.class.getName() + "\n"),
+                    "application.properties"));
+
+    @CacheName(SERIALIZED_SIZE_CACHE)
+    Cache serializedSizeCache;
+
+    @CacheName(CUSTOM_WEIGHER_CACHE)
+    Cache customWeigherCache;
+
+    @Test
+    public void testSerializedSizeWeigher() {
+        CaffeineCacheImpl cache = (CaffeineCacheImpl) serializedSizeCache;
+        // The maximum weight of the cache replaces the maximum size of the default configuration.
+        assertNull(cache.getCacheInfo().maximumSize);
+        assertEquals(10240L, cache.getCacheInfo().maximumWeight);
+
+        String value = "x".repeat(1000);
+        for (int i = 0; i < 100; i++) {
+            cache.get(i, k -> value).await().indefinitely();
+        }
+        awaitWeightedSizeBelow(cache, 10240L);
+        assertTrue(cache.getSize() < 100);
+
+        assertThrows(IllegalStateException.class, () -> cache.setMaximumSize(10L));
+    }
+
+    @Test
+    public void testCustomWeigher() {
+        CaffeineCache cache = customWeigherCache.as(CaffeineCache.class);
+        cache.get("a", k -> "x".repeat(60)).await().indefinitely();
+        assertEquals(60L, cache.weightedSize());
+
+        cache.get("b", k -> "x".repeat(60)).await().indefinitely();
+        awaitWeightedSizeBelow(cache, 100L);
+
+        cache.setMaximumWeight(200L);
+        cache.get("c", k -> "x".repeat(60)).await().indefinitely();
+        cache.get("d", k -> "x".repeat(60)).await().indefinitely();
+        awaitWeightedSizeBelow(cache, 200L);
+        assertTrue(cache.weightedSize() >= 120L);
+    }
+
+    private static void awaitWeightedSizeBelow(CaffeineCache cache, long maximumWeight) {
+        // The eviction is performed asynchronously.
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (cache.weightedSize() > maximumWeight && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertTrue(cache.weightedSize() <= maximumWeight);
+    }
+
+    @Singleton
+    public static class LengthWeigher implements CacheWeigher {
+
+        @Override
+        public int weigh(Object key, Object value) {
+            return value == null ? 0 : ((String) value).length();
+        }
+    }
+}
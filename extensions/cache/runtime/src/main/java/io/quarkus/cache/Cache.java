@@ -1,9 +1,14 @@
 package io.quarkus.cache;
 
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 /**
@@ -58,6 +63,86 @@ public interface Cache {
     @CheckReturnValue
     <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader);
 
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the values
+     * that are not cached yet from a single invocation of {@code valuesLoader}.
+     * <p>
+     * The values loader receives the keys that are not associated with a value. The keys it does not return a value for
+     * are not cached and are absent from the emitted map.
+     * <p>
+     * The default implementation is meant for the implementations that predate this method: it gets the keys one by one
+     * with {@link #get(Object, Function)} and invokes the values loader once per missing key. The keys the loader does not
+     * return a value for are then cached with a {@code null} value.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param valuesLoader function used to compute the cache values of the keys that are not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values, in the iteration order of {@code keys}
+     * @throws NullPointerException if one of the keys is {@code null}
+     * @throws CacheException if an exception is thrown during the cache values computation
+     */
+    @CheckReturnValue
+    default <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getEach(keys, key -> get(key, k -> valuesLoader.apply(Set.of(k)).get(k)));
+    }
+
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the values
+     * that are not cached yet from a single invocation of {@code valuesLoader}.
+     * <p>
+     * The values loader receives the keys that are not associated with a value. The keys it does not return a value for
+     * are not cached and are absent from the emitted map.
+     * <p>
+     * The default implementation is meant for the implementations that predate this method: it gets the keys one by one
+     * with {@link #getAsync(Object, Function)} and invokes the values loader once per missing key. The keys the loader
+     * does not return a value for are then cached with a {@code null} value.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param valuesLoader function used to compute the cache values of the keys that are not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values, in the iteration order of {@code keys}
+     * @throws NullPointerException if one of the keys is {@code null}
+     */
+    @CheckReturnValue
+    default <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        return getEach(keys, key -> getAsync(key, k -> valuesLoader.apply(Set.of(k)).map(values -> values.get(k))));
+    }
+
+    /**
+     * Associates each value of {@code entries} with its key in the cache, replacing the values previously associated with
+     * these keys.
+     * <p>
+     * The default implementation is meant for the implementations that predate this method: it invalidates each key and
+     * then gets it with {@link #get(Object, Function)} and a loader returning the new value, so a concurrent load of the
+     * same key may win.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param entries cache entries
+     * @throws NullPointerException if one of the keys is {@code null}
+     */
+    @CheckReturnValue
+    default <K, V> Uni<Void> putAll(Map<K, V> entries) {
+        return Multi.createFrom().iterable(entries.entrySet())
+                .onItem().transformToUniAndConcatenate(
+                        entry -> invalidate(entry.getKey()).chain(() -> get(entry.getKey(), k -> entry.getValue())))
+                .collect().last()
+                .replaceWithVoid();
+    }
+
+    private <K, V> Uni<Map<K, V>> getEach(Set<K> keys, Function<K, Uni<V>> get) {
+        return Multi.createFrom().iterable(keys)
+                .onItem().transformToUniAndConcatenate(key -> get.apply(key)
+                        .map(value -> new AbstractMap.SimpleImmutableEntry<>(key, value)))
+                .collect().in(LinkedHashMap::new, (values, entry) -> {
+                    if (entry.getValue() != null) {
+                        values.put(entry.getKey(), entry.getValue());
+                    }
+                });
+    }
+
     /**
      * Removes the cache entry identified by {@code key} from the cache. If the key does not identify any cache entry, nothing
      * will happen.
@@ -0,0 +1,46 @@
+package io.quarkus.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * When a method annotated with {@link CacheBulkResult} is invoked, Quarkus will use each element of the keys argument as a
+ * cache key and look up all of them in the cache with a single bulk operation.
+ * <p>
+ * The keys argument is identified using the following logic:
+ * <ul>
+ * <li>If the method has exactly one argument, then that argument holds the keys.</li>
+ * <li>Otherwise, the only argument annotated with {@link CacheKey @CacheKey} holds the keys.</li>
+ * </ul>
+ * The keys argument must be declared as a {@link java.util.Collection Collection}, a {@link java.util.Set Set} or a
+ * {@link java.util.List List}.
+ * <p>
+ * If all keys are found in the cache, the cached values are returned and the annotated method is never actually executed.
+ * Otherwise, the annotated method is invoked once with the keys argument replaced by the missing keys only, and the entries of
+ * the returned map are stored in the cache. Keys missing from the returned map are not cached and are not part of the result.
+ * The other method arguments are passed unchanged.
+ * <p>
+ * This annotation can only be used on a method returning a {@link java.util.Map Map}, a
+ * {@link io.smallrye.mutiny.Uni Uni&lt;Map&gt;} or a {@link java.util.concurrent.CompletionStage CompletionStage&lt;Map&gt;}.
+ * Unlike {@link CacheResult}, it does not support cache key generators nor lock timeouts.
+ * <p>
+ * The underlying caching provider can be chosen and configured in the Quarkus {@link application.properties} file.
+ *
+ * @see Cache#getAll(java.util.Set, java.util.function.Function)
+ */
+@InterceptorBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheBulkResult {
+
+    /**
+     * The name of the cache.
+     */
+    @Nonbinding
+    String cacheName();
+}
@@ -0,0 +1,55 @@
+package io.quarkus.cache;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Carries the invalidations of the local caches between the instances of an application when the distributed invalidation
+ * is enabled with {@code quarkus.cache.invalidation.enabled}.
+ * <p>
+ * The messages are opaque batches of invalidations encoded by the cache extension. A message published by an instance must
+ * be delivered to all the other instances. It may also be delivered back to the publishing instance, in which case it is
+ * ignored.
+ * <p>
+ * A custom transport is selected with {@code quarkus.cache.invalidation.transport} set to the fully qualified name of its
+ * implementation class, which is looked up as a CDI bean or instantiated with its no-args constructor if there is no such
+ * bean.
+ */
+public interface CacheInvalidationTransport {
+
+    /**
+     * Starts receiving the messages published by the other instances of the application.
+     *
+     * @param listener the listener notified of the received messages
+     */
+    void start(Listener listener);
+
+    /**
+     * Publishes a message to all the other instances of the application.
+     *
+     * @param message message
+     * @return a lazy asynchronous action completed when the message is published
+     */
+    Uni<Void> publish(byte[] message);
+
+    /**
+     * Stops receiving messages and releases the resources of the transport.
+     */
+    default void close() {
+    }
+
+    interface Listener {
+
+        /**
+         * Called with each received message. This method does not block.
+         *
+         * @param message message
+         */
+        void onMessage(byte[] message);
+
+        /**
+         * Called when some messages may have been missed, for example after a connection loss. All the local caches which
+         * participate in the distributed invalidation are then invalidated.
+         */
+        void onMessagesLost();
+    }
+}
@@ -0,0 +1,20 @@
+package io.quarkus.cache;
+
+/**
+ * Implement this interface to compute the weight of the entries of a Caffeine cache bounded by a maximum weight. The weigher of
+ * a cache is selected with the {@code quarkus.cache.caffeine."cache-name".weigher} configuration property.
+ * <p>
+ * The class must either represent a CDI bean or declare a public no-args constructor. Implementations must be thread-safe and
+ * fast, since the weight of an entry is computed each time its value is stored.
+ */
+public interface CacheWeigher {
+
+    /**
+     * Returns the weight of a cache entry. The weight is computed once, when the value is stored in the cache.
+     *
+     * @param key the cache key
+     * @param value the cached value, which may be {@code null}
+     * @return the weight of the entry, which must be positive or zero
+     */
+    int weigh(Object key, Object value);
+}
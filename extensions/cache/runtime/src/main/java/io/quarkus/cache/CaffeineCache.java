@@ -75,4 +75,22 @@ public interface CaffeineCache extends Cache {
      * @throws IllegalStateException if the cache was not constructed with a {@code maximum-size} configuration value
      */
     void setMaximumSize(long maximumSize);
+
+    /**
+     * Changes the maximum total weight of the entries the cache may contain.
+     * <p>
+     * <b>Warning:</b> this method must not be invoked from within an atomic scope of a cache operation.
+     *
+     * @param maximumWeight the maximum weight of the cache
+     * @throws IllegalStateException if the cache was not constructed with a {@code maximum-weight} configuration value
+     */
+    void setMaximumWeight(long maximumWeight);
+
+    /**
+     * Returns the approximate total weight of the entries contained in this cache.
+     *
+     * @return the weighted size of the cache
+     * @throws IllegalStateException if the cache was not constructed with a {@code maximum-weight} configuration value
+     */
+    long weightedSize();
 }
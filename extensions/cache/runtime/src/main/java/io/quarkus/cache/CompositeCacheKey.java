@@ -1,5 +1,6 @@
 package io.quarkus.cache;
 
+import java.io.Serializable;
 import java.util.Arrays;
 
 /**
@@ -7,7 +8,9 @@
  * {@link CacheInvalidate} is invoked and when the cache key is composed of several of the method arguments (annotated with
  * {@link CacheKey} or not). This class can also be used with the programmatic caching API.
  */
-public class CompositeCacheKey {
+public class CompositeCacheKey implements Serializable {
+
+    private static final long serialVersionUID = -2281473623620624405L;
 
     private final Object[] keyElements;
 
@@ -0,0 +1,30 @@
+package io.quarkus.cache;
+
+/**
+ * A cache which stores its serialized values outside of the Java heap.
+ */
+public interface OffHeapCache extends Cache {
+
+    /**
+     * Returns the approximate number of entries in this cache.
+     *
+     * @return the estimated number of entries
+     */
+    long estimatedSize();
+
+    /**
+     * Returns the amount of off-heap memory used by the values of this cache, rounded up to the sizes of the memory blocks
+     * they are stored in.
+     *
+     * @return the used memory in bytes
+     */
+    long usedMemory();
+
+    /**
+     * Returns the amount of off-heap memory allocated by this cache, including the free memory blocks available for future
+     * values.
+     *
+     * @return the allocated memory in bytes
+     */
+    long allocatedMemory();
+}
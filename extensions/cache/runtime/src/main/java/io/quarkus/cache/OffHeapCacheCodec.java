@@ -0,0 +1,29 @@
+package io.quarkus.cache;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Implement this interface to customize how the values of an off-heap cache are serialized. The codec of a cache is selected
+ * with the {@code quarkus.cache.off-heap."cache-name".codec} configuration property.
+ * <p>
+ * The class must either represent a CDI bean or declare a public no-args constructor. Implementations must be thread-safe.
+ */
+public interface OffHeapCacheCodec {
+
+    /**
+     * Serializes a value before it is copied to the off-heap memory of the cache.
+     *
+     * @param value the cached value, never {@code null}
+     * @return the serialized value
+     */
+    byte[] encode(Object value);
+
+    /**
+     * Deserializes a value read from the off-heap memory of the cache. The buffer is only valid during the invocation of this
+     * method and must not be retained.
+     *
+     * @param buffer a read-only buffer whose remaining bytes are the serialized value
+     * @return the deserialized value
+     */
+    Object decode(ByteBuffer buffer);
+}
@@ -2,6 +2,7 @@
 
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.DefaultCacheKey;
+import io.quarkus.cache.runtime.invalidation.CacheInvalidationBus;
 
 public abstract class AbstractCache implements Cache {
 
@@ -9,6 +10,8 @@ public abstract class AbstractCache implements Cache {
 
     private Object defaultKey;
 
+    private volatile CacheInvalidationBus invalidationBus;
+
     @Override
     public Object getDefaultKey() {
         if (defaultKey == null) {
@@ -17,6 +20,67 @@ public Object getDefaultKey() {
         return defaultKey;
     }
 
+    /**
+     * Returns the value associated with {@code key} if it is already computed and can be returned as is, without loading or
+     * refreshing it. This is used by the interceptors to serve the cache hits of the synchronous methods without any
+     * allocation. The returned value is a cache value, see {@link NullValueConverter}.
+     *
+     * @param key cache key
+     * @return the cache value, or {@code null} if the value is absent or must be obtained with {@link #get}
+     */
+    public Object getCompletedValue(Object key) {
+        return null;
+    }
+
+    /**
+     * Sets the bus which broadcasts the invalidations of this local cache to the other instances of the application.
+     *
+     * @param invalidationBus invalidation bus
+     */
+    public void setInvalidationBus(CacheInvalidationBus invalidationBus) {
+        this.invalidationBus = invalidationBus;
+    }
+
+    /**
+     * Invalidates the entry identified by {@code key} in this instance of the application only. This is used to apply the
+     * invalidations received from the other instances, and is only supported by the local caches.
+     *
+     * @param key cache key
+     */
+    public void invalidateLocally(Object key) {
+        throw new UnsupportedOperationException("Cache [" + getName() + "] is not a local cache");
+    }
+
+    /**
+     * Invalidates all the entries in this instance of the application only, see {@link #invalidateLocally(Object)}.
+     */
+    public void invalidateAllLocally() {
+        throw new UnsupportedOperationException("Cache [" + getName() + "] is not a local cache");
+    }
+
+    /**
+     * Broadcasts the invalidation of the entry identified by {@code key} if the distributed invalidation is enabled for this
+     * cache.
+     *
+     * @param key cache key
+     */
+    protected void publishInvalidation(Object key) {
+        CacheInvalidationBus bus = invalidationBus;
+        if (bus != null) {
+            bus.publish(getName(), key);
+        }
+    }
+
+    /**
+     * Broadcasts the invalidation of all the entries if the distributed invalidation is enabled for this cache.
+     */
+    protected void publishInvalidationAll() {
+        CacheInvalidationBus bus = invalidationBus;
+        if (bus != null) {
+            bus.publishAll(getName());
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Cache> T as(Class<T> type) {
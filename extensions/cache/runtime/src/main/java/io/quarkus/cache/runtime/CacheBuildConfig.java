@@ -18,12 +18,26 @@ public interface CacheBuildConfig {
 
     String CAFFEINE_CACHE_TYPE = "caffeine";
 
+    String OFF_HEAP_CACHE_TYPE = "off-heap";
+
+    String VERTX_EVENT_BUS_TRANSPORT = "vertx-event-bus";
+
+    String REDIS_TRANSPORT = "redis";
+
+    String KAFKA_TRANSPORT = "kafka";
+
     /**
      * Default cache type (backend provider). If no explicit type is defined for a cache, this type will be used.
      */
     @WithDefault(CAFFEINE_CACHE_TYPE)
     String type();
 
+    /**
+     * Distributed invalidation of the local caches.
+     */
+    @ConfigDocSection
+    InvalidationBuildConfig invalidation();
+
     /**
      * Configuration that allows customizing cache names to use a different type.
      */
@@ -44,4 +58,26 @@ interface CacheTypeBuildConfig {
         @WithDefault(CAFFEINE_CACHE_TYPE)
         String type();
     }
+
+    @ConfigGroup
+    interface InvalidationBuildConfig {
+
+        /**
+         * Whether the invalidations of the local caches (Caffeine and off-heap) are broadcast to the other instances of the
+         * application. When enabled, the entries invalidated with {@code @CacheInvalidate}, {@code @CacheInvalidateAll} or the
+         * programmatic API are also invalidated on the other instances, asynchronously.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * Transport used to broadcast the invalidations: {@code vertx-event-bus} (the invalidations only reach the other
+         * instances if the Vert.x event bus is clustered, which it is not by default),
+         * {@code redis} (requires the {@code quarkus-redis-client} extension), {@code kafka} (requires the
+         * {@code quarkus-kafka-client} extension), or the fully qualified name of a
+         * {@link io.quarkus.cache.CacheInvalidationTransport} implementation.
+         */
+        @WithDefault(VERTX_EVENT_BUS_TRANSPORT)
+        String transport();
+    }
 }
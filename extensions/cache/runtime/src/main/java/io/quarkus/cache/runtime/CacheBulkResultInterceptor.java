@@ -0,0 +1,115 @@
+package io.quarkus.cache.runtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheBulkResult;
+import io.quarkus.cache.CacheException;
+import io.smallrye.mutiny.Uni;
+
+@CacheBulkResult(cacheName = "") // The `cacheName` attribute is @Nonbinding.
+@Interceptor
+@Priority(CacheInterceptor.BASE_PRIORITY + 2)
+public class CacheBulkResultInterceptor extends CacheInterceptor {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheBulkResultInterceptor.class);
+    private static final String INTERCEPTOR_BINDING_ERROR_MSG = "The Quarkus cache extension is not working properly (CacheBulkResult interceptor binding retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
+
+    @AroundInvoke
+    public Object intercept(InvocationContext invocationContext) throws Throwable {
+        CacheInterceptionContext<CacheBulkResult> interceptionContext = getInterceptionContext(invocationContext,
+                CacheBulkResult.class, true);
+
+        if (interceptionContext.getInterceptorBindings().isEmpty()) {
+            // This should never happen.
+            LOGGER.warn(INTERCEPTOR_BINDING_ERROR_MSG);
+            return invocationContext.proceed();
+        }
+
+        CacheBulkResult binding = interceptionContext.getInterceptorBindings().get(0);
+        Cache cache = cacheManager.getCache(binding.cacheName()).get();
+        // The keys argument position is validated at build time.
+        List<Short> cacheKeyParameterPositions = interceptionContext.getCacheKeyParameterPositions();
+        int keysPosition = cacheKeyParameterPositions.size() == 1 ? cacheKeyParameterPositions.get(0) : 0;
+        Object[] parameters = invocationContext.getParameters();
+        Class<?> keysType = invocationContext.getMethod().getParameterTypes()[keysPosition];
+        Set<Object> keys = new LinkedHashSet<>((Collection<?>) parameters[keysPosition]);
+        LOGGER.debugf("Loading %d entries from cache [%s]", keys.size(), binding.cacheName());
+
+        try {
+            ReturnType returnType = determineReturnType(invocationContext.getMethod().getReturnType());
+            if (returnType != ReturnType.NonAsync) {
+                Uni<Map<Object, Object>> cacheValues = cache.getAllAsync(keys,
+                        new Function<Set<Object>, Uni<Map<Object, Object>>>() {
+                            @SuppressWarnings("unchecked")
+                            @Override
+                            public Uni<Map<Object, Object>> apply(Set<Object> missingKeys) {
+                                try {
+                                    return (Uni<Map<Object, Object>>) asyncInvocationResultToUni(
+                                            proceed(invocationContext, parameters, keysPosition, keysType, missingKeys),
+                                            returnType);
+                                } catch (CacheException e) {
+                                    throw e;
+                                } catch (Exception e) {
+                                    throw new CacheException(e);
+                                }
+                            }
+                        });
+                @SuppressWarnings({ "unchecked", "rawtypes" })
+                Uni<Object> cacheValue = (Uni) cacheValues;
+                return createAsyncResult(cacheValue, returnType);
+            } else {
+                Uni<Map<Object, Object>> cacheValues = cache.getAll(keys,
+                        new Function<Set<Object>, Map<Object, Object>>() {
+                            @SuppressWarnings("unchecked")
+                            @Override
+                            public Map<Object, Object> apply(Set<Object> missingKeys) {
+                                try {
+                                    LOGGER.debugf("Adding %d entries into cache [%s]", missingKeys.size(),
+                                            binding.cacheName());
+                                    return (Map<Object, Object>) proceed(invocationContext, parameters, keysPosition,
+                                            keysType, missingKeys);
+                                } catch (CacheException e) {
+                                    throw e;
+                                } catch (Throwable e) {
+                                    throw new CacheException(e);
+                                }
+                            }
+                        });
+                return cacheValues.await().indefinitely();
+            }
+
+        } catch (CacheException e) {
+            if (e.getCause() != null) {
+                throw e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    /*
+     * Invokes the intercepted method with the keys argument replaced by the keys that were not found in the cache.
+     */
+    private static Object proceed(InvocationContext invocationContext, Object[] parameters, int keysPosition,
+            Class<?> keysType, Set<Object> missingKeys) throws Exception {
+        Object[] missingKeysParameters = parameters.clone();
+        missingKeysParameters[keysPosition] = Set.class.isAssignableFrom(keysType) ? new LinkedHashSet<>(missingKeys)
+                : new ArrayList<>(missingKeys);
+        invocationContext.setParameters(missingKeysParameters);
+        return invocationContext.proceed();
+    }
+}
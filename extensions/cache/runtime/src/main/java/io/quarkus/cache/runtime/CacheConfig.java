@@ -7,10 +7,12 @@
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.Set;
 
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithParentName;
@@ -63,6 +65,23 @@ interface CaffeineCacheConfig {
              */
             OptionalLong maximumSize();
 
+            /**
+             * Maximum total weight of the entries the cache may contain, as computed by the weigher of the cache. By default,
+             * the weight of an entry is the estimated size in bytes of its serialized value, so this value can be expressed as
+             * a memory size such as {@code 64M}. As the total weight grows close to the maximum, the cache evicts entries that
+             * are less likely to be used again.
+             * <p>
+             * This value cannot be set if {@code maximum-size} is also set.
+             */
+            Optional<MemorySize> maximumWeight();
+
+            /**
+             * Fully qualified name of the {@link io.quarkus.cache.CacheWeigher} used to compute the weight of the entries when
+             * {@code maximum-weight} is set. The weigher is looked up as a CDI bean, or instantiated with its no-args
+             * constructor if there is no such bean.
+             */
+            Optional<String> weigher();
+
             /**
              * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
              * the entry's creation, or the most recent replacement of its value.
@@ -75,6 +94,35 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * Specifies that an entry should be reloaded in the background once a fixed duration has elapsed after the entry's
+             * creation, or the most recent replacement of its value. The current value keeps being returned while the entry
+             * is reloaded, and it is kept if the reload fails. A single reload is performed at a time for a given key.
+             * <p>
+             * The entry is reloaded by the value loader of the first read happening after this duration, e.g. by invoking the
+             * method annotated with {@link io.quarkus.cache.CacheResult @CacheResult} again. Synchronous loaders are invoked on
+             * a worker thread.
+             */
+            Optional<Duration> refreshAfterWrite();
+
+            /**
+             * Specifies how long an entry can still be returned after it expired according to {@code expire-after-write},
+             * while it is reloaded in the background. Once this window has elapsed, the entry is removed and the next read
+             * waits for the value to be loaded.
+             * <p>
+             * This value can only be set if {@code expire-after-write} is also set.
+             */
+            Optional<Duration> staleWhileRevalidate();
+
+            /**
+             * Specifies how long an entry can still be returned after it expired according to {@code expire-after-write}, if
+             * reloading it fails. Within this window, a read that reloads the entry returns the expired value instead of the
+             * failure.
+             * <p>
+             * This value can only be set if {@code expire-after-write} is also set.
+             */
+            Optional<Duration> staleIfError();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
@@ -82,4 +130,128 @@ interface CaffeineCacheConfig {
             Optional<Boolean> metricsEnabled();
         }
     }
+
+    /**
+     * Off-heap configuration.
+     */
+    OffHeapConfig offHeap();
+
+    interface OffHeapConfig {
+
+        /**
+         * Default configuration applied to all off-heap caches (lowest precedence)
+         */
+        @WithParentName
+        @ConfigDocSection
+        OffHeapCacheConfig defaultConfig();
+
+        /**
+         * Additional configuration applied to a specific off-heap cache (highest precedence)
+         */
+        @WithParentName
+        @ConfigDocMapKey("cache-name")
+        @ConfigDocSection
+        Map<String, OffHeapCacheConfig> cachesConfig();
+
+        interface OffHeapCacheConfig {
+
+            /**
+             * Maximum amount of off-heap memory the serialized values of the cache may use. As the memory usage grows close
+             * to the maximum, the cache evicts entries that are less likely to be used again. The direct memory chunks
+             * allocated by the cache are bounded by this value as well. Defaults to {@code 64M}.
+             */
+            Optional<MemorySize> maximumMemory();
+
+            /**
+             * Size of the direct memory chunks the cache memory is allocated from. Values larger than this size are stored in
+             * a dedicated chunk. Defaults to {@code 4M}.
+             */
+            Optional<MemorySize> chunkSize();
+
+            /**
+             * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
+             * the entry's creation, or the most recent replacement of its value.
+             */
+            Optional<Duration> expireAfterWrite();
+
+            /**
+             * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
+             * the entry's creation, the most recent replacement of its value, or its last read.
+             */
+            Optional<Duration> expireAfterAccess();
+
+            /**
+             * Fully qualified name of the {@link io.quarkus.cache.OffHeapCacheCodec} used to serialize the cached values. The
+             * codec is looked up as a CDI bean, or instantiated with its no-args constructor if there is no such bean. Java
+             * serialization is used by default, which requires the cached values to be {@link java.io.Serializable}.
+             */
+            Optional<String> codec();
+
+            /**
+             * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
+             * value to {@code true} will enable the accumulation of cache stats and the memory usage gauges.
+             */
+            Optional<Boolean> metricsEnabled();
+        }
+    }
+
+    /**
+     * Distributed invalidation configuration, see {@code quarkus.cache.invalidation.enabled}.
+     */
+    @ConfigDocSection
+    InvalidationConfig invalidation();
+
+    interface InvalidationConfig {
+
+        /**
+         * Names of the local caches whose invalidations are broadcast to the other instances of the application. All the
+         * local caches are included by default.
+         */
+        Optional<Set<String>> caches();
+
+        /**
+         * Maximum number of invalidations published in a single message.
+         */
+        @WithDefault("100")
+        int batchSize();
+
+        /**
+         * Maximum delay between an invalidation and its publication, during which it can be batched with the following
+         * invalidations.
+         */
+        @WithDefault("0.050S")
+        Duration batchDelay();
+
+        /**
+         * Name of the Vert.x event bus address, Redis channel or Kafka topic the invalidations are published to.
+         */
+        @WithDefault("quarkus-cache-invalidation")
+        String channel();
+
+        /**
+         * Name of the Redis client used by the {@code redis} transport. The default Redis client is used if not set.
+         */
+        Optional<String> redisClientName();
+
+        /**
+         * Kafka configuration of the {@code kafka} transport.
+         */
+        KafkaConfig kafka();
+
+        interface KafkaConfig {
+
+            /**
+             * Comma-separated list of the Kafka brokers.
+             */
+            @WithDefault("${kafka.bootstrap.servers:localhost:9092}")
+            String bootstrapServers();
+
+            /**
+             * Additional Kafka client properties, such as the security settings, applied to both the producer and the
+             * consumer.
+             */
+            @ConfigDocMapKey("property-name")
+            Map<String, String> properties();
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package io.quarkus.cache.runtime;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.inject.Singleton;
+
+/**
+ * Keeps the interception contexts resolved by the cache interceptors when the interception is managed by ArC, so that the
+ * interceptor bindings and the cache key parameters of a method are only resolved on its first invocation. The contexts are
+ * keyed by the intercepted method: ArC shares a single interceptor bindings set between the methods of a class whose bindings
+ * are equivalent, while the cache key of a context also depends on the parameters of the method.
+ */
+@Singleton
+public class CacheInterceptionContexts {
+
+    /*
+     * The maps are copied on write: the contexts are only added on the first invocation of each intercepted method and all
+     * the following invocations read them without any lock.
+     */
+    private volatile Map<Class<?>, Map<Method, CacheInterceptionContext<?>>> contexts = Map.of();
+
+    @SuppressWarnings("unchecked")
+    <T> CacheInterceptionContext<T> get(Method method, Class<T> interceptorBindingClass) {
+        Map<Method, CacheInterceptionContext<?>> methodContexts = contexts.get(interceptorBindingClass);
+        return methodContexts == null ? null : (CacheInterceptionContext<T>) methodContexts.get(method);
+    }
+
+    synchronized <T> void put(Method method, Class<T> interceptorBindingClass, CacheInterceptionContext<T> context) {
+        Map<Class<?>, Map<Method, CacheInterceptionContext<?>>> newContexts = new HashMap<>(contexts);
+        Map<Method, CacheInterceptionContext<?>> methodContexts = new HashMap<>(
+                newContexts.getOrDefault(interceptorBindingClass, Map.of()));
+        methodContexts.put(method, context);
+        newContexts.put(interceptorBindingClass, methodContexts);
+        contexts = newContexts;
+    }
+}
@@ -6,7 +6,6 @@
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
@@ -43,6 +42,9 @@ public abstract class CacheInterceptor {
     @Inject
     CacheManager cacheManager;
 
+    @Inject
+    CacheInterceptionContexts interceptionContexts;
+
     @Inject
     @Any // this means that qualifiers defined on a CacheKeyGenerator are effectively ignored
     Instance<CacheKeyGenerator> keyGenerator;
@@ -58,24 +60,33 @@ public abstract class CacheInterceptor {
      */
     protected <T> CacheInterceptionContext<T> getInterceptionContext(InvocationContext invocationContext,
             Class<T> interceptorBindingClass, boolean supportsCacheKey) {
-        return getArcCacheInterceptionContext(invocationContext, interceptorBindingClass)
-                .orElseGet(new Supplier<CacheInterceptionContext<T>>() {
-                    @Override
-                    public CacheInterceptionContext<T> get() {
-                        return getNonArcCacheInterceptionContext(invocationContext, interceptorBindingClass, supportsCacheKey);
-                    }
-                });
+        CacheInterceptionContext<T> interceptionContext = getArcCacheInterceptionContext(invocationContext,
+                interceptorBindingClass, supportsCacheKey);
+        if (interceptionContext == null) {
+            interceptionContext = getNonArcCacheInterceptionContext(invocationContext, interceptorBindingClass,
+                    supportsCacheKey);
+        }
+        return interceptionContext;
     }
 
+    /*
+     * Returns null when the interception is not managed by Arc. Otherwise, the context is only resolved on the first invocation
+     * of the intercepted method and then reused, so that the following invocations don't allocate anything.
+     */
     @SuppressWarnings("unchecked")
-    private <T> Optional<CacheInterceptionContext<T>> getArcCacheInterceptionContext(
-            InvocationContext invocationContext, Class<T> interceptorBindingClass) {
+    private <T> CacheInterceptionContext<T> getArcCacheInterceptionContext(
+            InvocationContext invocationContext, Class<T> interceptorBindingClass, boolean supportsCacheKey) {
         Set<AbstractAnnotationLiteral> bindings = InterceptorBindings.getInterceptorBindingLiterals(invocationContext);
         if (bindings == null || bindings.isEmpty() || !(bindings.iterator().next() instanceof AbstractAnnotationLiteral)) {
             // this should only happen when the interception is not managed by ArC
             // a non-`AbstractAnnotationLiteral` can come from RESTEasy Classic's `QuarkusInvocationContextImpl`
             LOGGER.trace("Interceptor bindings not found in ArC or not created by ArC");
-            return Optional.empty();
+            return null;
+        }
+        Method method = invocationContext.getMethod();
+        CacheInterceptionContext<T> interceptionContext = interceptionContexts.get(method, interceptorBindingClass);
+        if (interceptionContext != null) {
+            return interceptionContext;
         }
         List<T> interceptorBindings = new ArrayList<>();
         List<Short> cacheKeyParameterPositions = new ArrayList<>();
@@ -88,7 +99,10 @@ private <T> Optional<CacheInterceptionContext<T>> getArcCacheInterceptionContext
                 interceptorBindings.add((T) binding);
             }
         }
-        return Optional.of(new CacheInterceptionContext<>(interceptorBindings, cacheKeyParameterPositions));
+        interceptionContext = new CacheInterceptionContext<>(interceptorBindings, cacheKeyParameterPositions,
+                getCacheKeyFactory(supportsCacheKey, cacheKeyParameterPositions, method));
+        interceptionContexts.put(method, interceptorBindingClass, interceptionContext);
+        return interceptionContext;
     }
 
     @SuppressWarnings("unchecked")
@@ -122,7 +136,21 @@ private <T> CacheInterceptionContext<T> getNonArcCacheInterceptionContext(
                 }
             }
         }
-        return new CacheInterceptionContext<>(interceptorBindings, cacheKeyParameterPositions);
+        return new CacheInterceptionContext<>(interceptorBindings, cacheKeyParameterPositions,
+                getCacheKeyFactory(supportsCacheKey, cacheKeyParameterPositions, invocationContext.getMethod()));
+    }
+
+    private static CacheKeyFactory getCacheKeyFactory(boolean supportsCacheKey, List<Short> cacheKeyParameterPositions,
+            Method method) {
+        return supportsCacheKey ? CacheKeyFactory.of(cacheKeyParameterPositions, method.getParameterTypes()) : null;
+    }
+
+    protected Object getCacheKey(Cache cache, Class<? extends CacheKeyGenerator> keyGeneratorClass,
+            CacheKeyFactory cacheKeyFactory, Method method, Object[] methodParameterValues) {
+        if (keyGeneratorClass != UndefinedCacheKeyGenerator.class) {
+            return generateKey(keyGeneratorClass, method, methodParameterValues);
+        }
+        return cacheKeyFactory.create(cache, methodParameterValues);
     }
 
     protected Object getCacheKey(Cache cache, Class<? extends CacheKeyGenerator> keyGeneratorClass,
@@ -1,6 +1,5 @@
 package io.quarkus.cache.runtime;
 
-import java.util.List;
 import java.util.function.Function;
 
 import jakarta.annotation.Priority;
@@ -49,7 +48,7 @@ private Object invalidateNonBlocking(InvocationContext invocationContext,
                 .onItem().transformToUniAndMerge(new Function<CacheInvalidate, Uni<? extends Void>>() {
                     @Override
                     public Uni<Void> apply(CacheInvalidate binding) {
-                        return invalidate(binding, interceptionContext.getCacheKeyParameterPositions(), invocationContext);
+                        return invalidate(binding, interceptionContext.getCacheKeyFactory(), invocationContext);
                     }
                 })
                 .onItem().ignoreAsUni()
@@ -70,15 +69,15 @@ private Object invalidateBlocking(InvocationContext invocationContext,
             CacheInterceptionContext<CacheInvalidate> interceptionContext) throws Exception {
         LOGGER.trace("Invalidating cache entries in a blocking way");
         for (CacheInvalidate binding : interceptionContext.getInterceptorBindings()) {
-            invalidate(binding, interceptionContext.getCacheKeyParameterPositions(), invocationContext).await().indefinitely();
+            invalidate(binding, interceptionContext.getCacheKeyFactory(), invocationContext).await().indefinitely();
         }
         return invocationContext.proceed();
     }
 
-    private Uni<Void> invalidate(CacheInvalidate binding, List<Short> cacheKeyParameterPositions,
+    private Uni<Void> invalidate(CacheInvalidate binding, CacheKeyFactory cacheKeyFactory,
             InvocationContext invocationContext) {
         Cache cache = cacheManager.getCache(binding.cacheName()).get();
-        Object key = getCacheKey(cache, binding.keyGenerator(), cacheKeyParameterPositions, invocationContext.getMethod(),
+        Object key = getCacheKey(cache, binding.keyGenerator(), cacheKeyFactory, invocationContext.getMethod(),
                 invocationContext.getParameters());
         LOGGER.debugf("Invalidating entry with key [%s] from cache [%s]", key, binding.cacheName());
         return cache.invalidate(key);
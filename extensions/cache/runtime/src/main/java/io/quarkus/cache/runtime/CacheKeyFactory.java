@@ -0,0 +1,119 @@
+package io.quarkus.cache.runtime;
+
+import java.util.List;
+import java.util.Set;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CompositeCacheKey;
+
+/**
+ * Builds the cache keys of a method annotated with a caching annotation. A factory is resolved once per intercepted method from
+ * the cache key parameter positions computed at build time and from the method parameter types, so that building the key of
+ * an invocation doesn't require any lookup. No object is allocated unless the key is composed of several parameters.
+ */
+public abstract class CacheKeyFactory {
+
+    private static final Set<Class<?>> FLAT_TYPES = Set.of(String.class, Boolean.class, Byte.class, Character.class,
+            Short.class, Integer.class, Long.class, Float.class, Double.class);
+
+    // If the intercepted method doesn't have any parameter, then the default cache key will be used.
+    private static final CacheKeyFactory DEFAULT_KEY = new CacheKeyFactory() {
+        @Override
+        public Object create(Cache cache, Object[] methodParameterValues) {
+            return cache.getDefaultKey();
+        }
+    };
+
+    /**
+     * Returns the cache key of an invocation of the method this factory was resolved for.
+     *
+     * @param cache the cache the key belongs to
+     * @param methodParameterValues the parameter values of the invocation
+     * @return cache key
+     */
+    public abstract Object create(Cache cache, Object[] methodParameterValues);
+
+    /**
+     * Resolves the factory of a method.
+     *
+     * @param cacheKeyParameterPositions the positions of the {@code @CacheKey}-annotated parameters
+     * @param parameterTypes the parameter types of the method
+     * @return cache key factory
+     */
+    public static CacheKeyFactory of(List<Short> cacheKeyParameterPositions, Class<?>[] parameterTypes) {
+        if (parameterTypes.length == 0) {
+            return DEFAULT_KEY;
+        } else if (cacheKeyParameterPositions.size() == 1) {
+            // If exactly one @CacheKey-annotated parameter was identified for the intercepted method at build time, then this
+            // parameter will be used as the cache key.
+            return new SingleParameter(cacheKeyParameterPositions.get(0));
+        } else if (cacheKeyParameterPositions.size() >= 2) {
+            // If two or more @CacheKey-annotated parameters were identified for the intercepted method at build time, then a
+            // composite cache key built from all these parameters will be used.
+            int[] positions = new int[cacheKeyParameterPositions.size()];
+            boolean flat = true;
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = cacheKeyParameterPositions.get(i);
+                flat &= isFlat(parameterTypes[positions[i]]);
+            }
+            return new CompositeKey(positions, flat);
+        } else if (parameterTypes.length == 1) {
+            // If the intercepted method has exactly one parameter, then this parameter will be used as the cache key.
+            return new SingleParameter(0);
+        } else {
+            // If the intercepted method has two or more parameters, then a composite cache key built from all these parameters
+            // will be used.
+            boolean flat = true;
+            for (Class<?> parameterType : parameterTypes) {
+                flat &= isFlat(parameterType);
+            }
+            return new CompositeKey(null, flat);
+        }
+    }
+
+    private static boolean isFlat(Class<?> parameterType) {
+        return parameterType.isPrimitive() || FLAT_TYPES.contains(parameterType);
+    }
+
+    private static final class SingleParameter extends CacheKeyFactory {
+
+        private final int position;
+
+        SingleParameter(int position) {
+            this.position = position;
+        }
+
+        @Override
+        public Object create(Cache cache, Object[] methodParameterValues) {
+            return methodParameterValues[position];
+        }
+    }
+
+    private static final class CompositeKey extends CacheKeyFactory {
+
+        // null if all the method parameters are part of the key
+        private final int[] positions;
+        // true if the key elements can't contain arrays
+        private final boolean flat;
+
+        CompositeKey(int[] positions, boolean flat) {
+            this.positions = positions;
+            this.flat = flat;
+        }
+
+        @Override
+        public Object create(Cache cache, Object[] methodParameterValues) {
+            Object[] keyElements;
+            if (positions == null) {
+                // The invocation parameters array may be modified after the key is built, e.g. by another interceptor.
+                keyElements = methodParameterValues.clone();
+            } else {
+                keyElements = new Object[positions.length];
+                for (int i = 0; i < positions.length; i++) {
+                    keyElements[i] = methodParameterValues[positions[i]];
+                }
+            }
+            return flat ? new FlatCompositeCacheKey(keyElements) : new CompositeCacheKey(keyElements);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkus.cache.runtime;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -14,12 +15,17 @@
  */
 public class CacheManagerImpl implements CacheManager {
 
-    private final Map<String, Cache> caches;
+    // The Optional instances are created once since the caches are retrieved by the interceptors on each invocation.
+    private final Map<String, Optional<Cache>> caches;
     private final Set<String> cacheNames;
 
     public CacheManagerImpl(Map<String, Cache> caches) {
         Objects.requireNonNull(caches);
-        this.caches = Collections.unmodifiableMap(caches);
+        Map<String, Optional<Cache>> optionalCaches = new HashMap<>();
+        for (Map.Entry<String, Cache> cache : caches.entrySet()) {
+            optionalCaches.put(cache.getKey(), Optional.of(cache.getValue()));
+        }
+        this.caches = Collections.unmodifiableMap(optionalCaches);
         cacheNames = Collections.unmodifiableSet(caches.keySet());
     }
 
@@ -33,6 +39,6 @@ public Optional<Cache> getCache(String name) {
         if (name == null) {
             return Optional.empty();
         }
-        return Optional.ofNullable(caches.get(name));
+        return caches.getOrDefault(name, Optional.empty());
     }
 }
@@ -1,6 +1,7 @@
 package io.quarkus.cache.runtime;
 
 import static io.quarkus.cache.runtime.CacheBuildConfig.CAFFEINE_CACHE_TYPE;
+import static io.quarkus.cache.runtime.CacheBuildConfig.OFF_HEAP_CACHE_TYPE;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -16,6 +17,7 @@
 import io.quarkus.cache.CacheManagerInfo;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheManagerBuilder;
 import io.quarkus.cache.runtime.noop.NoOpCacheManagerBuilder;
+import io.quarkus.cache.runtime.offheap.OffHeapCacheManagerBuilder;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 
@@ -195,4 +197,34 @@ public Supplier<CacheManager> get(Context context) {
         };
     }
 
+    public CacheManagerInfo getOffHeapCacheManagerInfoWithMicrometerMetrics() {
+        return new CacheManagerInfo() {
+            @Override
+            public boolean supports(Context context) {
+                return context.cacheEnabled() && context.cacheType().equals(OFF_HEAP_CACHE_TYPE)
+                        && (context.metrics() == Context.Metrics.MICROMETER);
+            }
+
+            @Override
+            public Supplier<CacheManager> get(Context context) {
+                return OffHeapCacheManagerBuilder.buildWithMicrometerMetrics(context.cacheNames(), cacheConfigRV.getValue());
+            }
+        };
+    }
+
+    public CacheManagerInfo getOffHeapCacheManagerInfoWithoutMetrics() {
+        return new CacheManagerInfo() {
+            @Override
+            public boolean supports(Context context) {
+                return context.cacheEnabled() && context.cacheType().equals(OFF_HEAP_CACHE_TYPE)
+                        && (context.metrics() == Context.Metrics.NONE);
+            }
+
+            @Override
+            public Supplier<CacheManager> get(Context context) {
+                return OffHeapCacheManagerBuilder.buildWithoutMetrics(context.cacheNames(), cacheConfigRV.getValue());
+            }
+        };
+    }
+
 }
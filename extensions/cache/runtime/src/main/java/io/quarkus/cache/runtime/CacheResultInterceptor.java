@@ -46,7 +46,7 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
 
         CacheResult binding = interceptionContext.getInterceptorBindings().get(0);
         AbstractCache cache = (AbstractCache) cacheManager.getCache(binding.cacheName()).get();
-        Object key = getCacheKey(cache, binding.keyGenerator(), interceptionContext.getCacheKeyParameterPositions(),
+        Object key = getCacheKey(cache, binding.keyGenerator(), interceptionContext.getCacheKeyFactory(),
                 invocationContext.getMethod(), invocationContext.getParameters());
         LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
 
@@ -86,6 +86,11 @@ public Uni<?> get() {
                         });
                 return createAsyncResult(cacheValue, returnType);
             } else {
+                // The cache hits are served without creating the loading function and the Uni.
+                Object completedValue = cache.getCompletedValue(key);
+                if (completedValue != null) {
+                    return NullValueConverter.fromCacheValue(completedValue);
+                }
                 Uni<Object> cacheValue = cache.get(key, new Function<Object, Object>() {
                     @Override
                     public Object apply(Object k) {
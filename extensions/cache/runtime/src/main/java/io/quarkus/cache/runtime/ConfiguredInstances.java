@@ -0,0 +1,48 @@
+package io.quarkus.cache.runtime;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.runtime.configuration.ConfigurationException;
+
+/**
+ * Creates the instances of the classes referenced by name in the cache configuration, such as the codecs or the weighers.
+ */
+public class ConfiguredInstances {
+
+    private static final Logger LOGGER = Logger.getLogger(ConfiguredInstances.class);
+
+    /**
+     * Returns the CDI bean of the given class if there is one, or a new instance created with its no-args constructor.
+     *
+     * @param type the type the class must implement
+     * @param className the fully qualified name of the class
+     * @param cacheName the name of the cache whose configuration references the class
+     * @return an instance of the class
+     * @throws ConfigurationException if the class does not implement the given type or cannot be instantiated
+     */
+    public static <T> T create(Class<T> type, String className, String cacheName) {
+        try {
+            Class<?> instanceClass = Class.forName(className, true, Thread.currentThread().getContextClassLoader());
+            if (!type.isAssignableFrom(instanceClass)) {
+                throw new ConfigurationException("The class [" + className + "] configured for cache [" + cacheName
+                        + "] does not implement " + type.getName());
+            }
+            ArcContainer container = Arc.container();
+            if (container != null) {
+                InstanceHandle<?> bean = container.instance(instanceClass);
+                if (bean.isAvailable()) {
+                    LOGGER.tracef("Using bean from Arc [class=%s] for cache [%s]", className, cacheName);
+                    return type.cast(bean.get());
+                }
+            }
+            LOGGER.tracef("Creating a new instance [class=%s] for cache [%s]", className, cacheName);
+            return type.cast(instanceClass.getConstructor().newInstance());
+        } catch (ReflectiveOperationException e) {
+            throw new ConfigurationException("Unable to create an instance of the class [" + className
+                    + "] configured for cache [" + cacheName + "]", e);
+        }
+    }
+}
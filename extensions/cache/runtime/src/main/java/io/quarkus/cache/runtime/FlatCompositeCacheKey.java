@@ -0,0 +1,47 @@
+package io.quarkus.cache.runtime;
+
+import java.util.Arrays;
+
+import io.quarkus.cache.CompositeCacheKey;
+
+/**
+ * A {@link CompositeCacheKey} whose elements are primitive wrappers or strings, which means that none of them can be an array.
+ * The hash code is computed once without the array checks of {@link Arrays#deepHashCode(Object[])} and the elements are
+ * compared with their own {@code equals} methods. Both methods are consistent with the {@link CompositeCacheKey} ones, so a key
+ * built by the interceptors is equal to a key built from the same elements with the programmatic caching API.
+ */
+final class FlatCompositeCacheKey extends CompositeCacheKey {
+
+    private static final long serialVersionUID = 7516062279364185133L;
+
+    private final int hashCode;
+
+    FlatCompositeCacheKey(Object[] keyElements) {
+        super(keyElements);
+        int result = 1;
+        for (Object keyElement : keyElements) {
+            result = 31 * result + (keyElement == null ? 0 : keyElement.hashCode());
+        }
+        hashCode = result;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof FlatCompositeCacheKey) {
+            FlatCompositeCacheKey other = (FlatCompositeCacheKey) obj;
+            return hashCode == other.hashCode && Arrays.equals(getKeyElements(), other.getKeyElements());
+        }
+        if (obj instanceof CompositeCacheKey) {
+            return Arrays.equals(getKeyElements(), ((CompositeCacheKey) obj).getKeyElements());
+        }
+        return false;
+    }
+}
@@ -1,12 +1,23 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -17,14 +28,18 @@
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Policy;
 import com.github.benmanes.caffeine.cache.Policy.FixedExpiration;
+import com.github.benmanes.caffeine.cache.Weigher;
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
 import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheWeigher;
 import io.quarkus.cache.CaffeineCache;
 import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.ConfiguredInstances;
 import io.quarkus.cache.runtime.NullValueConverter;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -44,6 +59,10 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
     private final boolean recordStats;
+    // Whether a refresh-after-write, stale-while-revalidate or stale-if-error policy is configured.
+    private final boolean refreshEnabled;
+    // The keys being reloaded, used to perform a single reload at a time for a given key.
+    private final Map<Object, Boolean> refreshingKeys = new ConcurrentHashMap<>();
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
@@ -54,8 +73,28 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         if (cacheInfo.maximumSize != null) {
             builder.maximumSize(cacheInfo.maximumSize);
         }
+        if (cacheInfo.maximumWeight != null) {
+            CacheWeigher weigher = cacheInfo.weigher == null ? new SerializedSizeWeigher(cacheInfo.name)
+                    : ConfiguredInstances.create(CacheWeigher.class, cacheInfo.weigher, cacheInfo.name);
+            builder.maximumWeight(cacheInfo.maximumWeight);
+            builder.weigher(new Weigher<Object, Object>() {
+                @Override
+                public int weigh(Object key, Object value) {
+                    if (value instanceof CaffeineComputationThrowable) {
+                        // The failed computations are removed right away.
+                        return 0;
+                    }
+                    return weigher.weigh(key, NullValueConverter.fromCacheValue(value));
+                }
+            });
+        }
+        this.refreshEnabled = cacheInfo.refreshAfterWrite != null || cacheInfo.staleWhileRevalidate != null
+                || cacheInfo.staleIfError != null;
         if (cacheInfo.expireAfterWrite != null) {
-            builder.expireAfterWrite(cacheInfo.expireAfterWrite);
+            builder.expireAfterWrite(retentionAfterWrite(cacheInfo.expireAfterWrite));
+        } else if (refreshEnabled) {
+            // The entries never expire, but the write-based policy is needed to know their age.
+            builder.expireAfterWrite(Duration.ofNanos(Long.MAX_VALUE));
         }
         if (cacheInfo.expireAfterAccess != null) {
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
@@ -109,65 +148,207 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
                     public CompletionStage<V> get() {
                         // When stats are enabled we need to call statsCounter.recordHits(1)/statsCounter.recordMisses(1) accordingly
                         StatsRecorder recorder = recordStats ? new OperationalStatsRecorder() : NoopStatsRecorder.INSTANCE;
-                        @SuppressWarnings("unchecked")
-                        CompletionStage<V> result = (CompletionStage<V>) cache.asMap().computeIfAbsent(key,
+                        boolean[] valueAbsent = new boolean[1];
+                        CompletableFuture<Object> result = cache.asMap().computeIfAbsent(key,
                                 new Function<Object, CompletableFuture<Object>>() {
+                                    @SuppressWarnings("unchecked")
                                     @Override
                                     public CompletableFuture<Object> apply(Object key) {
                                         recorder.onValueAbsent();
+                                        valueAbsent[0] = true;
                                         return valueLoader.apply((K) key)
                                                 .map(TO_CACHE_VALUE)
                                                 .subscribeAsCompletionStage();
                                     }
                                 });
                         recorder.doRecord(key);
-                        return result;
+                        if (!valueAbsent[0] && isRefreshable(result)) {
+                            switch (freshness(key)) {
+                                case REFRESH:
+                                    refreshAsyncInBackground(key, result, valueLoader);
+                                    break;
+                                case STALE_IF_ERROR:
+                                    return cast(reloadAsyncOrStale(key, result, valueLoader));
+                                default:
+                                    break;
+                            }
+                        }
+                        return cast(result);
                     }
                 })
                 .map(fromCacheValue())
-                .emitOn(new Executor() {
-                    // We need make sure we go back to the original context when the cache value is computed.
-                    // Otherwise, we would always emit on the context having computed the value, which could
-                    // break the duplicated context isolation.
-                    @Override
-                    public void execute(Runnable command) {
-                        Context ctx = Vertx.currentContext();
-                        if (context == null) {
-                            // We didn't capture a context
-                            if (ctx == null) {
-                                // We are not on a context => we can execute immediately.
-                                command.run();
-                            } else {
-                                // We are on a context.
-                                // We cannot continue on the current context as we may share a duplicated context.
-                                // We need a new one. Note that duplicate() does not duplicate the duplicated context,
-                                // but the root context.
-                                ((ContextInternal) ctx).duplicate()
-                                        .runOnContext(new Handler<Void>() {
-                                            @Override
-                                            public void handle(Void ignored) {
-                                                command.run();
-                                            }
-                                        });
+                .emitOn(capturedContextExecutor(context));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        requireNonNullKeys(keys);
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
+            @Override
+            public CompletionStage<Map<K, V>> get() {
+                Map<K, CompletableFuture<Object>> refreshed = checkFreshness(keys);
+                if (!refreshed.isEmpty()) {
+                    refreshAllInBackground(refreshed, valuesLoader);
+                }
+                Throwable[] failure = new Throwable[1];
+                CompletableFuture<Map<Object, Object>> cacheValues = cache.getAll(keys,
+                        new BiFunction<Set<?>, Executor, CompletableFuture<Map<Object, Object>>>() {
+                            @SuppressWarnings("unchecked")
+                            @Override
+                            public CompletableFuture<Map<Object, Object>> apply(Set<?> missingKeys, Executor executor) {
+                                // Like in get(), the values are computed synchronously on the calling thread.
+                                try {
+                                    return CompletableFuture.completedFuture(
+                                            toCacheValues(valuesLoader.apply((Set<K>) missingKeys)));
+                                } catch (Throwable t) {
+                                    /*
+                                     * Caffeine logs the failures of the bulk computations. Instead, the entries being
+                                     * computed are removed by completing the computation without values and the
+                                     * failure is rethrown below.
+                                     */
+                                    failure[0] = t;
+                                    return CompletableFuture.completedFuture(Map.of());
+                                }
                             }
-                        } else {
-                            // We captured a context.
-                            if (ctx == context) {
-                                // We are on the same context => we can execute immediately
-                                command.run();
-                            } else {
-                                // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
-                                // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
-                                context.runOnContext(new Handler<Void>() {
+                        });
+                return cacheValues.thenApply(new Function<Map<Object, Object>, Map<K, V>>() {
+                    @Override
+                    public Map<K, V> apply(Map<Object, Object> values) {
+                        if (failure[0] != null) {
+                            // rethrows the failure
+                            unwrapCacheValue(new CaffeineComputationThrowable(failure[0]));
+                        }
+                        return fromCacheValues(keys, values);
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        requireNonNullKeys(keys);
+        Context context = Vertx.currentContext();
+        return Uni.createFrom()
+                .completionStage(new Supplier<CompletionStage<Map<Object, Object>>>() {
+                    @Override
+                    public CompletionStage<Map<Object, Object>> get() {
+                        Map<K, CompletableFuture<Object>> refreshed = checkFreshness(keys);
+                        if (!refreshed.isEmpty()) {
+                            refreshAllAsyncInBackground(refreshed, valuesLoader);
+                        }
+                        return cache.getAll(keys,
+                                new BiFunction<Set<?>, Executor, CompletableFuture<Map<Object, Object>>>() {
+                                    @SuppressWarnings("unchecked")
+                                    @Override
+                                    public CompletableFuture<Map<Object, Object>> apply(Set<?> missingKeys,
+                                            Executor executor) {
+                                        return valuesLoader.apply((Set<K>) missingKeys)
+                                                .map(new Function<Map<K, V>, Map<Object, Object>>() {
+                                                    @Override
+                                                    public Map<Object, Object> apply(Map<K, V> values) {
+                                                        return toCacheValues(values);
+                                                    }
+                                                })
+                                                .subscribeAsCompletionStage();
+                                    }
+                                });
+                    }
+                })
+                .map(new Function<Map<Object, Object>, Map<K, V>>() {
+                    @Override
+                    public Map<K, V> apply(Map<Object, Object> values) {
+                        return fromCacheValues(keys, values);
+                    }
+                })
+                .emitOn(capturedContextExecutor(context));
+    }
+
+    @Override
+    public <K, V> Uni<Void> putAll(Map<K, V> entries) {
+        requireNonNullKeys(entries.keySet());
+        return Uni.createFrom().item(new Supplier<>() {
+            @Override
+            public Void get() {
+                cache.synchronous().putAll(toCacheValues(entries));
+                // The other instances drop their entries, they load the new values on their next read.
+                for (K key : entries.keySet()) {
+                    publishInvalidation(key);
+                }
+                return null;
+            }
+        });
+    }
+
+    private static void requireNonNullKeys(Set<?> keys) {
+        for (Object key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+    }
+
+    private static <K, V> Map<Object, Object> toCacheValues(Map<K, V> values) {
+        Map<Object, Object> result = new HashMap<>(Math.max(4, (int) (values.size() / 0.75f) + 1));
+        for (Map.Entry<K, V> entry : values.entrySet()) {
+            result.put(entry.getKey(), NullValueConverter.toCacheValue(entry.getValue()));
+        }
+        return result;
+    }
+
+    private <K, V> Map<K, V> fromCacheValues(Set<K> keys, Map<Object, Object> values) {
+        Map<K, V> result = new LinkedHashMap<>(Math.max(4, (int) (keys.size() / 0.75f) + 1));
+        for (K key : keys) {
+            Object value = values.get(key);
+            if (value != null) {
+                result.put(key, cast(unwrapCacheValue(value)));
+            }
+        }
+        return result;
+    }
+
+    private static Executor capturedContextExecutor(Context context) {
+        return new Executor() {
+            // We need make sure we go back to the original context when the cache value is computed.
+            // Otherwise, we would always emit on the context having computed the value, which could
+            // break the duplicated context isolation.
+            @Override
+            public void execute(Runnable command) {
+                Context ctx = Vertx.currentContext();
+                if (context == null) {
+                    // We didn't capture a context
+                    if (ctx == null) {
+                        // We are not on a context => we can execute immediately.
+                        command.run();
+                    } else {
+                        // We are on a context.
+                        // We cannot continue on the current context as we may share a duplicated context.
+                        // We need a new one. Note that duplicate() does not duplicate the duplicated context,
+                        // but the root context.
+                        ((ContextInternal) ctx).duplicate()
+                                .runOnContext(new Handler<Void>() {
                                     @Override
                                     public void handle(Void ignored) {
                                         command.run();
                                     }
                                 });
+                    }
+                } else {
+                    // We captured a context.
+                    if (ctx == context) {
+                        // We are on the same context => we can execute immediately
+                        command.run();
+                    } else {
+                        // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
+                        // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
+                        context.runOnContext(new Handler<Void>() {
+                            @Override
+                            public void handle(Void ignored) {
+                                command.run();
                             }
-                        }
+                        });
                     }
-                });
+                }
+            }
+        };
     }
 
     @Override
@@ -175,7 +356,8 @@ public <V> CompletableFuture<V> getIfPresent(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
         CompletableFuture<Object> existingCacheValue = cache.getIfPresent(key);
 
-        if (existingCacheValue == null) {
+        if (existingCacheValue == null || (isRefreshable(existingCacheValue) && freshness(key) == Freshness.STALE_IF_ERROR)) {
+            // The expired entries retained for the stale-if-error window are only returned when a reload fails.
             return null;
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
@@ -197,6 +379,22 @@ public V apply(Object value) {
         }
     }
 
+    @Override
+    public Object getCompletedValue(Object key) {
+        CompletableFuture<Object> existingCacheValue = cache.asMap().get(key);
+        if (existingCacheValue == null || !existingCacheValue.isDone() || existingCacheValue.isCompletedExceptionally()) {
+            return null;
+        }
+        Object value = existingCacheValue.join();
+        if (value instanceof CaffeineComputationThrowable || (refreshEnabled && freshness(key) != Freshness.FRESH)) {
+            // The failures are rethrown and the values are refreshed by get().
+            return null;
+        }
+        LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
+        statsCounter.recordHits(1);
+        return value;
+    }
+
     /**
      * Returns a {@link CompletableFuture} holding the cache value identified by {@code key}, obtaining that value from
      * {@code valueLoader} if necessary. The value computation is done synchronously on the calling thread and the
@@ -208,8 +406,13 @@ public V apply(Object value) {
      * @throws CacheException if an exception is thrown during the cache value computation
      */
     private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> valueLoader) {
-        CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
-        CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
+        // The new value is only created if the key is absent.
+        CompletableFuture<Object> existingCacheValue = cache.asMap().get(key);
+        CompletableFuture<Object> newCacheValue = null;
+        if (existingCacheValue == null) {
+            newCacheValue = new CompletableFuture<>();
+            existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
+        }
         if (existingCacheValue == null) {
             statsCounter.recordMisses(1);
             try {
@@ -223,36 +426,360 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            if (isRefreshable(existingCacheValue)) {
+                switch (freshness(key)) {
+                    case REFRESH:
+                        refreshInBackground(key, existingCacheValue, valueLoader);
+                        break;
+                    case STALE_IF_ERROR:
+                        return unwrapCacheValueOrThrowable(reloadOrStale(key, existingCacheValue, valueLoader));
+                    default:
+                        break;
+                }
+            }
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    /*
+     * The state of an entry according to its age when a refresh-after-write, stale-while-revalidate or stale-if-error policy
+     * is configured.
+     */
+    private enum Freshness {
+        // The value is returned as is.
+        FRESH,
+        // The value is returned and reloaded in the background.
+        REFRESH,
+        // The value is expired and reloaded by the caller, it is only returned if the reload fails.
+        STALE_IF_ERROR
+    }
+
+    private boolean isRefreshable(CompletableFuture<Object> cacheValue) {
+        // The values being computed or whose computation failed are never reloaded.
+        return refreshEnabled && cacheValue.isDone() && !cacheValue.isCompletedExceptionally()
+                && !(cacheValue.join() instanceof CaffeineComputationThrowable);
+    }
+
+    /*
+     * Prepares a bulk lookup: the expired entries retained for the stale-if-error window are removed so that the values
+     * loader reloads them with the missing keys, and the entries that must be refreshed in the background are returned.
+     * Unlike a single key lookup, a failed bulk reload does not fall back to the stale values.
+     */
+    private <K> Map<K, CompletableFuture<Object>> checkFreshness(Set<K> keys) {
+        if (!refreshEnabled) {
+            return Map.of();
+        }
+        Map<K, CompletableFuture<Object>> refreshed = null;
+        for (K key : keys) {
+            CompletableFuture<Object> cacheValue = cache.asMap().get(key);
+            if (cacheValue == null || !isRefreshable(cacheValue)) {
+                continue;
+            }
+            switch (freshness(key)) {
+                case REFRESH:
+                    if (refreshed == null) {
+                        refreshed = new HashMap<>();
+                    }
+                    refreshed.put(key, cacheValue);
+                    break;
+                case STALE_IF_ERROR:
+                    cache.asMap().remove(key, cacheValue);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return refreshed == null ? Map.of() : refreshed;
+    }
+
+    private Freshness freshness(Object key) {
+        OptionalLong age = cache.synchronous().policy().expireAfterWrite().get().ageOf(key, TimeUnit.NANOSECONDS);
+        if (age.isEmpty()) {
+            return Freshness.FRESH;
+        }
+        long ageNanos = age.getAsLong();
+        Duration expireAfterWrite = cacheInfo.expireAfterWrite;
+        if (expireAfterWrite != null && ageNanos >= expireAfterWrite.toNanos()) {
+            if (cacheInfo.staleWhileRevalidate != null
+                    && ageNanos < expireAfterWrite.plus(cacheInfo.staleWhileRevalidate).toNanos()) {
+                return Freshness.REFRESH;
+            }
+            // The entry is only retained this long because of the stale-if-error window.
+            return Freshness.STALE_IF_ERROR;
+        }
+        if (cacheInfo.refreshAfterWrite != null && ageNanos >= cacheInfo.refreshAfterWrite.toNanos()) {
+            return Freshness.REFRESH;
+        }
+        return Freshness.FRESH;
+    }
+
+    /*
+     * The expired entries are retained during the stale-while-revalidate and stale-if-error windows.
+     */
+    private Duration retentionAfterWrite(Duration expireAfterWrite) {
+        Duration staleWindow = Duration.ZERO;
+        if (cacheInfo.staleWhileRevalidate != null) {
+            staleWindow = cacheInfo.staleWhileRevalidate;
+        }
+        if (cacheInfo.staleIfError != null && cacheInfo.staleIfError.compareTo(staleWindow) > 0) {
+            staleWindow = cacheInfo.staleIfError;
+        }
+        return expireAfterWrite.plus(staleWindow);
+    }
+
+    /*
+     * The entry is only replaced if it was not invalidated or replaced in the meantime. The new value is completed after the
+     * replacement so that Caffeine resets the write time of the entry, which it may not do when a completed value replaces
+     * a recently written one.
+     */
+    private void replaceValue(Object key, CompletableFuture<Object> currentValue, Object newValue) {
+        CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
+        if (cache.asMap().replace(key, currentValue, newCacheValue)) {
+            newCacheValue.complete(newValue);
+        }
+    }
+
+    /*
+     * The value loader runs on a worker thread. If the caller runs on a Vert.x context, the refresh runs on that context so
+     * that the value loader sees the same context as a regular load, otherwise it runs on the default Mutiny executor. The
+     * CDI request context of the caller is not propagated.
+     */
+    private <K, V> void refreshInBackground(K key, CompletableFuture<Object> currentValue, Function<K, V> valueLoader) {
+        if (refreshingKeys.putIfAbsent(key, Boolean.TRUE) != null) {
+            return;
+        }
+        executeInBackground(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    replaceValue(key, currentValue, NullValueConverter.toCacheValue(valueLoader.apply(key)));
+                } catch (Throwable t) {
+                    LOGGER.debugf(t, "Unable to refresh key [%s] in cache [%s], the current value is kept", key,
+                            cacheInfo.name);
+                } finally {
+                    refreshingKeys.remove(key);
+                }
+            }
+        }, Set.of(key));
+    }
+
+    /*
+     * The keys are reloaded with a single invocation of the values loader. A key that is missing from the loaded values
+     * keeps its current value.
+     */
+    private <K, V> void refreshAllInBackground(Map<K, CompletableFuture<Object>> currentValues,
+            Function<Set<K>, Map<K, V>> valuesLoader) {
+        Set<K> keys = lockRefreshingKeys(currentValues.keySet());
+        if (keys.isEmpty()) {
+            return;
+        }
+        executeInBackground(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    replaceValues(currentValues, valuesLoader.apply(keys));
+                } catch (Throwable t) {
+                    LOGGER.debugf(t, "Unable to refresh keys %s in cache [%s], the current values are kept", keys,
+                            cacheInfo.name);
+                } finally {
+                    refreshingKeys.keySet().removeAll(keys);
+                }
+            }
+        }, keys);
+    }
+
+    /*
+     * The task releases the refreshing keys itself, they are released here if the task is rejected.
+     */
+    private void executeInBackground(Runnable task, Set<?> refreshedKeys) {
+        Context context = Vertx.currentContext();
+        if (context != null) {
+            context.executeBlocking(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    task.run();
+                    return null;
+                }
+            }, false).onFailure(new Handler<Throwable>() {
+                @Override
+                public void handle(Throwable t) {
+                    // The refresh was rejected, e.g. because Vert.x is being closed.
+                    refreshingKeys.keySet().removeAll(refreshedKeys);
+                }
+            });
+            return;
+        }
+        try {
+            Infrastructure.getDefaultExecutor().execute(task);
+        } catch (RejectedExecutionException e) {
+            refreshingKeys.keySet().removeAll(refreshedKeys);
+        }
+    }
+
+    // Returns the keys that are not already being reloaded, they are marked as being reloaded.
+    private <K> Set<K> lockRefreshingKeys(Set<K> keys) {
+        Set<K> locked = new HashSet<>();
+        for (K key : keys) {
+            if (refreshingKeys.putIfAbsent(key, Boolean.TRUE) == null) {
+                locked.add(key);
+            }
+        }
+        return locked;
+    }
+
+    private <K, V> void replaceValues(Map<K, CompletableFuture<Object>> currentValues, Map<K, V> newValues) {
+        for (Map.Entry<K, V> entry : newValues.entrySet()) {
+            CompletableFuture<Object> currentValue = currentValues.get(entry.getKey());
+            if (currentValue != null) {
+                replaceValue(entry.getKey(), currentValue, NullValueConverter.toCacheValue(entry.getValue()));
+            }
+        }
+    }
+
+    private <K, V> void refreshAsyncInBackground(K key, CompletableFuture<Object> currentValue,
+            Function<K, Uni<V>> valueLoader) {
+        if (refreshingKeys.putIfAbsent(key, Boolean.TRUE) != null) {
+            return;
+        }
+        Uni<V> newValue;
+        try {
+            newValue = valueLoader.apply(key);
+        } catch (Throwable t) {
+            refreshingKeys.remove(key);
+            LOGGER.debugf(t, "Unable to refresh key [%s] in cache [%s], the current value is kept", key, cacheInfo.name);
+            return;
+        }
+        newValue.subscribe().with(new Consumer<V>() {
+            @Override
+            public void accept(V value) {
+                refreshingKeys.remove(key);
+                replaceValue(key, currentValue, NullValueConverter.toCacheValue(value));
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable t) {
+                refreshingKeys.remove(key);
+                LOGGER.debugf(t, "Unable to refresh key [%s] in cache [%s], the current value is kept", key,
+                        cacheInfo.name);
+            }
+        });
+    }
+
+    private <K, V> void refreshAllAsyncInBackground(Map<K, CompletableFuture<Object>> currentValues,
+            Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        Set<K> keys = lockRefreshingKeys(currentValues.keySet());
+        if (keys.isEmpty()) {
+            return;
+        }
+        Uni<Map<K, V>> newValues;
+        try {
+            newValues = valuesLoader.apply(keys);
+        } catch (Throwable t) {
+            refreshingKeys.keySet().removeAll(keys);
+            LOGGER.debugf(t, "Unable to refresh keys %s in cache [%s], the current values are kept", keys, cacheInfo.name);
+            return;
+        }
+        newValues.subscribe().with(new Consumer<Map<K, V>>() {
+            @Override
+            public void accept(Map<K, V> values) {
+                refreshingKeys.keySet().removeAll(keys);
+                replaceValues(currentValues, values);
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable t) {
+                refreshingKeys.keySet().removeAll(keys);
+                LOGGER.debugf(t, "Unable to refresh keys %s in cache [%s], the current values are kept", keys,
+                        cacheInfo.name);
+            }
+        });
+    }
+
+    private <K, V> CompletableFuture<Object> reloadOrStale(K key, CompletableFuture<Object> staleValue,
+            Function<K, V> valueLoader) {
+        if (refreshingKeys.putIfAbsent(key, Boolean.TRUE) != null) {
+            // Another caller is already reloading the entry.
+            return staleValue;
+        }
+        try {
+            Object newValue = NullValueConverter.toCacheValue(valueLoader.apply(key));
+            replaceValue(key, staleValue, newValue);
+            return CompletableFuture.completedFuture(newValue);
+        } catch (Throwable t) {
+            LOGGER.debugf(t, "Unable to reload key [%s] in cache [%s], the stale value is returned", key, cacheInfo.name);
+            return staleValue;
+        } finally {
+            refreshingKeys.remove(key);
+        }
+    }
+
+    private <K, V> CompletableFuture<Object> reloadAsyncOrStale(K key, CompletableFuture<Object> staleValue,
+            Function<K, Uni<V>> valueLoader) {
+        if (refreshingKeys.putIfAbsent(key, Boolean.TRUE) != null) {
+            // Another caller is already reloading the entry.
+            return staleValue;
+        }
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                return valueLoader.apply(key);
+            }
+        })
+                .map(TO_CACHE_VALUE)
+                .invoke(new Consumer<Object>() {
+                    @Override
+                    public void accept(Object value) {
+                        replaceValue(key, staleValue, value);
+                    }
+                })
+                .onFailure().recoverWithItem(new Function<Throwable, Object>() {
+                    @Override
+                    public Object apply(Throwable t) {
+                        LOGGER.debugf(t, "Unable to reload key [%s] in cache [%s], the stale value is returned", key,
+                                cacheInfo.name);
+                        return staleValue.join();
+                    }
+                })
+                .onTermination().invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        refreshingKeys.remove(key);
+                    }
+                })
+                .subscribeAsCompletionStage();
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
             public Object apply(Object value) {
-                // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
-                if (value instanceof CaffeineComputationThrowable) {
-                    Throwable cause = ((CaffeineComputationThrowable) value).getCause();
-                    if (cause instanceof RuntimeException) {
-                        throw (RuntimeException) cause;
-                    } else {
-                        throw new CacheException(cause);
-                    }
-                } else {
-                    return NullValueConverter.fromCacheValue(value);
-                }
+                return unwrapCacheValue(value);
             }
         });
     }
 
+    private static Object unwrapCacheValue(Object value) {
+        // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
+        if (value instanceof CaffeineComputationThrowable) {
+            Throwable cause = ((CaffeineComputationThrowable) value).getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new CacheException(cause);
+            }
+        } else {
+            return NullValueConverter.fromCacheValue(value);
+        }
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
         return Uni.createFrom().item(new Supplier<>() {
             @Override
             public Void get() {
-                cache.synchronous().invalidate(key);
+                invalidateLocally(key);
+                publishInvalidation(key);
                 return null;
             }
         });
@@ -263,7 +790,8 @@ public Uni<Void> invalidateAll() {
         return Uni.createFrom().item(new Supplier<>() {
             @Override
             public Void get() {
-                cache.synchronous().invalidateAll();
+                invalidateAllLocally();
+                publishInvalidationAll();
                 return null;
             }
         });
@@ -274,12 +802,32 @@ public Uni<Void> invalidateIf(Predicate<Object> predicate) {
         return Uni.createFrom().item(new Supplier<>() {
             @Override
             public Void get() {
-                cache.asMap().keySet().removeIf(predicate);
+                // The removed keys are broadcast one by one since the predicate can't be sent to the other instances.
+                cache.asMap().keySet().removeIf(new Predicate<Object>() {
+                    @Override
+                    public boolean test(Object key) {
+                        if (predicate.test(key)) {
+                            publishInvalidation(key);
+                            return true;
+                        }
+                        return false;
+                    }
+                });
                 return null;
             }
         });
     }
 
+    @Override
+    public void invalidateLocally(Object key) {
+        cache.synchronous().invalidate(key);
+    }
+
+    @Override
+    public void invalidateAllLocally() {
+        cache.synchronous().invalidateAll();
+    }
+
     @Override
     public Set<Object> keySet() {
         return Set.copyOf(cache.asMap().keySet());
@@ -289,13 +837,14 @@ public Set<Object> keySet() {
     @Override
     public <V> void put(Object key, CompletableFuture<V> valueFuture) {
         cache.put(key, (CompletableFuture<Object>) valueFuture);
+        publishInvalidation(key);
     }
 
     @Override
     public void setExpireAfterWrite(Duration duration) {
         Optional<FixedExpiration<Object, Object>> fixedExpiration = cache.synchronous().policy().expireAfterWrite();
         if (fixedExpiration.isPresent()) {
-            fixedExpiration.get().setExpiresAfter(duration);
+            fixedExpiration.get().setExpiresAfter(retentionAfterWrite(duration));
             cacheInfo.expireAfterWrite = duration;
         } else {
             throw new IllegalStateException("The write-based expiration policy can only be changed if the cache was " +
@@ -318,7 +867,7 @@ public void setExpireAfterAccess(Duration duration) {
     @Override
     public void setMaximumSize(long maximumSize) {
         Optional<Policy.Eviction<Object, Object>> eviction = cache.synchronous().policy().eviction();
-        if (eviction.isPresent()) {
+        if (eviction.isPresent() && !eviction.get().isWeighted()) {
             eviction.get().setMaximum(maximumSize);
             cacheInfo.maximumSize = maximumSize;
         } else {
@@ -327,6 +876,29 @@ public void setMaximumSize(long maximumSize) {
         }
     }
 
+    @Override
+    public void setMaximumWeight(long maximumWeight) {
+        Optional<Policy.Eviction<Object, Object>> eviction = cache.synchronous().policy().eviction();
+        if (eviction.isPresent() && eviction.get().isWeighted()) {
+            eviction.get().setMaximum(maximumWeight);
+            cacheInfo.maximumWeight = maximumWeight;
+        } else {
+            throw new IllegalStateException("The maximum weight can only be changed if the cache was constructed with a " +
+                    "maximum-weight configuration value");
+        }
+    }
+
+    @Override
+    public long weightedSize() {
+        Optional<Policy.Eviction<Object, Object>> eviction = cache.synchronous().policy().eviction();
+        if (eviction.isPresent() && eviction.get().isWeighted()) {
+            return eviction.get().weightedSize().getAsLong();
+        } else {
+            throw new IllegalStateException("The weighted size is only available if the cache was constructed with a " +
+                    "maximum-weight configuration value");
+        }
+    }
+
     // For testing purposes only.
     public CaffeineCacheInfo getCacheInfo() {
         return cacheInfo;
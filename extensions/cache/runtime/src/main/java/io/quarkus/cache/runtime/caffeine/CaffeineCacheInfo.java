@@ -11,10 +11,20 @@ public class CaffeineCacheInfo {
 
     public Long maximumSize;
 
+    public Long maximumWeight;
+
+    public String weigher;
+
     public Duration expireAfterWrite;
 
     public Duration expireAfterAccess;
 
+    public Duration refreshAfterWrite;
+
+    public Duration staleWhileRevalidate;
+
+    public Duration staleIfError;
+
     public boolean metricsEnabled;
 
     @Override
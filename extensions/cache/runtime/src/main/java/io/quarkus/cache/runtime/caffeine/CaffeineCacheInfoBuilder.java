@@ -6,6 +6,7 @@
 import java.util.Set;
 
 import io.quarkus.cache.runtime.CacheConfig;
+import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.runtime.configuration.HashSetFactory;
 
 public class CaffeineCacheInfoBuilder {
@@ -30,10 +31,30 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.initialCapacity = defaultConfig.initialCapacity().getAsInt();
                 }
 
-                if (namedCacheConfig != null && namedCacheConfig.maximumSize().isPresent()) {
-                    cacheInfo.maximumSize = namedCacheConfig.maximumSize().getAsLong();
-                } else if (defaultConfig.maximumSize().isPresent()) {
-                    cacheInfo.maximumSize = defaultConfig.maximumSize().getAsLong();
+                // A bound set for a specific cache replaces the bound of the default configuration, be it a size or a weight.
+                CaffeineCacheConfig boundConfig = defaultConfig;
+                if (namedCacheConfig != null
+                        && (namedCacheConfig.maximumSize().isPresent() || namedCacheConfig.maximumWeight().isPresent())) {
+                    boundConfig = namedCacheConfig;
+                }
+
+                if (boundConfig.maximumSize().isPresent()) {
+                    cacheInfo.maximumSize = boundConfig.maximumSize().getAsLong();
+                }
+
+                if (boundConfig.maximumWeight().isPresent()) {
+                    cacheInfo.maximumWeight = boundConfig.maximumWeight().get().asLongValue();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.weigher().isPresent()) {
+                    cacheInfo.weigher = namedCacheConfig.weigher().get();
+                } else if (defaultConfig.weigher().isPresent()) {
+                    cacheInfo.weigher = defaultConfig.weigher().get();
+                }
+
+                if (cacheInfo.maximumSize != null && cacheInfo.maximumWeight != null) {
+                    throw new ConfigurationException("The maximum-size and maximum-weight values of the Caffeine cache ["
+                            + cacheName + "] cannot be set at the same time");
                 }
 
                 if (namedCacheConfig != null && namedCacheConfig.expireAfterWrite().isPresent()) {
@@ -48,6 +69,30 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.expireAfterAccess = defaultConfig.expireAfterAccess().get();
                 }
 
+                if (namedCacheConfig != null && namedCacheConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = namedCacheConfig.refreshAfterWrite().get();
+                } else if (defaultConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = defaultConfig.refreshAfterWrite().get();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.staleWhileRevalidate().isPresent()) {
+                    cacheInfo.staleWhileRevalidate = namedCacheConfig.staleWhileRevalidate().get();
+                } else if (defaultConfig.staleWhileRevalidate().isPresent()) {
+                    cacheInfo.staleWhileRevalidate = defaultConfig.staleWhileRevalidate().get();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.staleIfError().isPresent()) {
+                    cacheInfo.staleIfError = namedCacheConfig.staleIfError().get();
+                } else if (defaultConfig.staleIfError().isPresent()) {
+                    cacheInfo.staleIfError = defaultConfig.staleIfError().get();
+                }
+
+                if (cacheInfo.expireAfterWrite == null
+                        && (cacheInfo.staleWhileRevalidate != null || cacheInfo.staleIfError != null)) {
+                    throw new ConfigurationException("The stale-while-revalidate and stale-if-error values of the Caffeine "
+                            + "cache [" + cacheName + "] can only be set if expire-after-write is also set");
+                }
+
                 if (namedCacheConfig != null && namedCacheConfig.metricsEnabled().isPresent()) {
                     cacheInfo.metricsEnabled = namedCacheConfig.metricsEnabled().get();
                 } else if (defaultConfig.metricsEnabled().isPresent()) {
@@ -0,0 +1,65 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.CacheWeigher;
+
+/**
+ * The default {@link CacheWeigher}, which estimates the weight of an entry as the size in bytes of its value serialized with
+ * Java serialization. The serialized bytes are counted, not stored.
+ */
+class SerializedSizeWeigher implements CacheWeigher {
+
+    private static final Logger LOGGER = Logger.getLogger(SerializedSizeWeigher.class);
+
+    // The weight of the null values and of the values which cannot be serialized.
+    static final int DEFAULT_WEIGHT = 1;
+
+    private final String cacheName;
+    // The classes whose instances could not be serialized, used to only log a warning once per class.
+    private final Map<Class<?>, Boolean> unserializableClasses = new ConcurrentHashMap<>();
+
+    SerializedSizeWeigher(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        if (value == null) {
+            return DEFAULT_WEIGHT;
+        }
+        CountingOutputStream counter = new CountingOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(counter)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            if (unserializableClasses.putIfAbsent(value.getClass(), Boolean.TRUE) == null) {
+                LOGGER.warnf("Unable to estimate the size of a value of type [%s] stored in cache [%s], its weight is set to "
+                        + "%s. A weigher should be configured for this cache.", value.getClass().getName(), cacheName,
+                        DEFAULT_WEIGHT);
+            }
+            return DEFAULT_WEIGHT;
+        }
+        return (int) Math.min(counter.count, Integer.MAX_VALUE);
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            count += length;
+        }
+    }
+}
@@ -1,10 +1,24 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
+import java.util.function.LongSupplier;
+
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
 
 public interface MetricsInitializer {
 
     boolean metricsEnabled();
 
     void recordMetrics(AsyncCache<Object, Object> cache, String cacheName);
+
+    /**
+     * Records the hit and miss counts of a remote cache tier, such as the Redis tier behind a near cache.
+     */
+    void recordRemoteMetrics(String cacheName, LongSupplier hitCount, LongSupplier missCount);
+
+    /**
+     * Records the stats of an off-heap cache index, and the used and allocated amounts of off-heap memory.
+     */
+    void recordOffHeapMetrics(Cache<Object, ?> cache, String cacheName, LongSupplier usedMemory,
+            LongSupplier allocatedMemory);
 }
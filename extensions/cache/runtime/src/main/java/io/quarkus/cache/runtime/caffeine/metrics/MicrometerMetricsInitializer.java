@@ -1,10 +1,18 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.BaseUnits;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 /**
@@ -25,5 +33,43 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         LOGGER.tracef("Initializing Micrometer metrics for cache [%s]", cacheName);
         // The 'tags' vararg is purposely empty here. Tags should be configured using MeterFilter.
         CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, cacheName);
+        Optional<Policy.Eviction<Object, Object>> eviction = cache.synchronous().policy().eviction();
+        if (eviction.isPresent() && eviction.get().isWeighted()) {
+            // The weight evicted from the cache is already recorded by CaffeineCacheMetrics.
+            Gauge.builder("cache.weight", eviction.get(), e -> e.weightedSize().orElse(0L))
+                    .tags("cache", cacheName)
+                    .description("The approximate total weight of the entries in the cache")
+                    .register(Metrics.globalRegistry);
+        }
+    }
+
+    @Override
+    public void recordRemoteMetrics(String cacheName, LongSupplier hitCount, LongSupplier missCount) {
+        LOGGER.tracef("Initializing Micrometer remote tier metrics for cache [%s]", cacheName);
+        FunctionCounter.builder("cache.remote.gets", hitCount, LongSupplier::getAsLong)
+                .tags("cache", cacheName, "result", "hit")
+                .description("The number of times the remote tier returned a cached value")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.remote.gets", missCount, LongSupplier::getAsLong)
+                .tags("cache", cacheName, "result", "miss")
+                .description("The number of times the remote tier did not contain the requested value")
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void recordOffHeapMetrics(Cache<Object, ?> cache, String cacheName, LongSupplier usedMemory,
+            LongSupplier allocatedMemory) {
+        LOGGER.tracef("Initializing Micrometer off-heap metrics for cache [%s]", cacheName);
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, cacheName);
+        Gauge.builder("cache.off-heap.memory", usedMemory, LongSupplier::getAsLong)
+                .tags("cache", cacheName, "area", "used")
+                .description("The amount of off-heap memory used by the cached values")
+                .baseUnit(BaseUnits.BYTES)
+                .register(Metrics.globalRegistry);
+        Gauge.builder("cache.off-heap.memory", allocatedMemory, LongSupplier::getAsLong)
+                .tags("cache", cacheName, "area", "allocated")
+                .description("The amount of off-heap memory allocated by the cache, including its free blocks")
+                .baseUnit(BaseUnits.BYTES)
+                .register(Metrics.globalRegistry);
     }
 }
@@ -1,8 +1,11 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
+import java.util.function.LongSupplier;
+
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
 
 /**
  * An instance of this class is created during the instantiation of the Caffeine caches when the application does not depend on
@@ -22,4 +25,17 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         LOGGER.tracef("Initializing no-op metrics for cache [%s]", cacheName);
         // Do nothing more.
     }
+
+    @Override
+    public void recordRemoteMetrics(String cacheName, LongSupplier hitCount, LongSupplier missCount) {
+        LOGGER.tracef("Initializing no-op remote tier metrics for cache [%s]", cacheName);
+        // Do nothing more.
+    }
+
+    @Override
+    public void recordOffHeapMetrics(Cache<Object, ?> cache, String cacheName, LongSupplier usedMemory,
+            LongSupplier allocatedMemory) {
+        LOGGER.tracef("Initializing no-op off-heap metrics for cache [%s]", cacheName);
+        // Do nothing more.
+    }
 }
@@ -0,0 +1,19 @@
+package io.quarkus.cache.runtime.invalidation;
+
+/**
+ * The invalidation of an entry of a cache, or of all its entries if the key is {@code null}.
+ */
+record CacheInvalidation(String cacheName, Object key) {
+
+    static CacheInvalidation ofKey(String cacheName, Object key) {
+        return new CacheInvalidation(cacheName, key);
+    }
+
+    static CacheInvalidation ofAll(String cacheName) {
+        return new CacheInvalidation(cacheName, null);
+    }
+
+    boolean all() {
+        return key == null;
+    }
+}
@@ -0,0 +1,183 @@
+package io.quarkus.cache.runtime.invalidation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.CacheInvalidationTransport;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * Broadcasts the invalidations of the local caches to the other instances of the application and applies the invalidations
+ * received from them.
+ * <p>
+ * The invalidations are queued and published in batches, either when a batch is full or when the oldest pending invalidation
+ * has waited for the batch delay. The received invalidations are applied asynchronously on the Mutiny worker pool. Since an
+ * invalidation only removes entries, the order in which the invalidations are applied doesn't matter.
+ */
+public class CacheInvalidationBus {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheInvalidationBus.class);
+
+    // Used to ignore the messages published by this instance, which are applied locally before being published.
+    private final String origin = UUID.randomUUID().toString();
+    private final CacheInvalidationTransport transport;
+    private final Map<String, AbstractCache> caches;
+    private final int batchSize;
+    private final Duration batchDelay;
+    private final ScheduledExecutorService executor;
+    private final CacheInvalidationCodec codec;
+
+    private final Queue<CacheInvalidation> pendingInvalidations = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    public CacheInvalidationBus(CacheInvalidationTransport transport, Map<String, AbstractCache> caches, int batchSize,
+            Duration batchDelay) {
+        this.transport = transport;
+        this.caches = caches;
+        this.batchSize = batchSize;
+        this.batchDelay = batchDelay;
+        this.executor = Infrastructure.getDefaultWorkerPool();
+        // The keys are deserialized with the application class loader, which may not be the one of the transport threads.
+        this.codec = new CacheInvalidationCodec(Thread.currentThread().getContextClassLoader());
+    }
+
+    public void start() {
+        transport.start(new CacheInvalidationTransport.Listener() {
+            @Override
+            public void onMessage(byte[] message) {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        apply(message);
+                    }
+                });
+            }
+
+            @Override
+            public void onMessagesLost() {
+                LOGGER.warn("Some cache invalidations may have been missed, all the local caches with a distributed "
+                        + "invalidation are invalidated");
+                for (AbstractCache cache : caches.values()) {
+                    cache.invalidateAllLocally();
+                }
+            }
+        });
+        for (AbstractCache cache : caches.values()) {
+            cache.setInvalidationBus(this);
+        }
+        LOGGER.debugf("Distributed invalidation started for caches %s", caches.keySet());
+    }
+
+    public void close() {
+        for (AbstractCache cache : caches.values()) {
+            cache.setInvalidationBus(null);
+        }
+        // The pending invalidations are published before the transport is closed.
+        flush();
+        transport.close();
+    }
+
+    public void publish(String cacheName, Object key) {
+        enqueue(CacheInvalidation.ofKey(cacheName, key));
+    }
+
+    public void publishAll(String cacheName) {
+        enqueue(CacheInvalidation.ofAll(cacheName));
+    }
+
+    private void enqueue(CacheInvalidation invalidation) {
+        pendingInvalidations.add(invalidation);
+        if (pendingCount.incrementAndGet() >= batchSize) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    flush();
+                }
+            });
+        } else if (flushScheduled.compareAndSet(false, true)) {
+            executor.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    flushScheduled.set(false);
+                    flush();
+                }
+            }, batchDelay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush() {
+        while (true) {
+            // Duplicated invalidations are only published once, and the key invalidations are dropped when all the entries
+            // of the same cache are invalidated in the batch.
+            Set<CacheInvalidation> batch = new LinkedHashSet<>();
+            CacheInvalidation invalidation;
+            while (batch.size() < batchSize && (invalidation = pendingInvalidations.poll()) != null) {
+                pendingCount.decrementAndGet();
+                batch.add(invalidation);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<CacheInvalidation> invalidations = new ArrayList<>(batch.size());
+            for (CacheInvalidation candidate : batch) {
+                if (candidate.all() || !batch.contains(CacheInvalidation.ofAll(candidate.cacheName()))) {
+                    invalidations.add(candidate);
+                }
+            }
+            byte[] message = codec.encode(origin, invalidations);
+            transport.publish(message).subscribe().with(new Consumer<Void>() {
+                @Override
+                public void accept(Void ignored) {
+                    LOGGER.tracef("Published %d cache invalidations", invalidations.size());
+                }
+            }, new Consumer<Throwable>() {
+                @Override
+                public void accept(Throwable failure) {
+                    LOGGER.warnf(failure, "Unable to publish %d cache invalidations to the other instances of the application",
+                            invalidations.size());
+                }
+            });
+        }
+    }
+
+    private void apply(byte[] message) {
+        CacheInvalidationCodec.Message decoded;
+        try {
+            decoded = codec.decode(message);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Unable to decode a cache invalidation message", e);
+            return;
+        }
+        if (origin.equals(decoded.origin())) {
+            return;
+        }
+        for (CacheInvalidation invalidation : decoded.invalidations()) {
+            AbstractCache cache = caches.get(invalidation.cacheName());
+            if (cache == null) {
+                // The cache does not participate in the distributed invalidation on this instance.
+                continue;
+            }
+            if (invalidation.all()) {
+                cache.invalidateAllLocally();
+            } else {
+                cache.invalidateLocally(invalidation.key());
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package io.quarkus.cache.runtime.invalidation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.DefaultCacheKey;
+
+/**
+ * Encodes the batches of invalidations published on the transport.
+ * <p>
+ * A message contains a format version, the origin of the message and the invalidations. Each key is serialized on its own
+ * with Java serialization: a key which can't be serialized or deserialized is replaced with the invalidation of all the
+ * entries of its cache, so that the other instances never keep a stale entry.
+ * <p>
+ * Since the messages may come from any client of the transport, only the key types built by the caching annotations can be
+ * deserialized: strings, primitive wrappers, {@link CompositeCacheKey} and {@link DefaultCacheKey}. Any other class in a
+ * key is rejected, which invalidates all the entries of the cache.
+ */
+class CacheInvalidationCodec {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheInvalidationCodec.class);
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int ALL_ENTRIES = -1;
+
+    // The superclasses of the allowed classes are checked by the filter as well.
+    private static final Set<String> ALLOWED_KEY_CLASSES = Set.of(String.class.getName(), Boolean.class.getName(),
+            Character.class.getName(), Number.class.getName(), Byte.class.getName(), Short.class.getName(),
+            Integer.class.getName(), Long.class.getName(), Float.class.getName(), Double.class.getName(),
+            CompositeCacheKey.class.getName(), "io.quarkus.cache.runtime.FlatCompositeCacheKey",
+            DefaultCacheKey.class.getName());
+    private static final long MAX_KEY_DEPTH = 8;
+
+    private static final ObjectInputFilter KEY_FILTER = new ObjectInputFilter() {
+        @Override
+        public Status checkInput(FilterInfo info) {
+            if (info.depth() > MAX_KEY_DEPTH) {
+                return Status.REJECTED;
+            }
+            Class<?> serialClass = info.serialClass();
+            if (serialClass == null) {
+                return Status.UNDECIDED;
+            }
+            // The elements of a composite key are stored in an Object[].
+            while (serialClass.isArray()) {
+                serialClass = serialClass.getComponentType();
+            }
+            return serialClass.isPrimitive() || serialClass == Object.class
+                    || ALLOWED_KEY_CLASSES.contains(serialClass.getName()) ? Status.ALLOWED : Status.REJECTED;
+        }
+    };
+
+    private final ClassLoader classLoader;
+    // The caches whose keys could not be serialized, used to log a single warning per cache.
+    private final Set<String> unserializableKeyCaches = ConcurrentHashMap.newKeySet();
+
+    CacheInvalidationCodec(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    byte[] encode(String origin, List<CacheInvalidation> invalidations) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeUTF(origin);
+            out.writeInt(invalidations.size());
+            for (CacheInvalidation invalidation : invalidations) {
+                out.writeUTF(invalidation.cacheName());
+                byte[] key = invalidation.all() ? null : serialize(invalidation);
+                if (key == null) {
+                    out.writeInt(ALL_ENTRIES);
+                } else {
+                    out.writeInt(key.length);
+                    out.write(key);
+                }
+            }
+        } catch (IOException e) {
+            // This should never happen with an in-memory stream.
+            throw new CacheException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    Message decode(byte[] message) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(message))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported cache invalidation message format version: " + version);
+            }
+            String origin = in.readUTF();
+            int count = in.readInt();
+            List<CacheInvalidation> invalidations = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String cacheName = in.readUTF();
+                int keyLength = in.readInt();
+                if (keyLength == ALL_ENTRIES) {
+                    invalidations.add(CacheInvalidation.ofAll(cacheName));
+                } else {
+                    byte[] key = new byte[keyLength];
+                    in.readFully(key);
+                    invalidations.add(deserialize(cacheName, key));
+                }
+            }
+            return new Message(origin, invalidations);
+        } catch (IOException e) {
+            throw new CacheException("Invalid cache invalidation message", e);
+        }
+    }
+
+    private byte[] serialize(CacheInvalidation invalidation) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(invalidation.key());
+        } catch (IOException e) {
+            if (unserializableKeyCaches.add(invalidation.cacheName())) {
+                LOGGER.warnf(e, "A key of cache [%s] of type [%s] is not serializable, all the entries of the cache are "
+                        + "invalidated on the other instances instead", invalidation.cacheName(),
+                        invalidation.key().getClass().getName());
+            }
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    private CacheInvalidation deserialize(String cacheName, byte[] key) {
+        try (ObjectInputStream in = new ClassLoaderObjectInputStream(new ByteArrayInputStream(key), classLoader)) {
+            in.setObjectInputFilter(KEY_FILTER);
+            return CacheInvalidation.ofKey(cacheName, in.readObject());
+        } catch (IOException | ClassNotFoundException e) {
+            LOGGER.debugf(e, "Unable to deserialize a key of cache [%s], all the entries of the cache are invalidated instead",
+                    cacheName);
+            return CacheInvalidation.ofAll(cacheName);
+        }
+    }
+
+    record Message(String origin, List<CacheInvalidation> invalidations) {
+    }
+
+    private static final class ClassLoaderObjectInputStream extends ObjectInputStream {
+
+        private final ClassLoader classLoader;
+
+        ClassLoaderObjectInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+            super(in);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            // The application classes may not be visible from the class loader picked by ObjectInputStream, e.g. in dev mode.
+            if (classLoader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    // Fall back to the default resolution, which also handles the primitive types.
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package io.quarkus.cache.runtime.invalidation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheInvalidationTransport;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheConfig;
+import io.quarkus.cache.runtime.ConfiguredInstances;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.offheap.OffHeapCacheImpl;
+import io.quarkus.redis.client.RedisClientName;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+
+/**
+ * The transport methods are only invoked for the transport selected at build time, so that the optional Redis and Kafka
+ * dependencies are never reached otherwise.
+ */
+@Recorder
+public class CacheInvalidationRecorder {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheInvalidationRecorder.class);
+
+    private final RuntimeValue<CacheConfig> cacheConfigRV;
+
+    public CacheInvalidationRecorder(RuntimeValue<CacheConfig> cacheConfigRV) {
+        this.cacheConfigRV = cacheConfigRV;
+    }
+
+    public Supplier<CacheInvalidationTransport> vertxEventBusTransport() {
+        return new Supplier<CacheInvalidationTransport>() {
+            @Override
+            public CacheInvalidationTransport get() {
+                return new VertxEventBusInvalidationTransport(Arc.container().instance(Vertx.class).get(),
+                        cacheConfigRV.getValue().invalidation().channel());
+            }
+        };
+    }
+
+    public Supplier<CacheInvalidationTransport> redisTransport() {
+        return new Supplier<CacheInvalidationTransport>() {
+            @Override
+            public CacheInvalidationTransport get() {
+                CacheConfig.InvalidationConfig config = cacheConfigRV.getValue().invalidation();
+                ArcContainer container = Arc.container();
+                Optional<String> redisClientName = config.redisClientName();
+                Redis redis = redisClientName.isPresent()
+                        ? container.select(Redis.class, RedisClientName.Literal.of(redisClientName.get())).get()
+                        : container.select(Redis.class).get();
+                return new RedisInvalidationTransport(container.select(io.vertx.mutiny.core.Vertx.class).get(), redis,
+                        config.channel());
+            }
+        };
+    }
+
+    public Supplier<CacheInvalidationTransport> kafkaTransport() {
+        return new Supplier<CacheInvalidationTransport>() {
+            @Override
+            public CacheInvalidationTransport get() {
+                CacheConfig.InvalidationConfig config = cacheConfigRV.getValue().invalidation();
+                Map<String, Object> properties = new HashMap<>(config.kafka().properties());
+                properties.put(CommonClientConfigs.BOOTSTRAP_SERVERS_CONFIG, config.kafka().bootstrapServers());
+                return new KafkaInvalidationTransport(config.channel(), properties);
+            }
+        };
+    }
+
+    public Supplier<CacheInvalidationTransport> customTransport(String className) {
+        return new Supplier<CacheInvalidationTransport>() {
+            @Override
+            public CacheInvalidationTransport get() {
+                return ConfiguredInstances.create(CacheInvalidationTransport.class, className, "invalidation");
+            }
+        };
+    }
+
+    public void startInvalidationBus(Supplier<CacheInvalidationTransport> transport, ShutdownContext shutdownContext) {
+        CacheConfig cacheConfig = cacheConfigRV.getValue();
+        if (!cacheConfig.enabled()) {
+            return;
+        }
+        Optional<Set<String>> cacheNames = cacheConfig.invalidation().caches();
+        CacheManager cacheManager = Arc.container().instance(CacheManager.class).get();
+        Map<String, AbstractCache> caches = new HashMap<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName).get();
+            // Only the local caches need to be invalidated on the other instances of the application.
+            if ((cache instanceof CaffeineCacheImpl || cache instanceof OffHeapCacheImpl)
+                    && (cacheNames.isEmpty() || cacheNames.get().contains(cacheName))) {
+                caches.put(cacheName, (AbstractCache) cache);
+            }
+        }
+        if (caches.isEmpty()) {
+            LOGGER.debug("Distributed invalidation enabled but no local cache found");
+            return;
+        }
+        CacheInvalidationBus bus = new CacheInvalidationBus(transport.get(), caches,
+                cacheConfig.invalidation().batchSize(), cacheConfig.invalidation().batchDelay());
+        bus.start();
+        shutdownContext.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                bus.close();
+            }
+        });
+    }
+}
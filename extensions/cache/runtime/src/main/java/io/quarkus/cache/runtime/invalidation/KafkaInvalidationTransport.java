@@ -0,0 +1,151 @@
+package io.quarkus.cache.runtime.invalidation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.CacheInvalidationTransport;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+/**
+ * Publishes the invalidations to a Kafka topic. Each instance of the application reads all the partitions of the topic, which
+ * must exist, without a consumer group and from their end offsets at startup, so that every instance receives all the
+ * messages published after it started.
+ */
+class KafkaInvalidationTransport implements CacheInvalidationTransport {
+
+    private static final Logger LOGGER = Logger.getLogger(KafkaInvalidationTransport.class);
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500L);
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5L);
+
+    private final String topic;
+    private final Map<String, Object> properties;
+
+    private volatile KafkaProducer<byte[], byte[]> producer;
+    private volatile KafkaConsumer<byte[], byte[]> consumer;
+    private volatile Thread consumerThread;
+    private volatile boolean closed;
+
+    KafkaInvalidationTransport(String topic, Map<String, Object> properties) {
+        this.topic = topic;
+        this.properties = properties;
+    }
+
+    @Override
+    public void start(Listener listener) {
+        producer = new KafkaProducer<>(properties, new ByteArraySerializer(), new ByteArraySerializer());
+        Map<String, Object> consumerProperties = new HashMap<>(properties);
+        // The partitions are assigned manually, a consumer group would only receive the messages published after the first
+        // rebalance, which completes asynchronously.
+        consumerProperties.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        consumer = new KafkaConsumer<>(consumerProperties, new ByteArrayDeserializer(), new ByteArrayDeserializer());
+        List<PartitionInfo> partitionInfos = consumer.partitionsFor(topic);
+        if (partitionInfos == null || partitionInfos.isEmpty()) {
+            consumer.close(CLOSE_TIMEOUT);
+            producer.close(CLOSE_TIMEOUT);
+            throw new IllegalStateException(
+                    "The Kafka topic [" + topic + "] used to broadcast the cache invalidations does not exist");
+        }
+        List<TopicPartition> partitions = new ArrayList<>(partitionInfos.size());
+        for (PartitionInfo partitionInfo : partitionInfos) {
+            partitions.add(new TopicPartition(topic, partitionInfo.partition()));
+        }
+        consumer.assign(partitions);
+        consumer.seekToEnd(partitions);
+        // seekToEnd() is lazy, the end offsets are resolved now so that all the messages published after start() returns are
+        // received.
+        for (TopicPartition partition : partitions) {
+            consumer.position(partition);
+        }
+        consumerThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                consume(listener);
+            }
+        }, "quarkus-cache-invalidation-kafka");
+        consumerThread.setDaemon(true);
+        consumerThread.start();
+    }
+
+    @Override
+    public Uni<Void> publish(byte[] message) {
+        return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Void>>() {
+            @Override
+            public void accept(UniEmitter<? super Void> emitter) {
+                producer.send(new ProducerRecord<>(topic, message), new Callback() {
+                    @Override
+                    public void onCompletion(RecordMetadata metadata, Exception exception) {
+                        if (exception == null) {
+                            emitter.complete(null);
+                        } else {
+                            emitter.fail(exception);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        KafkaConsumer<byte[], byte[]> consumer = this.consumer;
+        if (consumer != null) {
+            consumer.wakeup();
+        }
+        Thread consumerThread = this.consumerThread;
+        if (consumerThread != null) {
+            try {
+                consumerThread.join(CLOSE_TIMEOUT.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        KafkaProducer<byte[], byte[]> producer = this.producer;
+        if (producer != null) {
+            producer.close(CLOSE_TIMEOUT);
+        }
+    }
+
+    private void consume(Listener listener) {
+        // Once started, the consumer is only used by this thread, except for wakeup() which is thread-safe.
+        try {
+            while (!closed) {
+                for (ConsumerRecord<byte[], byte[]> record : consumer.poll(POLL_TIMEOUT)) {
+                    if (record.value() != null) {
+                        listener.onMessage(record.value());
+                    }
+                }
+            }
+        } catch (WakeupException e) {
+            // The transport is being closed.
+        } catch (RuntimeException e) {
+            if (!closed) {
+                LOGGER.errorf(e, "Cache invalidation transport stopped consuming Kafka topic [%s]", topic);
+                listener.onMessagesLost();
+            }
+        } finally {
+            consumer.close(CLOSE_TIMEOUT);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package io.quarkus.cache.runtime.invalidation;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.CacheInvalidationTransport;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * Publishes the invalidations on a Redis pub/sub channel. The subscription uses a dedicated connection, which is
+ * re-established after a failure. Since the messages published in the meantime are missed, the listener is then notified
+ * that messages may have been lost.
+ */
+class RedisInvalidationTransport implements CacheInvalidationTransport {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisInvalidationTransport.class);
+
+    private static final long RESUBSCRIBE_DELAY_MS = 1000L;
+
+    private final Vertx vertx;
+    private final Redis redis;
+    private final String channel;
+
+    private volatile Listener listener;
+    private volatile RedisConnection connection;
+    private volatile boolean subscribed;
+    private volatile boolean closed;
+
+    RedisInvalidationTransport(Vertx vertx, Redis redis, String channel) {
+        this.vertx = vertx;
+        this.redis = redis;
+        this.channel = channel;
+    }
+
+    @Override
+    public void start(Listener listener) {
+        this.listener = listener;
+        subscribe();
+    }
+
+    @Override
+    public Uni<Void> publish(byte[] message) {
+        return redis.send(Request.cmd(Command.PUBLISH).arg(channel).arg(message)).replaceWithVoid();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        RedisConnection connection = this.connection;
+        if (connection != null) {
+            connection.closeAndForget();
+        }
+    }
+
+    private void subscribe() {
+        redis.connect().subscribe().with(new Consumer<RedisConnection>() {
+            @Override
+            public void accept(RedisConnection newConnection) {
+                if (closed) {
+                    newConnection.closeAndForget();
+                    return;
+                }
+                connection = newConnection;
+                // The exception and end handlers may both be invoked for the same connection.
+                AtomicBoolean lost = new AtomicBoolean();
+                newConnection.handler(new Consumer<Response>() {
+                    @Override
+                    public void accept(Response response) {
+                        onMessage(response);
+                    }
+                });
+                newConnection.exceptionHandler(new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        if (lost.compareAndSet(false, true)) {
+                            newConnection.closeAndForget();
+                            onSubscriptionLost(failure);
+                        }
+                    }
+                });
+                newConnection.endHandler(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (lost.compareAndSet(false, true)) {
+                            onSubscriptionLost(null);
+                        }
+                    }
+                });
+                newConnection.send(Request.cmd(Command.SUBSCRIBE).arg(channel)).subscribe().with(new Consumer<Response>() {
+                    @Override
+                    public void accept(Response response) {
+                        LOGGER.debugf("Cache invalidation transport subscribed to Redis channel [%s]", channel);
+                        subscribed = true;
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        if (lost.compareAndSet(false, true)) {
+                            newConnection.closeAndForget();
+                            onSubscriptionLost(failure);
+                        }
+                    }
+                });
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                onSubscriptionLost(failure);
+            }
+        });
+    }
+
+    private void onSubscriptionLost(Throwable failure) {
+        if (closed) {
+            return;
+        }
+        if (subscribed) {
+            LOGGER.warnf(failure, "Cache invalidation transport lost its subscription to Redis channel [%s]", channel);
+            subscribed = false;
+            listener.onMessagesLost();
+        } else {
+            LOGGER.debugf(failure, "Cache invalidation transport is unable to subscribe to Redis channel [%s]", channel);
+        }
+        try {
+            vertx.setTimer(RESUBSCRIBE_DELAY_MS, new Consumer<Long>() {
+                @Override
+                public void accept(Long timerId) {
+                    subscribe();
+                }
+            });
+        } catch (IllegalStateException e) {
+            // Vert.x is being closed, there is nothing to re-establish.
+        }
+    }
+
+    private void onMessage(Response response) {
+        // Pub/sub messages are ["message", channel, payload], the subscription confirmations are ignored.
+        if (response.size() != 3 || !"message".equals(response.get(0).toString())
+                || !channel.equals(response.get(1).toString())) {
+            return;
+        }
+        listener.onMessage(response.get(2).toBytes());
+    }
+}
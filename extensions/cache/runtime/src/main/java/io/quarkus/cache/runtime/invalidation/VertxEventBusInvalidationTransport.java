@@ -0,0 +1,66 @@
+package io.quarkus.cache.runtime.invalidation;
+
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.CacheInvalidationTransport;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+
+/**
+ * Publishes the invalidations on the Vert.x event bus. The other instances of the application are only reached if the event
+ * bus is clustered, which it is not by default.
+ */
+class VertxEventBusInvalidationTransport implements CacheInvalidationTransport {
+
+    private static final Logger LOGGER = Logger.getLogger(VertxEventBusInvalidationTransport.class);
+
+    private final Vertx vertx;
+    private final String address;
+
+    private volatile MessageConsumer<Buffer> consumer;
+
+    VertxEventBusInvalidationTransport(Vertx vertx, String address) {
+        this.vertx = vertx;
+        this.address = address;
+    }
+
+    @Override
+    public void start(Listener listener) {
+        if (!vertx.isClustered()) {
+            LOGGER.warnf("The Vert.x event bus is not clustered, the cache invalidations published on address [%s] don't "
+                    + "reach the other instances of the application: cluster Vert.x or select another transport with "
+                    + "quarkus.cache.invalidation.transport", address);
+        }
+        consumer = vertx.eventBus().consumer(address, new Handler<Message<Buffer>>() {
+            @Override
+            public void handle(Message<Buffer> message) {
+                listener.onMessage(message.body().getBytes());
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> publish(byte[] message) {
+        return Uni.createFrom().item(new Supplier<Void>() {
+            @Override
+            public Void get() {
+                vertx.eventBus().publish(address, Buffer.buffer(message));
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        MessageConsumer<Buffer> consumer = this.consumer;
+        if (consumer != null) {
+            consumer.unregister();
+        }
+    }
+}
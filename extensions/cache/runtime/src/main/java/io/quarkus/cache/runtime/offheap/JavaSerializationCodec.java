@@ -0,0 +1,92 @@
+package io.quarkus.cache.runtime.offheap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.nio.ByteBuffer;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.OffHeapCacheCodec;
+
+/**
+ * The default {@link OffHeapCacheCodec}, which relies on Java serialization.
+ */
+class JavaSerializationCodec implements OffHeapCacheCodec {
+
+    @Override
+    public byte[] encode(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            throw new CacheException("Unable to serialize a value of type [" + value.getClass().getName()
+                    + "], off-heap cache values must be serializable or a custom codec must be configured", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Object decode(ByteBuffer buffer) {
+        try (ObjectInputStream in = new ContextClassLoaderObjectInputStream(new ByteBufferInputStream(buffer))) {
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CacheException("Unable to deserialize an off-heap cache value", e);
+        }
+    }
+
+    private static final class ContextClassLoaderObjectInputStream extends ObjectInputStream {
+
+        ContextClassLoaderObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            // The application classes may not be visible from the class loader picked by ObjectInputStream, e.g. in dev mode.
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    // Fall back to the default resolution, which also handles the primitive types.
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
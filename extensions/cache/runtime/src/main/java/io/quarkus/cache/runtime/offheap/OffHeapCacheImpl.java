@@ -0,0 +1,491 @@
+package io.quarkus.cache.runtime.offheap;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.OffHeapCache;
+import io.quarkus.cache.OffHeapCacheCodec;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.cache.runtime.offheap.OffHeapMemory.Block;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
+ * methods signatures may change without prior notice.
+ * <p>
+ * The keys and small handles of the entries are kept on-heap in a Caffeine cache bounded by the off-heap memory used by the
+ * values, which provides the W-TinyLFU eviction and the expiration policies. The values are serialized with an
+ * {@link OffHeapCacheCodec} into the direct memory managed by {@link OffHeapMemory}, and deserialized on each read.
+ */
+public class OffHeapCacheImpl extends AbstractCache implements OffHeapCache {
+
+    final Cache<Object, OffHeapEntry> cache;
+
+    private final OffHeapCacheInfo cacheInfo;
+    private final OffHeapCacheCodec codec;
+    private final OffHeapMemory memory;
+    private final Policy.Eviction<Object, OffHeapEntry> eviction;
+    // The loads in progress of getAsync(), an invalidated key is removed so that its value is not stored.
+    private final Map<Object, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+
+    public OffHeapCacheImpl(OffHeapCacheInfo cacheInfo, OffHeapCacheCodec codec, boolean recordStats) {
+        this.cacheInfo = cacheInfo;
+        this.codec = codec;
+        this.memory = new OffHeapMemory(cacheInfo.chunkSize, cacheInfo.maximumMemory);
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        Caffeine<Object, OffHeapEntry> weightedBuilder = builder
+                .maximumWeight(cacheInfo.maximumMemory)
+                // The evicted blocks are released on the calling threads so that they are reused as soon as possible.
+                .executor(new Executor() {
+                    @Override
+                    public void execute(Runnable command) {
+                        command.run();
+                    }
+                })
+                .weigher(new Weigher<Object, OffHeapEntry>() {
+                    @Override
+                    public int weigh(Object key, OffHeapEntry entry) {
+                        return entry.weight();
+                    }
+                })
+                .removalListener(new RemovalListener<Object, OffHeapEntry>() {
+                    @Override
+                    public void onRemoval(Object key, OffHeapEntry entry, RemovalCause cause) {
+                        if (entry != null) {
+                            entry.release(memory);
+                        }
+                    }
+                });
+        if (cacheInfo.expireAfterWrite != null) {
+            weightedBuilder.expireAfterWrite(cacheInfo.expireAfterWrite);
+        }
+        if (cacheInfo.expireAfterAccess != null) {
+            weightedBuilder.expireAfterAccess(cacheInfo.expireAfterAccess);
+        }
+        if (recordStats) {
+            weightedBuilder.recordStats();
+        }
+        cache = weightedBuilder.build();
+        eviction = cache.policy().eviction().orElseThrow();
+    }
+
+    @Override
+    public String getName() {
+        return cacheInfo.name;
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        return Uni.createFrom().item(new Supplier<V>() {
+            @Override
+            public V get() {
+                while (true) {
+                    Object[] loadedValue = new Object[1];
+                    OffHeapEntry entry = cache.get(key, new Function<Object, OffHeapEntry>() {
+                        @SuppressWarnings("unchecked")
+                        @Override
+                        public OffHeapEntry apply(Object k) {
+                            Object value = NullValueConverter.toCacheValue(valueLoader.apply((K) k));
+                            OffHeapEntry newEntry = store(value);
+                            loadedValue[0] = value;
+                            return newEntry;
+                        }
+                    });
+                    if (loadedValue[0] != null) {
+                        evictUntilAllocatedMemoryFits();
+                    }
+                    // The value returned by the loader is returned as is, it is only deserialized by the next reads.
+                    Object value = loadedValue[0] != null ? loadedValue[0] : read(entry);
+                    if (value != null) {
+                        return cast(NullValueConverter.fromCacheValue(value));
+                    }
+                    // The entry was removed before it could be read, try again.
+                }
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                Object value = getIfPresent(key);
+                if (value != null) {
+                    V cachedValue = cast(NullValueConverter.fromCacheValue(value));
+                    return Uni.createFrom().item(cachedValue);
+                }
+                CompletableFuture<Object> newLoad = new CompletableFuture<>();
+                CompletableFuture<Object> load = loads.putIfAbsent(key, newLoad);
+                if (load == null) {
+                    load = newLoad;
+                    load(key, newLoad, valueLoader);
+                }
+                return Uni.createFrom().completionStage(load).map(new Function<Object, V>() {
+                    @Override
+                    public V apply(Object cacheValue) {
+                        return cast(NullValueConverter.fromCacheValue(cacheValue));
+                    }
+                });
+            }
+        });
+    }
+
+    /*
+     * Like Caffeine's computeIfAbsent(), a single load is performed at a time for a given key and all the callers get its
+     * result. The load is not cancelled when its first caller is, since the other callers may still wait for it. The loaded
+     * value is only stored if the key is still absent and was not invalidated in the meantime.
+     */
+    private <K, V> void load(K key, CompletableFuture<Object> load, Function<K, Uni<V>> valueLoader) {
+        // The load may have completed between the lookup and the registration of this one.
+        Object cachedValue = getIfPresent(key);
+        if (cachedValue != null) {
+            loads.remove(key, load);
+            load.complete(cachedValue);
+            return;
+        }
+        Uni<V> loadedValue;
+        try {
+            loadedValue = valueLoader.apply(key);
+        } catch (Throwable t) {
+            loads.remove(key, load);
+            load.completeExceptionally(t);
+            return;
+        }
+        loadedValue.subscribe().with(new Consumer<V>() {
+            @Override
+            public void accept(V value) {
+                Object cacheValue = NullValueConverter.toCacheValue(value);
+                try {
+                    if (loads.get(key) == load) {
+                        cacheValue = storeIfAbsent(key, cacheValue);
+                    }
+                } catch (Throwable t) {
+                    // e.g. the value can't be encoded
+                    loads.remove(key, load);
+                    load.completeExceptionally(t);
+                    return;
+                }
+                loads.remove(key, load);
+                load.complete(cacheValue);
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable t) {
+                loads.remove(key, load);
+                load.completeExceptionally(t);
+            }
+        });
+    }
+
+    /*
+     * Returns the value stored for the given key, which is the given value unless another one was stored in the meantime.
+     */
+    private Object storeIfAbsent(Object key, Object cacheValue) {
+        boolean[] stored = new boolean[1];
+        OffHeapEntry entry = cache.asMap().computeIfAbsent(key, new Function<Object, OffHeapEntry>() {
+            @Override
+            public OffHeapEntry apply(Object k) {
+                stored[0] = true;
+                return store(cacheValue);
+            }
+        });
+        if (stored[0]) {
+            evictUntilAllocatedMemoryFits();
+            return cacheValue;
+        }
+        Object existingValue = read(entry);
+        return existingValue != null ? existingValue : cacheValue;
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        requireNonNullKeys(keys);
+        return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+            @Override
+            public Map<K, V> get() {
+                Map<Object, Object> loadedValues = new HashMap<>();
+                Map<Object, OffHeapEntry> entries = cache.getAll(keys,
+                        new Function<Set<?>, Map<Object, OffHeapEntry>>() {
+                            @SuppressWarnings("unchecked")
+                            @Override
+                            public Map<Object, OffHeapEntry> apply(Set<?> missingKeys) {
+                                Map<K, V> values = valuesLoader.apply((Set<K>) missingKeys);
+                                Map<Object, OffHeapEntry> newEntries = new HashMap<>();
+                                for (Map.Entry<K, V> value : values.entrySet()) {
+                                    Object cacheValue = NullValueConverter.toCacheValue(value.getValue());
+                                    newEntries.put(value.getKey(), store(cacheValue));
+                                    loadedValues.put(value.getKey(), cacheValue);
+                                }
+                                return newEntries;
+                            }
+                        });
+                if (!loadedValues.isEmpty()) {
+                    evictUntilAllocatedMemoryFits();
+                }
+                Map<K, V> result = new LinkedHashMap<>(Math.max(4, (int) (keys.size() / 0.75f) + 1));
+                for (K key : keys) {
+                    Object value = loadedValues.get(key);
+                    if (value == null) {
+                        OffHeapEntry entry = entries.get(key);
+                        if (entry == null) {
+                            continue;
+                        }
+                        value = read(entry);
+                        if (value == null) {
+                            // The entry was removed before it could be read.
+                            value = getIfPresent(key);
+                        }
+                    }
+                    if (value != null) {
+                        result.put(key, cast(NullValueConverter.fromCacheValue(value)));
+                    }
+                }
+                return result;
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        requireNonNullKeys(keys);
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Map<K, V>>>() {
+            @Override
+            public Uni<? extends Map<K, V>> get() {
+                Map<K, Object> cachedValues = new HashMap<>();
+                Set<K> missingKeys = new LinkedHashSet<>();
+                for (K key : keys) {
+                    Object value = getIfPresent(key);
+                    if (value == null) {
+                        missingKeys.add(key);
+                    } else {
+                        cachedValues.put(key, value);
+                    }
+                }
+                if (missingKeys.isEmpty()) {
+                    return Uni.createFrom().item(fromCacheValues(keys, cachedValues));
+                }
+                return valuesLoader.apply(missingKeys).map(new Function<Map<K, V>, Map<K, V>>() {
+                    @Override
+                    public Map<K, V> apply(Map<K, V> loadedValues) {
+                        for (Map.Entry<K, V> value : loadedValues.entrySet()) {
+                            Object cacheValue = NullValueConverter.toCacheValue(value.getValue());
+                            cache.put(value.getKey(), store(cacheValue));
+                            cachedValues.put(value.getKey(), cacheValue);
+                        }
+                        evictUntilAllocatedMemoryFits();
+                        return fromCacheValues(keys, cachedValues);
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Void> putAll(Map<K, V> entries) {
+        requireNonNullKeys(entries.keySet());
+        return Uni.createFrom().item(new Supplier<>() {
+            @Override
+            public Void get() {
+                for (Map.Entry<K, V> entry : entries.entrySet()) {
+                    cache.put(entry.getKey(), store(NullValueConverter.toCacheValue(entry.getValue())));
+                    // The other instances drop their entries, they load the new values on their next read.
+                    publishInvalidation(entry.getKey());
+                }
+                evictUntilAllocatedMemoryFits();
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        return Uni.createFrom().item(new Supplier<>() {
+            @Override
+            public Void get() {
+                invalidateLocally(key);
+                publishInvalidation(key);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        return Uni.createFrom().item(new Supplier<>() {
+            @Override
+            public Void get() {
+                invalidateAllLocally();
+                publishInvalidationAll();
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        return Uni.createFrom().item(new Supplier<>() {
+            @Override
+            public Void get() {
+                loads.keySet().removeIf(predicate);
+                // The removed keys are broadcast one by one since the predicate can't be sent to the other instances.
+                cache.asMap().keySet().removeIf(new Predicate<Object>() {
+                    @Override
+                    public boolean test(Object key) {
+                        if (predicate.test(key)) {
+                            publishInvalidation(key);
+                            return true;
+                        }
+                        return false;
+                    }
+                });
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void invalidateLocally(Object key) {
+        loads.remove(key);
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void invalidateAllLocally() {
+        loads.clear();
+        cache.invalidateAll();
+    }
+
+    @Override
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public long usedMemory() {
+        return memory.used();
+    }
+
+    @Override
+    public long allocatedMemory() {
+        return memory.allocated();
+    }
+
+    // For testing purposes only.
+    public OffHeapCacheInfo getCacheInfo() {
+        return cacheInfo;
+    }
+
+    /*
+     * Returns the cache value of the given key, or null if the key is not present.
+     */
+    private Object getIfPresent(Object key) {
+        while (true) {
+            OffHeapEntry entry = cache.getIfPresent(key);
+            if (entry == null) {
+                return null;
+            }
+            Object value = read(entry);
+            if (value != null) {
+                return value;
+            }
+            // The entry was removed before it could be read, try again.
+        }
+    }
+
+    /*
+     * Returns the cache value of the given entry, or null if the entry was removed in the meantime.
+     */
+    private Object read(OffHeapEntry entry) {
+        if (entry.isNullValue()) {
+            return NullValueConverter.toCacheValue(null);
+        }
+        if (!entry.retain()) {
+            return null;
+        }
+        try {
+            return codec.decode(entry.content());
+        } finally {
+            entry.release(memory);
+        }
+    }
+
+    private OffHeapEntry store(Object cacheValue) {
+        Object value = NullValueConverter.fromCacheValue(cacheValue);
+        if (value == null) {
+            return new OffHeapEntry(null, 0);
+        }
+        byte[] bytes = codec.encode(value);
+        Block block = memory.allocate(bytes.length);
+        block.buffer.duplicate().put(bytes);
+        return new OffHeapEntry(block, bytes.length);
+    }
+
+    /*
+     * Caffeine bounds the memory used by the values, but the allocated memory can be larger since a chunk is only given back
+     * once all its blocks are free. The coldest entries are evicted until the allocated memory is back under the maximum.
+     * This is done after each write rather than when a block is allocated, since the cache can't be modified while an entry
+     * is being computed.
+     */
+    private void evictUntilAllocatedMemoryFits() {
+        while (memory.allocated() > cacheInfo.maximumMemory) {
+            Map<Object, OffHeapEntry> coldest = eviction.coldest(1);
+            if (coldest.isEmpty()) {
+                // The remaining blocks are held by reads in progress.
+                return;
+            }
+            Map.Entry<Object, OffHeapEntry> entry = coldest.entrySet().iterator().next();
+            cache.asMap().remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static void requireNonNullKeys(Set<?> keys) {
+        for (Object key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+    }
+
+    private <K, V> Map<K, V> fromCacheValues(Set<K> keys, Map<K, Object> values) {
+        Map<K, V> result = new LinkedHashMap<>(Math.max(4, (int) (keys.size() / 0.75f) + 1));
+        for (K key : keys) {
+            Object value = values.get(key);
+            if (value != null) {
+                result.put(key, cast(NullValueConverter.fromCacheValue(value)));
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cast(Object value) {
+        try {
+            return (T) value;
+        } catch (ClassCastException e) {
+            throw new CacheException(
+                    "An existing cached value type does not match the type returned by the value loading function", e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.quarkus.cache.runtime.offheap;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public class OffHeapCacheInfo {
+
+    public String name;
+
+    public long maximumMemory;
+
+    public int chunkSize;
+
+    public Duration expireAfterWrite;
+
+    public Duration expireAfterAccess;
+
+    public String codec;
+
+    public boolean metricsEnabled;
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof OffHeapCacheInfo) {
+            OffHeapCacheInfo other = (OffHeapCacheInfo) obj;
+            return Objects.equals(name, other.name);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,82 @@
+package io.quarkus.cache.runtime.offheap;
+
+import static io.quarkus.cache.runtime.CacheConfig.OffHeapConfig.OffHeapCacheConfig;
+
+import java.util.Collections;
+import java.util.Set;
+
+import io.quarkus.cache.runtime.CacheConfig;
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.configuration.HashSetFactory;
+
+public class OffHeapCacheInfoBuilder {
+
+    static final long DEFAULT_MAXIMUM_MEMORY = 64L * 1024 * 1024;
+    static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    public static Set<OffHeapCacheInfo> build(Set<String> cacheNames, CacheConfig cacheConfig) {
+        if (cacheNames.isEmpty()) {
+            return Collections.emptySet();
+        } else {
+            OffHeapCacheConfig defaultConfig = cacheConfig.offHeap().defaultConfig();
+
+            Set<OffHeapCacheInfo> cacheInfos = HashSetFactory.<OffHeapCacheInfo> getInstance().apply(cacheNames.size());
+            for (String cacheName : cacheNames) {
+
+                OffHeapCacheInfo cacheInfo = new OffHeapCacheInfo();
+                cacheInfo.name = cacheName;
+
+                OffHeapCacheConfig namedCacheConfig = cacheConfig.offHeap().cachesConfig().get(cacheInfo.name);
+
+                if (namedCacheConfig != null && namedCacheConfig.maximumMemory().isPresent()) {
+                    cacheInfo.maximumMemory = namedCacheConfig.maximumMemory().get().asLongValue();
+                } else if (defaultConfig.maximumMemory().isPresent()) {
+                    cacheInfo.maximumMemory = defaultConfig.maximumMemory().get().asLongValue();
+                } else {
+                    cacheInfo.maximumMemory = DEFAULT_MAXIMUM_MEMORY;
+                }
+
+                long chunkSize;
+                if (namedCacheConfig != null && namedCacheConfig.chunkSize().isPresent()) {
+                    chunkSize = namedCacheConfig.chunkSize().get().asLongValue();
+                } else if (defaultConfig.chunkSize().isPresent()) {
+                    chunkSize = defaultConfig.chunkSize().get().asLongValue();
+                } else {
+                    chunkSize = DEFAULT_CHUNK_SIZE;
+                }
+                if (chunkSize <= 0 || chunkSize > (1 << 30)) {
+                    throw new ConfigurationException("The chunk size of the off-heap cache [" + cacheName
+                            + "] must be greater than 0 and lower than or equal to 1G");
+                }
+                cacheInfo.chunkSize = (int) chunkSize;
+
+                if (namedCacheConfig != null && namedCacheConfig.expireAfterWrite().isPresent()) {
+                    cacheInfo.expireAfterWrite = namedCacheConfig.expireAfterWrite().get();
+                } else if (defaultConfig.expireAfterWrite().isPresent()) {
+                    cacheInfo.expireAfterWrite = defaultConfig.expireAfterWrite().get();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.expireAfterAccess().isPresent()) {
+                    cacheInfo.expireAfterAccess = namedCacheConfig.expireAfterAccess().get();
+                } else if (defaultConfig.expireAfterAccess().isPresent()) {
+                    cacheInfo.expireAfterAccess = defaultConfig.expireAfterAccess().get();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.codec().isPresent()) {
+                    cacheInfo.codec = namedCacheConfig.codec().get();
+                } else if (defaultConfig.codec().isPresent()) {
+                    cacheInfo.codec = defaultConfig.codec().get();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.metricsEnabled().isPresent()) {
+                    cacheInfo.metricsEnabled = namedCacheConfig.metricsEnabled().get();
+                } else if (defaultConfig.metricsEnabled().isPresent()) {
+                    cacheInfo.metricsEnabled = defaultConfig.metricsEnabled().get();
+                }
+
+                cacheInfos.add(cacheInfo);
+            }
+            return cacheInfos;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.quarkus.cache.runtime.offheap;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.OffHeapCacheCodec;
+import io.quarkus.cache.runtime.CacheConfig;
+import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.cache.runtime.ConfiguredInstances;
+import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.MicrometerMetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.NoOpMetricsInitializer;
+
+public class OffHeapCacheManagerBuilder {
+
+    private static final Logger LOGGER = Logger.getLogger(OffHeapCacheManagerBuilder.class);
+
+    public static Supplier<CacheManager> buildWithMicrometerMetrics(Set<String> cacheNames, CacheConfig cacheConfig) {
+        return build(cacheNames, cacheConfig, new MicrometerMetricsInitializer());
+    }
+
+    public static Supplier<CacheManager> buildWithoutMetrics(Set<String> cacheNames, CacheConfig cacheConfig) {
+        return build(cacheNames, cacheConfig, new NoOpMetricsInitializer());
+    }
+
+    private static Supplier<CacheManager> build(Set<String> cacheNames, CacheConfig cacheConfig,
+            MetricsInitializer metricsInitializer) {
+        Set<OffHeapCacheInfo> cacheInfos = OffHeapCacheInfoBuilder.build(cacheNames, cacheConfig);
+        return new Supplier<CacheManager>() {
+            @Override
+            public CacheManager get() {
+                if (cacheInfos.isEmpty()) {
+                    return new CacheManagerImpl(Collections.emptyMap());
+                } else {
+                    // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
+                    Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+                    for (OffHeapCacheInfo cacheInfo : cacheInfos) {
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debugf(
+                                    "Building off-heap cache [%s] with [maximumMemory=%s], [chunkSize=%s], "
+                                            + "[expireAfterWrite=%s], [expireAfterAccess=%s], [codec=%s] and [metricsEnabled=%s]",
+                                    cacheInfo.name, cacheInfo.maximumMemory, cacheInfo.chunkSize, cacheInfo.expireAfterWrite,
+                                    cacheInfo.expireAfterAccess, cacheInfo.codec, cacheInfo.metricsEnabled);
+                        }
+                        boolean recordMetrics = metricsInitializer.metricsEnabled() && cacheInfo.metricsEnabled;
+                        OffHeapCacheImpl cache = new OffHeapCacheImpl(cacheInfo, createCodec(cacheInfo), recordMetrics);
+                        if (recordMetrics) {
+                            metricsInitializer.recordOffHeapMetrics(cache.cache, cacheInfo.name, cache::usedMemory,
+                                    cache::allocatedMemory);
+                        } else if (cacheInfo.metricsEnabled) {
+                            LOGGER.warnf(
+                                    "Metrics won't be recorded for cache '%s' because the application does not depend on a Micrometer extension. "
+                                            + "This warning can be fixed by disabling the cache metrics in the configuration or by adding a Micrometer "
+                                            + "extension to the pom.xml file.",
+                                    cacheInfo.name);
+                        }
+                        caches.put(cacheInfo.name, cache);
+                    }
+                    return new CacheManagerImpl(caches);
+                }
+            }
+        };
+    }
+
+    private static OffHeapCacheCodec createCodec(OffHeapCacheInfo cacheInfo) {
+        if (cacheInfo.codec == null) {
+            return new JavaSerializationCodec();
+        }
+        return ConfiguredInstances.create(OffHeapCacheCodec.class, cacheInfo.codec, cacheInfo.name);
+    }
+}
@@ -0,0 +1,62 @@
+package io.quarkus.cache.runtime.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.cache.runtime.offheap.OffHeapMemory.Block;
+
+/**
+ * The on-heap handle of a value stored off-heap.
+ * <p>
+ * The block of the value is reference counted. The cache holds a reference until the entry is removed, and each read holds
+ * one while the value is deserialized, so the block is only reused once no read is in progress.
+ */
+final class OffHeapEntry {
+
+    // null if the cached value is null
+    private final Block block;
+    private final int length;
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    OffHeapEntry(Block block, int length) {
+        this.block = block;
+        this.length = length;
+    }
+
+    boolean isNullValue() {
+        return block == null;
+    }
+
+    /**
+     * Returns a read-only view of the serialized value. This method must only be called between successful
+     * {@link #retain()} and {@link #release(OffHeapMemory)} calls.
+     */
+    ByteBuffer content() {
+        return block.buffer.asReadOnlyBuffer().limit(length);
+    }
+
+    int weight() {
+        return block == null ? 0 : block.size();
+    }
+
+    /**
+     * Acquires a reference on the block, unless the entry was already released.
+     */
+    boolean retain() {
+        while (true) {
+            int current = references.get();
+            if (current == 0) {
+                return false;
+            }
+            if (references.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release(OffHeapMemory memory) {
+        if (references.decrementAndGet() == 0 && block != null) {
+            memory.release(block);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package io.quarkus.cache.runtime.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Allocates the direct memory blocks storing the serialized values of an off-heap cache.
+ * <p>
+ * The memory is allocated from direct buffer chunks with a buddy allocator: a chunk is split in halves until a block whose
+ * size is the smallest power of two that fits the value is obtained, and a released block is merged with its free buddy
+ * again. The blocks of all the sizes are therefore carved out of the same chunks, and a chunk whose blocks are all free is
+ * dropped so that the garbage collector reclaims it. Values larger than a chunk are stored in a dedicated direct buffer which
+ * is reclaimed the same way once the value is removed.
+ * <p>
+ * This class only accounts for the memory, bounding it is up to the cache which evicts entries until
+ * {@link #allocated()} is back under its maximum memory.
+ */
+class OffHeapMemory {
+
+    static final int MIN_BLOCK_SIZE = 64;
+
+    private static final int MIN_BLOCK_SHIFT = Integer.numberOfTrailingZeros(MIN_BLOCK_SIZE);
+
+    private final int chunkSize;
+    private final int maxOrder;
+    // The chunks that have at least one free block of a given order, guarded by this.
+    private final Set<Chunk>[] chunksWithFreeBlocks;
+    private final AtomicLong allocated = new AtomicLong();
+    private final AtomicLong used = new AtomicLong();
+
+    /**
+     * @param chunkSize the size of the chunks, rounded up to a power of two
+     * @param maximumMemory the maximum memory of the cache, the chunks are never larger than this value
+     */
+    @SuppressWarnings("unchecked")
+    OffHeapMemory(int chunkSize, long maximumMemory) {
+        int size = roundUpToPowerOfTwo(Math.max(chunkSize, MIN_BLOCK_SIZE));
+        if (size > maximumMemory) {
+            size = (int) Math.max(Long.highestOneBit(maximumMemory), MIN_BLOCK_SIZE);
+        }
+        this.chunkSize = size;
+        this.maxOrder = order(size);
+        this.chunksWithFreeBlocks = new Set[maxOrder + 1];
+        for (int i = 0; i <= maxOrder; i++) {
+            chunksWithFreeBlocks[i] = new LinkedHashSet<>();
+        }
+    }
+
+    /**
+     * Returns the size of the block storing a value of the given length.
+     */
+    int blockSize(int length) {
+        if (length > chunkSize) {
+            return length;
+        }
+        return roundUpToPowerOfTwo(Math.max(length, MIN_BLOCK_SIZE));
+    }
+
+    /**
+     * Returns a block whose capacity is at least the given length. The content of the block is undefined.
+     */
+    Block allocate(int length) {
+        int blockSize = blockSize(length);
+        used.addAndGet(blockSize);
+        if (blockSize > chunkSize) {
+            allocated.addAndGet(blockSize);
+            return new Block(ByteBuffer.allocateDirect(blockSize), null, 0);
+        }
+        int order = order(blockSize);
+        synchronized (this) {
+            Chunk chunk = null;
+            int freeOrder = order;
+            while (freeOrder <= maxOrder && chunksWithFreeBlocks[freeOrder].isEmpty()) {
+                freeOrder++;
+            }
+            if (freeOrder <= maxOrder) {
+                chunk = chunksWithFreeBlocks[freeOrder].iterator().next();
+            } else {
+                chunk = new Chunk();
+                allocated.addAndGet(chunkSize);
+                freeOrder = maxOrder;
+                chunk.addFreeBlock(maxOrder, 0);
+            }
+            int index = chunk.takeFreeBlock(freeOrder);
+            // Split the free block, the second halves become free blocks of the lower orders.
+            while (freeOrder > order) {
+                freeOrder--;
+                index <<= 1;
+                chunk.addFreeBlock(freeOrder, index + 1);
+            }
+            return new Block(chunk.buffer.slice(index << (order + MIN_BLOCK_SHIFT), blockSize), chunk, index);
+        }
+    }
+
+    /**
+     * Makes a block returned by {@link #allocate(int)} available again. The block must no longer be read afterwards.
+     */
+    void release(Block block) {
+        int blockSize = block.size();
+        used.addAndGet(-blockSize);
+        Chunk chunk = block.chunk;
+        if (chunk == null) {
+            allocated.addAndGet(-blockSize);
+            return;
+        }
+        int order = order(blockSize);
+        int index = block.index;
+        synchronized (this) {
+            // Merge the block with its buddy as long as the buddy is free.
+            while (order < maxOrder && chunk.removeFreeBlock(order, index ^ 1)) {
+                index >>= 1;
+                order++;
+            }
+            if (order == maxOrder) {
+                // The whole chunk is free, it is dropped.
+                allocated.addAndGet(-chunkSize);
+            } else {
+                chunk.addFreeBlock(order, index);
+            }
+        }
+    }
+
+    long used() {
+        return used.get();
+    }
+
+    long allocated() {
+        return allocated.get();
+    }
+
+    private static int order(int blockSize) {
+        return Integer.numberOfTrailingZeros(blockSize) - MIN_BLOCK_SHIFT;
+    }
+
+    private static int roundUpToPowerOfTwo(int value) {
+        int highestOneBit = Integer.highestOneBit(value);
+        return highestOneBit == value ? value : highestOneBit << 1;
+    }
+
+    /**
+     * A block of direct memory, either sliced from a chunk or dedicated to a single large value.
+     */
+    static final class Block {
+
+        final ByteBuffer buffer;
+        // null for a dedicated buffer
+        private final Chunk chunk;
+        // The index of the block among the blocks of the same size of its chunk.
+        private final int index;
+
+        private Block(ByteBuffer buffer, Chunk chunk, int index) {
+            this.buffer = buffer;
+            this.chunk = chunk;
+            this.index = index;
+        }
+
+        int size() {
+            return buffer.capacity();
+        }
+    }
+
+    private final class Chunk {
+
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(chunkSize);
+        // The free blocks of each order, by index.
+        private final BitSet[] freeBlocks = new BitSet[maxOrder + 1];
+        private final int[] freeBlockCounts = new int[maxOrder + 1];
+
+        void addFreeBlock(int order, int index) {
+            if (freeBlocks[order] == null) {
+                freeBlocks[order] = new BitSet();
+            }
+            freeBlocks[order].set(index);
+            if (freeBlockCounts[order]++ == 0) {
+                chunksWithFreeBlocks[order].add(this);
+            }
+        }
+
+        int takeFreeBlock(int order) {
+            int index = freeBlocks[order].nextSetBit(0);
+            removeFreeBlock(order, index);
+            return index;
+        }
+
+        boolean removeFreeBlock(int order, int index) {
+            BitSet blocks = freeBlocks[order];
+            if (blocks == null || !blocks.get(index)) {
+                return false;
+            }
+            blocks.clear(index);
+            if (--freeBlockCounts[order] == 0) {
+                chunksWithFreeBlocks[order].remove(this);
+            }
+            return true;
+        }
+    }
+}
@@ -4,7 +4,11 @@
 import static org.awaitility.Awaitility.await;
 
 import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CyclicBarrier;
@@ -285,6 +289,39 @@ public void testGetAsyncWithParallelCalls() throws Exception {
         assertThat(valueObtainedByThread2).isEqualTo("thread1");
     }
 
+    @Test
+    public void testGetAll() {
+        Cache cache = getCache();
+        String id1 = UUID.randomUUID().toString();
+        String id2 = UUID.randomUUID().toString();
+        String id3 = UUID.randomUUID().toString();
+        remoteCache.put(id1, "one");
+        AtomicInteger loads = new AtomicInteger();
+
+        Map<String, String> values = cache.getAll(new LinkedHashSet<>(List.of(id1, id2, id3)), (Set<String> keys) -> {
+            loads.incrementAndGet();
+            assertThat(keys).containsExactly(id2, id3);
+            return Map.of(id2, "two");
+        }).await().indefinitely();
+        assertThat(values).containsExactly(Map.entry(id1, "one"), Map.entry(id2, "two"));
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(remoteCache.get(id2)).isEqualTo("two");
+        assertThat(remoteCache.containsKey(id3)).isFalse();
+    }
+
+    @Test
+    public void testGetAllAsyncAndPutAll() {
+        Cache cache = getCache();
+        String id1 = UUID.randomUUID().toString();
+        String id2 = UUID.randomUUID().toString();
+        cache.putAll(Map.of(id1, "one")).await().indefinitely();
+
+        Map<String, String> values = cache.getAllAsync(new LinkedHashSet<>(List.of(id1, id2)),
+                (Set<String> keys) -> Uni.createFrom().item(Map.of(id2, "two"))).await().indefinitely();
+        assertThat(values).containsExactly(Map.entry(id1, "one"), Map.entry(id2, "two"));
+        assertThat(remoteCache.get(id2)).isEqualTo("two");
+    }
+
     @Test
     public void testInvalidate() {
         Cache cache = getCache();
@@ -1,8 +1,12 @@
 package io.quarkus.cache.infinispan.runtime;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -187,6 +191,122 @@ public void handle(Void ignored) {
         }).emitOn(executor);
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        Context context = Vertx.currentContext();
+        Executor executor = duplicateContextExecutor(context);
+        return getAllFromInfinispan(keys, executor)
+                .flatMap(new Function<Map<Object, Object>, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<Map<K, V>> apply(Map<Object, Object> cached) {
+                        Set<K> missingKeys = missingKeys(keys, cached);
+                        if (missingKeys.isEmpty()) {
+                            return Uni.createFrom().item(merge(keys, cached, Map.of()));
+                        }
+                        Uni<Map<K, V>> loaded;
+                        if (context != null) {
+                            loaded = Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
+                                @Override
+                                public CompletionStage<Map<K, V>> get() {
+                                    return context.executeBlocking(new Callable<Map<K, V>>() {
+                                        @Override
+                                        public Map<K, V> call() throws Exception {
+                                            return valuesLoader.apply(missingKeys);
+                                        }
+                                    }).toCompletionStage();
+                                }
+                            }).emitOn(executor);
+                        } else {
+                            loaded = Uni.createFrom().item(valuesLoader.apply(missingKeys));
+                        }
+                        return loaded.flatMap(new Function<Map<K, V>, Uni<? extends Map<K, V>>>() {
+                            @Override
+                            public Uni<Map<K, V>> apply(Map<K, V> values) {
+                                return putAllInInfinispan(values, executor).replaceWith(merge(keys, cached, values));
+                            }
+                        });
+                    }
+                });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        Context context = Vertx.currentContext();
+        Executor executor = duplicateContextExecutor(context);
+        return getAllFromInfinispan(keys, executor)
+                .flatMap(new Function<Map<Object, Object>, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<Map<K, V>> apply(Map<Object, Object> cached) {
+                        Set<K> missingKeys = missingKeys(keys, cached);
+                        if (missingKeys.isEmpty()) {
+                            return Uni.createFrom().item(merge(keys, cached, Map.of()));
+                        }
+                        return valuesLoader.apply(missingKeys)
+                                .emitOn(executor)
+                                .flatMap(new Function<Map<K, V>, Uni<? extends Map<K, V>>>() {
+                                    @Override
+                                    public Uni<Map<K, V>> apply(Map<K, V> values) {
+                                        return putAllInInfinispan(values, executor)
+                                                .replaceWith(merge(keys, cached, values));
+                                    }
+                                });
+                    }
+                });
+    }
+
+    @Override
+    public <K, V> Uni<Void> putAll(Map<K, V> entries) {
+        return putAllInInfinispan(entries, duplicateContextExecutor(Vertx.currentContext()));
+    }
+
+    private Uni<Map<Object, Object>> getAllFromInfinispan(Set<?> keys, Executor executor) {
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<Object, Object>>>() {
+            @Override
+            public CompletionStage<Map<Object, Object>> get() {
+                return remoteCache.getAllAsync(keys);
+            }
+        }).emitOn(executor);
+    }
+
+    private <K, V> Uni<Void> putAllInInfinispan(Map<K, V> values, Executor executor) {
+        if (values.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        Map<Object, Object> encoded = new HashMap<>();
+        for (Map.Entry<K, V> entry : values.entrySet()) {
+            encoded.put(entry.getKey(), encodeNull(entry.getValue()));
+        }
+        // Unlike get(), the values are not computed under a lock and a concurrent computation of the same keys may win.
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Void>>() {
+            @Override
+            public CompletionStage<Void> get() {
+                return remoteCache.putAllAsync(encoded, lifespan, TimeUnit.MILLISECONDS, maxIdle, TimeUnit.MILLISECONDS);
+            }
+        }).emitOn(executor);
+    }
+
+    private static <K> Set<K> missingKeys(Set<K> keys, Map<Object, Object> cached) {
+        Set<K> result = new LinkedHashSet<>();
+        for (K key : keys) {
+            if (!cached.containsKey(key)) {
+                result.add(key);
+            }
+        }
+        return result;
+    }
+
+    private <K, V> Map<K, V> merge(Set<K> keys, Map<Object, Object> cached, Map<K, V> loaded) {
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (cached.containsKey(key)) {
+                result.put(key, decodeNull(cached.get(key)));
+            } else if (loaded.containsKey(key)) {
+                result.put(key, loaded.get(key));
+            }
+        }
+        return result;
+    }
+
     private static Executor duplicateContextExecutor(Context context) {
         Executor executor = new Executor() {
             @Override
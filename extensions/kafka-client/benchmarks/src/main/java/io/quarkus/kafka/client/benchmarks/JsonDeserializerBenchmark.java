@@ -0,0 +1,136 @@
+package io.quarkus.kafka.client.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.utils.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import io.quarkus.kafka.client.serialization.JsonObjectDeserializer;
+import io.quarkus.kafka.client.serialization.ObjectMapperDeserializer;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Measures the deserialization of JSON records, as invoked by the Kafka consumer with a buffer of the fetched records. The
+ * {@code before} benchmarks copy the payload to a byte array, like the default implementation of
+ * {@code Deserializer.deserialize(String, Headers, ByteBuffer)}, and parse it like the previous deserializers, i.e. from an
+ * input stream with the object mapper and from a copied Vert.x buffer. The {@code after} benchmarks invoke the deserializers,
+ * which parse the buffer of the consumer directly.
+ * <p>
+ * Running the {@link #main(String[])} method executes the benchmark with the GC profiler, which reports the allocation rate
+ * per operation. To run from the command line, use {@code java -jar target/benchmark.jar JsonDeserializerBenchmark -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonDeserializerBenchmark {
+
+    /*
+     * small: a record with a few fields
+     * large: a record with a list of 100 nested objects
+     */
+    @Param({ "small", "large" })
+    public String payload;
+
+    private final Headers headers = new RecordHeaders();
+    private ByteBuffer record;
+    private ObjectMapper objectMapper;
+    private JavaType type;
+    private ObjectMapperDeserializer<Price> objectMapperDeserializer;
+    private JsonObjectDeserializer jsonObjectDeserializer;
+
+    @Setup
+    public void setup() {
+        StringBuilder json = new StringBuilder(
+                "{\"id\":\"price-42\",\"symbol\":\"QRKS\",\"price\":42.5,\"timestamp\":1700000000000");
+        if (payload.equals("large")) {
+            json.append(",\"history\":[");
+            for (int i = 0; i < 100; i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                json.append("{\"id\":\"price-").append(i).append("\",\"symbol\":\"QRKS\",\"price\":").append(40 + i / 10.0)
+                        .append(",\"timestamp\":").append(1700000000000L + i).append('}');
+            }
+            json.append(']');
+        }
+        json.append('}');
+        // The consumer passes a slice of the buffer of the fetched records
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] fetched = new byte[bytes.length + 64];
+        System.arraycopy(bytes, 0, fetched, 32, bytes.length);
+        record = ByteBuffer.wrap(fetched, 32, bytes.length).slice();
+
+        objectMapper = new ObjectMapper();
+        type = TypeFactory.defaultInstance().constructType(Price.class);
+        objectMapperDeserializer = new ObjectMapperDeserializer<>(Price.class, objectMapper);
+        jsonObjectDeserializer = new JsonObjectDeserializer();
+    }
+
+    @Benchmark
+    public Price objectMapperBefore() throws IOException {
+        try (InputStream is = new ByteArrayInputStream(Utils.toArray(record))) {
+            return objectMapper.readValue(is, type);
+        }
+    }
+
+    @Benchmark
+    public Price objectMapperAfter() {
+        return objectMapperDeserializer.deserialize("prices", headers, record);
+    }
+
+    @Benchmark
+    public JsonObject jsonObjectBefore() {
+        return Buffer.buffer(Utils.toArray(record)).toJsonObject();
+    }
+
+    @Benchmark
+    public JsonObject jsonObjectAfter() {
+        return jsonObjectDeserializer.deserialize("prices", headers, record);
+    }
+
+    public static class Price {
+        public String id;
+        public String symbol;
+        public double price;
+        public long timestamp;
+        public List<Price> history;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JsonDeserializerBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
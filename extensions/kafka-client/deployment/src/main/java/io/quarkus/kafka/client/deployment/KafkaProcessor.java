@@ -278,7 +278,17 @@ public void build(
                         .reason(getClass().getName() + " Jackson support")
                         .build());
         collectSubclasses(toRegister, indexBuildItem, ObjectMapperSerializer.class);
-        collectSubclasses(toRegister, indexBuildItem, ObjectMapperDeserializer.class);
+        // The ObjectMapperDeserializer looks up the methods of the subclasses to detect the overridden deserialize() methods
+        final Set<DotName> objectMapperDeserializers = new HashSet<>();
+        objectMapperDeserializers.add(DotName.createSimple(ObjectMapperDeserializer.class.getName()));
+        objectMapperDeserializers.add(DotName.createSimple(Deserializer.class.getName()));
+        collectSubclasses(objectMapperDeserializers, indexBuildItem, ObjectMapperDeserializer.class);
+        reflectiveClass.produce(
+                ReflectiveClassBuildItem.builder(objectMapperDeserializers.stream().map(DotName::toString)
+                        .toArray(String[]::new))
+                        .reason(getClass().getName() + " Jackson support")
+                        .methods()
+                        .build());
 
         // Make the `io.quarkus.jackson.runtime.ObjectMapperProducer` bean cannot be removed.
         beans.produce(UnremovableBeanBuildItem.beanTypes(OBJECT_MAPPER));
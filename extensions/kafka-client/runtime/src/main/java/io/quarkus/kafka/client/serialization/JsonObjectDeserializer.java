@@ -1,12 +1,18 @@
 package io.quarkus.kafka.client.serialization;
 
+import java.nio.ByteBuffer;
+
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Deserializer;
 
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 
 /**
  * Kafka deserializer for raw bytes in a buffer
+ * <p>
+ * The JSON is parsed from a buffer wrapping the payload, which is not copied.
  */
 public class JsonObjectDeserializer implements Deserializer<JsonObject> {
 
@@ -15,7 +21,16 @@ public JsonObject deserialize(String topic, byte[] data) {
         if (data == null)
             return null;
 
-        return Buffer.buffer(data).toJsonObject();
+        return Buffer.buffer(Unpooled.wrappedBuffer(data)).toJsonObject();
+    }
+
+    @Override
+    public JsonObject deserialize(String topic, Headers headers, ByteBuffer data) {
+        if (data == null)
+            return null;
+
+        // The buffer of the consumer is only read while parsing, so it does not escape
+        return Buffer.buffer(Unpooled.wrappedBuffer(data)).toJsonObject();
     }
 
 }
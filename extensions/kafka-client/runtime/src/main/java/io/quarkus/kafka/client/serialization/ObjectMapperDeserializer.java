@@ -1,29 +1,40 @@
 package io.quarkus.kafka.client.serialization;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Deserializer;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
+/**
+ * Kafka deserializer using Jackson.
+ * <p>
+ * The {@link ObjectReader} of the target type is created once, so that the deserializer of the type, including a
+ * deserializer generated at build time, is only looked up when the deserializer is created. The records are parsed directly
+ * from the buffer of the consumer, without copying the payload, unless a subclass overrides one of the {@code byte[]}
+ * variants of {@code deserialize}.
+ */
 public class ObjectMapperDeserializer<T> implements Deserializer<T> {
 
-    private final JavaType type;
-    private final ObjectMapper objectMapper;
+    private final ObjectReader reader;
+    // True if a subclass overrides the deserialization of byte arrays
+    private final boolean deserializesByteArrays;
 
     public ObjectMapperDeserializer(Class<T> type) {
         this(type, ObjectMapperProducer.get());
     }
 
     public ObjectMapperDeserializer(Class<T> type, ObjectMapper objectMapper) {
-        this.type = TypeFactory.defaultInstance().constructType(type);
-        this.objectMapper = objectMapper;
+        this(TypeFactory.defaultInstance().constructType(type), objectMapper);
     }
 
     public ObjectMapperDeserializer(TypeReference<T> typeReference) {
@@ -31,8 +42,13 @@ public ObjectMapperDeserializer(TypeReference<T> typeReference) {
     }
 
     public ObjectMapperDeserializer(TypeReference<T> typeReference, ObjectMapper objectMapper) {
-        this.type = TypeFactory.defaultInstance().constructType(typeReference);
-        this.objectMapper = objectMapper;
+        this(TypeFactory.defaultInstance().constructType(typeReference), objectMapper);
+    }
+
+    private ObjectMapperDeserializer(JavaType type, ObjectMapper objectMapper) {
+        this.reader = objectMapper.readerFor(type);
+        this.deserializesByteArrays = overrides("deserialize", String.class, byte[].class)
+                || overrides("deserialize", String.class, Headers.class, byte[].class);
     }
 
     @Override
@@ -45,8 +61,26 @@ public T deserialize(String topic, byte[] data) {
             return null;
         }
 
-        try (InputStream is = new ByteArrayInputStream(data)) {
-            return objectMapper.readValue(is, type);
+        try {
+            return reader.readValue(data);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, ByteBuffer data) {
+        if (data == null || deserializesByteArrays) {
+            return Deserializer.super.deserialize(topic, headers, data);
+        }
+
+        try {
+            if (data.hasArray()) {
+                return reader.readValue(data.array(), data.arrayOffset() + data.position(), data.remaining());
+            }
+            try (InputStream is = new ByteBufferBackedInputStream(data.duplicate())) {
+                return reader.readValue(is);
+            }
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -55,4 +89,14 @@ public T deserialize(String topic, byte[] data) {
     @Override
     public void close() {
     }
+
+    private boolean overrides(String name, Class<?>... parameterTypes) {
+        try {
+            return !getClass().getMethod(name, parameterTypes).getDeclaringClass()
+                    .isAssignableFrom(ObjectMapperDeserializer.class);
+        } catch (NoSuchMethodException e) {
+            // The methods may not be registered for reflection in a native executable
+            return true;
+        }
+    }
 }
@@ -5,8 +5,11 @@
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.junit.jupiter.api.Test;
 
 import io.vertx.core.json.DecodeException;
@@ -35,4 +38,17 @@ void shouldDeserializeNullAsNull() {
         JsonObject actual = deserializer.deserialize("topic", null);
         assertNull(actual);
     }
+
+    @Test
+    void shouldDeserializeEntityFromByteBuffer() {
+        JsonObject expected = new JsonObject(Map.of("id", 1, "name", "entity1"));
+        JsonObjectDeserializer deserializer = new JsonObjectDeserializer();
+        byte[] record = "xx{\"id\":1,\"name\":\"entity1\"}yy".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(record, 2, record.length - 4).slice();
+        assertEquals(expected, deserializer.deserialize("topic", new RecordHeaders(), buffer));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(64);
+        direct.put("{\"id\":1,\"name\":\"entity1\"}".getBytes(StandardCharsets.UTF_8)).flip();
+        assertEquals(expected, deserializer.deserialize("topic", new RecordHeaders(), direct));
+    }
 }
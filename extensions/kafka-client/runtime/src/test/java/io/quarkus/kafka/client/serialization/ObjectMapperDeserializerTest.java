@@ -4,8 +4,11 @@
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -44,4 +47,32 @@ void shouldDeserializeNullAsNull() {
         MyEntity results = deserializer.deserialize("topic", null);
         assertNull(results);
     }
+
+    @Test
+    void shouldDeserializeEntityFromByteBuffer() {
+        MyEntity expected = new MyEntity(1, "entity1");
+        ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class);
+        byte[] record = "xx{\"id\":1,\"name\":\"entity1\"}yy".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(record, 2, record.length - 4).slice();
+        assertEquals(expected, deserializer.deserialize("topic", new RecordHeaders(), buffer));
+        // The position of the buffer is not changed
+        assertEquals(0, buffer.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(64);
+        direct.put("{\"id\":1,\"name\":\"entity1\"}".getBytes(StandardCharsets.UTF_8)).flip();
+        assertEquals(expected, deserializer.deserialize("topic", new RecordHeaders(), direct));
+        assertNull(deserializer.deserialize("topic", new RecordHeaders(), (ByteBuffer) null));
+    }
+
+    @Test
+    void shouldDeserializeByteBufferWithOverriddenMethod() {
+        ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class) {
+            @Override
+            public MyEntity deserialize(String topic, byte[] data) {
+                return new MyEntity(2, "overridden");
+            }
+        };
+        ByteBuffer buffer = ByteBuffer.wrap("{\"id\":1,\"name\":\"entity1\"}".getBytes(StandardCharsets.UTF_8));
+        assertEquals(new MyEntity(2, "overridden"), deserializer.deserialize("topic", new RecordHeaders(), buffer));
+    }
 }
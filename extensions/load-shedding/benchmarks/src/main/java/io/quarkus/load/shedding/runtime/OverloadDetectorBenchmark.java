@@ -0,0 +1,186 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the throughput of the request begin/end cycle of the {@link OverloadDetector},
+ * which is executed for every HTTP request, with all limit algorithms and update modes.
+ * The update mode only applies to the Vegas algorithm. The benchmark is in the package of the detector,
+ * whose constructors are package-private.
+ * <p>
+ * Running the {@link #main(String[])} method executes the benchmark with 1 to 128 threads.
+ * To run with a single thread count, use {@code java -jar target/benchmark.jar OverloadDetectorBenchmark -t 64}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OverloadDetectorBenchmark {
+    private static final int[] THREADS = { 1, 2, 4, 8, 16, 32, 64, 128 };
+
+    @Param({ "VEGAS", "GRADIENT2", "AIMD" })
+    public LoadSheddingRuntimeConfig.Algorithm algorithm;
+
+    @Param({ "SYNCHRONIZED", "LOCK_FREE" })
+    public LoadSheddingRuntimeConfig.UpdateMode mode;
+
+    private OverloadDetector detector;
+
+    @Setup
+    public void setup() {
+        detector = new OverloadDetector(new BenchmarkConfig(algorithm, mode));
+    }
+
+    @Benchmark
+    public boolean request() {
+        boolean overloaded = detector.isOverloaded();
+        detector.requestBegin();
+        detector.requestEnd(ThreadLocalRandom.current().nextLong(1_000, 2_000));
+        return overloaded;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREADS) {
+            Options options = new OptionsBuilder()
+                    .include(OverloadDetectorBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+
+    private record BenchmarkConfig(LoadSheddingRuntimeConfig.Algorithm algorithm,
+            LoadSheddingRuntimeConfig.UpdateMode updateMode) implements LoadSheddingRuntimeConfig {
+        @Override
+        public boolean enabled() {
+            return true;
+        }
+
+        @Override
+        public int maxLimit() {
+            return 1000;
+        }
+
+        @Override
+        public int alphaFactor() {
+            return 3;
+        }
+
+        @Override
+        public int betaFactor() {
+            return 6;
+        }
+
+        @Override
+        public double probeFactor() {
+            return 30.0;
+        }
+
+        @Override
+        public int initialLimit() {
+            return 100;
+        }
+
+        @Override
+        public Gradient2 gradient2() {
+            return new Gradient2() {
+                @Override
+                public double smoothing() {
+                    return 0.2;
+                }
+
+                @Override
+                public double rttTolerance() {
+                    return 1.5;
+                }
+
+                @Override
+                public int longWindow() {
+                    return 600;
+                }
+
+                @Override
+                public int queueSize() {
+                    return 4;
+                }
+            };
+        }
+
+        @Override
+        public Aimd aimd() {
+            return new Aimd() {
+                @Override
+                public double backoffRatio() {
+                    return 0.9;
+                }
+
+                @Override
+                public Duration timeout() {
+                    return Duration.ofSeconds(5);
+                }
+            };
+        }
+
+        @Override
+        public PriorityLoadShedding priority() {
+            return () -> true;
+        }
+
+        @Override
+        public Map<String, RouteGroup> routeGroups() {
+            return Map.of();
+        }
+
+        @Override
+        public Tenant tenant() {
+            return new Tenant() {
+                @Override
+                public boolean enabled() {
+                    return false;
+                }
+
+                @Override
+                public OptionalInt initialLimit() {
+                    return OptionalInt.empty();
+                }
+
+                @Override
+                public OptionalInt maxLimit() {
+                    return OptionalInt.empty();
+                }
+
+                @Override
+                public int maxTenants() {
+                    return 1000;
+                }
+            };
+        }
+
+        @Override
+        public boolean globalLimit() {
+            return true;
+        }
+    }
+}
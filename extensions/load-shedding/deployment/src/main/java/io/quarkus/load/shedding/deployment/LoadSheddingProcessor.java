@@ -2,15 +2,21 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.load.shedding.runtime.HttpLoadShedding;
 import io.quarkus.load.shedding.runtime.HttpRequestClassifier;
+import io.quarkus.load.shedding.runtime.LoadSheddingBudgets;
+import io.quarkus.load.shedding.runtime.LoadSheddingMetrics;
 import io.quarkus.load.shedding.runtime.ManagementRequestPrioritizer;
 import io.quarkus.load.shedding.runtime.OverloadDetector;
 import io.quarkus.load.shedding.runtime.PriorityLoadShedding;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 public class LoadSheddingProcessor {
     private static final String FEATURE = "load-shedding";
@@ -24,6 +30,7 @@ FeatureBuildItem feature() {
     AdditionalBeanBuildItem beans() {
         List<String> beans = new ArrayList<>();
         beans.add(OverloadDetector.class.getName());
+        beans.add(LoadSheddingBudgets.class.getName());
         beans.add(HttpLoadShedding.class.getName());
         beans.add(PriorityLoadShedding.class.getName());
         beans.add(ManagementRequestPrioritizer.class.getName());
@@ -31,4 +38,12 @@ AdditionalBeanBuildItem beans() {
 
         return AdditionalBeanBuildItem.builder().addBeanClasses(beans).build();
     }
+
+    @BuildStep
+    void metrics(Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (metricsCapability.map(m -> m.metricsSupported(MetricsFactory.MICROMETER)).orElse(false)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(LoadSheddingMetrics.class));
+        }
+    }
 }
@@ -0,0 +1,67 @@
+package io.quarkus.load.shedding;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * Overloads the application with concurrent requests and counts how many of them are rejected.
+ */
+public abstract class AbstractLoadSheddingTest {
+    private static final int NUM_THREADS = 20;
+    private static final int NUM_REQUESTS = 10;
+
+    /**
+     * Sends the given request {@value #NUM_REQUESTS} times from each of {@value #NUM_THREADS} threads at the same time.
+     *
+     * @param request sends a request and returns its status code
+     * @return the number of rejected requests
+     */
+    protected static int overload(IntSupplier request) throws InterruptedException {
+        return overload(request, null).requests();
+    }
+
+    /**
+     * Sends the given request {@value #NUM_REQUESTS} times from each of {@value #NUM_THREADS} threads at the same time
+     * and, until they are all done, sends the other request repeatedly from the calling thread.
+     *
+     * @param request sends a request and returns its status code
+     * @param otherRequest sends a request and returns its status code, may be {@code null}
+     * @return the number of rejected requests of each kind
+     */
+    protected static Rejections overload(IntSupplier request, IntSupplier otherRequest) throws InterruptedException {
+        AtomicInteger numErrors = new AtomicInteger();
+        int numOtherErrors = 0;
+        CountDownLatch begin = new CountDownLatch(1);
+        CountDownLatch end = new CountDownLatch(NUM_THREADS);
+        for (int i = 0; i < NUM_THREADS; i++) {
+            new Thread(() -> {
+                try {
+                    begin.await();
+                    for (int j = 0; j < NUM_REQUESTS; j++) {
+                        if (request.getAsInt() == 503) {
+                            numErrors.incrementAndGet();
+                        }
+                    }
+                    end.countDown();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }).start();
+        }
+
+        begin.countDown();
+        if (otherRequest != null) {
+            while (end.getCount() > 0) {
+                if (otherRequest.getAsInt() == 503) {
+                    numOtherErrors++;
+                }
+            }
+        }
+        end.await();
+        return new Rejections(numErrors.get(), numOtherErrors);
+    }
+
+    protected record Rejections(int requests, int otherRequests) {
+    }
+}
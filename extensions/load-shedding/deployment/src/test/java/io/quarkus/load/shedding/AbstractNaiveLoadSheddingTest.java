@@ -0,0 +1,33 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Sends concurrent requests to a slow endpoint and verifies that some of them are rejected. The subclasses configure the
+ * overload detector, e.g. its update mode or limit algorithm.
+ */
+public abstract class AbstractNaiveLoadSheddingTest extends AbstractLoadSheddingTest {
+
+    @Test
+    public void test() throws InterruptedException {
+        int numErrors = overload(() -> when().get("/").then().extract().statusCode());
+
+        // at least 1/2 of all requests failed
+        assertThat(numErrors).isGreaterThanOrEqualTo(100);
+    }
+
+    @Path("/")
+    public static class MyResource {
+        @GET
+        public String hello() throws InterruptedException {
+            Thread.sleep(100);
+            return "Hello, world!";
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.LoadSheddingBudgets;
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CustomLimitAlgorithmTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyResource.class, NoRequestsAllowed.class))
+            .overrideConfigKey("quarkus.load-shedding.route-group.group.paths", "/group")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+
+    @Inject
+    OverloadDetector detector;
+
+    @Inject
+    LoadSheddingBudgets budgets;
+
+    @Test
+    public void test() {
+        for (int i = 0; i < 5; i++) {
+            when().get("/").then().statusCode(503);
+        }
+
+        assertEquals(0, detector.currentLimit());
+        assertEquals(5, detector.rejectedRequests());
+        assertEquals(0, detector.acceptedRequests());
+    }
+
+    @Test
+    public void testRouteGroup() {
+        OverloadDetector group = budgets.routeGroups().get("group");
+        for (int i = 0; i < 3; i++) {
+            when().get("/group").then().statusCode(503);
+        }
+
+        assertEquals(0, group.currentLimit());
+        assertEquals(3, group.rejectedRequests());
+        assertEquals(0, group.acceptedRequests());
+        // the global detector and the route group have their own instance of the @Dependent algorithm
+        assertEquals(2, NoRequestsAllowed.INSTANCES.get());
+    }
+
+    @Path("/")
+    public static class MyResource {
+        @GET
+        public String hello() {
+            return "Hello, world!";
+        }
+
+        @GET
+        @Path("/group")
+        public String group() {
+            return "Hello, group!";
+        }
+    }
+
+    @Dependent
+    public static class NoRequestsAllowed implements LimitAlgorithm {
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public NoRequestsAllowed() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public long limit() {
+            return 0;
+        }
+
+        @Override
+        public void update(long requestTime, int currentRequests) {
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.quarkus.load.shedding;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class LockFreeLoadSheddingTest extends AbstractNaiveLoadSheddingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(AbstractLoadSheddingTest.class, AbstractNaiveLoadSheddingTest.class,
+                    MyResource.class))
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "5")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "10")
+            .overrideConfigKey("quarkus.load-shedding.update-mode", "lock-free")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+}
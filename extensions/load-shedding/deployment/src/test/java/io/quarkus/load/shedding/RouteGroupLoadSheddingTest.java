@@ -0,0 +1,49 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RouteGroupLoadSheddingTest extends AbstractLoadSheddingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(AbstractLoadSheddingTest.class, MyResource.class))
+            .overrideConfigKey("quarkus.load-shedding.route-group.slow.paths", "/slow/*")
+            .overrideConfigKey("quarkus.load-shedding.route-group.slow.initial-limit", "5")
+            .overrideConfigKey("quarkus.load-shedding.route-group.slow.max-limit", "10")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+
+    @Test
+    public void test() throws InterruptedException {
+        Rejections rejections = overload(() -> when().get("/slow/hello").then().extract().statusCode(),
+                () -> when().get("/fast").then().extract().statusCode());
+
+        // at least 1/2 of requests to the slow route group failed, but requests outside of it were not affected
+        assertThat(rejections.requests()).isGreaterThanOrEqualTo(100);
+        assertThat(rejections.otherRequests()).isZero();
+    }
+
+    @Path("/")
+    public static class MyResource {
+        @GET
+        @Path("/slow/hello")
+        public String slow() throws InterruptedException {
+            Thread.sleep(100);
+            return "Hello, world!";
+        }
+
+        @GET
+        @Path("/fast")
+        public String fast() {
+            return "Hello, world!";
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.ext.web.RoutingContext;
+
+public class TenantLoadSheddingTest extends AbstractLoadSheddingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(AbstractLoadSheddingTest.class, MyResource.class,
+                    TenantClassifier.class))
+            .overrideConfigKey("quarkus.load-shedding.tenant.enabled", "true")
+            .overrideConfigKey("quarkus.load-shedding.tenant.initial-limit", "5")
+            .overrideConfigKey("quarkus.load-shedding.tenant.max-limit", "10")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+
+    @Test
+    public void test() throws InterruptedException {
+        Rejections rejections = overload(() -> given().header("X-Tenant", "noisy").get("/").then().extract().statusCode(),
+                () -> given().header("X-Tenant", "quiet").get("/").then().extract().statusCode());
+
+        // at least 1/2 of requests of the noisy tenant failed, but the other tenant was not affected
+        assertThat(rejections.requests()).isGreaterThanOrEqualTo(100);
+        assertThat(rejections.otherRequests()).isZero();
+    }
+
+    @Path("/")
+    public static class MyResource {
+        @GET
+        public String hello() throws InterruptedException {
+            Thread.sleep(100);
+            return "Hello, world!";
+        }
+    }
+
+    @Singleton
+    @Priority(1)
+    public static class TenantClassifier implements RequestClassifier<RoutingContext> {
+        @Override
+        public boolean appliesTo(Object request) {
+            return request instanceof RoutingContext;
+        }
+
+        @Override
+        public int cohort(RoutingContext request) {
+            return MIN_COHORT;
+        }
+
+        @Override
+        public String tenant(RoutingContext request) {
+            return request.request().getHeader("X-Tenant");
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.quarkus.load.shedding;
+
+/**
+ * Computes the maximum number of concurrent requests. When the number of in-flight requests
+ * reaches the limit, overload is signalled. The limit is updated whenever a request completes.
+ * <p>
+ * Several algorithms are available out of the box and may be selected using
+ * the {@code quarkus.load-shedding.algorithm} configuration property. If the application
+ * provides a CDI bean implementing this interface, it is used instead. CDI typesafe resolution
+ * rules must be followed. That is, if multiple implementations are provided, only one of them
+ * may be retained, for example by declaring the others {@linkplain jakarta.enterprise.inject.Alternative alternatives}.
+ * <p>
+ * The application-provided algorithm is also used for the separate limits of route groups and tenants.
+ * If the bean is {@code @Dependent}, each route group and tenant obtains its own instance; otherwise,
+ * the same instance is shared by the global limit and all route groups and tenants. The initial and
+ * maximum limits of route groups and tenants only apply to the built-in algorithms.
+ * <p>
+ * Implementations must be thread-safe, because requests complete concurrently.
+ */
+public interface LimitAlgorithm {
+    /**
+     * Returns the current limit of concurrent requests.
+     *
+     * @return the current limit of concurrent requests
+     */
+    long limit();
+
+    /**
+     * Updates the limit after a request has completed.
+     *
+     * @param requestTime the duration of the request in microseconds
+     * @param currentRequests the number of in-flight requests at the time the request completed,
+     *        including the completed request
+     */
+    void update(long requestTime, int currentRequests);
+}
@@ -35,4 +35,19 @@
      * @return the cohort to which the given {@code request} belongs
      */
     int cohort(R request);
+
+    /**
+     * Returns the tenant to which the given {@code request} belongs. When per-tenant limits
+     * are enabled, each tenant has a separate limit of concurrent requests, so that a single
+     * tenant cannot cause requests of other tenants to be rejected.
+     * <p>
+     * The first non-{@code null} tenant returned by a classifier that {@linkplain #appliesTo(Object) applies}
+     * to given {@code request} is used. The default implementation returns {@code null}.
+     *
+     * @param request the request, never {@code null}
+     * @return the tenant to which the given {@code request} belongs, or {@code null} if it belongs to no tenant
+     */
+    default String tenant(R request) {
+        return null;
+    }
 }
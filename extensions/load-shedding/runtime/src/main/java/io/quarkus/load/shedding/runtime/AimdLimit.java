@@ -0,0 +1,53 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.quarkus.load.shedding.LimitAlgorithm;
+
+/**
+ * An additive-increase/multiplicative-decrease limit algorithm. The limit grows by 1 when
+ * a request completes within the configured timeout and at least half of the current limit
+ * is in use, and it is multiplied by the backoff ratio when a request takes longer than the timeout.
+ * <p>
+ * This algorithm reacts slowly to latency changes, but is very simple and predictable,
+ * which makes it suitable for batch-style workloads. Its state is a single number, which
+ * is updated without locking.
+ */
+final class AimdLimit implements LimitAlgorithm {
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long timeout;
+
+    private final AtomicLong currentLimit;
+
+    AimdLimit(LoadSheddingRuntimeConfig config, int initialLimit, int maxLimit) {
+        this.maxLimit = maxLimit;
+        backoffRatio = config.aimd().backoffRatio();
+        timeout = config.aimd().timeout().toNanos() / 1_000;
+        currentLimit = new AtomicLong(initialLimit);
+    }
+
+    @Override
+    public long limit() {
+        return currentLimit.get();
+    }
+
+    @Override
+    public void update(long requestTime, int currentRequests) {
+        long limit;
+        long newLimit;
+        do {
+            limit = currentLimit.get();
+            if (requestTime > timeout) {
+                newLimit = Math.max(1, (long) (limit * backoffRatio));
+            } else if (2L * currentRequests >= limit) {
+                newLimit = Math.min(maxLimit, limit + 1);
+            } else {
+                return;
+            }
+            if (newLimit == limit) {
+                return;
+            }
+        } while (!currentLimit.compareAndSet(limit, newLimit));
+    }
+}
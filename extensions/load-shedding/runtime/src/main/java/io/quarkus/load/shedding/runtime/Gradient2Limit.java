@@ -0,0 +1,75 @@
+package io.quarkus.load.shedding.runtime;
+
+import io.quarkus.load.shedding.LimitAlgorithm;
+
+/**
+ * A limit algorithm based on the gradient between the long-term exponentially smoothed
+ * average request time and the current request time, as implemented by
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * Unlike Vegas, this algorithm does not depend on the lowest seen request time, which makes it
+ * more suitable for latency-sensitive services whose request times drift over time.
+ */
+final class Gradient2Limit implements LimitAlgorithm {
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final int queueSize;
+    private final double longRttFactor;
+
+    private volatile long currentLimit;
+
+    private double estimatedLimit;
+    private double longRtt;
+    private int samples;
+
+    Gradient2Limit(LoadSheddingRuntimeConfig config, int initialLimit, int maxLimit) {
+        LoadSheddingRuntimeConfig.Gradient2 gradient2 = config.gradient2();
+        this.maxLimit = maxLimit;
+        smoothing = gradient2.smoothing();
+        rttTolerance = gradient2.rttTolerance();
+        queueSize = gradient2.queueSize();
+        longRttFactor = 2.0 / (gradient2.longWindow() + 1);
+        currentLimit = initialLimit;
+        estimatedLimit = initialLimit;
+    }
+
+    @Override
+    public long limit() {
+        return currentLimit;
+    }
+
+    @Override
+    public synchronized void update(long requestTime, int currentRequests) {
+        double shortRtt = Math.max(1, requestTime);
+
+        if (samples < WARMUP_SAMPLES) {
+            // simple average until there's enough samples for the moving average to make sense
+            samples++;
+            longRtt = (longRtt * (samples - 1) + shortRtt) / samples;
+        } else {
+            longRtt = longRtt * (1 - longRttFactor) + shortRtt * longRttFactor;
+        }
+
+        // if the long-term average is much higher than the current request time,
+        // let it decay faster so that the limit recovers quickly after a period of high latency
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        // don't grow the limit if it isn't being used
+        if (currentRequests < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
+
+        estimatedLimit = newLimit;
+        currentLimit = (long) newLimit;
+    }
+}
@@ -14,14 +14,23 @@
 @Singleton
 public class HttpLoadShedding {
     public void init(@Observes @Priority(-1_000_000_000) Router router, OverloadDetector detector,
-            PriorityLoadShedding priority, LoadSheddingRuntimeConfig config) {
+            LoadSheddingBudgets budgets, PriorityLoadShedding priority, LoadSheddingRuntimeConfig config) {
 
         if (!config.enabled()) {
             return;
         }
 
+        boolean globalLimit = config.globalLimit();
+
         router.route().order(-1_000_000_000).handler(ctx -> {
-            if (detector.isOverloaded() && priority.shedLoad(ctx)) {
+            OverloadDetector routeGroup = budgets.routeGroup(ctx.normalizedPath());
+            OverloadDetector tenant = budgets.tenant(ctx);
+            OverloadDetector global = globalLimit || (routeGroup == null && tenant == null) ? detector : null;
+
+            if (isOverloaded(global, routeGroup, tenant) && priority.shedLoad(ctx)) {
+                requestRejected(global);
+                requestRejected(routeGroup);
+                requestRejected(tenant);
                 HttpServerResponse response = ctx.response();
                 response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
                 response.headers().add(HttpHeaderNames.CONNECTION, "close");
@@ -33,17 +42,47 @@ public void handle(Void ignored) {
                 });
                 response.end();
             } else {
-                detector.requestBegin();
+                requestBegin(global);
+                requestBegin(routeGroup);
+                requestBegin(tenant);
                 long start = System.nanoTime();
                 ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
                     @Override
                     public void handle(AsyncResult<Void> ignored) {
                         long end = System.nanoTime();
-                        detector.requestEnd((end - start) / 1_000);
+                        long timeInMicros = (end - start) / 1_000;
+                        requestEnd(global, timeInMicros);
+                        requestEnd(routeGroup, timeInMicros);
+                        requestEnd(tenant, timeInMicros);
                     }
                 });
                 ctx.next();
             }
         });
     }
+
+    private static boolean isOverloaded(OverloadDetector global, OverloadDetector routeGroup, OverloadDetector tenant) {
+        return global != null && global.isOverloaded()
+                || routeGroup != null && routeGroup.isOverloaded()
+                || tenant != null && tenant.isOverloaded();
+    }
+
+    // only the detectors whose limit was reached count the rejection
+    private static void requestRejected(OverloadDetector detector) {
+        if (detector != null && detector.isOverloaded()) {
+            detector.requestRejected();
+        }
+    }
+
+    private static void requestBegin(OverloadDetector detector) {
+        if (detector != null) {
+            detector.requestBegin();
+        }
+    }
+
+    private static void requestEnd(OverloadDetector detector, long timeInMicros) {
+        if (detector != null) {
+            detector.requestEnd(timeInMicros);
+        }
+    }
 }
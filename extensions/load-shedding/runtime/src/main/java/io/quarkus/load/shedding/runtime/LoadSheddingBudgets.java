@@ -0,0 +1,187 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.All;
+import io.quarkus.load.shedding.LimitAlgorithm;
+import io.quarkus.load.shedding.RequestClassifier;
+
+/**
+ * Holds the overload detectors of route groups and tenants, which have a limit
+ * of concurrent requests separate from the global {@link OverloadDetector}.
+ */
+@Singleton
+public class LoadSheddingBudgets {
+    private static final Logger LOG = Logger.getLogger(LoadSheddingBudgets.class);
+
+    @Inject
+    @All
+    List<RequestClassifier<?>> requestClassifiers;
+
+    private final LoadSheddingRuntimeConfig config;
+    private final Instance<LimitAlgorithm> limitAlgorithm;
+
+    private final Map<String, OverloadDetector> routeGroups;
+
+    private final Map<String, OverloadDetector> exactPaths;
+    // sorted from the longest to the shortest, so that the most specific prefix matches first
+    private final String[] prefixPaths;
+    private final OverloadDetector[] prefixDetectors;
+
+    private final boolean tenantsEnabled;
+    private final int maxTenants;
+    private final ConcurrentMap<String, OverloadDetector> tenants = new ConcurrentHashMap<>();
+    // the number of tenants in the map, including those being added; never exceeds maxTenants
+    private final AtomicInteger tenantCount = new AtomicInteger();
+    private volatile boolean maxTenantsWarned;
+
+    @Inject
+    LoadSheddingBudgets(LoadSheddingRuntimeConfig config, Instance<LimitAlgorithm> limitAlgorithm) {
+        this.config = config;
+        this.limitAlgorithm = limitAlgorithm;
+
+        Map<String, OverloadDetector> routeGroups = new LinkedHashMap<>();
+        Map<String, OverloadDetector> exactPaths = new HashMap<>();
+        Map<String, OverloadDetector> prefixPaths = new HashMap<>();
+        for (Map.Entry<String, LoadSheddingRuntimeConfig.RouteGroup> entry : config.routeGroups().entrySet()) {
+            LoadSheddingRuntimeConfig.RouteGroup routeGroup = entry.getValue();
+            OverloadDetector detector = new OverloadDetector(createLimitAlgorithm(
+                    routeGroup.initialLimit().orElse(config.initialLimit()),
+                    routeGroup.maxLimit().orElse(config.maxLimit())));
+            routeGroups.put(entry.getKey(), detector);
+            for (String path : routeGroup.paths()) {
+                if (path.endsWith("/*")) {
+                    prefixPaths.put(path.substring(0, path.length() - 2), detector);
+                } else {
+                    exactPaths.put(path, detector);
+                }
+            }
+        }
+        this.routeGroups = Collections.unmodifiableMap(routeGroups);
+        this.exactPaths = exactPaths;
+
+        List<String> prefixes = new ArrayList<>(prefixPaths.keySet());
+        prefixes.sort(Comparator.comparingInt(String::length).reversed());
+        this.prefixPaths = new String[prefixes.size()];
+        this.prefixDetectors = new OverloadDetector[prefixes.size()];
+        for (int i = 0; i < prefixes.size(); i++) {
+            this.prefixPaths[i] = prefixes.get(i);
+            this.prefixDetectors[i] = prefixPaths.get(prefixes.get(i));
+        }
+
+        tenantsEnabled = config.tenant().enabled();
+        maxTenants = config.tenant().maxTenants();
+    }
+
+    /**
+     * Returns the overload detectors of all route groups, keyed by the route group name.
+     */
+    public Map<String, OverloadDetector> routeGroups() {
+        return routeGroups;
+    }
+
+    /**
+     * Returns the overload detector of the route group that matches given {@code path},
+     * or {@code null} if no route group matches.
+     */
+    public OverloadDetector routeGroup(String path) {
+        if (path == null) {
+            return null;
+        }
+        if (!exactPaths.isEmpty()) {
+            OverloadDetector detector = exactPaths.get(path);
+            if (detector != null) {
+                return detector;
+            }
+        }
+        for (int i = 0; i < prefixPaths.length; i++) {
+            String prefix = prefixPaths[i];
+            if (path.startsWith(prefix)
+                    && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/' || prefix.endsWith("/"))) {
+                return prefixDetectors[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the overload detector of the tenant to which given {@code request} belongs,
+     * or {@code null} if per-tenant limits are disabled or the request belongs to no tenant.
+     */
+    public OverloadDetector tenant(Object request) {
+        if (!tenantsEnabled) {
+            return null;
+        }
+
+        String tenant = null;
+        for (RequestClassifier requestClassifier : requestClassifiers) {
+            if (requestClassifier.appliesTo(request)) {
+                tenant = requestClassifier.tenant(request);
+                if (tenant != null) {
+                    break;
+                }
+            }
+        }
+        if (tenant == null) {
+            return null;
+        }
+
+        OverloadDetector detector = tenants.get(tenant);
+        if (detector != null) {
+            return detector;
+        }
+        // reserve a slot before adding the tenant, so that concurrent requests of new tenants cannot exceed the maximum
+        int count;
+        do {
+            count = tenantCount.get();
+            if (count >= maxTenants) {
+                if (!maxTenantsWarned) {
+                    maxTenantsWarned = true;
+                    LOG.warnf("Maximum number of tenants with a separate limit reached (%d), requests of new tenants"
+                            + " are only subject to route group and global limits", maxTenants);
+                }
+                return tenants.get(tenant);
+            }
+        } while (!tenantCount.compareAndSet(count, count + 1));
+
+        boolean[] added = new boolean[1];
+        detector = tenants.computeIfAbsent(tenant, ignored -> {
+            added[0] = true;
+            return new OverloadDetector(createLimitAlgorithm(
+                    config.tenant().initialLimit().orElse(config.initialLimit()),
+                    config.tenant().maxLimit().orElse(config.maxLimit())));
+        });
+        if (!added[0]) {
+            // another request of the same tenant added it first
+            tenantCount.decrementAndGet();
+        }
+        return detector;
+    }
+
+    /**
+     * Returns the limit algorithm provided by the application, if any, or else creates the configured built-in
+     * limit algorithm with given initial and maximum limit. A {@code @Dependent} application bean yields
+     * a new instance, so that each route group and tenant has its own limit.
+     */
+    private LimitAlgorithm createLimitAlgorithm(int initialLimit, int maxLimit) {
+        if (limitAlgorithm.isResolvable()) {
+            return limitAlgorithm.get();
+        }
+        return OverloadDetector.createLimitAlgorithm(config, initialLimit, maxLimit);
+    }
+}
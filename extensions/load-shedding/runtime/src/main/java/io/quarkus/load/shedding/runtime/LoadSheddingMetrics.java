@@ -0,0 +1,57 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.Map;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * Registers the load shedding metrics when the application depends on a quarkus-micrometer-registry-* extension.
+ * The rejection rate can be computed from the {@code load.shedding.requests} counter
+ * with the {@code outcome} tag of {@code rejected}. The {@code budget} tag is either {@code global}
+ * or the name of a route group.
+ */
+@Singleton
+public class LoadSheddingMetrics {
+    void init(@Observes StartupEvent ignored, OverloadDetector detector, LoadSheddingBudgets budgets,
+            LoadSheddingRuntimeConfig config) {
+        if (!config.enabled()) {
+            return;
+        }
+
+        register(detector, Tags.of("budget", "global"));
+        // per-tenant detectors are not registered, because the number of tenants is not bounded upfront
+        for (Map.Entry<String, OverloadDetector> entry : budgets.routeGroups().entrySet()) {
+            register(entry.getValue(), Tags.of("budget", entry.getKey()));
+        }
+    }
+
+    private static void register(OverloadDetector detector, Tags tags) {
+        MeterRegistry registry = Metrics.globalRegistry;
+        Gauge.builder("load.shedding.limit", detector, OverloadDetector::currentLimit)
+                .description("The current limit of concurrent requests")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("load.shedding.requests.in.flight", detector, OverloadDetector::currentRequests)
+                .description("The current number of in-flight requests")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("load.shedding.requests", detector, OverloadDetector::acceptedRequests)
+                .description("The number of requests processed by load shedding")
+                .tag("outcome", "accepted")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("load.shedding.requests", detector, OverloadDetector::rejectedRequests)
+                .description("The number of requests processed by load shedding")
+                .tag("outcome", "rejected")
+                .tags(tags)
+                .register(registry);
+    }
+}
@@ -1,10 +1,16 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
 
 @ConfigMapping(prefix = "quarkus.load-shedding")
 @ConfigRoot(phase = ConfigPhase.RUN_TIME)
@@ -22,6 +28,14 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("1000")
     int maxLimit();
 
+    /**
+     * The algorithm used to compute the limit of concurrent requests.
+     * <p>
+     * This is ignored if the application provides a CDI bean implementing {@link io.quarkus.load.shedding.LimitAlgorithm}.
+     */
+    @WithDefault("vegas")
+    Algorithm algorithm();
+
     /**
      * The {@code alpha} factor of the Vegas overload detection algorithm.
      */
@@ -46,11 +60,56 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("100")
     int initialLimit();
 
+    /**
+     * How the Vegas overload detection algorithm updates the limit when a request completes.
+     * <p>
+     * The {@code synchronized} mode takes every completed request into account, but serializes
+     * all threads that complete requests. The {@code lock-free} mode never blocks, but may drop
+     * a sample when multiple threads update the limit at the same time. The {@code lock-free}
+     * mode is recommended on machines with a high number of cores.
+     */
+    @WithDefault("synchronized")
+    UpdateMode updateMode();
+
+    /**
+     * Configuration of the Gradient2 overload detection algorithm.
+     */
+    Gradient2 gradient2();
+
+    /**
+     * Configuration of the AIMD overload detection algorithm.
+     */
+    Aimd aimd();
+
     /**
      * Configuration of priority load shedding.
      */
     PriorityLoadShedding priority();
 
+    /**
+     * Route groups with a separate limit of concurrent requests. A request that matches
+     * a route group is only rejected when the limit of that route group is reached (or
+     * when the global limit is reached, if {@code global-limit} is enabled), so that
+     * a slow route group does not cause requests to other routes to be rejected.
+     */
+    @WithName("route-group")
+    Map<String, RouteGroup> routeGroups();
+
+    /**
+     * Configuration of per-tenant limits.
+     */
+    Tenant tenant();
+
+    /**
+     * Whether the global limit of concurrent requests applies to requests that match a route group
+     * or belong to a tenant, in addition to their own limit. If disabled, the global limit only applies
+     * to requests that match no route group and belong to no tenant, so that route groups and tenants
+     * are isolated from each other. If enabled, the response times of all requests update the global limit,
+     * so a slow route group or tenant may still cause requests of others to be rejected.
+     */
+    @WithDefault("false")
+    boolean globalLimit();
+
     @ConfigGroup
     interface PriorityLoadShedding {
         /**
@@ -59,4 +118,130 @@ interface PriorityLoadShedding {
         @WithDefault("true")
         boolean enabled();
     }
+
+    @ConfigGroup
+    interface RouteGroup {
+        /**
+         * The paths that belong to this route group. If the path ends in {@code /*}, then it is treated
+         * as a path prefix, otherwise it is treated as an exact match.
+         * <p>
+         * Matches are done on a length basis, so the most specific path match takes precedence.
+         */
+        List<String> paths();
+
+        /**
+         * The initial limit of concurrent requests allowed for this route group.
+         * If not set, {@code quarkus.load-shedding.initial-limit} is used.
+         */
+        OptionalInt initialLimit();
+
+        /**
+         * The maximum number of concurrent requests allowed for this route group.
+         * If not set, {@code quarkus.load-shedding.max-limit} is used.
+         */
+        OptionalInt maxLimit();
+    }
+
+    @ConfigGroup
+    interface Tenant {
+        /**
+         * Whether each tenant should have a separate limit of concurrent requests. The tenant of a request
+         * is determined by the {@link io.quarkus.load.shedding.RequestClassifier#tenant(Object)} method.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The initial limit of concurrent requests allowed for each tenant.
+         * If not set, {@code quarkus.load-shedding.initial-limit} is used.
+         */
+        OptionalInt initialLimit();
+
+        /**
+         * The maximum number of concurrent requests allowed for each tenant.
+         * If not set, {@code quarkus.load-shedding.max-limit} is used.
+         */
+        OptionalInt maxLimit();
+
+        /**
+         * The maximum number of tenants that have a separate limit. Requests of tenants
+         * over this number are only subject to the route group and global limits.
+         */
+        @WithDefault("1000")
+        int maxTenants();
+    }
+
+    @ConfigGroup
+    interface Gradient2 {
+        /**
+         * The smoothing factor applied to limit changes, between 0.0 and 1.0.
+         * Lower values make the limit change more slowly.
+         */
+        @WithDefault("0.2")
+        double smoothing();
+
+        /**
+         * How much the current request time may exceed the long-term average request time
+         * before the limit is decreased, as a ratio. For example, {@code 1.5} means the limit
+         * is only decreased when the current request time is at least 50% higher than the long-term average.
+         */
+        @WithDefault("1.5")
+        double rttTolerance();
+
+        /**
+         * The number of samples over which the long-term average request time is computed.
+         */
+        @WithDefault("600")
+        int longWindow();
+
+        /**
+         * The number of requests by which the limit may grow when the request time does not increase.
+         */
+        @WithDefault("4")
+        int queueSize();
+    }
+
+    @ConfigGroup
+    interface Aimd {
+        /**
+         * The ratio by which the limit is multiplied when a request takes longer than the timeout.
+         */
+        @WithDefault("0.9")
+        double backoffRatio();
+
+        /**
+         * The request duration above which a request is considered timed out and the limit is decreased.
+         */
+        @WithDefault("5s")
+        Duration timeout();
+    }
+
+    enum Algorithm {
+        /**
+         * An adaptation of TCP Vegas, based on the difference between the current request time
+         * and the lowest seen request time.
+         */
+        VEGAS,
+        /**
+         * An algorithm based on the gradient between the long-term average request time
+         * and the current request time.
+         */
+        GRADIENT2,
+        /**
+         * Additive increase, multiplicative decrease: the limit grows slowly while requests
+         * complete in time and shrinks quickly when they time out.
+         */
+        AIMD,
+    }
+
+    enum UpdateMode {
+        /**
+         * The limit is updated under a lock.
+         */
+        SYNCHRONIZED,
+        /**
+         * The limit is updated using atomic operations, without locking.
+         */
+        LOCK_FREE,
+    }
 }
@@ -0,0 +1,61 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Updates the Vegas limit without locking. Each piece of state is updated
+ * with a single atomic operation, so threads completing requests never block
+ * each other. When two threads race to change the limit, only one of them
+ * succeeds and the other sample is dropped; the algorithm is driven by a large
+ * number of samples, so losing a few of them under contention does not matter.
+ */
+final class LockFreeVegasLimit extends VegasLimit {
+    private final AtomicLong currentLimit;
+    private final AtomicLong lowestRequestTime = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong probeCount = new AtomicLong();
+
+    private volatile double probeJitter;
+
+    LockFreeVegasLimit(LoadSheddingRuntimeConfig config, int initialLimit, int maxLimit) {
+        super(config, maxLimit);
+        currentLimit = new AtomicLong(initialLimit);
+        probeJitter = newProbeJitter();
+    }
+
+    @Override
+    public long limit() {
+        return currentLimit.get();
+    }
+
+    @Override
+    public void update(long requestTime, int currentRequests) {
+        long currentLimit = this.currentLimit.get();
+
+        long probes = probeCount.incrementAndGet();
+        if (probeFactor * probeJitter * currentLimit <= probes) {
+            // only the thread that resets the counter starts a new probe
+            if (probeCount.compareAndSet(probes, 0)) {
+                probeJitter = newProbeJitter();
+                lowestRequestTime.set(requestTime);
+            }
+            return;
+        }
+
+        long lowest = lowestRequestTime.get();
+        while (requestTime < lowest) {
+            if (lowestRequestTime.compareAndSet(lowest, requestTime)) {
+                return;
+            }
+            lowest = lowestRequestTime.get();
+        }
+
+        if (2L * currentRequests < currentLimit) {
+            return;
+        }
+
+        long newLimit = computeLimit(currentLimit, lowest, requestTime);
+        if (newLimit != currentLimit) {
+            this.currentLimit.compareAndSet(currentLimit, newLimit);
+        }
+    }
+}
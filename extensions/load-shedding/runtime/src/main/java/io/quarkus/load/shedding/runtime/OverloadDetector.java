@@ -1,109 +1,101 @@
 package io.quarkus.load.shedding.runtime;
 
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import io.quarkus.load.shedding.LimitAlgorithm;
+
 /**
- * An overload detector based on TCP Vegas, as implemented by
+ * An overload detector based on a {@linkplain LimitAlgorithm limit algorithm}. By default,
+ * the algorithm is based on TCP Vegas, as implemented by
  * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
  */
 @Singleton
 public class OverloadDetector {
-    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
+    private final AtomicInteger currentRequests = new AtomicInteger();
 
-    static {
-        LOG10_PLUS_1_TABLE[0] = 1;
-        for (int i = 1; i < 1_000; i++) {
-            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
-        }
-    }
+    private final LongAdder acceptedRequests = new LongAdder();
+    private final LongAdder rejectedRequests = new LongAdder();
 
-    private final int maxLimit;
-    private final int alphaFactor;
-    private final int betaFactor;
-    private final double probeFactor;
+    private final LimitAlgorithm limit;
 
-    private final AtomicInteger currentRequests = new AtomicInteger();
-    private volatile long currentLimit;
+    @Inject
+    public OverloadDetector(LoadSheddingRuntimeConfig config, Instance<LimitAlgorithm> limitAlgorithm) {
+        this(limitAlgorithm.isResolvable()
+                ? limitAlgorithm.get()
+                : createLimitAlgorithm(config, config.initialLimit(), config.maxLimit()));
+    }
 
-    private long lowestRequestTime = Long.MAX_VALUE;
-    private double probeCount = 0.0;
-    private double probeJitter;
+    OverloadDetector(LoadSheddingRuntimeConfig config) {
+        this(createLimitAlgorithm(config, config.initialLimit(), config.maxLimit()));
+    }
 
-    @Inject
-    public OverloadDetector(LoadSheddingRuntimeConfig config) {
-        maxLimit = config.maxLimit();
-        alphaFactor = config.alphaFactor();
-        betaFactor = config.betaFactor();
-        probeFactor = config.probeFactor();
-        currentLimit = config.initialLimit();
-        resetProbeJitter();
+    OverloadDetector(LimitAlgorithm limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Creates the configured built-in limit algorithm with given initial and maximum limit.
+     */
+    static LimitAlgorithm createLimitAlgorithm(LoadSheddingRuntimeConfig config, int initialLimit, int maxLimit) {
+        return switch (config.algorithm()) {
+            case VEGAS -> switch (config.updateMode()) {
+                case SYNCHRONIZED -> new SynchronizedVegasLimit(config, initialLimit, maxLimit);
+                case LOCK_FREE -> new LockFreeVegasLimit(config, initialLimit, maxLimit);
+            };
+            case GRADIENT2 -> new Gradient2Limit(config, initialLimit, maxLimit);
+            case AIMD -> new AimdLimit(config, initialLimit, maxLimit);
+        };
     }
 
     public boolean isOverloaded() {
-        return currentRequests.get() >= currentLimit;
+        return currentRequests.get() >= limit.limit();
     }
 
     public void requestBegin() {
         currentRequests.incrementAndGet();
+        acceptedRequests.increment();
     }
 
     public void requestEnd(long timeInMicros) {
         int current = currentRequests.getAndDecrement();
 
-        update(timeInMicros, current);
+        limit.update(timeInMicros, current);
+    }
+
+    public void requestRejected() {
+        rejectedRequests.increment();
+    }
+
+    /**
+     * Returns the current limit of concurrent requests.
+     */
+    public long currentLimit() {
+        return limit.limit();
+    }
+
+    /**
+     * Returns the current number of in-flight requests.
+     */
+    public int currentRequests() {
+        return currentRequests.get();
     }
 
-    private synchronized void update(long requestTime, int currentRequests) {
-        probeCount++;
-        if (probeFactor * probeJitter * currentLimit <= probeCount) {
-            resetProbeJitter();
-            probeCount = 0.0;
-            lowestRequestTime = requestTime;
-            return;
-        }
-
-        if (requestTime < lowestRequestTime) {
-            lowestRequestTime = requestTime;
-            return;
-        }
-
-        long currentLimit = this.currentLimit;
-
-        if (2L * currentRequests < currentLimit) {
-            return;
-        }
-
-        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
-
-        int currentLimitLog10Plus1;
-        if (currentLimit >= 0 && currentLimit < 1_000) {
-            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[(int) currentLimit];
-        } else {
-            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
-        }
-        int alpha = alphaFactor * currentLimitLog10Plus1;
-        int beta = betaFactor * currentLimitLog10Plus1;
-
-        long newLimit;
-        if (queueSize <= currentLimitLog10Plus1) {
-            newLimit = currentLimit + beta;
-        } else if (queueSize < alpha) {
-            newLimit = currentLimit + currentLimitLog10Plus1;
-        } else if (queueSize > beta) {
-            newLimit = currentLimit - currentLimitLog10Plus1;
-        } else {
-            return;
-        }
-
-        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
-        this.currentLimit = newLimit;
+    /**
+     * Returns the total number of requests that were not rejected.
+     */
+    public long acceptedRequests() {
+        return acceptedRequests.sum();
     }
 
-    private void resetProbeJitter() {
-        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+    /**
+     * Returns the total number of rejected requests.
+     */
+    public long rejectedRequests() {
+        return rejectedRequests.sum();
     }
 }
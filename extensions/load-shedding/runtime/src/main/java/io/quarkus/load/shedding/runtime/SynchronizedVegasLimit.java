@@ -0,0 +1,48 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * Updates the Vegas limit under a monitor. Every sample is taken into account,
+ * at the cost of serializing all threads that complete requests.
+ */
+final class SynchronizedVegasLimit extends VegasLimit {
+    private volatile long currentLimit;
+
+    private long lowestRequestTime = Long.MAX_VALUE;
+    private double probeCount = 0.0;
+    private double probeJitter;
+
+    SynchronizedVegasLimit(LoadSheddingRuntimeConfig config, int initialLimit, int maxLimit) {
+        super(config, maxLimit);
+        currentLimit = initialLimit;
+        probeJitter = newProbeJitter();
+    }
+
+    @Override
+    public long limit() {
+        return currentLimit;
+    }
+
+    @Override
+    public synchronized void update(long requestTime, int currentRequests) {
+        probeCount++;
+        if (probeFactor * probeJitter * currentLimit <= probeCount) {
+            probeJitter = newProbeJitter();
+            probeCount = 0.0;
+            lowestRequestTime = requestTime;
+            return;
+        }
+
+        if (requestTime < lowestRequestTime) {
+            lowestRequestTime = requestTime;
+            return;
+        }
+
+        long currentLimit = this.currentLimit;
+
+        if (2L * currentRequests < currentLimit) {
+            return;
+        }
+
+        this.currentLimit = computeLimit(currentLimit, lowestRequestTime, requestTime);
+    }
+}
@@ -0,0 +1,69 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.quarkus.load.shedding.LimitAlgorithm;
+
+/**
+ * The limit computation of the TCP Vegas based overload detection algorithm.
+ * Subclasses decide how the mutable state of the algorithm is shared between
+ * threads that complete requests concurrently.
+ *
+ * @see OverloadDetector
+ */
+abstract class VegasLimit implements LimitAlgorithm {
+    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
+
+    static {
+        LOG10_PLUS_1_TABLE[0] = 1;
+        for (int i = 1; i < 1_000; i++) {
+            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
+        }
+    }
+
+    final int maxLimit;
+    final int alphaFactor;
+    final int betaFactor;
+    final double probeFactor;
+
+    VegasLimit(LoadSheddingRuntimeConfig config, int maxLimit) {
+        this.maxLimit = maxLimit;
+        alphaFactor = config.alphaFactor();
+        betaFactor = config.betaFactor();
+        probeFactor = config.probeFactor();
+    }
+
+    /**
+     * Computes the new limit from the estimated queue size, or returns {@code currentLimit}
+     * if the limit should not change.
+     */
+    final long computeLimit(long currentLimit, long lowestRequestTime, long requestTime) {
+        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
+
+        int currentLimitLog10Plus1;
+        if (currentLimit >= 0 && currentLimit < 1_000) {
+            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[(int) currentLimit];
+        } else {
+            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
+        }
+        int alpha = alphaFactor * currentLimitLog10Plus1;
+        int beta = betaFactor * currentLimitLog10Plus1;
+
+        long newLimit;
+        if (queueSize <= currentLimitLog10Plus1) {
+            newLimit = currentLimit + beta;
+        } else if (queueSize < alpha) {
+            newLimit = currentLimit + currentLimitLog10Plus1;
+        } else if (queueSize > beta) {
+            newLimit = currentLimit - currentLimitLog10Plus1;
+        } else {
+            return currentLimit;
+        }
+
+        return Math.max(1, Math.min(maxLimit, newLimit));
+    }
+
+    static double newProbeJitter() {
+        return ThreadLocalRandom.current().nextDouble(0.5, 1);
+    }
+}
@@ -57,6 +57,7 @@
 import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.quartz.Nonconcurrent;
 import io.quarkus.quartz.runtime.QuarkusQuartzConnectionPoolProvider;
 import io.quarkus.quartz.runtime.QuartzBuildTimeConfig;
@@ -70,10 +71,12 @@
 import io.quarkus.quartz.runtime.jdbc.QuarkusMSSQLDelegate;
 import io.quarkus.quartz.runtime.jdbc.QuarkusPostgreSQLDelegate;
 import io.quarkus.quartz.runtime.jdbc.QuarkusStdJDBCDelegate;
+import io.quarkus.quartz.runtime.jdbc.QuarkusStdRowLockSemaphore;
 import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.scheduler.Scheduled;
 import io.quarkus.scheduler.deployment.ScheduledBusinessMethodItem;
 import io.quarkus.scheduler.deployment.SchedulerImplementationBuildItem;
+import io.quarkus.scheduler.runtime.SchedulerConfig;
 
 public class QuartzProcessor {
 
@@ -118,6 +121,10 @@ NativeImageProxyDefinitionBuildItem connectionProxy(QuartzBuildTimeConfig config
     @BuildStep
     QuartzJDBCDriverDialectBuildItem driver(List<JdbcDataSourceBuildItem> jdbcDataSourceBuildItems,
             QuartzBuildTimeConfig config, Capabilities capabilities, CombinedIndexBuildItem indexBuildItem) {
+        if (config.partitionedTriggerAcquisition() && !config.clustered()) {
+            throw new ConfigurationException("Partitioned trigger acquisition requires cluster mode",
+                    Set.of("quarkus.quartz.partitioned-trigger-acquisition"));
+        }
         if (!config.storeType().isDbStore()) {
             if (config.clustered()) {
                 throw new ConfigurationException("Clustered jobs configured with unsupported job store option");
@@ -263,6 +270,11 @@ List<ReflectiveClassBuildItem> reflectiveClasses(QuartzBuildTimeConfig config,
                     QuarkusQuartzConnectionPoolProvider.class)
                     .reason(getClass().getName())
                     .methods().build());
+            if (config.clustered()) {
+                reflectiveClasses.add(ReflectiveClassBuildItem.builder(QuarkusStdRowLockSemaphore.class)
+                        .reason(getClass().getName())
+                        .methods().build());
+            }
             reflectiveClasses.add(ReflectiveClassBuildItem.builder(Connection.class)
                     .reason(getClass().getName()).methods()
                     .fields().build());
@@ -378,4 +390,13 @@ public void quartzSupportBean(
                         nonconcurrentMethods))
                 .done());
     }
+
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void lockMetrics(QuartzRecorder recorder, QuartzBuildTimeConfig config, SchedulerConfig schedulerConfig,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (config.clustered() && schedulerConfig.metricsEnabled()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerLockMetrics()));
+        }
+    }
 }
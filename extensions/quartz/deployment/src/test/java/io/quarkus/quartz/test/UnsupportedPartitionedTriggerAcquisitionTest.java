@@ -0,0 +1,26 @@
+package io.quarkus.quartz.test;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class UnsupportedPartitionedTriggerAcquisitionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setExpectedException(ConfigurationException.class)
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(SimpleJobs.class)
+                    .addAsResource(new StringAsset(
+                            "quarkus.quartz.store-type=ram\nquarkus.quartz.partitioned-trigger-acquisition=true"),
+                            "application.properties"));
+
+    @Test
+    public void shouldFailWhenPartitionedTriggerAcquisitionIsNotClustered() {
+        Assertions.fail();
+    }
+}
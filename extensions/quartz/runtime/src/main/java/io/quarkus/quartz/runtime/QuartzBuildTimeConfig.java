@@ -97,6 +97,20 @@ public interface QuartzBuildTimeConfig {
      */
     Optional<String> selectWithLockSql();
 
+    /**
+     * Enable the partitioned acquisition of triggers in cluster mode.
+     * <p>
+     * If enabled, the triggers are partitioned across the scheduler instances that checked-in with the cluster, and each
+     * instance only acquires the triggers of its own partition, plus the triggers of other partitions that are overdue by
+     * more than the `cluster-checkin-interval`. The instances no longer compete for the same triggers, therefore a trigger
+     * is acquired without the `TRIGGER_ACCESS` lock, unless more than one trigger is acquired at once, i.e. the
+     * `batch-trigger-acquisition-max-count` is greater than 1.
+     * <p>
+     * Cluster mode must be enabled.
+     */
+    @WithDefault("false")
+    boolean partitionedTriggerAcquisition();
+
     /**
      * Allows users to specify fully qualified class name for a custom JDBC driver delegate.
      * <p>
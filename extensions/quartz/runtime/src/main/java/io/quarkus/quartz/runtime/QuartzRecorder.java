@@ -3,11 +3,15 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.quarkus.quartz.runtime.jdbc.JDBCDataSource;
+import io.quarkus.quartz.runtime.jdbc.JobStoreState;
+import io.quarkus.quartz.runtime.jdbc.QuarkusStdRowLockSemaphore;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class QuartzRecorder {
@@ -32,4 +36,15 @@ public QuartzSupport get() {
         };
     }
 
+    public Consumer<MetricsFactory> registerLockMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                // The state is discarded when the scheduler is shut down
+                JobStoreState.register(runtimeConfig.getValue().instanceName())
+                        .setLockWaitTimes(QuarkusStdRowLockSemaphore.buildLockWaitTimes(metricsFactory));
+            }
+        };
+    }
+
 }
@@ -65,6 +65,8 @@
 import io.quarkus.arc.Subclass;
 import io.quarkus.quartz.Nonconcurrent;
 import io.quarkus.quartz.QuartzScheduler;
+import io.quarkus.quartz.runtime.jdbc.JobStoreState;
+import io.quarkus.quartz.runtime.jdbc.QuarkusStdRowLockSemaphore;
 import io.quarkus.runtime.StartupEvent;
 import io.quarkus.scheduler.DelayedExecution;
 import io.quarkus.scheduler.FailedExecution;
@@ -565,6 +567,8 @@ void destroy() {
                 LOGGER.warnf("Unable to shutdown the scheduler", e);
             }
         }
+        // The state would otherwise survive a dev mode restart
+        JobStoreState.unregister(runtimeConfig.instanceName());
     }
 
     private Properties getSchedulerConfigurationProperties(QuartzSupport quartzSupport) {
@@ -608,14 +612,22 @@ private Properties getSchedulerConfigurationProperties(QuartzSupport quartzSuppo
                     quartzSupport.getDriverDialect().get());
             props.put(StdSchedulerFactory.PROP_DATASOURCE_PREFIX + "." + dataSource + ".connectionProvider.class",
                     QuarkusQuartzConnectionPoolProvider.class.getName());
-            props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".acquireTriggersWithinLock", "true");
+            // Not needed with the partitioned acquisition, Quartz still locks if several triggers are acquired at once
+            props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".acquireTriggersWithinLock",
+                    "" + !buildTimeConfig.partitionedTriggerAcquisition());
+            JobStoreState.register(runtimeConfig.instanceName())
+                    .setPartitionedTriggerAcquisition(buildTimeConfig.partitionedTriggerAcquisition());
             if (buildTimeConfig.clustered()) {
                 props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".isClustered", "true");
                 props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".clusterCheckinInterval",
                         "" + buildTimeConfig.clusterCheckinInterval());
+                // Same as the default lock handler of a clustered store but records the lock wait time
+                props.put(StdSchedulerFactory.PROP_JOB_STORE_LOCK_HANDLER_CLASS, QuarkusStdRowLockSemaphore.class.getName());
                 if (buildTimeConfig.selectWithLockSql().isPresent()) {
                     props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".selectWithLockSQL",
                             buildTimeConfig.selectWithLockSql().get());
+                    props.put(StdSchedulerFactory.PROP_JOB_STORE_LOCK_HANDLER_PREFIX + ".selectWithLockSql",
+                            buildTimeConfig.selectWithLockSql().get());
                 }
             }
 
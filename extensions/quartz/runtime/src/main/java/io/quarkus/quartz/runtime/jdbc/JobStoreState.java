@@ -0,0 +1,69 @@
+package io.quarkus.quartz.runtime.jdbc;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * The state of the JDBC job store of a scheduler that is used by its driver delegate and its lock handler.
+ * <p>
+ * Quartz instantiates the delegate and the lock handler by class name, so the state is looked up by scheduler name, like the
+ * connection providers of the {@link org.quartz.utils.DBConnectionManager}. The members of a cluster that run in the same JVM
+ * share the same name, and therefore the same state.
+ */
+public final class JobStoreState {
+
+    // The state of the schedulers that were not registered, e.g. created outside of Quarkus
+    private static final JobStoreState DEFAULT = new JobStoreState();
+
+    private static final Map<String, JobStoreState> SCHEDULERS = new ConcurrentHashMap<>();
+
+    private volatile boolean partitionedTriggerAcquisition;
+    // Empty unless the scheduler metrics are enabled and a metrics extension is present
+    private volatile Map<String, TimeRecorder> lockWaitTimes = Map.of();
+
+    private JobStoreState() {
+    }
+
+    /**
+     * @param schedulerName the instance name of the scheduler
+     * @return the state of the scheduler, created if it was not registered yet
+     */
+    public static JobStoreState register(String schedulerName) {
+        return SCHEDULERS.computeIfAbsent(schedulerName, name -> new JobStoreState());
+    }
+
+    /**
+     * Discards the state of the scheduler, e.g. when it is shut down.
+     *
+     * @param schedulerName the instance name of the scheduler
+     */
+    public static void unregister(String schedulerName) {
+        SCHEDULERS.remove(schedulerName);
+    }
+
+    static JobStoreState of(String schedulerName) {
+        if (schedulerName == null) {
+            return DEFAULT;
+        }
+        return SCHEDULERS.getOrDefault(schedulerName, DEFAULT);
+    }
+
+    public void setPartitionedTriggerAcquisition(boolean partitionedTriggerAcquisition) {
+        this.partitionedTriggerAcquisition = partitionedTriggerAcquisition;
+    }
+
+    public void setLockWaitTimes(Map<String, TimeRecorder> lockWaitTimes) {
+        this.lockWaitTimes = Map.copyOf(lockWaitTimes);
+    }
+
+    boolean isPartitionedTriggerAcquisition() {
+        return partitionedTriggerAcquisition;
+    }
+
+    TimeRecorder lockWaitTime(String lockName) {
+        return lockWaitTimes.get(lockName);
+    }
+
+}
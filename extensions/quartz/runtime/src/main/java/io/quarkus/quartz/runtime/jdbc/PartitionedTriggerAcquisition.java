@@ -0,0 +1,163 @@
+package io.quarkus.quartz.runtime.jdbc;
+
+import static org.quartz.impl.jdbcjobstore.Constants.COL_NEXT_FIRE_TIME;
+import static org.quartz.impl.jdbcjobstore.Constants.COL_TRIGGER_GROUP;
+import static org.quartz.impl.jdbcjobstore.Constants.COL_TRIGGER_NAME;
+import static org.quartz.impl.jdbcjobstore.Constants.STATE_WAITING;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.quartz.TriggerKey;
+import org.quartz.impl.jdbcjobstore.SchedulerStateRecord;
+import org.quartz.impl.jdbcjobstore.StdJDBCDelegate;
+
+/**
+ * Partitions the triggers across the scheduler instances that checked-in with the cluster.
+ * <p>
+ * A trigger is owned by the instance with the highest rendezvous hash, so that only a fraction of the triggers move when an
+ * instance joins or leaves the cluster. An instance only acquires the triggers it owns, and the triggers of other instances
+ * that are overdue by more than the check-in interval, e.g. if the owner is in standby mode. The members are refreshed at most
+ * once per check-in interval; while the instances disagree on the members, a trigger is still acquired by a single instance
+ * because the state of the trigger is updated only if it did not change.
+ * <p>
+ * Each delegate has its own instance and the triggers are only acquired by the scheduler thread. The partitioned acquisition is
+ * enabled per scheduler, see {@link JobStoreState}.
+ */
+public final class PartitionedTriggerAcquisition {
+
+    // Stop fetching more candidates once this number of rows is reached
+    private static final int MAX_CANDIDATES = 1000;
+    private static final long DEFAULT_CHECKIN_INTERVAL = 15000;
+
+    private String[] members = new String[0];
+    private int[] memberHashes = new int[0];
+    private long checkinInterval = DEFAULT_CHECKIN_INTERVAL;
+    private long refreshAt;
+
+    PartitionedTriggerAcquisition() {
+    }
+
+    /**
+     * Selects the triggers of this instance if the partitioned acquisition is enabled for the scheduler, otherwise delegates
+     * to the default selection.
+     *
+     * @param delegate
+     * @param schedName the name of the scheduler
+     * @param instanceId the identifier of this scheduler instance
+     * @param sql the expanded {@code SELECT_NEXT_TRIGGER_TO_ACQUIRE} statement of the delegate
+     * @param defaultSelection the implementation of the superclass of the delegate
+     * @param conn
+     * @param noLaterThan
+     * @param noEarlierThan
+     * @param maxCount
+     * @return the keys of the triggers to acquire, ordered like the statement
+     * @throws SQLException
+     * @see StdJDBCDelegate#selectTriggerToAcquire(Connection, long, long, int)
+     */
+    List<TriggerKey> selectTriggerToAcquire(StdJDBCDelegate delegate, String schedName, String instanceId, String sql,
+            TriggerSelection defaultSelection, Connection conn, long noLaterThan, long noEarlierThan, int maxCount)
+            throws SQLException {
+        if (!JobStoreState.of(schedName).isPartitionedTriggerAcquisition()) {
+            return defaultSelection.select(conn, noLaterThan, noEarlierThan, maxCount);
+        }
+        long now = System.currentTimeMillis();
+        if (now >= refreshAt) {
+            refresh(delegate, conn, instanceId, now);
+        }
+        if (maxCount < 1) {
+            maxCount = 1;
+        }
+        long overdue = now - checkinInterval;
+        // On average, this instance owns one in members.length triggers
+        int limit = Math.min(MAX_CANDIDATES, maxCount * members.length);
+        List<TriggerKey> triggers = new ArrayList<>(maxCount);
+        while (true) {
+            triggers.clear();
+            int rows = 0;
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                ps.setMaxRows(limit);
+                ps.setFetchSize(limit);
+                ps.setString(1, STATE_WAITING);
+                ps.setBigDecimal(2, new BigDecimal(String.valueOf(noLaterThan)));
+                ps.setBigDecimal(3, new BigDecimal(String.valueOf(noEarlierThan)));
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (triggers.size() < maxCount && rs.next()) {
+                        rows++;
+                        TriggerKey key = TriggerKey.triggerKey(rs.getString(COL_TRIGGER_NAME), rs.getString(COL_TRIGGER_GROUP));
+                        if (isOwner(key, instanceId) || rs.getLong(COL_NEXT_FIRE_TIME) < overdue) {
+                            triggers.add(key);
+                        }
+                    }
+                }
+            }
+            if (triggers.size() == maxCount || rows < limit || limit >= MAX_CANDIDATES) {
+                return triggers;
+            }
+            // All the candidates are owned by other instances but there may be more
+            limit = Math.min(MAX_CANDIDATES, limit * 4);
+        }
+    }
+
+    private boolean isOwner(TriggerKey key, String instanceId) {
+        if (members.length < 2) {
+            return true;
+        }
+        int keyHash = key.hashCode();
+        int owner = 0;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < members.length; i++) {
+            long weight = mix(((long) memberHashes[i] << 32) | (keyHash & 0xFFFFFFFFL));
+            if (weight > max) {
+                max = weight;
+                owner = i;
+            }
+        }
+        return members[owner].equals(instanceId);
+    }
+
+    private void refresh(StdJDBCDelegate delegate, Connection conn, String instanceId, long now) throws SQLException {
+        List<String> instanceIds = new ArrayList<>();
+        instanceIds.add(instanceId);
+        long interval = DEFAULT_CHECKIN_INTERVAL;
+        for (SchedulerStateRecord rec : delegate.selectSchedulerStateRecords(conn, null)) {
+            if (rec.getSchedulerInstanceId().equals(instanceId)) {
+                interval = rec.getCheckinInterval();
+            } else if (rec.getCheckinTimestamp() + 2 * rec.getCheckinInterval() > now) {
+                // Instances that missed two check-ins are considered failed
+                instanceIds.add(rec.getSchedulerInstanceId());
+            }
+        }
+        // Sorted so that all the instances break ties the same way
+        members = instanceIds.stream().distinct().sorted().toArray(String[]::new);
+        memberHashes = new int[members.length];
+        for (int i = 0; i < members.length; i++) {
+            memberHashes[i] = members[i].hashCode();
+        }
+        checkinInterval = interval;
+        refreshAt = now + interval;
+    }
+
+    // The finalization step of SplitMix64
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * The {@link StdJDBCDelegate#selectTriggerToAcquire(Connection, long, long, int)} method of a delegate superclass.
+     */
+    @FunctionalInterface
+    interface TriggerSelection {
+
+        List<TriggerKey> select(Connection conn, long noLaterThan, long noEarlierThan, int maxCount) throws SQLException;
+
+    }
+
+}
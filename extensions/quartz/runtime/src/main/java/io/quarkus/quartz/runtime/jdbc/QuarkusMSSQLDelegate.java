@@ -3,10 +3,17 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectStreamClass;
+import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
+
+import org.quartz.TriggerKey;
 
 public class QuarkusMSSQLDelegate extends org.quartz.impl.jdbcjobstore.MSSQLDelegate {
+
+    private final PartitionedTriggerAcquisition triggerAcquisition = new PartitionedTriggerAcquisition();
+
     /**
      * See the javadoc in {@link QuarkusObjectInputStream#resolveClass(ObjectStreamClass)} and
      * {@link DBDelegateUtils#getObjectFromInput(InputStream)}
@@ -17,4 +24,11 @@ protected Object getObjectFromBlob(ResultSet rs, String colName) throws ClassNot
         InputStream binaryInput = rs.getBinaryStream(colName);
         return DBDelegateUtils.getObjectFromInput(binaryInput);
     }
+
+    @Override
+    public List<TriggerKey> selectTriggerToAcquire(Connection conn, long noLaterThan, long noEarlierThan, int maxCount)
+            throws SQLException {
+        return triggerAcquisition.selectTriggerToAcquire(this, schedName, instanceId, rtp(SELECT_NEXT_TRIGGER_TO_ACQUIRE),
+                super::selectTriggerToAcquire, conn, noLaterThan, noEarlierThan, maxCount);
+    }
 }
@@ -0,0 +1,68 @@
+package io.quarkus.quartz.runtime.jdbc;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.quartz.impl.jdbcjobstore.LockException;
+import org.quartz.impl.jdbcjobstore.StdRowLockSemaphore;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * The default lock handler of a clustered JDBC job store that records the time spent waiting for the row locks, i.e.
+ * {@code TRIGGER_ACCESS} and {@code STATE_ACCESS}. The recorders of a scheduler are registered in its {@link JobStoreState}.
+ */
+public class QuarkusStdRowLockSemaphore extends StdRowLockSemaphore {
+
+    private static final String METRIC_NAME = "quartz.jobstore.lock.wait";
+
+    // The name of the scheduler, set by Quartz before the lock handler is used
+    private volatile String schedName;
+
+    /**
+     * @param metricsFactory
+     * @return the recorders of the lock wait time, keyed by lock name
+     * @see JobStoreState#setLockWaitTimes(Map)
+     */
+    public static Map<String, TimeRecorder> buildLockWaitTimes(MetricsFactory metricsFactory) {
+        return Map.of("TRIGGER_ACCESS", buildTimer(metricsFactory, "TRIGGER_ACCESS"),
+                "STATE_ACCESS", buildTimer(metricsFactory, "STATE_ACCESS"));
+    }
+
+    private static TimeRecorder buildTimer(MetricsFactory metricsFactory, String lockName) {
+        return metricsFactory.builder(METRIC_NAME)
+                .description("Time spent waiting for a lock of the Quartz job store")
+                .tag("lock", lockName)
+                .buildTimer();
+    }
+
+    /**
+     * Quartz sets the properties of a lock handler with the public setters.
+     *
+     * @param sql the SQL string that selects a row in the "LOCKS" table and places a lock on the row
+     */
+    public void setSelectWithLockSql(String sql) {
+        setSQL(sql);
+    }
+
+    @Override
+    public void setSchedName(String schedName) {
+        super.setSchedName(schedName);
+        this.schedName = schedName;
+    }
+
+    @Override
+    public boolean obtainLock(Connection conn, String lockName) throws LockException {
+        TimeRecorder lockWaitTime = JobStoreState.of(schedName).lockWaitTime(lockName);
+        if (lockWaitTime == null) {
+            return super.obtainLock(conn, lockName);
+        }
+        long start = System.nanoTime();
+        boolean obtained = super.obtainLock(conn, lockName);
+        lockWaitTime.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return obtained;
+    }
+
+}
@@ -7,8 +7,11 @@
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -25,7 +28,11 @@
 
 import io.quarkus.cache.redis.runtime.RedisCacheImpl;
 import io.quarkus.cache.redis.runtime.RedisCacheInfo;
+import io.quarkus.cache.redis.runtime.RedisCacheInfoBuilder;
+import io.quarkus.cache.redis.runtime.RedisCachesRuntimeConfig;
 import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.json.Json;
@@ -168,6 +175,169 @@ public void testPutInTheCacheWithOptimisticLocking() {
         assertThat(r).isNotNull();
     }
 
+    @Test
+    public void testGetAll() {
+        String k1 = UUID.randomUUID().toString();
+        String k2 = UUID.randomUUID().toString();
+        String k3 = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        cache.put(k1, "one").await().indefinitely();
+
+        List<Set<String>> loads = new ArrayList<>();
+        Map<String, String> values = cache.getAll(new LinkedHashSet<>(List.of(k1, k2, k3)), (Set<String> keys) -> {
+            loads.add(keys);
+            return Map.of(k2, "two");
+        }).await().indefinitely();
+        assertThat(values).containsExactly(Map.entry(k1, "one"), Map.entry(k2, "two"));
+        assertThat(loads).containsExactly(Set.of(k2, k3));
+        assertThatTheKeyDoesExist("cache:foo:" + k2);
+        assertThatTheKeyDoesNotExist("cache:foo:" + k3);
+
+        values = cache.<String, String> getAll(Set.of(k1, k2), (Set<String> keys) -> {
+            throw new IllegalStateException("All the values should be cached");
+        }).await().indefinitely();
+        assertThat(values).containsOnly(Map.entry(k1, "one"), Map.entry(k2, "two"));
+    }
+
+    @Test
+    public void testNearCache() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near";
+        info.valueType = String.class;
+        info.nearCacheEnabled = true;
+        RedisCacheImpl writer = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        RedisCacheImpl reader = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        awaitNearCacheSubscription(reader);
+
+        // The reader serves the value from its in-memory tier, even if Redis is modified behind its back.
+        setDirectly("cache:near:" + k, "one");
+        assertThat(reader.get(k, s -> "unused").await().indefinitely()).isEqualTo("one");
+        setDirectly("cache:near:" + k, "changed");
+        assertThat(reader.getOrNull(k, String.class).await().indefinitely()).isEqualTo("one");
+
+        // A write or an invalidation from another instance evicts the local entry.
+        writer.put(k, "two").await().indefinitely();
+        await().untilAsserted(() -> assertThat(reader.getOrNull(k, String.class).await().indefinitely()).isEqualTo("two"));
+        writer.invalidate(k).await().indefinitely();
+        await().untilAsserted(() -> assertThat(reader.getOrNull(k, String.class).await().indefinitely()).isNull());
+    }
+
+    @Test
+    public void testNearCacheGetAllAndInvalidateAll() {
+        String k1 = UUID.randomUUID().toString();
+        String k2 = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near";
+        info.valueType = String.class;
+        info.nearCacheEnabled = true;
+        RedisCacheImpl writer = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        RedisCacheImpl reader = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        awaitNearCacheSubscription(reader);
+
+        setDirectly("cache:near:" + k1, "one");
+        setDirectly("cache:near:" + k2, "two");
+        assertThat(reader.getAll(new LinkedHashSet<>(List.of(k1, k2)), (Set<String> keys) -> Map.of())
+                .await().indefinitely()).containsExactly(Map.entry(k1, "one"), Map.entry(k2, "two"));
+        redis.send(Request.cmd(Command.DEL).arg("cache:near:" + k1).arg("cache:near:" + k2)).await().indefinitely();
+        // Both values are served by the in-memory tier.
+        assertThat(reader.getAll(Set.of(k1, k2), (Set<String> keys) -> {
+            throw new IllegalStateException("All the values should be cached locally");
+        }).await().indefinitely()).containsOnly(Map.entry(k1, "one"), Map.entry(k2, "two"));
+
+        writer.invalidateAll().await().indefinitely();
+        await().untilAsserted(() -> assertThat(reader.getOrNull(k1, String.class).await().indefinitely()).isNull());
+        assertThat(reader.getOrNull(k2, String.class).await().indefinitely()).isNull();
+    }
+
+    @Test
+    public void testNearCacheExpirationDefaultsToRedisExpiration() {
+        RedisCachesRuntimeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(RedisCachesRuntimeConfig.class)
+                .withSources(new PropertiesConfigSource(Map.of(
+                        "quarkus.cache.redis.expire-after-write", "PT10S",
+                        "quarkus.cache.redis.short.near-cache.expire-after-write", "PT1S"), "test", 100))
+                .build()
+                .getConfigMapping(RedisCachesRuntimeConfig.class);
+        Map<String, RedisCacheInfo> infos = new HashMap<>();
+        for (RedisCacheInfo info : RedisCacheInfoBuilder.build(Set.of("default", "short"), config, Map.of(), Map.of())) {
+            infos.put(info.name, info);
+        }
+        assertThat(infos.get("default").nearCacheExpireAfterWrite).hasValue(Duration.ofSeconds(10));
+        assertThat(infos.get("short").nearCacheExpireAfterWrite).hasValue(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void testNearCacheClose() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near";
+        info.valueType = String.class;
+        info.nearCacheEnabled = true;
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        awaitNearCacheSubscription(cache);
+
+        cache.close();
+        // The subscription is released and the cache reads from Redis only.
+        await().untilAsserted(() -> assertThat(redis.send(Request.cmd(Command.PUBSUB).arg("NUMSUB")
+                .arg("cache:near:near-cache-invalidations")).await().indefinitely().get(1).toInteger()).isZero());
+        setDirectly("cache:near:" + k, "one");
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isEqualTo("one");
+        setDirectly("cache:near:" + k, "changed");
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isEqualTo("changed");
+    }
+
+    private void awaitNearCacheSubscription(RedisCacheImpl cache) {
+        // The in-memory tier is bypassed until the invalidation channel subscription is established.
+        await().untilAsserted(() -> {
+            String probe = UUID.randomUUID().toString();
+            setDirectly("cache:near:" + probe, "cached");
+            assertThat(cache.getOrNull(probe, String.class).await().indefinitely()).isEqualTo("cached");
+            setDirectly("cache:near:" + probe, "changed");
+            assertThat(cache.getOrNull(probe, String.class).await().indefinitely()).isEqualTo("cached");
+        });
+    }
+
+    private void setDirectly(String key, String value) {
+        redis.send(Request.cmd(Command.SET).arg(key).arg(value)).await().indefinitely();
+    }
+
+    @Test
+    public void testGetAllWithExpirationAndOptimisticLocking() {
+        String k1 = UUID.randomUUID().toString();
+        String k2 = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.expireAfterAccess = Optional.of(Duration.ofSeconds(10));
+        info.useOptimisticLocking = true;
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        cache.put(k1, "one").await().indefinitely();
+
+        Map<String, String> values = cache.getAllAsync(new LinkedHashSet<>(List.of(k1, k2)),
+                (Set<String> keys) -> Uni.createFrom().item(Map.of(k2, "two"))).await().indefinitely();
+        assertThat(values).containsExactly(Map.entry(k1, "one"), Map.entry(k2, "two"));
+        var ttl = redis.send(Request.cmd(Command.TTL).arg("cache:foo:" + k2)).await().indefinitely();
+        assertThat(ttl.toLong()).isPositive();
+    }
+
+    @Test
+    public void testPutAll() {
+        String k1 = UUID.randomUUID().toString();
+        String k2 = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        cache.putAll(Map.of(k1, "one", k2, "two")).await().indefinitely();
+        assertThat(cache.<String, String> getOrNull(k1).await().indefinitely()).isEqualTo("one");
+        assertThat(cache.<String, String> getOrNull(k2).await().indefinitely()).isEqualTo("two");
+    }
+
     @Test
     public void testPutAndWaitForInvalidation() {
         String k = UUID.randomUUID().toString();
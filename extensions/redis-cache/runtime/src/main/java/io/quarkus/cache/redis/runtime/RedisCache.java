@@ -1,11 +1,16 @@
 package io.quarkus.cache.redis.runtime;
 
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import jakarta.enterprise.util.TypeLiteral;
 
 import io.quarkus.cache.Cache;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 public interface RedisCache extends Cache {
@@ -76,6 +81,72 @@ public interface RedisCache extends Cache {
      */
     <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> valueLoader);
 
+    /**
+     * Allows retrieving several values from the Redis cache with a single {@code MGET} command.
+     * <p>
+     * The default implementation gets the keys one by one and invokes the values loader once per missing key.
+     *
+     * @param keys the keys
+     * @param clazz the class of the values
+     * @param valuesLoader the values loader called once with the keys that have no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values.
+     */
+    default <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getEach(keys, key -> get(key, clazz, k -> valuesLoader.apply(Set.of(k)).get(k)));
+    }
+
+    /**
+     * Allows retrieving several values from the Redis cache with a single {@code MGET} command.
+     * <p>
+     * The default implementation gets the keys one by one and invokes the values loader once per missing key.
+     *
+     * @param keys the keys
+     * @param type the type of the values
+     * @param valuesLoader the values loader called once with the keys that have no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values.
+     */
+    default <K, V> Uni<Map<K, V>> getAll(Set<K> keys, TypeLiteral<V> type, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getEach(keys, key -> get(key, type, k -> valuesLoader.apply(Set.of(k)).get(k)));
+    }
+
+    /**
+     * Allows retrieving several values from the Redis cache with a single {@code MGET} command.
+     * <p>
+     * The default implementation gets the keys one by one and invokes the values loader once per missing key.
+     *
+     * @param keys the keys
+     * @param clazz the class of the values
+     * @param valuesLoader the values loader called once with the keys that have no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values.
+     */
+    default <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, Class<V> clazz, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        return getEach(keys,
+                key -> getAsync(key, clazz, k -> valuesLoader.apply(Set.of(k)).map(values -> values.get(k))));
+    }
+
+    /**
+     * Allows retrieving several values from the Redis cache with a single {@code MGET} command.
+     * <p>
+     * The default implementation gets the keys one by one and invokes the values loader once per missing key.
+     *
+     * @param keys the keys
+     * @param type the type of the values
+     * @param valuesLoader the values loader called once with the keys that have no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values.
+     */
+    default <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, TypeLiteral<V> type, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        return getEach(keys,
+                key -> getAsync(key, type, k -> valuesLoader.apply(Set.of(k)).map(values -> values.get(k))));
+    }
+
     /**
      * Put a value in the cache.
      *
@@ -170,4 +241,15 @@ public interface RedisCache extends Cache {
      * @return a Uni emitting the value cached under {@code key}, or {@code null} if there is no cached value
      */
     <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type);
+
+    private <K, V> Uni<Map<K, V>> getEach(Set<K> keys, Function<K, Uni<V>> get) {
+        return Multi.createFrom().iterable(keys)
+                .onItem().transformToUniAndConcatenate(key -> get.apply(key)
+                        .map(value -> new AbstractMap.SimpleImmutableEntry<>(key, value)))
+                .collect().in(LinkedHashMap::new, (values, entry) -> {
+                    if (entry.getValue() != null) {
+                        values.put(entry.getKey(), entry.getValue());
+                    }
+                });
+    }
 }
@@ -10,7 +10,9 @@
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.CacheManagerInfo;
 import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.cache.runtime.caffeine.metrics.MicrometerMetricsInitializer;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -30,7 +32,7 @@ public RedisCacheBuildRecorder(RedisCachesBuildTimeConfig buildConfig,
         this.redisCacheConfigRV = redisCacheConfigRV;
     }
 
-    public CacheManagerInfo getCacheManagerSupplier() {
+    public CacheManagerInfo getCacheManagerSupplier(ShutdownContext shutdownContext) {
         return new CacheManagerInfo() {
             @Override
             public boolean supports(Context context) {
@@ -52,12 +54,29 @@ public CacheManager get() {
                             for (RedisCacheInfo cacheInfo : cacheInfos) {
                                 if (LOGGER.isDebugEnabled()) {
                                     LOGGER.debugf(
-                                            "Building Redis cache [%s] with [ttl=%s], [prefix=%s], [classOfItems=%s]",
+                                            "Building Redis cache [%s] with [ttl=%s], [prefix=%s], [classOfItems=%s], [nearCache=%s]",
                                             cacheInfo.name, cacheInfo.expireAfterAccess, cacheInfo.prefix,
-                                            cacheInfo.valueType);
+                                            cacheInfo.valueType, cacheInfo.nearCacheEnabled);
                                 }
 
                                 RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName());
+                                if (cacheInfo.nearCacheEnabled && cacheInfo.nearCacheMetricsEnabled) {
+                                    if (context.metrics() == Context.Metrics.MICROMETER) {
+                                        cache.nearCache().recordMetrics(new MicrometerMetricsInitializer());
+                                    } else {
+                                        LOGGER.warnf(
+                                                "Near cache metrics won't be recorded for cache '%s' because the application does not depend on a Micrometer extension",
+                                                cacheInfo.name);
+                                    }
+                                }
+                                if (cacheInfo.nearCacheEnabled) {
+                                    shutdownContext.addShutdownTask(new Runnable() {
+                                        @Override
+                                        public void run() {
+                                            cache.close();
+                                        }
+                                    });
+                                }
                                 caches.put(cacheInfo.name, cache);
                             }
                             return new CacheManagerImpl(caches);
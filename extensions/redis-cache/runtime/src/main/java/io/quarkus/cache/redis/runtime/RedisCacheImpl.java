@@ -4,7 +4,12 @@
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -15,6 +20,7 @@
 
 import jakarta.enterprise.util.TypeLiteral;
 
+import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
@@ -23,6 +29,7 @@
 import io.quarkus.cache.CompositeCacheKey;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.redis.client.RedisClientName;
+import io.quarkus.redis.runtime.client.config.RedisConfig;
 import io.quarkus.redis.runtime.datasource.Marshaller;
 import io.quarkus.runtime.BlockingOperationControl;
 import io.smallrye.mutiny.Uni;
@@ -37,6 +44,7 @@
 import io.vertx.mutiny.redis.client.RedisConnection;
 import io.vertx.mutiny.redis.client.Request;
 import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.RedisClientType;
 
 /**
  * This class is an internal Quarkus cache implementation using Redis.
@@ -57,10 +65,15 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    private final RedisNearCache nearCache;
+
+    // multi-key commands only work when all the keys hash to the same slot of a Redis Cluster
+    private final boolean cluster;
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
-                BlockingOperationControl::isBlockingAllowed);
+                BlockingOperationControl::isBlockingAllowed, isClusterClient(redisClientName));
     }
 
     private static Redis determineRedisClient(Optional<String> redisClientName) {
@@ -72,8 +85,20 @@ private static Redis determineRedisClient(Optional<String> redisClientName) {
         }
     }
 
+    private static boolean isClusterClient(Optional<String> redisClientName) {
+        String property = RedisConfig.getPropertyName(redisClientName.orElse(RedisConfig.DEFAULT_CLIENT_NAME), "client-type");
+        return ConfigProvider.getConfig().getOptionalValue(property, RedisClientType.class)
+                .orElse(RedisClientType.STANDALONE) == RedisClientType.CLUSTER;
+    }
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier) {
+        this(cacheInfo, vertx, redis, blockingAllowedSupplier, false);
+    }
+
+    public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier,
+            boolean cluster) {
         this.vertx = vertx;
+        this.cluster = cluster;
         this.cacheInfo = cacheInfo;
         this.blockingAllowedSupplier = blockingAllowedSupplier;
 
@@ -88,6 +113,11 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
         }
         this.marshaller.add(CompositeCacheKey.class);
         this.redis = redis;
+        if (cacheInfo.nearCacheEnabled) {
+            this.nearCache = new RedisNearCache(cacheInfo, getKeyPrefix() + ":near-cache-invalidations", vertx, redis);
+        } else {
+            this.nearCache = null;
+        }
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -114,6 +144,20 @@ private <K> String encodeKey(K key) {
         return new String(marshaller.encode(key), StandardCharsets.UTF_8);
     }
 
+    private <K, V> Uni<Map<K, V>> computeValues(Set<K> keys, Function<Set<K>, Map<K, V>> valuesLoader,
+            boolean isWorkerThread) {
+        if (isWorkerThread) {
+            return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+                @Override
+                public Map<K, V> get() {
+                    return valuesLoader.apply(keys);
+                }
+            }).runSubscriptionOn(MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
+        } else {
+            return Uni.createFrom().item(valuesLoader.apply(keys));
+        }
+    }
+
     private <K, V> Uni<V> computeValue(K key, Function<K, V> valueLoader, boolean isWorkerThread) {
         if (isWorkerThread) {
             return Uni.createFrom().item(new Supplier<V>() {
@@ -144,6 +188,16 @@ public <K, V> Uni<V> get(K key, TypeLiteral<V> type, Function<K, V> valueLoader)
     }
 
     private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
+        String actualKey = computeActualKey(encodeKey(key));
+        return withNearCache(actualKey, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return getFromRedis(key, actualKey, type, valueLoader);
+            }
+        });
+    }
+
+    private <K, V> Uni<V> getFromRedis(K key, String actualKey, Type type, Function<K, V> valueLoader) {
         // With optimistic locking:
         // WATCH K
         // val = deserialize(GET K)
@@ -158,7 +212,7 @@ private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
         // val = deserialize(GET K)
         // if (val == null) => SET K computation.apply(K)
         // else => return val
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        byte[] encodedKey = marshaller.encode(actualKey);
         boolean isWorkerThread = blockingAllowedSupplier.get();
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
@@ -175,6 +229,7 @@ public Uni<V> apply(RedisConnection connection) {
                         .chain(Unchecked.function(new UncheckedFunction<>() {
                             @Override
                             public Uni<V> apply(V cached) throws Exception {
+                                recordRemoteGets(cached != null, 1);
                                 if (cached != null) {
                                     // Unwatch if optimistic locking
                                     if (cacheInfo.useOptimisticLocking) {
@@ -238,7 +293,17 @@ public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> va
     }
 
     private <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        return withNearCache(actualKey, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return getAsyncFromRedis(key, actualKey, type, valueLoader);
+            }
+        });
+    }
+
+    private <K, V> Uni<V> getAsyncFromRedis(K key, String actualKey, Type type, Function<K, Uni<V>> valueLoader) {
+        byte[] encodedKey = marshaller.encode(actualKey);
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
@@ -252,6 +317,7 @@ public Uni<V> apply(RedisConnection connection) {
 
                 return startingPoint
                         .chain(cached -> {
+                            recordRemoteGets(cached != null, 1);
                             if (cached != null) {
                                 // Unwatch if optimistic locking
                                 if (cacheInfo.useOptimisticLocking) {
@@ -282,6 +348,223 @@ public Uni<V> apply(RedisConnection connection) {
                 });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        enforceDefaultType("getAll");
+        return getAll(keys, classOfValue, valuesLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getAll(keys, (Type) clazz, valuesLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, TypeLiteral<V> type, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getAll(keys, type.getType(), valuesLoader);
+    }
+
+    private <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Type type, Function<Set<K>, Map<K, V>> valuesLoader) {
+        boolean isWorkerThread = blockingAllowedSupplier.get();
+        return getAllWithLoader(keys, type, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return computeValues(missingKeys, valuesLoader, isWorkerThread);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        enforceDefaultType("getAllAsync");
+        return getAllWithLoader(keys, classOfValue, valuesLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, Class<V> clazz,
+            Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        return getAllWithLoader(keys, clazz, valuesLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        return getAllWithLoader(keys, type.getType(), valuesLoader);
+    }
+
+    private <K, V> Uni<Map<K, V>> getAllWithLoader(Set<K> keys, Type type,
+            Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        if (nearCache == null) {
+            return getAllFromRedis(keys, type, valuesLoader);
+        }
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> get() {
+                List<K> orderedKeys = new ArrayList<>(keys);
+                Map<K, V> found = new LinkedHashMap<>();
+                Map<K, String> remoteKeys = new LinkedHashMap<>();
+                for (K key : orderedKeys) {
+                    Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+                    String actualKey = computeActualKey(encodeKey(key));
+                    V value = nearCache.getIfPresent(actualKey);
+                    if (value != null) {
+                        found.put(key, value);
+                    } else {
+                        remoteKeys.put(key, actualKey);
+                    }
+                }
+                if (remoteKeys.isEmpty()) {
+                    return Uni.createFrom().item(found);
+                }
+                long version = nearCache.version();
+                return RedisCacheImpl.this.<K, V> getAllFromRedis(remoteKeys.keySet(), type, valuesLoader)
+                        .map(new Function<Map<K, V>, Map<K, V>>() {
+                            @Override
+                            public Map<K, V> apply(Map<K, V> loaded) {
+                                for (Map.Entry<K, V> entry : loaded.entrySet()) {
+                                    nearCache.put(remoteKeys.get(entry.getKey()), entry.getValue(), version);
+                                }
+                                return merge(orderedKeys, found, loaded);
+                            }
+                        });
+            }
+        });
+    }
+
+    private <K, V> Uni<Map<K, V>> getAllFromRedis(Set<K> keys, Type type,
+            Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        // With optimistic locking:
+        // WATCH K1 K2 ...
+        // vals = deserialize(MGET K1 K2 ...)
+        // if some vals are null
+        //   MULTI
+        //      SET Ki computation.apply({Ki})[Ki] ... (pipelined)
+        //   EXEC
+        // else
+        //   UNWATCH
+        // Without:
+        // vals = deserialize(MGET K1 K2 ...)
+        // SET Ki computation.apply({Ki})[Ki] ... (pipelined)
+        // With a Redis Cluster, the keys are read and written one by one and are not watched.
+        if (keys.isEmpty()) {
+            return Uni.createFrom().item(new LinkedHashMap<>());
+        }
+        List<K> orderedKeys = new ArrayList<>(keys);
+        List<byte[]> encodedKeys = new ArrayList<>(orderedKeys.size());
+        for (K key : orderedKeys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+            encodedKeys.add(marshaller.encode(computeActualKey(encodeKey(key))));
+        }
+        return withConnection(new Function<RedisConnection, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(RedisConnection connection) {
+                boolean optimisticLocking = cacheInfo.useOptimisticLocking && !cluster;
+                Uni<List<V>> startingPoint;
+                if (optimisticLocking) {
+                    startingPoint = watch(connection, encodedKeys)
+                            .chain(() -> doGetAll(connection, encodedKeys, type));
+                } else {
+                    startingPoint = doGetAll(connection, encodedKeys, type);
+                }
+                return startingPoint.chain(new Function<List<V>, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<Map<K, V>> apply(List<V> cached) {
+                        Map<K, V> found = new LinkedHashMap<>();
+                        Set<K> missingKeys = new LinkedHashSet<>();
+                        for (int i = 0; i < orderedKeys.size(); i++) {
+                            V value = cached.get(i);
+                            if (value != null) {
+                                found.put(orderedKeys.get(i), value);
+                            } else {
+                                missingKeys.add(orderedKeys.get(i));
+                            }
+                        }
+                        recordRemoteGets(true, found.size());
+                        recordRemoteGets(false, missingKeys.size());
+                        if (missingKeys.isEmpty()) {
+                            // Unwatch if optimistic locking
+                            if (optimisticLocking) {
+                                return connection.send(Request.cmd(Command.UNWATCH)).replaceWith(found);
+                            }
+                            return Uni.createFrom().item(new StaticSupplier<>(found));
+                        }
+                        return valuesLoader.apply(missingKeys)
+                                .chain(new Function<Map<K, V>, Uni<? extends Map<K, V>>>() {
+                                    @Override
+                                    public Uni<Map<K, V>> apply(Map<K, V> loaded) {
+                                        Map<byte[], byte[]> encodedValues = encodeValues(loaded);
+                                        Uni<Void> result;
+                                        if (optimisticLocking) {
+                                            result = multi(connection, setAll(connection, encodedValues));
+                                        } else {
+                                            result = setAll(connection, encodedValues);
+                                        }
+                                        return result.replaceWith(new Supplier<Map<K, V>>() {
+                                            @Override
+                                            public Map<K, V> get() {
+                                                return merge(orderedKeys, found, loaded);
+                                            }
+                                        });
+                                    }
+                                });
+                    }
+                });
+            }
+        })
+                .onFailure(RedisCacheImpl::isRecomputableError)
+                .recoverWithUni(new Function<Throwable, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<? extends Map<K, V>> apply(Throwable e) {
+                        log.warn("Unable to connect to Redis, recomputing cached values", e);
+                        return valuesLoader.apply(keys);
+                    }
+                });
+    }
+
+    private <K, V> Map<byte[], byte[]> encodeValues(Map<K, V> values) {
+        Map<byte[], byte[]> result = new LinkedHashMap<>();
+        for (Map.Entry<K, V> entry : values.entrySet()) {
+            if (entry.getValue() == null) {
+                throw new IllegalArgumentException("Cannot cache `null` value");
+            }
+            result.put(marshaller.encode(computeActualKey(encodeKey(entry.getKey()))), marshaller.encode(entry.getValue()));
+        }
+        return result;
+    }
+
+    private static <K, V> Map<K, V> merge(List<K> orderedKeys, Map<K, V> found, Map<K, V> loaded) {
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : orderedKeys) {
+            V value = found.get(key);
+            if (value == null) {
+                value = loaded.get(key);
+            }
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public <K, V> Uni<Void> putAll(Map<K, V> entries) {
+        if (entries.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        Map<byte[], byte[]> encodedValues = encodeValues(entries);
+        return withConnection(new Function<RedisConnection, Uni<Void>>() {
+            @Override
+            public Uni<Void> apply(RedisConnection connection) {
+                return setAll(connection, encodedValues);
+            }
+        }).call(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                return invalidateNearCache(entries.keySet());
+            }
+        });
+    }
+
     @Override
     public <K, V> Uni<Void> put(K key, V value) {
         return put(key, new StaticSupplier<>(value));
@@ -296,6 +579,11 @@ public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
             public Uni<Void> apply(RedisConnection connection) {
                 return set(connection, encodedKey, encodedValue);
             }
+        }).call(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                return invalidateNearCache(Set.of(key));
+            }
         });
     }
 
@@ -325,13 +613,7 @@ public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
     }
 
     private <K, V> Uni<V> getOrDefault(K key, Type type, V defaultValue) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
-            @Override
-            public Uni<V> apply(RedisConnection redisConnection) {
-                return doGet(redisConnection, encodedKey, type, marshaller);
-            }
-        }).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
+        return this.<K, V> getOrNull(key, type).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
     }
 
     @Override
@@ -351,11 +633,23 @@ public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
     }
 
     private <K, V> Uni<V> getOrNull(K key, Type type) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        return withNearCache(actualKey, new Supplier<Uni<V>>() {
             @Override
-            public Uni<V> apply(RedisConnection redisConnection) {
-                return doGet(redisConnection, encodedKey, type, marshaller);
+            public Uni<V> get() {
+                return withConnection(new Function<RedisConnection, Uni<V>>() {
+                    @Override
+                    public Uni<V> apply(RedisConnection redisConnection) {
+                        return RedisCacheImpl.this.<V> doGet(redisConnection, encodedKey, type, marshaller)
+                                .invoke(new Consumer<V>() {
+                                    @Override
+                                    public void accept(V value) {
+                                        recordRemoteGets(value != null, 1);
+                                    }
+                                });
+                    }
+                });
             }
         });
     }
@@ -364,6 +658,12 @@ public Uni<V> apply(RedisConnection redisConnection) {
     public Uni<Void> invalidate(Object key) {
         byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
         return redis.send(Request.cmd(Command.DEL).arg(encodedKey))
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        return invalidateNearCache(Set.of(key));
+                    }
+                })
                 .replaceWithVoid();
     }
 
@@ -383,20 +683,40 @@ public void accept(UniEmitter<? super Set<String>> uniEmitter) {
             @Override
             public Uni<?> apply(Set<String> setOfKeys) {
                 var req = Request.cmd(Command.DEL);
-                boolean hasAtLeastOneMatch = false;
+                List<String> matchingKeys = new ArrayList<>();
                 for (String key : setOfKeys) {
                     Object userKey = computeUserKey(key);
                     if (predicate.test(userKey)) {
-                        hasAtLeastOneMatch = true;
+                        matchingKeys.add(key);
                         req.arg(marshaller.encode(key));
                     }
                 }
-                if (hasAtLeastOneMatch) {
+                Uni<?> deletion;
+                if (!matchingKeys.isEmpty()) {
                     // We cannot send the command without parameters, it would not be a valid command.
-                    return redis.send(req);
+                    deletion = redis.send(req);
                 } else {
-                    return Uni.createFrom().voidItem();
+                    deletion = Uni.createFrom().voidItem();
+                }
+                if (nearCache == null) {
+                    return deletion;
                 }
+                return deletion.call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        if (predicate == AlwaysTruePredicate.INSTANCE) {
+                            return nearCache.invalidateAll();
+                        }
+                        // Entries may still be present locally after they expired in Redis.
+                        nearCache.invalidateLocallyIf(new Predicate<String>() {
+                            @Override
+                            public boolean test(String actualKey) {
+                                return predicate.test(computeUserKey(actualKey));
+                            }
+                        });
+                        return nearCache.invalidate(matchingKeys);
+                    }
+                });
             }
         })
                 .replaceWithVoid();
@@ -431,6 +751,66 @@ public void accept(Throwable throwable) {
                 });
     }
 
+    /*
+     * Serves the value from the in-memory tier if a near cache is configured and stores the value read from Redis otherwise.
+     */
+    private <V> Uni<V> withNearCache(String actualKey, Supplier<Uni<V>> fromRedis) {
+        if (nearCache == null) {
+            return fromRedis.get();
+        }
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<V> get() {
+                V cached = nearCache.getIfPresent(actualKey);
+                if (cached != null) {
+                    return Uni.createFrom().item(cached);
+                }
+                long version = nearCache.version();
+                return fromRedis.get().invoke(new Consumer<V>() {
+                    @Override
+                    public void accept(V value) {
+                        nearCache.put(actualKey, value, version);
+                    }
+                });
+            }
+        });
+    }
+
+    private <K> Uni<Void> invalidateNearCache(Set<K> keys) {
+        if (nearCache == null) {
+            return Uni.createFrom().voidItem();
+        }
+        List<String> actualKeys = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            actualKeys.add(computeActualKey(encodeKey(key)));
+        }
+        return nearCache.invalidate(actualKeys);
+    }
+
+    private void recordRemoteGets(boolean hit, int count) {
+        if (nearCache != null && count > 0) {
+            if (hit) {
+                nearCache.recordRemoteHits(count);
+            } else {
+                nearCache.recordRemoteMisses(count);
+            }
+        }
+    }
+
+    // visible only for the cache manager builder
+    RedisNearCache nearCache() {
+        return nearCache;
+    }
+
+    /**
+     * Closes the pub/sub connection of the near cache, if any. The cache keeps working without its in-memory tier.
+     */
+    public void close() {
+        if (nearCache != null) {
+            nearCache.close();
+        }
+    }
+
     // visible only for tests
     public String computeActualKey(String key) {
         return getKeyPrefix() + ":" + key;
@@ -479,6 +859,60 @@ private Uni<Void> watch(RedisConnection connection, byte[] keyToWatch) {
                 .replaceWithVoid();
     }
 
+    private Uni<Void> watch(RedisConnection connection, List<byte[]> keysToWatch) {
+        Request request = Request.cmd(Command.WATCH);
+        for (byte[] key : keysToWatch) {
+            request.arg(key);
+        }
+        return connection.send(request)
+                .replaceWithVoid();
+    }
+
+    private <X> Uni<List<X>> doGetAll(RedisConnection connection, List<byte[]> encodedKeys, Type clazz) {
+        if (cluster) {
+            List<Uni<X>> gets = new ArrayList<>(encodedKeys.size());
+            for (byte[] encodedKey : encodedKeys) {
+                gets.add(doGet(connection, encodedKey, clazz, marshaller));
+            }
+            return Uni.join().all(gets).andFailFast();
+        }
+        if (cacheInfo.expireAfterAccess.isPresent()) {
+            // There is no multi-key variant of GETEX, the commands are pipelined instead.
+            long seconds = cacheInfo.expireAfterAccess.get().toSeconds();
+            List<Request> requests = new ArrayList<>(encodedKeys.size());
+            for (byte[] encodedKey : encodedKeys) {
+                requests.add(Request.cmd(Command.GETEX).arg(encodedKey).arg("EX").arg(seconds));
+            }
+            return connection.batch(requests)
+                    .map(new Function<List<Response>, List<X>>() {
+                        @Override
+                        public List<X> apply(List<Response> responses) {
+                            List<X> result = new ArrayList<>(responses.size());
+                            for (Response response : responses) {
+                                result.add(marshaller.decode(clazz, response));
+                            }
+                            return result;
+                        }
+                    });
+        } else {
+            Request request = Request.cmd(Command.MGET);
+            for (byte[] encodedKey : encodedKeys) {
+                request.arg(encodedKey);
+            }
+            return connection.send(request)
+                    .map(new Function<Response, List<X>>() {
+                        @Override
+                        public List<X> apply(Response response) {
+                            List<X> result = new ArrayList<>(encodedKeys.size());
+                            for (int i = 0; i < encodedKeys.size(); i++) {
+                                result.add(marshaller.decode(clazz, response.get(i)));
+                            }
+                            return result;
+                        }
+                    });
+        }
+    }
+
     private <X> Uni<X> doGet(RedisConnection connection, byte[] encoded, Type clazz,
             Marshaller marshaller) {
         if (cacheInfo.expireAfterAccess.isPresent()) {
@@ -509,6 +943,33 @@ private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
         return connection.send(request).replaceWithVoid();
     }
 
+    private Uni<Void> setAll(RedisConnection connection, Map<byte[], byte[]> values) {
+        if (values.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        if (cluster) {
+            List<Uni<Void>> sets = new ArrayList<>(values.size());
+            for (Map.Entry<byte[], byte[]> entry : values.entrySet()) {
+                sets.add(set(connection, entry.getKey(), entry.getValue()));
+            }
+            return Uni.join().all(sets).andFailFast().replaceWithVoid();
+        }
+        if (cacheInfo.expireAfterWrite.isEmpty()) {
+            Request request = Request.cmd(Command.MSET);
+            for (Map.Entry<byte[], byte[]> entry : values.entrySet()) {
+                request.arg(entry.getKey()).arg(entry.getValue());
+            }
+            return connection.send(request).replaceWithVoid();
+        }
+        // MSET does not support expiration, the SET commands are pipelined instead.
+        long seconds = cacheInfo.expireAfterWrite.get().toSeconds();
+        List<Request> requests = new ArrayList<>(values.size());
+        for (Map.Entry<byte[], byte[]> entry : values.entrySet()) {
+            requests.add(Request.cmd(Command.SET).arg(entry.getKey()).arg(entry.getValue()).arg("EX").arg(seconds));
+        }
+        return connection.batch(requests).replaceWithVoid();
+    }
+
     private Uni<Void> multi(RedisConnection connection, Uni<Void> operation) {
         return connection.send(Request.cmd(Command.MULTI))
                 .chain(() -> operation)
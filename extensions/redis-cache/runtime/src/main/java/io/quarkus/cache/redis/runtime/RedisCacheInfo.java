@@ -51,4 +51,24 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * Whether a bounded in-memory tier is kept in front of Redis.
+     */
+    public boolean nearCacheEnabled = false;
+
+    /**
+     * The maximum number of entries of the in-memory tier.
+     */
+    public long nearCacheMaximumSize = 10_000L;
+
+    /**
+     * The time to live of the entries of the in-memory tier.
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
+
+    /**
+     * Whether the hit and miss counts of both tiers are recorded with Micrometer.
+     */
+    public boolean nearCacheMetricsEnabled = false;
 }
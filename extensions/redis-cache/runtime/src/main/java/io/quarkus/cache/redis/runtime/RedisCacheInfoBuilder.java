@@ -67,6 +67,37 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.invalidationScanSize = defaultRuntimeConfig.invalidationScanSize();
                 }
 
+                RedisNearCacheRuntimeConfig defaultNearCacheConfig = defaultRuntimeConfig.nearCache();
+                RedisNearCacheRuntimeConfig namedNearCacheConfig = namedRuntimeConfig != null ? namedRuntimeConfig.nearCache()
+                        : null;
+
+                if (namedNearCacheConfig != null && namedNearCacheConfig.enabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = namedNearCacheConfig.enabled().get();
+                } else if (defaultNearCacheConfig.enabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = defaultNearCacheConfig.enabled().get();
+                }
+
+                if (namedNearCacheConfig != null && namedNearCacheConfig.maximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedNearCacheConfig.maximumSize().getAsLong();
+                } else if (defaultNearCacheConfig.maximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultNearCacheConfig.maximumSize().getAsLong();
+                }
+
+                if (namedNearCacheConfig != null && namedNearCacheConfig.expireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedNearCacheConfig.expireAfterWrite();
+                } else if (defaultNearCacheConfig.expireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultNearCacheConfig.expireAfterWrite();
+                } else {
+                    // local entries must not outlive the Redis entries
+                    cacheInfo.nearCacheExpireAfterWrite = cacheInfo.expireAfterWrite;
+                }
+
+                if (namedNearCacheConfig != null && namedNearCacheConfig.metricsEnabled().isPresent()) {
+                    cacheInfo.nearCacheMetricsEnabled = namedNearCacheConfig.metricsEnabled().get();
+                } else if (defaultNearCacheConfig.metricsEnabled().isPresent()) {
+                    cacheInfo.nearCacheMetricsEnabled = defaultNearCacheConfig.metricsEnabled().get();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
@@ -49,4 +49,9 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * The near cache, an in-memory tier kept in front of Redis.
+     */
+    RedisNearCacheRuntimeConfig nearCache();
 }
@@ -0,0 +1,274 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * The in-memory tier of a Redis cache configured with a near cache.
+ * <p>
+ * Entries are keyed by their actual Redis key. Every instance of the application subscribes to a pub/sub channel dedicated
+ * to the cache and evicts its local entries when another instance publishes an invalidation. The local tier is bypassed
+ * while the subscription is not established, and it is cleared whenever the subscription is lost since invalidations may
+ * have been missed in the meantime.
+ */
+class RedisNearCache {
+
+    private static final Logger log = Logger.getLogger(RedisNearCache.class);
+
+    private static final char INVALIDATE_KEY = 'K';
+    private static final char INVALIDATE_ALL = 'A';
+    private static final int ORIGIN_LENGTH = 36;
+    private static final long RESUBSCRIBE_DELAY_MS = 1000L;
+
+    private final String cacheName;
+    private final String channel;
+    // Used to ignore the invalidations published by this instance, which are applied locally before being published.
+    private final String origin = UUID.randomUUID().toString();
+    private final Vertx vertx;
+    private final Redis redis;
+    private final AsyncCache<Object, Object> cache;
+
+    /*
+     * Incremented on each invalidation. A value loaded from Redis is only stored locally if no invalidation happened while
+     * it was being loaded, otherwise the local tier could keep a value that was invalidated in the meantime.
+     */
+    private final AtomicLong version = new AtomicLong();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+
+    private volatile boolean subscribed;
+    private volatile boolean closed;
+    private volatile RedisConnection connection;
+    private volatile long resubscribeTimerId = -1;
+
+    RedisNearCache(RedisCacheInfo cacheInfo, String channel, Vertx vertx, Redis redis) {
+        this.cacheName = cacheInfo.name;
+        this.channel = channel;
+        this.vertx = vertx;
+        this.redis = redis;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(cacheInfo.nearCacheMaximumSize);
+        if (cacheInfo.nearCacheExpireAfterWrite.isPresent()) {
+            builder.expireAfterWrite(cacheInfo.nearCacheExpireAfterWrite.get());
+        }
+        if (cacheInfo.nearCacheMetricsEnabled) {
+            builder.recordStats();
+        }
+        this.cache = builder.buildAsync();
+        subscribe();
+    }
+
+    void recordMetrics(MetricsInitializer metricsInitializer) {
+        metricsInitializer.recordMetrics(cache, cacheName);
+        metricsInitializer.recordRemoteMetrics(cacheName, remoteHits::sum, remoteMisses::sum);
+    }
+
+    @SuppressWarnings("unchecked")
+    <V> V getIfPresent(String actualKey) {
+        if (!subscribed) {
+            return null;
+        }
+        return (V) cache.synchronous().getIfPresent(actualKey);
+    }
+
+    long version() {
+        return version.get();
+    }
+
+    void put(String actualKey, Object value, long expectedVersion) {
+        if (subscribed && value != null && version.get() == expectedVersion) {
+            cache.synchronous().put(actualKey, value);
+        }
+    }
+
+    void recordRemoteHits(int count) {
+        remoteHits.add(count);
+    }
+
+    void recordRemoteMisses(int count) {
+        remoteMisses.add(count);
+    }
+
+    /**
+     * Evicts the given keys locally and on every other instance of the application.
+     */
+    Uni<Void> invalidate(Collection<String> actualKeys) {
+        if (actualKeys.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        List<Request> requests = new ArrayList<>(actualKeys.size());
+        for (String actualKey : actualKeys) {
+            invalidateLocally(actualKey);
+            requests.add(Request.cmd(Command.PUBLISH).arg(channel).arg(INVALIDATE_KEY + origin + actualKey));
+        }
+        return redis.batch(requests).replaceWithVoid();
+    }
+
+    /**
+     * Evicts all entries locally and on every other instance of the application.
+     */
+    Uni<Void> invalidateAll() {
+        invalidateAllLocally();
+        return redis.send(Request.cmd(Command.PUBLISH).arg(channel).arg(INVALIDATE_ALL + origin)).replaceWithVoid();
+    }
+
+    /**
+     * Closes the pub/sub connection and cancels a pending re-subscription. The in-memory tier is bypassed from now on.
+     */
+    void close() {
+        closed = true;
+        subscribed = false;
+        long timerId = resubscribeTimerId;
+        if (timerId != -1) {
+            vertx.cancelTimer(timerId);
+        }
+        RedisConnection current = connection;
+        if (current != null) {
+            current.closeAndForget();
+        }
+        invalidateAllLocally();
+    }
+
+    /**
+     * Evicts the local entries whose actual key matches the given predicate, without notifying the other instances.
+     */
+    void invalidateLocallyIf(Predicate<String> predicate) {
+        version.incrementAndGet();
+        cache.synchronous().asMap().keySet().removeIf(key -> predicate.test((String) key));
+    }
+
+    private void invalidateLocally(String actualKey) {
+        version.incrementAndGet();
+        cache.synchronous().invalidate(actualKey);
+    }
+
+    private void invalidateAllLocally() {
+        version.incrementAndGet();
+        cache.synchronous().invalidateAll();
+    }
+
+    private void subscribe() {
+        resubscribeTimerId = -1;
+        if (closed) {
+            return;
+        }
+        redis.connect().subscribe().with(new Consumer<RedisConnection>() {
+            @Override
+            public void accept(RedisConnection connection) {
+                RedisNearCache.this.connection = connection;
+                if (closed) {
+                    // closed while connecting
+                    connection.closeAndForget();
+                    return;
+                }
+                // The exception and end handlers may both be invoked for the same connection.
+                AtomicBoolean lost = new AtomicBoolean();
+                connection.handler(new Consumer<Response>() {
+                    @Override
+                    public void accept(Response response) {
+                        onMessage(response);
+                    }
+                });
+                connection.exceptionHandler(new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        if (lost.compareAndSet(false, true)) {
+                            connection.closeAndForget();
+                            onSubscriptionLost(failure);
+                        }
+                    }
+                });
+                connection.endHandler(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (lost.compareAndSet(false, true)) {
+                            onSubscriptionLost(null);
+                        }
+                    }
+                });
+                connection.send(Request.cmd(Command.SUBSCRIBE).arg(channel)).subscribe().with(new Consumer<Response>() {
+                    @Override
+                    public void accept(Response response) {
+                        log.debugf("Near cache of Redis cache [%s] subscribed to channel [%s]", cacheName, channel);
+                        subscribed = !closed;
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        if (lost.compareAndSet(false, true)) {
+                            connection.closeAndForget();
+                            onSubscriptionLost(failure);
+                        }
+                    }
+                });
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                onSubscriptionLost(failure);
+            }
+        });
+    }
+
+    private void onSubscriptionLost(Throwable failure) {
+        connection = null;
+        if (closed) {
+            return;
+        }
+        if (subscribed) {
+            log.warnf(failure, "Near cache of Redis cache [%s] lost its subscription, the in-memory tier is bypassed until it is "
+                    + "re-established", cacheName);
+        } else {
+            log.debugf(failure, "Near cache of Redis cache [%s] is unable to subscribe to channel [%s]", cacheName, channel);
+        }
+        subscribed = false;
+        invalidateAllLocally();
+        try {
+            resubscribeTimerId = vertx.setTimer(RESUBSCRIBE_DELAY_MS, new Consumer<Long>() {
+                @Override
+                public void accept(Long timerId) {
+                    subscribe();
+                }
+            });
+        } catch (IllegalStateException e) {
+            // Vert.x is being closed, there is nothing to re-establish.
+        }
+    }
+
+    private void onMessage(Response response) {
+        // Pub/sub messages are ["message", channel, payload], the subscription confirmations are ignored.
+        if (response.size() != 3 || !"message".equals(response.get(0).toString())
+                || !channel.equals(response.get(1).toString())) {
+            return;
+        }
+        String payload = response.get(2).toString();
+        if (payload.length() < 1 + ORIGIN_LENGTH || payload.startsWith(origin, 1)) {
+            return;
+        }
+        if (payload.charAt(0) == INVALIDATE_ALL) {
+            invalidateAllLocally();
+        } else if (payload.charAt(0) == INVALIDATE_KEY) {
+            invalidateLocally(payload.substring(1 + ORIGIN_LENGTH));
+        }
+    }
+}
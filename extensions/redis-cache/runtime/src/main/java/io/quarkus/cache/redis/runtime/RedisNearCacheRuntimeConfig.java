@@ -0,0 +1,40 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+
+@ConfigGroup
+public interface RedisNearCacheRuntimeConfig {
+
+    /**
+     * Whether a bounded in-memory tier should be kept in front of Redis.
+     * Values read from Redis are then served from the local memory of the application until they are invalidated.
+     * Local entries are invalidated on every instance of the application through Redis pub/sub.
+     * Default is {@code false}.
+     */
+    Optional<Boolean> enabled();
+
+    /**
+     * The maximum number of entries the in-memory tier may contain.
+     * If not set, the value {@code 10000} is used.
+     */
+    OptionalLong maximumSize();
+
+    /**
+     * Specifies that each entry should be automatically removed from the in-memory tier once a fixed duration has elapsed
+     * after the entry's creation, or the most recent replacement of its value.
+     * Redis pub/sub delivers invalidation messages at most once, so setting this value bounds how long an instance may
+     * keep serving a value that was invalidated while its subscription was being re-established.
+     * If not set, the {@code expire-after-write} duration of the Redis cache is used.
+     */
+    Optional<Duration> expireAfterWrite();
+
+    /**
+     * Whether the hit and miss counts of both tiers should be recorded with Micrometer.
+     * Default is {@code false}.
+     */
+    Optional<Boolean> metricsEnabled();
+}
@@ -4,12 +4,14 @@
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Function;
 
 import org.jboss.jandex.AnnotationInstance;
@@ -46,6 +48,7 @@ public abstract class JacksonCodeGenerator {
 
     protected final Set<String> generatedClassNames = new HashSet<>();
     protected final Deque<ClassInfo> toBeGenerated = new ArrayDeque<>();
+    protected final Map<String, String> fallbacks = new TreeMap<>();
 
     public JacksonCodeGenerator(BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer,
             IndexView jandexIndex) {
@@ -72,9 +75,24 @@ public Collection<String> create(Collection<ClassInfo> classInfos) {
         return createdClasses;
     }
 
+    /**
+     * @return the names of the classes for which no code could be generated, so that they are handled by the
+     *         reflection-based Jackson implementation, mapped to the reason why
+     */
+    public Map<String, String> getFallbacks() {
+        return Collections.unmodifiableMap(fallbacks);
+    }
+
     private Optional<String> create(ClassInfo classInfo) {
         String beanClassName = classInfo.name().toString();
-        if (vetoedClass(classInfo, beanClassName) || !generatedClassNames.add(beanClassName)) {
+        if (vetoedClassName(beanClassName) || !generatedClassNames.add(beanClassName)) {
+            return Optional.empty();
+        }
+        boolean hasSubtypes = registerSubtypes(classInfo);
+        if (classInfo.isAbstract() || classInfo.isInterface()) {
+            if (!hasSubtypes) {
+                reportFallback(beanClassName, classInfo.isInterface() ? "interface" : "abstract class");
+            }
             return Optional.empty();
         }
 
@@ -100,6 +118,25 @@ private void createConstructor(ClassCreator classCreator, String beanClassName)
 
     protected abstract boolean createSerializationMethod(ClassInfo classInfo, ClassCreator classCreator, String beanClassName);
 
+    /**
+     * Registers the subtypes declared by the given class with {@code @JsonSubTypes} to be generated.
+     *
+     * @return {@code true} if the subtypes of the given class have been registered
+     */
+    protected boolean registerSubtypes(ClassInfo classInfo) {
+        return false;
+    }
+
+    /**
+     * Records that no code could be generated for the given class.
+     *
+     * @return always {@code false}, so that it can be returned as the result of a failed generation
+     */
+    protected boolean reportFallback(String className, String reason) {
+        fallbacks.putIfAbsent(className, reason);
+        return false;
+    }
+
     protected Collection<FieldInfo> classFields(ClassInfo classInfo) {
         Collection<FieldInfo> fields = new ArrayList<>();
         classFields(classInfo, fields);
@@ -149,10 +186,6 @@ protected static String ucFirst(String name) {
         return name.substring(0, 1).toUpperCase() + name.substring(1);
     }
 
-    protected static boolean vetoedClass(ClassInfo classInfo, String className) {
-        return classInfo.isAbstract() || classInfo.isInterface() || vetoedClassName(className);
-    }
-
     private static boolean vetoedClassName(String className) {
         return className.startsWith("java.") || className.startsWith("jakarta.") || className.startsWith("io.vertx.core.json.");
     }
@@ -163,6 +196,7 @@ protected enum FieldKind {
         LIST(true),
         SET(true),
         MAP(true),
+        OPTIONAL(true),
         TYPE_VARIABLE(true);
 
         private final boolean generic;
@@ -195,24 +229,39 @@ protected FieldKind registerTypeToBeGenerated(Type fieldType, String typeName) {
                     registerTypeToBeGenerated(pType.arguments().get(0));
                     return FieldKind.SET;
                 }
+                if (typeName.equals("java.util.Optional")) {
+                    registerTypeToBeGenerated(pType.arguments().get(0));
+                    return FieldKind.OPTIONAL;
+                }
             }
             if (pType.arguments().size() == 2 && typeName.equals("java.util.Map")) {
                 registerTypeToBeGenerated(pType.arguments().get(0));
                 registerTypeToBeGenerated(pType.arguments().get(1));
                 return FieldKind.MAP;
             }
+            // other generic types, like concrete collections or generic pojos, are read and written as a whole
+            // by Jackson, but their type arguments can still have a generated implementation
+            pType.arguments().forEach(this::registerTypeToBeGenerated);
         }
         registerTypeToBeGenerated(typeName);
         return FieldKind.OBJECT;
     }
 
     private void registerTypeToBeGenerated(Type type) {
+        if (type instanceof ArrayType aType) {
+            registerTypeToBeGenerated(aType.constituent());
+            return;
+        }
+        if (type instanceof ParameterizedType pType) {
+            pType.arguments().forEach(this::registerTypeToBeGenerated);
+        }
         registerTypeToBeGenerated(type.name().toString());
     }
 
-    private void registerTypeToBeGenerated(String typeName) {
+    protected void registerTypeToBeGenerated(String typeName) {
         ClassInfo classInfo = jandexIndex.getClassByName(typeName);
-        if (classInfo != null && !vetoedClass(classInfo, typeName) && shouldGenerateCodeFor(classInfo)) {
+        // abstract types are registered as well, to generate the code for their subtypes
+        if (classInfo != null && !vetoedClassName(typeName) && shouldGenerateCodeFor(classInfo)) {
             toBeGenerated.add(classInfo);
         }
     }
@@ -360,7 +409,16 @@ private String fieldNameFromMethod(MethodInfo methodInfo) {
         }
 
         boolean hasUnknownAnnotation() {
-            return annotations.keySet().stream().anyMatch(FieldSpecs::isUnknownAnnotation);
+            return unknownAnnotation() != null;
+        }
+
+        /**
+         * @return the simple name of the first annotation of this field that is not supported by the generated code,
+         *         or {@code null}
+         */
+        String unknownAnnotation() {
+            return annotations.keySet().stream().filter(FieldSpecs::isUnknownAnnotation).findFirst()
+                    .map(ann -> ann.substring(ann.lastIndexOf('.') + 1)).orElse(null);
         }
 
         boolean isIgnoredField() {
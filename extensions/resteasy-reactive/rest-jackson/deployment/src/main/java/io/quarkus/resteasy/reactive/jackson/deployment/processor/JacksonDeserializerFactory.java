@@ -220,7 +220,7 @@ protected boolean createSerializationMethod(ClassInfo classInfo, ClassCreator cl
 
         Optional<MethodInfo> ctorOpt = findConstructor(classInfo);
         if (ctorOpt.isEmpty()) {
-            return false;
+            return reportFallback(beanClassName, "no public constructor");
         }
 
         MethodInfo ctor = ctorOpt.get();
@@ -358,7 +358,8 @@ private boolean deserializeFieldSpecs(DeserializationData deserData, ResultHandl
                 return true;
             }
             if (fieldSpecs.hasUnknownAnnotation()) {
-                return false;
+                return reportFallback(deserData.classInfo.name().toString(),
+                        "property '" + fieldSpecs.jsonName + "' is annotated with @" + fieldSpecs.unknownAnnotation());
             }
             strSwitch.caseOf(fieldSpecs.jsonName,
                     bytecode -> valid.compareAndSet(true, deserializeField(deserData, bytecode, objHandle,
@@ -373,7 +374,8 @@ private boolean deserializeField(DeserializationData deserData, BytecodeCreator
         ResultHandle valueHandle = readValueFromJson(deserData.classCreator, bytecode, deserializationContext, fieldSpecs,
                 deserData.typeParametersIndex, fieldValue);
         if (valueHandle == null) {
-            return false;
+            return reportFallback(deserData.classInfo.name().toString(),
+                    "the type of property '" + fieldSpecs.jsonName + "' cannot be resolved");
         }
         writeValueToObject(deserData.classInfo, objHandle, fieldSpecs, bytecode,
                 fieldSpecs.toValueWriterHandle(bytecode, valueHandle));
@@ -422,6 +424,21 @@ private ResultHandle readValueFromJson(ClassCreator classCreator, BytecodeCreato
                         bytecode.loadClass(fieldKind == FieldKind.SET ? HashSet.class : ArrayList.class),
                         bytecode.loadClass(listType.name().toString()));
             }
+            case OPTIONAL -> {
+                Type contentType = ((ParameterizedType) fieldType).arguments().get(0);
+                MethodDescriptor getTypeFactory = ofMethod(DeserializationContext.class, "getTypeFactory",
+                        TypeFactory.class);
+                ResultHandle typeFactory = bytecode.invokeVirtualMethod(getTypeFactory, deserializationContext);
+                ResultHandle contentJavaType = bytecode.invokeVirtualMethod(
+                        ofMethod(TypeFactory.class, "constructType", JavaType.class, java.lang.reflect.Type.class),
+                        typeFactory, bytecode.loadClass(contentType.kind() == Type.Kind.CLASS
+                                ? contentType.name().toString()
+                                : Object.class.getName()));
+                MethodDescriptor constructReferenceType = ofMethod(TypeFactory.class, "constructReferenceType",
+                        JavaType.class, Class.class, JavaType.class);
+                yield bytecode.invokeVirtualMethod(constructReferenceType, typeFactory, bytecode.loadClass(Optional.class),
+                        contentJavaType);
+            }
             case MAP -> {
                 Type keyType = ((ParameterizedType) fieldType).arguments().get(0);
                 Type valueType = ((ParameterizedType) fieldType).arguments().get(1);
@@ -20,6 +20,15 @@ public interface JacksonOptimizationConfig {
     @WithDefault("false")
     boolean enableReflectionFreeSerializers();
 
+    /**
+     * Whether to write a report listing the types that are still serialized or deserialized with reflection when
+     * reflection-free serializers are enabled, together with the reason why no serializer or deserializer could be
+     * generated for them.
+     * The report is written to `quarkus-rest-jackson-reflection-fallbacks.txt` in the build output directory.
+     */
+    @WithDefault("false")
+    boolean reflectionFallbackReport();
+
     class IsReflectionFreeSerializersEnabled implements BooleanSupplier {
         JacksonOptimizationConfig config;
 
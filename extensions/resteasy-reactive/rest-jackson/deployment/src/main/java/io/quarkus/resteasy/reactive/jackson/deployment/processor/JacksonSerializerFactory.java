@@ -1,6 +1,7 @@
 package io.quarkus.resteasy.reactive.jackson.deployment.processor;
 
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 
@@ -13,20 +14,32 @@
 import java.util.Optional;
 import java.util.Set;
 
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ArrayType;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
 import org.jboss.jandex.VoidType;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.databind.type.SimpleType;
 
@@ -121,6 +134,15 @@
  * given class it discovers a non-primitive field of another type for which a serializer hasn't been generated yet, this
  * factory enqueues a code generation also for that type. The same is valid for both arrays of that type, like
  * {@code Address[]}, and collections, like {@code List&lt;Address&gt}.
+ *
+ * For polymorphic types, annotated with {@code @JsonTypeInfo} directly or on one of their supertypes, the properties are
+ * written by a separate private method, which is invoked both by {@code serialize} and by an additional
+ * {@code serializeWithType} method that surrounds them with the type id. The subtypes listed by {@code @JsonSubTypes}
+ * are generated as well, also when the annotated type is abstract.
+ *
+ * When a serializer cannot be generated for a class, for instance because it uses Jackson annotations that are not
+ * supported, the class is serialized by the reflection-based Jackson implementation and the reason is available from
+ * {@link #getFallbacks()}.
  */
 public class JacksonSerializerFactory extends JacksonCodeGenerator {
 
@@ -128,6 +150,10 @@ public class JacksonSerializerFactory extends JacksonCodeGenerator {
     private static final String SUPER_CLASS_NAME = StdSerializer.class.getName();
     private static final String JSON_GEN_CLASS_NAME = JsonGenerator.class.getName();
     private static final String SER_STRINGS_CLASS_NAME = "SerializedStrings$quarkusjacksonserializer";
+    private static final String WRITE_PROPERTIES_METHOD_NAME = "writeProperties";
+
+    private static final Set<String> SUPPORTED_CLASS_ANNOTATIONS = Set.of(JsonTypeInfo.class.getName(),
+            JsonSubTypes.class.getName(), JsonTypeName.class.getName(), JsonIgnoreProperties.class.getName());
 
     private final Map<String, Set<String>> generatedFields = new HashMap<>();
 
@@ -195,31 +221,54 @@ protected boolean createSerializationMethod(ClassInfo classInfo, ClassCreator cl
     private boolean serializeObject(ClassInfo classInfo, ClassCreator classCreator, String beanClassName,
             MethodCreator serialize) {
 
+        String unsupportedAnnotation = unsupportedClassAnnotation(classInfo);
+        if (unsupportedAnnotation != null) {
+            return reportFallback(beanClassName, "class annotated with @" + unsupportedAnnotation);
+        }
+
         var jsonValueFieldSpecs = jsonValueFieldSpecs(classInfo);
         if (jsonValueFieldSpecs == null) {
-            return false;
+            return reportFallback(beanClassName, "@JsonValue on a non-public member or on both a field and a method");
         }
 
-        SerializationContext ctx = new SerializationContext(serialize, beanClassName);
+        boolean polymorphic = isPolymorphic(classInfo);
 
         if (jsonValueFieldSpecs.isPresent()) {
-            serializeJsonValue(ctx, serialize, jsonValueFieldSpecs.get());
+            if (polymorphic) {
+                return reportFallback(beanClassName, "@JsonValue on a polymorphic type");
+            }
+            serializeJsonValue(new SerializationContext(serialize, beanClassName), serialize, jsonValueFieldSpecs.get());
             return true;
         }
 
+        MethodCreator propertiesWriter = polymorphic ? createPropertiesWriter(classCreator) : serialize;
+        SerializationContext ctx = new SerializationContext(propertiesWriter, beanClassName);
+        ResultHandle jsonGenerator = serialize.getMethodParam(1);
+
         // jsonGenerator.writeStartObject();
         MethodDescriptor writeStartObject = MethodDescriptor.ofMethod(JSON_GEN_CLASS_NAME, "writeStartObject", "void");
-        serialize.invokeVirtualMethod(writeStartObject, ctx.jsonGenerator);
+        serialize.invokeVirtualMethod(writeStartObject, jsonGenerator);
+
+        if (polymorphic) {
+            // this.writeProperties(value, jsonGenerator, serializerProvider);
+            serialize.invokeSpecialMethod(propertiesWriter.getMethodDescriptor(), serialize.getThis(),
+                    serialize.getMethodParam(0), jsonGenerator, serialize.getMethodParam(2));
+            createSerializeWithType(classCreator, propertiesWriter.getMethodDescriptor());
+        }
 
         Set<String> serializedFields = new HashSet<>();
-        boolean valid = serializeObjectData(classInfo, classCreator, serialize, ctx, serializedFields);
+        boolean valid = serializeObjectData(classInfo, classCreator, propertiesWriter, ctx, serializedFields);
+        if (polymorphic) {
+            propertiesWriter.returnVoid();
+        }
 
         // jsonGenerator.writeEndObject();
         MethodDescriptor writeEndObject = MethodDescriptor.ofMethod(JSON_GEN_CLASS_NAME, "writeEndObject", "void");
-        serialize.invokeVirtualMethod(writeEndObject, ctx.jsonGenerator);
+        serialize.invokeVirtualMethod(writeEndObject, jsonGenerator);
 
-        if (serializedFields.isEmpty()) {
-            throwExceptionForEmptyBean(beanClassName, serialize, ctx.jsonGenerator);
+        // like Jackson, don't fail on empty polymorphic beans, which are still written with their type id
+        if (serializedFields.isEmpty() && !polymorphic) {
+            throwExceptionForEmptyBean(beanClassName, serialize, jsonGenerator);
         }
 
         classCreator.getMethodCreator("<clinit>", void.class).setModifiers(ACC_STATIC).returnVoid();
@@ -227,6 +276,131 @@ private boolean serializeObject(ClassInfo classInfo, ClassCreator classCreator,
         return valid;
     }
 
+    private MethodCreator createPropertiesWriter(ClassCreator classCreator) {
+        return classCreator.getMethodCreator(WRITE_PROPERTIES_METHOD_NAME, "void", "java.lang.Object", JSON_GEN_CLASS_NAME,
+                "com.fasterxml.jackson.databind.SerializerProvider")
+                .setModifiers(ACC_PRIVATE)
+                .addException(IOException.class);
+    }
+
+    private void createSerializeWithType(ClassCreator classCreator, MethodDescriptor writeProperties) {
+        MethodCreator serializeWithType = classCreator.getMethodCreator("serializeWithType", "void", "java.lang.Object",
+                JSON_GEN_CLASS_NAME, "com.fasterxml.jackson.databind.SerializerProvider", TypeSerializer.class.getName())
+                .setModifiers(ACC_PUBLIC)
+                .addException(IOException.class);
+        ResultHandle value = serializeWithType.getMethodParam(0);
+        ResultHandle jsonGenerator = serializeWithType.getMethodParam(1);
+        ResultHandle typeSerializer = serializeWithType.getMethodParam(3);
+
+        // WritableTypeId typeId = typeSerializer.writeTypePrefix(jsonGenerator,
+        //         typeSerializer.typeId(value, JsonToken.START_OBJECT));
+        ResultHandle startObject = serializeWithType.readStaticField(
+                FieldDescriptor.of(JsonToken.class, "START_OBJECT", JsonToken.class));
+        ResultHandle typeId = serializeWithType.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(TypeSerializer.class, "typeId", WritableTypeId.class, Object.class, JsonToken.class),
+                typeSerializer, value, startObject);
+        typeId = serializeWithType.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(TypeSerializer.class, "writeTypePrefix", WritableTypeId.class, JsonGenerator.class,
+                        WritableTypeId.class),
+                typeSerializer, jsonGenerator, typeId);
+
+        // this.writeProperties(value, jsonGenerator, serializerProvider);
+        serializeWithType.invokeSpecialMethod(writeProperties, serializeWithType.getThis(), value, jsonGenerator,
+                serializeWithType.getMethodParam(2));
+
+        // typeSerializer.writeTypeSuffix(jsonGenerator, typeId);
+        serializeWithType.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(TypeSerializer.class, "writeTypeSuffix", WritableTypeId.class, JsonGenerator.class,
+                        WritableTypeId.class),
+                typeSerializer, jsonGenerator, typeId);
+        serializeWithType.returnVoid();
+    }
+
+    @Override
+    protected boolean registerSubtypes(ClassInfo classInfo) {
+        AnnotationInstance jsonSubTypes = classInfo.declaredAnnotation(JsonSubTypes.class);
+        if (jsonSubTypes == null || jsonSubTypes.value() == null) {
+            return false;
+        }
+        for (AnnotationInstance subType : jsonSubTypes.value().asNestedArray()) {
+            registerTypeToBeGenerated(subType.value().asClass().name().toString());
+        }
+        return true;
+    }
+
+    private boolean isPolymorphic(ClassInfo classInfo) {
+        if (classInfo.declaredAnnotation(JsonTypeInfo.class) != null) {
+            return true;
+        }
+        for (Type interfaceType : classInfo.interfaceTypes()) {
+            ClassInfo interfaceInfo = jandexIndex.getClassByName(interfaceType.name());
+            if (interfaceInfo != null && isPolymorphic(interfaceInfo)) {
+                return true;
+            }
+        }
+        return Boolean.TRUE.equals(onSuperClass(classInfo, this::isPolymorphic));
+    }
+
+    private boolean isPolymorphic(Type type) {
+        if (type.kind() != Type.Kind.CLASS) {
+            return false;
+        }
+        ClassInfo classInfo = jandexIndex.getClassByName(type.name());
+        return classInfo != null && isPolymorphic(classInfo);
+    }
+
+    private boolean hasPolymorphicTypeArgument(Type type) {
+        if (type instanceof ArrayType aType) {
+            return hasPolymorphicTypeArgument(aType.constituent());
+        }
+        if (type instanceof ParameterizedType pType) {
+            for (Type argument : pType.arguments()) {
+                if (isPolymorphic(argument) || hasPolymorphicTypeArgument(argument)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the simple name of the first Jackson annotation of the given class or of its superclasses that isn't
+     *         supported by the generated serializers, or {@code null}
+     */
+    private String unsupportedClassAnnotation(ClassInfo classInfo) {
+        for (AnnotationInstance annotation : classInfo.declaredAnnotations()) {
+            String name = annotation.name().toString();
+            if (name.startsWith("com.fasterxml.jackson.") && (!SUPPORTED_CLASS_ANNOTATIONS.contains(name)
+                    || ignoresProperties(annotation))) {
+                return annotation.name().local();
+            }
+        }
+        return onSuperClass(classInfo, this::unsupportedClassAnnotation);
+    }
+
+    private static boolean ignoresProperties(AnnotationInstance annotation) {
+        if (!annotation.name().toString().equals(JsonIgnoreProperties.class.getName())) {
+            return false;
+        }
+        AnnotationValue value = annotation.value();
+        return value != null && value.asStringArray().length > 0;
+    }
+
+    /**
+     * @return the reason why the given property can't be written by the generated serializer, or {@code null}
+     */
+    private static String unsupportedProperty(FieldSpecs fieldSpecs, boolean hasPolymorphicTypeArgument) {
+        String unknownAnnotation = fieldSpecs.unknownAnnotation();
+        if (unknownAnnotation != null) {
+            return "property '" + fieldSpecs.jsonName + "' is annotated with @" + unknownAnnotation;
+        }
+        if (hasPolymorphicTypeArgument) {
+            // the element type is erased at runtime, so the type ids of the elements wouldn't be written
+            return "property '" + fieldSpecs.jsonName + "' is a generic container of polymorphic values";
+        }
+        return null;
+    }
+
     private Optional<FieldSpecs> jsonValueFieldSpecs(ClassInfo classInfo) {
         var jsonValueAnnotationFound = classInfo.hasAnnotation(JsonValue.class);
         if (!jsonValueAnnotationFound) {
@@ -276,8 +450,9 @@ private boolean serializeFields(ClassInfo classInfo, ClassCreator classCreator,
                 if (fieldSpecs.isIgnoredField()) {
                     continue;
                 }
-                if (fieldSpecs.hasUnknownAnnotation()) {
-                    return false;
+                String unsupported = unsupportedProperty(fieldSpecs, hasPolymorphicTypeArgument(fieldSpecs.fieldType));
+                if (unsupported != null) {
+                    return reportFallback(classInfo.name().toString(), unsupported);
                 }
                 writeField(classInfo, fieldSpecs, writeFieldBranch(classCreator, serialize, fieldSpecs, ctx), ctx);
             }
@@ -293,8 +468,9 @@ private boolean serializeMethods(ClassInfo classInfo, ClassCreator classCreator,
                 if (fieldSpecs.isIgnoredField()) {
                     continue;
                 }
-                if (fieldSpecs.hasUnknownAnnotation()) {
-                    return false;
+                String unsupported = unsupportedProperty(fieldSpecs, hasPolymorphicTypeArgument(fieldSpecs.fieldType));
+                if (unsupported != null) {
+                    return reportFallback(classInfo.name().toString(), unsupported);
                 }
                 writeField(classInfo, fieldSpecs, serialize, ctx);
             }
@@ -357,8 +533,9 @@ private void writeFieldValue(FieldSpecs fieldSpecs, BytecodeCreator bytecode, Se
                 writeFieldName(fieldSpecs, bytecode, ctx.jsonGenerator, pkgName);
             }
 
+            // values of a polymorphic type are written together with their type id
             MethodDescriptor serializePojoMethod = MethodDescriptor.ofMethod(JacksonMapperUtil.class.getName(),
-                    "serializePojo",
+                    isPolymorphic(fieldSpecs.fieldType) ? "serializePolymorphicPojo" : "serializePojo",
                     void.class, Object.class, JsonGenerator.class, SerializerProvider.class);
             bytecode.invokeStaticMethod(serializePojoMethod, arg, ctx.jsonGenerator, ctx.serializerProvider);
         }
@@ -5,6 +5,10 @@
 import static org.jboss.resteasy.reactive.common.util.RestMediaType.APPLICATION_NDJSON;
 import static org.jboss.resteasy.reactive.common.util.RestMediaType.APPLICATION_STREAM_JSON;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -63,6 +67,7 @@
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.JaxRsResourceIndexBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.QuarkusResteasyReactiveDotNames;
 import io.quarkus.resteasy.reactive.common.deployment.ResourceScanningResultBuildItem;
@@ -101,6 +106,15 @@ public class ResteasyReactiveJacksonProcessor {
 
     private static final Logger log = Logger.getLogger(ResteasyReactiveJacksonProcessor.class);
 
+    private static final String REFLECTION_FALLBACK_REPORT = "quarkus-rest-jackson-reflection-fallbacks.txt";
+
+    /**
+     * The types that only wrap the serialized value of a resource method.
+     */
+    private static final Set<DotName> RETURN_TYPE_WRAPPERS = Set.of(ResteasyReactiveDotNames.REST_RESPONSE,
+            ResteasyReactiveDotNames.UNI, ResteasyReactiveDotNames.COMPLETABLE_FUTURE,
+            ResteasyReactiveDotNames.COMPLETION_STAGE, ResteasyReactiveDotNames.REST_MULTI, ResteasyReactiveDotNames.MULTI);
+
     private static final DotName JSON_VIEW = DotName.createSimple(JsonView.class.getName());
     private static final DotName CUSTOM_SERIALIZATION = DotName.createSimple(CustomSerialization.class.getName());
     private static final DotName CUSTOM_DESERIALIZATION = DotName.createSimple(CustomDeserialization.class.getName());
@@ -396,6 +410,7 @@ public void initializeRolesAllowedConfigExp(ResteasyReactiveServerJacksonRecorde
     @Record(ExecutionTime.STATIC_INIT)
     public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
             JaxRsResourceIndexBuildItem jaxRsIndex, CombinedIndexBuildItem index,
+            JacksonOptimizationConfig optimizationConfig, OutputTargetBuildItem outputTarget,
             ResteasyReactiveServerJacksonRecorder recorder,
             BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer) {
 
@@ -406,10 +421,7 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
 
         for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
             MethodInfo methodInfo = entry.getMethodInfo();
-            ClassInfo effectiveReturnClassInfo = getEffectiveClassInfo(methodInfo.returnType(), indexView);
-            if (effectiveReturnClassInfo != null && !effectiveReturnClassInfo.isEnum()) {
-                serializedClasses.put(effectiveReturnClassInfo.name().toString(), effectiveReturnClassInfo);
-            }
+            collectSerializedClasses(methodInfo.returnType(), indexView, serializedClasses);
 
             if (methodInfo.hasAnnotation(POST.class)) {
                 for (Type paramType : methodInfo.parameterTypes()) {
@@ -421,19 +433,83 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
             }
         }
 
+        Map<String, String> serializerFallbacks = Map.of();
         if (!serializedClasses.isEmpty()) {
             JacksonSerializerFactory factory = new JacksonSerializerFactory(generatedClassBuildItemBuildProducer,
                     index.getComputingIndex());
             factory.create(serializedClasses.values())
                     .forEach(recorder::recordGeneratedSerializer);
+            serializerFallbacks = factory.getFallbacks();
         }
 
+        Map<String, String> deserializerFallbacks = Map.of();
         if (!deserializedClasses.isEmpty()) {
             JacksonDeserializerFactory factory = new JacksonDeserializerFactory(generatedClassBuildItemBuildProducer,
                     index.getComputingIndex());
             factory.create(deserializedClasses.values())
                     .forEach(recorder::recordGeneratedDeserializer);
+            deserializerFallbacks = factory.getFallbacks();
+        }
+
+        reportReflectionFallbacks(serializerFallbacks, deserializerFallbacks, optimizationConfig, outputTarget);
+    }
+
+    /**
+     * Collects the classes that are serialized for the given return type, including the type arguments of generic types,
+     * like the elements of a collection or the content of a generic wrapper.
+     */
+    private static void collectSerializedClasses(Type type, IndexView indexView, Map<String, ClassInfo> serializedClasses) {
+        switch (type.kind()) {
+            case CLASS -> collectSerializedClass(type.name(), indexView, serializedClasses);
+            case PARAMETERIZED_TYPE -> {
+                collectSerializedClass(type.name(), indexView, serializedClasses);
+                for (Type argument : type.asParameterizedType().arguments()) {
+                    collectSerializedClasses(argument, indexView, serializedClasses);
+                }
+            }
+            case ARRAY -> collectSerializedClasses(type.asArrayType().constituent(), indexView, serializedClasses);
+            case WILDCARD_TYPE -> collectSerializedClasses(type.asWildcardType().extendsBound(), indexView,
+                    serializedClasses);
+            default -> {
+                // primitives, void and type variables don't need a generated serializer
+            }
+        }
+    }
+
+    private static void collectSerializedClass(DotName name, IndexView indexView,
+            Map<String, ClassInfo> serializedClasses) {
+        ClassInfo classInfo = RETURN_TYPE_WRAPPERS.contains(name) ? null : indexView.getClassByName(name);
+        if (classInfo != null && !classInfo.isEnum()) {
+            serializedClasses.put(classInfo.name().toString(), classInfo);
+        }
+    }
+
+    private static void reportReflectionFallbacks(Map<String, String> serializerFallbacks,
+            Map<String, String> deserializerFallbacks, JacksonOptimizationConfig optimizationConfig,
+            OutputTargetBuildItem outputTarget) {
+        serializerFallbacks.forEach((type, reason) -> log.debugf(
+                "No reflection-free Jackson serializer generated for %s: %s", type, reason));
+        deserializerFallbacks.forEach((type, reason) -> log.debugf(
+                "No reflection-free Jackson deserializer generated for %s: %s", type, reason));
+        if (!optimizationConfig.reflectionFallbackReport()) {
+            return;
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add("# Types serialized with reflection");
+        serializerFallbacks.forEach((type, reason) -> lines.add(type + ": " + reason));
+        lines.add("");
+        lines.add("# Types deserialized with reflection");
+        deserializerFallbacks.forEach((type, reason) -> lines.add(type + ": " + reason));
+        Path report = outputTarget.getOutputDirectory().resolve(REFLECTION_FALLBACK_REPORT);
+        try {
+            Files.createDirectories(report.getParent());
+            Files.write(report, lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write " + report, e);
         }
+        log.infof("%d types are serialized and %d types are deserialized with reflection, see %s",
+                serializerFallbacks.size(), deserializerFallbacks.size(), report);
     }
 
     @BuildStep(onlyIf = JacksonOptimizationConfig.IsReflectionFreeSerializersEnabled.class)
@@ -0,0 +1,241 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import io.quarkus.resteasy.reactive.jackson.deployment.processor.ResteasyReactiveJacksonProcessor;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+
+public class ReflectionFreeSerializersFallbackTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Resource.class, Page.class, Entry.class, Shape.class, Circle.class, Square.class,
+                                    Ordered.class)
+                            .addAsResource(
+                                    new StringAsset(
+                                            "quarkus.rest.jackson.optimization.enable-reflection-free-serializers=true\n"
+                                                    + "quarkus.rest.jackson.optimization.reflection-fallback-report=true\n"),
+                                    "application.properties");
+                }
+            })
+            .setLogRecordPredicate(r -> r.getLoggerName().equals(ResteasyReactiveJacksonProcessor.class.getName())
+                    && r.getLevel().equals(Level.INFO))
+            .assertLogRecords(ReflectionFreeSerializersFallbackTest::assertReport);
+
+    @Test
+    public void testGenericReturnType() {
+        RestAssured.get("/fallback/page")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("total", Matchers.is(2))
+                .body("entries.name", Matchers.contains("first", "second"));
+    }
+
+    @Test
+    public void testOptional() {
+        RestAssured.get("/fallback/page")
+                .then()
+                .statusCode(200)
+                .body("entries[0].description", Matchers.is("described"))
+                .body("entries[1].description", Matchers.nullValue());
+
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body("{\"name\":\"echo\",\"description\":\"described\"}")
+                .post("/fallback/entry")
+                .then()
+                .statusCode(200)
+                .body(Matchers.is("echo:described"));
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body("{\"name\":\"echo\"}")
+                .post("/fallback/entry")
+                .then()
+                .statusCode(200)
+                .body(Matchers.is("echo:<none>"));
+    }
+
+    @Test
+    public void testSubtypesOfAbstractType() {
+        RestAssured.get("/fallback/circle")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body(Matchers.is("{\"kind\":\"circle\",\"radius\":3}"));
+        RestAssured.get("/fallback/square")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body(Matchers.is("{\"kind\":\"square\",\"side\":4}"));
+    }
+
+    @Test
+    public void testUnsupportedClassAnnotation() {
+        // serialized with reflection, so that the order of the properties is kept
+        RestAssured.get("/fallback/ordered")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body(Matchers.is("{\"second\":\"b\",\"first\":\"a\"}"));
+    }
+
+    private static void assertReport(List<LogRecord> records) {
+        assertThat(records).hasSize(1);
+        // "%d types are serialized and %d types are deserialized with reflection, see %s"
+        Object[] parameters = records.get(0).getParameters();
+        assertThat(parameters[0]).isEqualTo(1);
+        assertThat(parameters[1]).isEqualTo(0);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines((Path) parameters[2]);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        assertThat(lines).containsExactly(
+                "# Types serialized with reflection",
+                Ordered.class.getName() + ": class annotated with @JsonPropertyOrder",
+                "",
+                "# Types deserialized with reflection");
+    }
+
+    @jakarta.ws.rs.Path("/fallback")
+    public static class Resource {
+
+        @GET
+        @jakarta.ws.rs.Path("/page")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Page<Entry> page() {
+            return new Page<>(List.of(new Entry("first", Optional.of("described")), new Entry("second", Optional.empty())));
+        }
+
+        @POST
+        @jakarta.ws.rs.Path("/entry")
+        @Consumes(MediaType.APPLICATION_JSON)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String entry(Entry entry) {
+            return entry.name + ":" + entry.description.orElse("<none>");
+        }
+
+        @GET
+        @jakarta.ws.rs.Path("/circle")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Shape circle() {
+            return new Circle(3);
+        }
+
+        @GET
+        @jakarta.ws.rs.Path("/square")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Shape square() {
+            return new Square(4);
+        }
+
+        @GET
+        @jakarta.ws.rs.Path("/ordered")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Ordered ordered() {
+            return new Ordered();
+        }
+    }
+
+    public static class Page<T> {
+
+        public List<T> entries;
+        public int total;
+
+        public Page() {
+        }
+
+        public Page(List<T> entries) {
+            this.entries = entries;
+            this.total = entries.size();
+        }
+    }
+
+    public static class Entry {
+
+        public String name;
+        public Optional<String> description = Optional.empty();
+
+        public Entry() {
+        }
+
+        public Entry(String name, Optional<String> description) {
+            this.name = name;
+            this.description = description;
+        }
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "kind")
+    @JsonSubTypes({
+            @JsonSubTypes.Type(value = Circle.class, name = "circle"),
+            @JsonSubTypes.Type(value = Square.class, name = "square")
+    })
+    public static abstract class Shape {
+    }
+
+    public static class Circle extends Shape {
+
+        public int radius;
+
+        public Circle() {
+        }
+
+        public Circle(int radius) {
+            this.radius = radius;
+        }
+    }
+
+    public static class Square extends Shape {
+
+        public int side;
+
+        public Square() {
+        }
+
+        public Square(int side) {
+            this.side = side;
+        }
+    }
+
+    @JsonPropertyOrder({ "second", "first" })
+    public static class Ordered {
+
+        public String first = "a";
+        public String second = "b";
+    }
+}
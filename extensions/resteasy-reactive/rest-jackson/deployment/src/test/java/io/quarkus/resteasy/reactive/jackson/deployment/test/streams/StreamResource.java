@@ -1,6 +1,7 @@
 package io.quarkus.resteasy.reactive.jackson.deployment.test.streams;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
@@ -117,6 +118,21 @@ public Multi<Message> multiJsonAlt() {
                 .header("foo", "bar").encodeAsJsonArray(true).build();
     }
 
+    @Path("json/multi/large")
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Multi<Message> multiJsonLarge() {
+        return Multi.createFrom().range(0, 20_000).map(i -> new Message("message-" + i));
+    }
+
+    @Path("json/multi/ticks")
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Multi<Message> multiJsonTicks() {
+        return Multi.createFrom().ticks().every(Duration.ofMillis(5)).select().first(5)
+                .map(i -> new Message("tick-" + i));
+    }
+
     @Path("json/multi-docs")
     @GET
     @Produces(MediaType.APPLICATION_JSON)
@@ -21,6 +21,7 @@
 import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.sse.InboundSseEvent;
 import jakarta.ws.rs.sse.SseEventSource;
 
@@ -174,6 +175,27 @@ public void testNdJsonMultiFromMulti2() {
                 .header("foo", "bar");
     }
 
+    @Test
+    public void testLargeJsonArrayFromMulti() {
+        String payload = when().get(uri.toString() + "streams/json/multi/large")
+                .then().statusCode(HttpStatus.SC_OK)
+                .header(HttpHeaders.CONTENT_TYPE, containsString(MediaType.APPLICATION_JSON))
+                .extract().response().asString();
+        StringBuilder expected = new StringBuilder("[");
+        for (int i = 0; i < 20_000; i++) {
+            expected.append(i == 0 ? "" : ",").append("{\"name\":\"message-").append(i).append("\"}");
+        }
+        assertThat(payload).isEqualTo(expected.append(']').toString());
+    }
+
+    @Test
+    public void testAsynchronousJsonArrayFromMulti() {
+        when().get(uri.toString() + "streams/json/multi/ticks")
+                .then().statusCode(HttpStatus.SC_OK)
+                .body(is("[{\"name\":\"tick-0\"},{\"name\":\"tick-1\"},{\"name\":\"tick-2\"},"
+                        + "{\"name\":\"tick-3\"},{\"name\":\"tick-4\"}]"));
+    }
+
     @Test
     public void testRestMultiEmptyJson() {
         when().get(uri.toString() + "streams/restmulti/empty")
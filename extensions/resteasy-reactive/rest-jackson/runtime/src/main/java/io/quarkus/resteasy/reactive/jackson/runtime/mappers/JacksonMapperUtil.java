@@ -138,6 +138,20 @@ public static void serializePojo(Object value, JsonGenerator generator, Serializ
         }
     }
 
+    /**
+     * Serializes a value whose declared type is polymorphic, so that its type id is written as well.
+     */
+    public static void serializePolymorphicPojo(Object value, JsonGenerator generator, SerializerProvider serializerProvider)
+            throws IOException {
+        if (value == null) {
+            generator.writePOJO(null);
+            return;
+        }
+        // the type serializer of the runtime class is based on the @JsonTypeInfo inherited from the declared type
+        serializerProvider.findTypedValueSerializer(value.getClass(), true, null)
+                .serialize(value, generator, serializerProvider);
+    }
+
     public enum SerializationInclude {
 
         ALWAYS,
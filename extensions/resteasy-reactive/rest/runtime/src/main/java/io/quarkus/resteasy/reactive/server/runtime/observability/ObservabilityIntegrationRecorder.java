@@ -8,7 +8,6 @@
 import org.jboss.resteasy.reactive.common.util.PathHelper;
 import org.jboss.resteasy.reactive.server.core.Deployment;
 import org.jboss.resteasy.reactive.server.handlers.ClassRoutingHandler;
-import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
 
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
@@ -53,7 +52,7 @@ private boolean shouldHandle(RoutingContext event) {
 
     public static void setTemplatePath(RoutingContext rc, Deployment deployment) {
         // do what RestInitialHandler does
-        var initMappers = new RequestMapper<>(deployment.getClassMappers());
+        var initMappers = deployment.getClassMapper();
         var requestMatch = initMappers.map(getPathWithoutPrefix(rc, deployment));
         if (requestMatch == null) {
             return;
@@ -1,6 +1,7 @@
 package io.quarkus.resteasy.reactive.runtime.mapping;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
 import org.jboss.resteasy.reactive.server.mapping.URITemplate;
@@ -33,6 +34,78 @@ void testMap() {
         Assertions.assertEquals("34", result.pathParamValues[0]);
     }
 
+    @Test
+    void testSharedStemPrefixes() {
+        RequestMapper<String> mapper = mapper(true, "/{root}", "/foo", "/foobar", "/foo/bar", "/foo/bar/{p1}", "/fo/{p1}",
+                "/foo/baz/{p1}/{p2}");
+
+        Assertions.assertEquals("/foobar", mapper.map("/foobar").value);
+        Assertions.assertEquals("/foo", mapper.map("/foo").value);
+        Assertions.assertEquals("/foo/bar", mapper.map("/foo/bar").value);
+        RequestMapper.RequestMatch<String> result = mapper.map("/foo/bar/1");
+        Assertions.assertEquals("/foo/bar/{p1}", result.value);
+        Assertions.assertEquals("1", result.pathParamValues[0]);
+        result = mapper.map("/foo/baz/1/2");
+        Assertions.assertEquals("/foo/baz/{p1}/{p2}", result.value);
+        Assertions.assertEquals("1", result.pathParamValues[0]);
+        Assertions.assertEquals("2", result.pathParamValues[1]);
+        result = mapper.map("/fo/1");
+        Assertions.assertEquals("/fo/{p1}", result.value);
+        Assertions.assertEquals("1", result.pathParamValues[0]);
+        Assertions.assertNull(result.pathParamValues[1]);
+        // the longest stem is a prefix of the path, but its template does not match
+        result = mapper.map("/foob");
+        Assertions.assertEquals("/{root}", result.value);
+        Assertions.assertEquals("foob", result.pathParamValues[0]);
+        result = mapper.map("/foo/qux");
+        Assertions.assertEquals("/foo", result.value);
+        Assertions.assertEquals("/qux", result.remaining);
+    }
+
+    @Test
+    void testManyTemplatesWithSameStem() {
+        List<String> templates = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            templates.add("/tenants/{tenant}/resource" + i + "/{id}");
+        }
+        templates.add("/tenants/{tenant}/resource7/{id:\\d+}");
+        templates.add("/tenants/{tenant}/resource8/details");
+        templates.add("/tenants/{tenant}");
+        RequestMapper<String> mapper = mapper(false, templates.toArray(new String[0]));
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/tenants/acme/resource42/1");
+        Assertions.assertEquals("/tenants/{tenant}/resource42/{id}", result.value);
+        Assertions.assertEquals("acme", result.pathParamValues[0]);
+        Assertions.assertEquals("1", result.pathParamValues[1]);
+        // custom regex templates take precedence
+        Assertions.assertEquals("/tenants/{tenant}/resource7/{id:\\d+}", mapper.map("/tenants/acme/resource7/1").value);
+        Assertions.assertEquals("/tenants/{tenant}/resource7/{id}", mapper.map("/tenants/acme/resource7/x").value);
+        // literal templates take precedence
+        Assertions.assertEquals("/tenants/{tenant}/resource8/details",
+                mapper.map("/tenants/acme/resource8/details").value);
+        Assertions.assertEquals("/tenants/{tenant}", mapper.map("/tenants/acme").value);
+        Assertions.assertNull(mapper.map("/tenants/acme/resource50/1"));
+        Assertions.assertNull(mapper.map("/tenants/acme/resource4"));
+    }
+
+    @Test
+    void testPathParamValuesArePaddedWithNull() {
+        RequestMapper<String> mapper = mapper(true, "/foo/{a}/{b}/x", "/foo/{a}");
+        RequestMapper<String> otherMapper = mapper(false, "/bar/{a}/{b}/{c}");
+
+        RequestMapper.RequestMatch<String> result = otherMapper.map("/bar/1/2/3");
+        Assertions.assertEquals("3", result.pathParamValues[2]);
+        // the first candidate captures two values before failing to match
+        result = mapper.map("/foo/1/2");
+        Assertions.assertEquals("/foo/{a}", result.value);
+        Assertions.assertEquals("1", result.pathParamValues[0]);
+        for (int i = 1; i < result.pathParamValues.length; i++) {
+            Assertions.assertNull(result.pathParamValues[i]);
+        }
+        // the capture array is reused by the next match of the thread
+        Assertions.assertSame(result.pathParamValues, otherMapper.map("/bar/4/5/6").pathParamValues);
+    }
+
     @Test
     public void testContinueMatching() {
         RequestMapper<String> mapper = mapper(true, "/greetings", "/greetings/{id}", "/greetings/unrelated");
@@ -0,0 +1,143 @@
+package io.quarkus.scheduler.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.quarkus.scheduler.runtime.TimingWheel;
+
+/**
+ * Measures the trigger engine of the Simple scheduler with the given number of registered jobs. Each invocation
+ * processes all the jobs once:
+ * <ul>
+ * <li>{@code register}: schedules all the jobs in an empty wheel</li>
+ * <li>{@code fire}: advances the wheel by {@value #TICKS} ticks, during which every job fires once and is scheduled again,
+ * like an interval trigger</li>
+ * <li>{@code unschedule}: cancels all the jobs</li>
+ * <li>{@code scan}: the previous engine, which evaluated every registered job on every tick, during the same
+ * {@value #TICKS} ticks</li>
+ * </ul>
+ * The time per job is the score divided by the number of jobs.
+ * <p>
+ * Running the {@link #main(String[])} method executes the benchmark with the GC profiler. To run from the command line,
+ * use {@code java -jar target/benchmark.jar TriggerEngineBenchmark -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TriggerEngineBenchmark {
+
+    static final int TICKS = 100;
+
+    @Param({ "1000", "100000", "1000000" })
+    public int jobs;
+
+    private long[] deadlines;
+    private List<TimingWheel.Entry<Integer>> entries;
+    private Map<Integer, long[]> tasks;
+    private TimingWheel<Integer> wheel;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        deadlines = new long[jobs];
+        tasks = new ConcurrentHashMap<>();
+        for (int i = 0; i < jobs; i++) {
+            deadlines[i] = 1 + random.nextInt(TICKS);
+            tasks.put(i, new long[1]);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void reset(BenchmarkParams params) {
+        wheel = new TimingWheel<>(0);
+        // The entries may still be linked to the previous wheel
+        entries = new ArrayList<>(jobs);
+        for (int i = 0; i < jobs; i++) {
+            entries.add(new TimingWheel.Entry<>(i));
+        }
+        if (!params.getBenchmark().endsWith("register")) {
+            for (int i = 0; i < jobs; i++) {
+                wheel.schedule(entries.get(i), deadlines[i]);
+            }
+        }
+        for (Map.Entry<Integer, long[]> task : tasks.entrySet()) {
+            task.getValue()[0] = deadlines[task.getKey()];
+        }
+    }
+
+    @Benchmark
+    public int register() {
+        for (int i = 0; i < jobs; i++) {
+            wheel.schedule(entries.get(i), deadlines[i]);
+        }
+        return wheel.size();
+    }
+
+    @Benchmark
+    public void fire(Blackhole blackhole) {
+        List<TimingWheel.Entry<Integer>> due = new ArrayList<>();
+        for (long tick = 1; tick <= TICKS; tick++) {
+            due.clear();
+            wheel.advance(tick, due);
+            for (TimingWheel.Entry<Integer> entry : due) {
+                blackhole.consume(entry.value);
+                wheel.schedule(entry, tick + TICKS);
+            }
+        }
+    }
+
+    @Benchmark
+    public int unschedule() {
+        for (int i = 0; i < jobs; i++) {
+            wheel.cancel(entries.get(i));
+        }
+        return wheel.size();
+    }
+
+    @Benchmark
+    public void scan(Blackhole blackhole) {
+        for (long tick = 1; tick <= TICKS; tick++) {
+            for (long[] task : tasks.values()) {
+                if (task[0] <= tick) {
+                    blackhole.consume(task);
+                    task[0] = tick + TICKS;
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(TriggerEngineBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+
+}
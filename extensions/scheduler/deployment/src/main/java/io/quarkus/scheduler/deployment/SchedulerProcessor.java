@@ -81,6 +81,7 @@
 import io.quarkus.gizmo2.creator.BlockCreator;
 import io.quarkus.gizmo2.desc.InterfaceMethodDesc;
 import io.quarkus.gizmo2.desc.MethodDesc;
+import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.scheduler.Scheduled;
@@ -95,6 +96,9 @@
 import io.quarkus.scheduler.runtime.SchedulerConfig;
 import io.quarkus.scheduler.runtime.SchedulerRecorder;
 import io.quarkus.scheduler.runtime.SimpleScheduler;
+import io.quarkus.scheduler.runtime.cluster.JdbcClusterLeaseStore;
+import io.quarkus.scheduler.runtime.cluster.RedisClusterLeaseStore;
+import io.quarkus.scheduler.spi.ClusterLeaseStore;
 import io.quarkus.security.spi.RunAsUserPredicateBuildItem;
 import io.smallrye.common.annotation.Identifier;
 
@@ -165,6 +169,58 @@ void beans(DiscoveredImplementationsBuildItem discoveredImplementations,
         }
     }
 
+    @BuildStep
+    void clusterLeaseStore(SchedulerConfig config, Capabilities capabilities,
+            DiscoveredImplementationsBuildItem discoveredImplementations,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (config.clusterStore().isEmpty()) {
+            return;
+        }
+        if (discoveredImplementations.getImplementations().size() > 1
+                && !discoveredImplementations.isCompositeSchedulerUsed()) {
+            LOGGER.warnf("The Simple scheduler is not used - quarkus.scheduler.cluster.store=%s is ignored",
+                    config.clusterStore().get());
+            return;
+        }
+        switch (config.clusterStore().get()) {
+            case JDBC:
+                if (capabilities.isMissing(Capability.AGROAL)) {
+                    throw new ConfigurationException(
+                            "The jdbc cluster store requires the quarkus-agroal extension and a JDBC driver extension",
+                            Set.of("quarkus.scheduler.cluster.store"));
+                }
+                additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(JdbcClusterLeaseStore.class));
+                break;
+            case REDIS:
+                if (capabilities.isMissing(Capability.REDIS_CLIENT)) {
+                    throw new ConfigurationException("The redis cluster store requires the quarkus-redis-client extension",
+                            Set.of("quarkus.scheduler.cluster.store"));
+                }
+                additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(RedisClusterLeaseStore.class));
+                break;
+            default:
+                throw new IllegalStateException("Unsupported cluster store: " + config.clusterStore().get());
+        }
+    }
+
+    @BuildStep
+    void validateClusterLeaseStore(SchedulerConfig config, ValidationPhaseBuildItem validationPhase,
+            BuildProducer<ValidationErrorBuildItem> validationErrors) {
+        // SimpleScheduler would not resolve an ambiguous store and clustering would be silently disabled
+        List<BeanInfo> stores = validationPhase.getContext().beans().withBeanType(ClusterLeaseStore.class).collect();
+        if (stores.size() < 2) {
+            return;
+        }
+        if (config.clusterStore().isPresent()) {
+            validationErrors.produce(new ValidationErrorBuildItem(new IllegalStateException(
+                    "quarkus.scheduler.cluster.store=" + config.clusterStore().get().name().toLowerCase()
+                            + " must not be set if the application provides a ClusterLeaseStore bean: " + stores)));
+        } else {
+            validationErrors.produce(new ValidationErrorBuildItem(
+                    new IllegalStateException("Multiple ClusterLeaseStore beans found: " + stores)));
+        }
+    }
+
     @BuildStep
     AutoAddScopeBuildItem autoAddScope() {
         // We add @Singleton to any bean class that has no scope annotation and declares at least one non-static method annotated with @Scheduled
@@ -323,7 +379,9 @@ void validateScheduledBusinessMethods(SchedulerConfig config, List<ScheduledBusi
                 }
             }
             // Validate cron() and every() expressions
-            long checkPeriod = capabilities.isMissing(Capability.QUARTZ) ? SimpleScheduler.CHECK_PERIOD : 50;
+            // The tick of the Simple scheduler is a runtime property, an every() value shorter than the tick is reported when
+            // the job is scheduled
+            long checkPeriod = capabilities.isMissing(Capability.QUARTZ) ? 0 : 50;
             CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(config.cronType()));
             for (AnnotationInstance scheduled : scheduledMethod.getSchedules()) {
                 Throwable error = validateScheduled(parser, scheduled, encounteredIdentities, validationPhase.getContext(),
@@ -0,0 +1,93 @@
+package io.quarkus.scheduler.test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class SimpleTickTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.simple.tick=100ms"), "application.properties"));
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testSubSecondInterval() throws InterruptedException {
+        // With the default tick of one second, the job would only be executed once per second
+        assertTrue(Jobs.SUB_SECOND_LATCH.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testPauseAndResume() throws InterruptedException {
+        await().until(() -> Jobs.PAUSED_COUNT.get() > 0);
+        scheduler.pause(Jobs.PAUSED);
+        assertTrue(scheduler.isPaused(Jobs.PAUSED));
+        // An execution may already be running when the job is paused
+        Thread.sleep(300);
+        int count = Jobs.PAUSED_COUNT.get();
+        // The job leaves the wheel when it comes due while paused
+        await().during(Duration.ofSeconds(1)).atMost(Duration.ofSeconds(2))
+                .until(() -> Jobs.PAUSED_COUNT.get() == count);
+
+        // The job is parked again on resume
+        scheduler.resume(Jobs.PAUSED);
+        assertFalse(scheduler.isPaused(Jobs.PAUSED));
+        await().atMost(Duration.ofSeconds(1)).until(() -> Jobs.PAUSED_COUNT.get() > count);
+    }
+
+    @Test
+    public void testUnscheduleJob() throws InterruptedException {
+        AtomicInteger executions = new AtomicInteger();
+        scheduler.newJob("programmatic")
+                .setInterval("0.1s")
+                .setTask(execution -> executions.incrementAndGet())
+                .schedule();
+        await().atMost(Duration.ofSeconds(1)).until(() -> executions.get() >= 2);
+
+        assertNotNull(scheduler.unscheduleJob("programmatic"));
+        assertNull(scheduler.getScheduledJob("programmatic"));
+        // An execution may already be running when the job is unscheduled
+        Thread.sleep(300);
+        int count = executions.get();
+        await().during(Duration.ofSeconds(1)).atMost(Duration.ofSeconds(2))
+                .until(() -> executions.get() == count);
+    }
+
+    static class Jobs {
+
+        static final String PAUSED = "paused";
+        static final CountDownLatch SUB_SECOND_LATCH = new CountDownLatch(5);
+        static final AtomicInteger PAUSED_COUNT = new AtomicInteger();
+
+        @Scheduled(every = "0.2s")
+        void subSecond() {
+            SUB_SECOND_LATCH.countDown();
+        }
+
+        @Scheduled(every = "0.1s", identity = PAUSED)
+        void paused() {
+            PAUSED_COUNT.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.quarkus.scheduler.test.cluster;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.scheduler.Scheduled;
+
+public class ClusterJobs {
+
+    static final String ID = "cluster-job";
+    static final AtomicInteger COUNT = new AtomicInteger();
+
+    @Scheduled(identity = ID, every = "0.1s")
+    void job() {
+        COUNT.incrementAndGet();
+    }
+
+}
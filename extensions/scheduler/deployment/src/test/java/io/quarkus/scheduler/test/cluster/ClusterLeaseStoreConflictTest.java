@@ -0,0 +1,52 @@
+package io.quarkus.scheduler.test.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import jakarta.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.spi.ClusterLeaseStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ClusterLeaseStoreConflictTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .assertException(t -> {
+                assertThat(t).cause().isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("quarkus.scheduler.cluster.store=jdbc must not be set");
+            })
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(CustomStore.class, ClusterJobs.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.cluster.store=jdbc"), "application.properties"));
+
+    @Test
+    public void test() {
+    }
+
+    @Singleton
+    static class CustomStore implements ClusterLeaseStore {
+
+        @Override
+        public List<String> renewMembership(String nodeId, Duration leaseDuration) {
+            return List.of(nodeId);
+        }
+
+        @Override
+        public void leave(String nodeId) {
+        }
+
+        @Override
+        public boolean tryAcquire(String jobIdentity, String nodeId, Duration leaseDuration) {
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,64 @@
+package io.quarkus.scheduler.test.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.spi.ClusterLeaseStore;
+
+/**
+ * The node of the application is {@value #NODE}, the tests act as another node of the cluster through the store.
+ */
+abstract class ClusterLeaseStoreTestBase {
+
+    static final String NODE = "node-1";
+    static final String OTHER_NODE = "node-2";
+
+    static final String CONFIG = "quarkus.scheduler.simple.tick=100ms\n"
+            + "quarkus.scheduler.cluster.node-id=" + NODE + "\n"
+            + "quarkus.scheduler.cluster.lease-duration=3s\n";
+
+    @Inject
+    Scheduler scheduler;
+
+    @Inject
+    ClusterLeaseStore store;
+
+    @Test
+    public void testMembership() {
+        try {
+            assertThat(store.renewMembership(OTHER_NODE, Duration.ofSeconds(3))).containsExactlyInAnyOrder(NODE, OTHER_NODE);
+        } finally {
+            store.leave(OTHER_NODE);
+        }
+        assertThat(store.renewMembership(NODE, Duration.ofSeconds(3))).containsExactly(NODE);
+    }
+
+    @Test
+    public void testOncePerCluster() throws InterruptedException {
+        await().until(() -> ClusterJobs.COUNT.get() > 0);
+
+        scheduler.pause(ClusterJobs.ID);
+        // The lease of the job is held until its next fire time
+        Thread.sleep(500);
+        assertTrue(store.tryAcquire(ClusterJobs.ID, OTHER_NODE, Duration.ofSeconds(2)));
+        assertFalse(store.tryAcquire(ClusterJobs.ID, NODE, Duration.ofSeconds(2)));
+        int count = ClusterJobs.COUNT.get();
+        scheduler.resume(ClusterJobs.ID);
+
+        // The job is not executed while the other node holds its lease
+        await().during(Duration.ofSeconds(1)).atMost(Duration.ofMillis(1500))
+                .until(() -> ClusterJobs.COUNT.get() == count);
+        // And it is taken over once the lease expires
+        await().atMost(Duration.ofSeconds(5)).until(() -> ClusterJobs.COUNT.get() > count);
+    }
+
+}
@@ -0,0 +1,20 @@
+package io.quarkus.scheduler.test.cluster;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class JdbcClusterLeaseStoreTest extends ClusterLeaseStoreTestBase {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(ClusterLeaseStoreTestBase.class, ClusterJobs.class)
+                    .addAsResource(new StringAsset(CONFIG
+                            + "quarkus.scheduler.cluster.store=jdbc\n"
+                            // The H2 dev service creates the tables when a connection is opened
+                            + "quarkus.datasource.devservices.properties.INIT=RUNSCRIPT FROM 'classpath:scheduler-cluster.sql'\n"),
+                            "application.properties"));
+
+}
@@ -0,0 +1,17 @@
+package io.quarkus.scheduler.test.cluster;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RedisClusterLeaseStoreTest extends ClusterLeaseStoreTestBase {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(ClusterLeaseStoreTestBase.class, ClusterJobs.class)
+                    .addAsResource(new StringAsset(CONFIG + "quarkus.scheduler.cluster.store=redis\n"),
+                            "application.properties"));
+
+}
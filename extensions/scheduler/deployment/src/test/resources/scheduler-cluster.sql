@@ -0,0 +1,2 @@
+CREATE TABLE IF NOT EXISTS QUARKUS_SCHEDULER_NODES (NODE_ID VARCHAR(255) NOT NULL PRIMARY KEY, EXPIRES_AT BIGINT NOT NULL);
+CREATE TABLE IF NOT EXISTS QUARKUS_SCHEDULER_LEASES (JOB_ID VARCHAR(255) NOT NULL PRIMARY KEY, NODE_ID VARCHAR(255) NOT NULL, EXPIRES_AT BIGINT NOT NULL);
@@ -0,0 +1,164 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.spi.ClusterLeaseStore;
+
+/**
+ * Executes each job of the {@link SimpleScheduler} once per cluster.
+ * <p>
+ * The jobs are sharded across the members of the cluster with rendezvous hashing, so that a node only attempts to execute
+ * the jobs it owns and only a fraction of the jobs move when a node joins or leaves. Before each execution, the owner acquires
+ * the lease of the job until its next fire time, which prevents a duplicate execution while the members disagree on the
+ * ownership. Therefore, the store is accessed once per execution and once per renewal of the membership lease, whatever the
+ * number of nodes.
+ * <p>
+ * The store is only accessed from the blocking executor.
+ */
+final class SchedulerCluster {
+
+    private static final Logger LOG = Logger.getLogger(SchedulerCluster.class);
+
+    private final ClusterLeaseStore store;
+    private final String nodeId;
+    private final Duration leaseDuration;
+    private final ScheduledExecutorService executor;
+
+    // Null until the membership lease is acquired for the first time
+    private volatile Members members;
+    private volatile ScheduledFuture<?> renewal;
+
+    SchedulerCluster(ClusterLeaseStore store, String nodeId, Duration leaseDuration, ScheduledExecutorService executor) {
+        this.store = store;
+        this.nodeId = nodeId;
+        this.leaseDuration = leaseDuration;
+        this.executor = executor;
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    void start() {
+        // Join before the first check of the triggers so that the jobs of the other members are not executed
+        renew();
+        long period = Math.max(1, leaseDuration.toMillis() / 3);
+        renewal = executor.scheduleAtFixedRate(this::renew, period, period, TimeUnit.MILLISECONDS);
+        LOG.infof("Simple scheduler joined the cluster as %s", nodeId);
+    }
+
+    void stop() {
+        ScheduledFuture<?> renewal = this.renewal;
+        if (renewal == null) {
+            return;
+        }
+        renewal.cancel(false);
+        try {
+            store.leave(nodeId);
+        } catch (Exception e) {
+            LOG.warnf(e, "Unable to leave the cluster - the jobs of %s are taken over when its lease expires", nodeId);
+        }
+    }
+
+    /**
+     * Executes the action if this node owns the job and acquires its lease.
+     *
+     * @param jobIdentity
+     * @param claimDuration the duration of the lease of the job, i.e. the time until the next execution
+     * @param action
+     */
+    void execute(String jobIdentity, Duration claimDuration, Runnable action) {
+        if (!isOwner(jobIdentity)) {
+            LOG.tracef("Job %s is owned by another member of the cluster", jobIdentity);
+            return;
+        }
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                boolean acquired;
+                try {
+                    acquired = store.tryAcquire(jobIdentity, nodeId, claimDuration);
+                } catch (Exception e) {
+                    LOG.warnf(e, "Unable to acquire the lease of job %s - the execution is skipped", jobIdentity);
+                    return;
+                }
+                if (acquired) {
+                    action.run();
+                } else {
+                    LOG.debugf("The lease of job %s is held by another member of the cluster - the execution is skipped",
+                            jobIdentity);
+                }
+            }
+        });
+    }
+
+    boolean isOwner(String jobIdentity) {
+        Members members = this.members;
+        if (members == null) {
+            // Membership unknown, the lease of the job decides
+            return true;
+        }
+        int jobHash = jobIdentity.hashCode();
+        int owner = 0;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < members.ids.length; i++) {
+            long weight = mix(((long) members.hashes[i] << 32) | (jobHash & 0xFFFFFFFFL));
+            if (weight > max) {
+                max = weight;
+                owner = i;
+            }
+        }
+        return members.ids[owner].equals(nodeId);
+    }
+
+    void renew() {
+        try {
+            List<String> ids = store.renewMembership(nodeId, leaseDuration);
+            if (!ids.contains(nodeId)) {
+                // The store may not return the node if its clock is late
+                ids = new ArrayList<>(ids);
+                ids.add(nodeId);
+            }
+            Members previous = this.members;
+            Members current = new Members(ids);
+            this.members = current;
+            if (previous == null || previous.ids.length != current.ids.length) {
+                LOG.debugf("Cluster of the Simple scheduler has %s members", current.ids.length);
+            }
+        } catch (Exception e) {
+            // Keep the last known members, the leases of the jobs prevent duplicate executions
+            LOG.warnf(e, "Unable to renew the membership lease of %s", nodeId);
+        }
+    }
+
+    // The finalization step of SplitMix64
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class Members {
+
+        private final String[] ids;
+        private final int[] hashes;
+
+        Members(List<String> ids) {
+            // Sorted so that all the members break ties the same way
+            this.ids = ids.stream().distinct().sorted().toArray(String[]::new);
+            this.hashes = new int[this.ids.length];
+            for (int i = 0; i < this.ids.length; i++) {
+                hashes[i] = this.ids[i].hashCode();
+            }
+        }
+
+    }
+
+}
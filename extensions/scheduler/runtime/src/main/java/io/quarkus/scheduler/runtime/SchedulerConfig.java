@@ -1,11 +1,14 @@
 package io.quarkus.scheduler.runtime;
 
+import java.util.Optional;
+
 import com.cronutils.model.CronType;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.scheduler.Scheduled;
 import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.spi.ClusterLeaseStore;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithName;
@@ -47,4 +50,28 @@ public interface SchedulerConfig {
     @WithDefault("false")
     boolean useCompositeScheduler();
 
+    /**
+     * The store of the leases used by the Simple scheduler to execute each scheduled job once per cluster. Clustering is
+     * disabled by default, unless the application provides a {@link ClusterLeaseStore} bean. This property must not be set
+     * if it does.
+     * <p>
+     * The {@code jdbc} store requires the {@code quarkus-agroal} extension, the {@code redis} store requires the
+     * {@code quarkus-redis-client} extension.
+     */
+    @WithName("cluster.store")
+    Optional<ClusterStore> clusterStore();
+
+    enum ClusterStore {
+
+        /**
+         * The leases are stored in the tables of a JDBC datasource.
+         */
+        JDBC,
+
+        /**
+         * The leases are stored in Redis keys.
+         */
+        REDIS;
+    }
+
 }
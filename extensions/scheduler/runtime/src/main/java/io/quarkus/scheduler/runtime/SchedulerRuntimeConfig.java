@@ -1,12 +1,14 @@
 package io.quarkus.scheduler.runtime;
 
 import java.time.Duration;
+import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.scheduler.Scheduler;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
 
 @ConfigRoot(phase = ConfigPhase.RUN_TIME)
 @ConfigMapping(prefix = "quarkus.scheduler")
@@ -31,6 +33,55 @@ public interface SchedulerRuntimeConfig {
     @WithDefault("normal")
     StartMode startMode();
 
+    /**
+     * How often the Simple scheduler checks the triggers that are due. An {@code every()} value less than this period is
+     * executed with a delay. The value is rounded down to whole milliseconds.
+     */
+    @WithName("simple.tick")
+    @WithDefault("1s")
+    Duration simpleTick();
+
+    /**
+     * The identifier of this node in the cluster. A random identifier is generated by default.
+     */
+    @WithName("cluster.node-id")
+    Optional<String> clusterNodeId();
+
+    /**
+     * The duration of the membership lease of a node in the cluster. The lease is renewed three times per duration, and the
+     * jobs of a node that stops renewing it are taken over by the other nodes once it is expired.
+     */
+    @WithName("cluster.lease-duration")
+    @WithDefault("15s")
+    Duration clusterLeaseDuration();
+
+    /**
+     * The name of the datasource used by the {@code jdbc} cluster store. The default datasource is used if not set.
+     */
+    @WithName("cluster.datasource")
+    Optional<String> clusterDataSource();
+
+    /**
+     * The prefix of the tables used by the {@code jdbc} cluster store, i.e. {@code <prefix>NODES} and
+     * {@code <prefix>LEASES}.
+     */
+    @WithName("cluster.table-prefix")
+    @WithDefault("QUARKUS_SCHEDULER_")
+    String clusterTablePrefix();
+
+    /**
+     * The name of the Redis client used by the {@code redis} cluster store. The default client is used if not set.
+     */
+    @WithName("cluster.redis-client-name")
+    Optional<String> clusterRedisClientName();
+
+    /**
+     * The prefix of the keys used by the {@code redis} cluster store.
+     */
+    @WithName("cluster.redis-key-prefix")
+    @WithDefault("quarkus-scheduler")
+    String clusterRedisKeyPrefix();
+
     enum StartMode {
 
         /**
@@ -2,14 +2,15 @@
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
@@ -59,6 +60,7 @@
 import io.quarkus.scheduler.common.runtime.SyntheticScheduled;
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
+import io.quarkus.scheduler.spi.ClusterLeaseStore;
 import io.quarkus.scheduler.spi.JobInstrumenter;
 import io.vertx.core.Vertx;
 
@@ -68,13 +70,19 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
 
     private static final Logger LOG = Logger.getLogger(SimpleScheduler.class);
 
-    // milliseconds
+    // The default tick in milliseconds
     public static final long CHECK_PERIOD = 1000L;
 
     private final ScheduledExecutorService scheduledExecutor;
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final SchedulerConfig schedulerConfig;
+    // milliseconds
+    private final long tick;
+    // Only the due triggers are evaluated; all access must be synchronized on the wheel
+    private final TimingWheel<ScheduledTask> wheel;
+    // Null if clustering is disabled
+    private final SchedulerCluster cluster;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
@@ -82,7 +90,8 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
             Event<SchedulerPaused> schedulerPausedEvent, Event<SchedulerResumed> schedulerResumedEvent,
             Event<ScheduledJobPaused> scheduledJobPausedEvent,
             Event<ScheduledJobResumed> scheduledJobResumedEvent, Vertx vertx, SchedulerConfig schedulerConfig,
-            Instance<JobInstrumenter> jobInstrumenter, ScheduledExecutorService blockingExecutor) {
+            Instance<JobInstrumenter> jobInstrumenter, ScheduledExecutorService blockingExecutor,
+            Instance<ClusterLeaseStore> clusterLeaseStore) {
         super(vertx, new CronParser(context.getCronType()), schedulerRuntimeConfig.overdueGracePeriod(),
                 new Events(skippedExecutionEvent, successExecutionEvent, failedExecutionEvent, delayedExecutionEvent,
                         schedulerPausedEvent, schedulerResumedEvent, scheduledJobPausedEvent, scheduledJobResumedEvent),
@@ -90,9 +99,12 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         this.running = true;
         this.scheduledTasks = new ConcurrentHashMap<>();
         this.schedulerConfig = schedulerConfig;
+        this.tick = Math.max(1, schedulerRuntimeConfig.simpleTick().toMillis());
+        this.wheel = new TimingWheel<>(tickOf(Instant.now()));
 
         if (!schedulerRuntimeConfig.enabled()) {
             this.scheduledExecutor = null;
+            this.cluster = null;
             LOG.info("Simple scheduler is disabled by config property and will not be started");
             return;
         }
@@ -101,6 +113,7 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         if (startMode == StartMode.NORMAL && context.getScheduledMethods(Scheduled.SIMPLE).isEmpty()
                 && !context.forceSchedulerStart()) {
             this.scheduledExecutor = null;
+            this.cluster = null;
             LOG.info("No scheduled business methods found - Simple scheduler will not be started");
             return;
         }
@@ -123,7 +136,7 @@ public Thread newThread(Runnable runnable) {
                 return t;
             }
         };
-        // This executor is used to check all registered triggers every second
+        // This executor is used to check the due triggers every tick
         this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
             @Override
             public void run() {
@@ -135,6 +148,14 @@ public void run() {
             running = false;
         }
 
+        if (clusterLeaseStore.isResolvable()) {
+            this.cluster = new SchedulerCluster(clusterLeaseStore.get(),
+                    schedulerRuntimeConfig.clusterNodeId().orElseGet(() -> UUID.randomUUID().toString()),
+                    schedulerRuntimeConfig.clusterLeaseDuration(), blockingExecutor);
+        } else {
+            this.cluster = null;
+        }
+
         // Create triggers and invokers for @Scheduled methods
         for (ScheduledMethod method : context.getScheduledMethods(Scheduled.SIMPLE)) {
             int nameSequence = 0;
@@ -157,7 +178,9 @@ public void run() {
                     ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()), events,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), instrumenter,
                             vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
-                    scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
+                    ScheduledTask task = new ScheduledTask(trigger.get(), invoker, false);
+                    scheduledTasks.put(task.trigger.id, task);
+                    scheduleTask(task);
                 }
             }
         }
@@ -196,6 +219,10 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    synchronized (wheel) {
+                        task.cancelled = true;
+                        wheel.cancel(task.entry);
+                    }
                     return task.trigger;
                 }
             }
@@ -208,11 +235,13 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
+        if (cluster != null) {
+            cluster.start();
+        }
+        // Try to compute the initial delay to execute the checks near to the start of a tick
         // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
+        long now = System.currentTimeMillis();
+        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, tick - Math.floorMod(now, tick), tick,
                 TimeUnit.MILLISECONDS);
     }
 
@@ -222,6 +251,9 @@ void stop() {
             if (scheduledExecutor != null) {
                 scheduledExecutor.shutdownNow();
             }
+            if (cluster != null) {
+                cluster.stop();
+            }
         } catch (Exception e) {
             LOG.warn("Unable to shutdown the scheduler executor", e);
         }
@@ -233,12 +265,51 @@ void checkTriggers() {
             return;
         }
         ZonedDateTime now = ZonedDateTime.now();
-        LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks.values()) {
-            task.execute(now, vertx);
+        List<TimingWheel.Entry<ScheduledTask>> due = new ArrayList<>();
+        synchronized (wheel) {
+            wheel.advance(tickOf(now.toInstant()), due);
+        }
+        LOG.tracef("Check %s due triggers at %s", due.size(), now);
+        if (due.isEmpty()) {
+            return;
+        }
+        for (TimingWheel.Entry<ScheduledTask> entry : due) {
+            entry.value.execute(now, cluster);
+        }
+        synchronized (wheel) {
+            for (TimingWheel.Entry<ScheduledTask> entry : due) {
+                ScheduledTask task = entry.value;
+                if (task.cancelled) {
+                    continue;
+                }
+                if (!task.trigger.isRunning()) {
+                    // The task is scheduled again when resumed
+                    task.parked = true;
+                    continue;
+                }
+                Instant next = task.trigger.nextEvaluation();
+                if (next != null) {
+                    wheel.schedule(entry, tickOf(next));
+                }
+            }
+        }
+    }
+
+    void scheduleTask(ScheduledTask task) {
+        Instant next = task.trigger.nextEvaluation();
+        if (next != null) {
+            synchronized (wheel) {
+                if (!task.cancelled) {
+                    wheel.schedule(task.entry, tickOf(next));
+                }
+            }
         }
     }
 
+    private long tickOf(Instant instant) {
+        return Math.floorDiv(instant.toEpochMilli(), tick);
+    }
+
     @Override
     public void pause() {
         if (!isStarted()) {
@@ -306,6 +377,12 @@ public void resume(String identity) {
         ScheduledTask task = scheduledTasks.get(parsedIdentity);
         if (task != null) {
             task.trigger.setRunning(true);
+            synchronized (wheel) {
+                if (task.parked && !task.cancelled) {
+                    task.parked = false;
+                    wheel.schedule(task.entry, wheel.currentTick() + 1);
+                }
+            }
             events.fireScheduledJobResumed(new ScheduledJobResumed(task.trigger));
         }
     }
@@ -367,7 +444,7 @@ Optional<SimpleTrigger> createTrigger(String id, String methodDescription, Sched
                 return Optional.empty();
             }
             return Optional.of(new IntervalTrigger(id, start, everyMillis.getAsLong(),
-                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription));
+                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription, tick));
         } else {
             throw new IllegalArgumentException("Either the 'cron' expression or the 'every' period must be set: " + scheduled);
         }
@@ -378,27 +455,51 @@ static class ScheduledTask {
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        final TimingWheel.Entry<ScheduledTask> entry;
+        // The following fields are guarded by the wheel
+        // Unscheduled and must not be added to the wheel again
+        boolean cancelled;
+        // Paused and removed from the wheel
+        boolean parked;
 
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
             this.invoker = invoker;
             this.isProgrammatic = isProgrammatic;
+            this.entry = new TimingWheel.Entry<>(this);
         }
 
-        void execute(ZonedDateTime now, Vertx vertx) {
+        void execute(ZonedDateTime now, SchedulerCluster cluster) {
             if (!trigger.isRunning()) {
                 return;
             }
             ZonedDateTime scheduledFireTime = trigger.evaluate(now);
             if (scheduledFireTime != null) {
-                try {
-                    invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, trigger));
-                } catch (Throwable t) {
-                    // already logged by the StatusEmitterInvoker
+                SimpleScheduledExecution execution = new SimpleScheduledExecution(now, scheduledFireTime, trigger);
+                if (cluster == null) {
+                    invoke(execution);
+                } else {
+                    // The lease of the job is held until the next fire time
+                    Instant next = trigger.getNextFireTime();
+                    Duration claimDuration = next != null ? Duration.between(now.toInstant(), next) : Duration.ZERO;
+                    cluster.execute(trigger.id, claimDuration, new Runnable() {
+                        @Override
+                        public void run() {
+                            invoke(execution);
+                        }
+                    });
                 }
             }
         }
 
+        private void invoke(SimpleScheduledExecution execution) {
+            try {
+                invoker.invoke(execution);
+            } catch (Throwable t) {
+                // already logged by the StatusEmitterInvoker
+            }
+        }
+
     }
 
     static abstract class SimpleTrigger implements Trigger {
@@ -422,6 +523,12 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * @return the earliest time at which {@link #evaluate(ZonedDateTime)} may fire, or {@code null} if the trigger
+         *         never fires again
+         */
+        abstract Instant nextEvaluation();
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -451,15 +558,19 @@ static class IntervalTrigger extends SimpleTrigger {
         // milliseconds
         private final long interval;
         private final Duration gracePeriod;
+        // milliseconds
+        private final long tick;
 
-        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description) {
+        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description,
+                long tick) {
             super(id, start, description);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
-            if (interval < CHECK_PERIOD) {
+            this.tick = tick;
+            if (interval < tick) {
                 LOG.warnf(
                         "An every() value less than %s ms is not supported - the scheduled job will be executed with a delay: %s",
-                        CHECK_PERIOD, description);
+                        tick, description);
             }
         }
 
@@ -470,19 +581,25 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = truncate(now);
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = truncate(now);
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
             return null;
         }
 
+        @Override
+        Instant nextEvaluation() {
+            ZonedDateTime last = lastFireTime;
+            return last == null ? start.toInstant() : last.toInstant().plusMillis(interval);
+        }
+
         @Override
         public Instant getNextFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -509,6 +626,12 @@ public String toString() {
             return builder.toString();
         }
 
+        // The last fire time is aligned with the tick so that the checks do not drift
+        private ZonedDateTime truncate(ZonedDateTime time) {
+            long millis = time.toInstant().toEpochMilli();
+            return Instant.ofEpochMilli(millis - Math.floorMod(millis, tick)).atZone(time.getZone());
+        }
+
     }
 
     static class CronTrigger extends SimpleTrigger {
@@ -533,6 +656,12 @@ public Instant getNextFireTime() {
             return executionTime.nextExecution(lastFireTime).map(ZonedDateTime::toInstant).orElse(null);
         }
 
+        @Override
+        Instant nextEvaluation() {
+            // The last fire time is initialized with the start time
+            return getNextFireTime();
+        }
+
         @Override
         ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
@@ -672,6 +801,7 @@ public boolean isBlocking() {
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                scheduleTask(scheduledTask);
                 return simpleTrigger;
             }
             return null;
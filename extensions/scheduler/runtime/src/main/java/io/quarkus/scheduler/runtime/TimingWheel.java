@@ -0,0 +1,207 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.List;
+
+/**
+ * A hierarchical timing wheel used by the {@link SimpleScheduler} to find the triggers that are due.
+ * <p>
+ * Time is measured in ticks. Each level of the wheel has {@value #WHEEL_SIZE} slots and a slot of a level spans all the
+ * slots of the level below. An entry is stored in the lowest level whose range contains its deadline and it is moved to a
+ * lower level when the wheel reaches its slot. Therefore, scheduling and cancelling an entry is O(1) and advancing the wheel
+ * by one tick only touches the entries that are due, no matter how many entries are scheduled.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <T> the type of the scheduled values
+ */
+public final class TimingWheel<T> {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    // 42 bits, i.e. more than a century with a tick of one millisecond
+    private static final int LEVELS = 7;
+    private static final int RANGE_BITS = LEVELS * WHEEL_BITS;
+    private static final long RANGE_MASK = (1L << RANGE_BITS) - 1;
+
+    private final Entry<T>[][] slots;
+    private long currentTick;
+    private int size;
+
+    /**
+     *
+     * @param currentTick the last tick that is considered processed
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long currentTick) {
+        this.slots = new Entry[LEVELS][WHEEL_SIZE];
+        this.currentTick = currentTick;
+    }
+
+    /**
+     *
+     * @return the last processed tick
+     */
+    public long currentTick() {
+        return currentTick;
+    }
+
+    /**
+     *
+     * @return the number of scheduled entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Schedules the entry for the given tick. An entry that is already scheduled is rescheduled. A deadline that is not
+     * after the current tick is moved to the next tick.
+     *
+     * @param entry
+     * @param deadline
+     */
+    public void schedule(Entry<T> entry, long deadline) {
+        if (entry.isScheduled()) {
+            unlink(entry);
+        } else {
+            size++;
+        }
+        entry.deadline = Math.max(deadline, currentTick + 1);
+        place(entry);
+    }
+
+    /**
+     *
+     * @param entry
+     * @return {@code true} if the entry was scheduled, {@code false} otherwise
+     */
+    public boolean cancel(Entry<T> entry) {
+        if (!entry.isScheduled()) {
+            return false;
+        }
+        unlink(entry);
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel up to the given tick. The entries that are due are removed from the wheel and added to the given
+     * list in the order of their deadlines.
+     *
+     * @param tick
+     * @param due
+     */
+    public void advance(long tick, List<Entry<T>> due) {
+        if (size == 0) {
+            currentTick = Math.max(currentTick, tick);
+            return;
+        }
+        while (currentTick < tick) {
+            long t = ++currentTick;
+            // Move the entries of the higher levels first so that the entries due at this tick end up in the level 0
+            for (int level = LEVELS - 1; level > 0; level--) {
+                int shift = level * WHEEL_BITS;
+                if ((t & ((1L << shift) - 1)) == 0) {
+                    Entry<T> entry = detach(level, (int) (t >>> shift) & WHEEL_MASK);
+                    while (entry != null) {
+                        Entry<T> next = entry.next;
+                        entry.next = null;
+                        place(entry);
+                        entry = next;
+                    }
+                }
+            }
+            Entry<T> entry = detach(0, (int) t & WHEEL_MASK);
+            while (entry != null) {
+                Entry<T> next = entry.next;
+                entry.next = null;
+                if (entry.deadline <= t) {
+                    size--;
+                    due.add(entry);
+                } else {
+                    // Deadline beyond the range of the wheel
+                    place(entry);
+                }
+                entry = next;
+            }
+            if (size == 0) {
+                currentTick = Math.max(currentTick, tick);
+                return;
+            }
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        long deadline = entry.deadline;
+        if ((deadline >>> RANGE_BITS) != (currentTick >>> RANGE_BITS)) {
+            // Beyond the range of the wheel - the entry is placed again when the end of the range is reached
+            deadline = Math.max(currentTick | RANGE_MASK, currentTick + 1);
+        }
+        int level = 0;
+        while (level < LEVELS - 1
+                && (deadline >>> ((level + 1) * WHEEL_BITS)) != (currentTick >>> ((level + 1) * WHEEL_BITS))) {
+            level++;
+        }
+        int slot = (int) (deadline >>> (level * WHEEL_BITS)) & WHEEL_MASK;
+        Entry<T> head = slots[level][slot];
+        entry.level = level;
+        entry.slot = slot;
+        entry.prev = null;
+        entry.next = head;
+        if (head != null) {
+            head.prev = entry;
+        }
+        slots[level][slot] = entry;
+    }
+
+    private Entry<T> detach(int level, int slot) {
+        Entry<T> head = slots[level][slot];
+        slots[level][slot] = null;
+        for (Entry<T> entry = head; entry != null; entry = entry.next) {
+            entry.level = -1;
+            entry.prev = null;
+        }
+        return head;
+    }
+
+    private void unlink(Entry<T> entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            slots[entry.level][entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+        entry.level = -1;
+    }
+
+    public static final class Entry<T> {
+
+        public final T value;
+
+        private long deadline;
+        // -1 if not scheduled
+        private int level = -1;
+        private int slot;
+        private Entry<T> prev;
+        private Entry<T> next;
+
+        public Entry(T value) {
+            this.value = value;
+        }
+
+        public boolean isScheduled() {
+            return level >= 0;
+        }
+
+        public long deadline() {
+            return deadline;
+        }
+
+    }
+
+}
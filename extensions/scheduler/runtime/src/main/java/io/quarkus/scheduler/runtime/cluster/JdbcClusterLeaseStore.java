@@ -0,0 +1,140 @@
+package io.quarkus.scheduler.runtime.cluster;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.inject.Singleton;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.runtime.AgroalDataSourceUtil;
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig;
+import io.quarkus.scheduler.spi.ClusterLeaseStore;
+
+/**
+ * Stores the leases in two tables of a JDBC datasource, which must be created by the application:
+ *
+ * <pre>
+ * CREATE TABLE QUARKUS_SCHEDULER_NODES (NODE_ID VARCHAR(255) NOT NULL PRIMARY KEY, EXPIRES_AT BIGINT NOT NULL);
+ * CREATE TABLE QUARKUS_SCHEDULER_LEASES (JOB_ID VARCHAR(255) NOT NULL PRIMARY KEY, NODE_ID VARCHAR(255) NOT NULL,
+ *         EXPIRES_AT BIGINT NOT NULL);
+ * </pre>
+ *
+ * The expiration is stored in milliseconds since the epoch. A lease is acquired with a conditional update, or an insert if
+ * the job has no lease yet, so that no lock is held between the statements.
+ */
+@Singleton
+public class JdbcClusterLeaseStore implements ClusterLeaseStore {
+
+    // SQL state class of integrity constraint violations, e.g. a duplicate key
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION = "23";
+
+    private final AgroalDataSource dataSource;
+    private final String renewNode;
+    private final String insertNode;
+    private final String deleteExpiredNodes;
+    private final String selectNodes;
+    private final String deleteNode;
+    private final String updateLease;
+    private final String insertLease;
+
+    public JdbcClusterLeaseStore(SchedulerRuntimeConfig config) {
+        this.dataSource = AgroalDataSourceUtil.dataSourceInstance(
+                config.clusterDataSource().orElse(DataSourceUtil.DEFAULT_DATASOURCE_NAME)).get();
+        String nodes = config.clusterTablePrefix() + "NODES";
+        String leases = config.clusterTablePrefix() + "LEASES";
+        this.renewNode = "UPDATE " + nodes + " SET EXPIRES_AT = ? WHERE NODE_ID = ?";
+        this.insertNode = "INSERT INTO " + nodes + " (NODE_ID, EXPIRES_AT) VALUES (?, ?)";
+        this.deleteExpiredNodes = "DELETE FROM " + nodes + " WHERE EXPIRES_AT <= ?";
+        this.selectNodes = "SELECT NODE_ID FROM " + nodes + " WHERE EXPIRES_AT > ?";
+        this.deleteNode = "DELETE FROM " + nodes + " WHERE NODE_ID = ?";
+        this.updateLease = "UPDATE " + leases
+                + " SET NODE_ID = ?, EXPIRES_AT = ? WHERE JOB_ID = ? AND (NODE_ID = ? OR EXPIRES_AT <= ?)";
+        this.insertLease = "INSERT INTO " + leases + " (JOB_ID, NODE_ID, EXPIRES_AT) VALUES (?, ?, ?)";
+    }
+
+    @Override
+    public List<String> renewMembership(String nodeId, Duration leaseDuration) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + leaseDuration.toMillis();
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement update = connection.prepareStatement(renewNode)) {
+                update.setLong(1, expiresAt);
+                update.setString(2, nodeId);
+                if (update.executeUpdate() == 0) {
+                    try (PreparedStatement insert = connection.prepareStatement(insertNode)) {
+                        insert.setString(1, nodeId);
+                        insert.setLong(2, expiresAt);
+                        insert.executeUpdate();
+                    }
+                }
+            }
+            try (PreparedStatement delete = connection.prepareStatement(deleteExpiredNodes)) {
+                delete.setLong(1, now);
+                delete.executeUpdate();
+            }
+            List<String> members = new ArrayList<>();
+            try (PreparedStatement select = connection.prepareStatement(selectNodes)) {
+                select.setLong(1, now);
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        members.add(rs.getString(1));
+                    }
+                }
+            }
+            return members;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to renew the membership lease of " + nodeId, e);
+        }
+    }
+
+    @Override
+    public void leave(String nodeId) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement delete = connection.prepareStatement(deleteNode)) {
+            delete.setString(1, nodeId);
+            delete.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to remove " + nodeId + " from the cluster", e);
+        }
+    }
+
+    @Override
+    public boolean tryAcquire(String jobIdentity, String nodeId, Duration leaseDuration) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + leaseDuration.toMillis();
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement update = connection.prepareStatement(updateLease)) {
+                update.setString(1, nodeId);
+                update.setLong(2, expiresAt);
+                update.setString(3, jobIdentity);
+                update.setString(4, nodeId);
+                update.setLong(5, now);
+                if (update.executeUpdate() > 0) {
+                    return true;
+                }
+            }
+            try (PreparedStatement insert = connection.prepareStatement(insertLease)) {
+                insert.setString(1, jobIdentity);
+                insert.setString(2, nodeId);
+                insert.setLong(3, expiresAt);
+                insert.executeUpdate();
+                return true;
+            } catch (SQLException e) {
+                if (e.getSQLState() != null && e.getSQLState().startsWith(INTEGRITY_CONSTRAINT_VIOLATION)) {
+                    // The lease exists and is held by another node
+                    return false;
+                }
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to acquire the lease of job " + jobIdentity, e);
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+package io.quarkus.scheduler.runtime.cluster;
+
+import java.time.Duration;
+import java.util.List;
+
+import jakarta.inject.Singleton;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.redis.client.RedisClientName;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.sortedset.ScoreRange;
+import io.quarkus.redis.datasource.sortedset.SortedSetCommands;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig;
+import io.quarkus.scheduler.spi.ClusterLeaseStore;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * Stores the membership leases in a sorted set, where the score of a member is the expiration of its lease in milliseconds
+ * since the epoch, and the lease of each job in a key that expires with the lease.
+ */
+@Singleton
+public class RedisClusterLeaseStore implements ClusterLeaseStore {
+
+    // Sets the key if it does not exist or if it is held by the same node
+    private static final String ACQUIRE_SCRIPT = "local holder = redis.call('GET', KEYS[1]) "
+            + "if holder == false or holder == ARGV[1] then "
+            + "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) return 1 end "
+            + "return 0";
+
+    private final RedisDataSource dataSource;
+    private final SortedSetCommands<String, String> sortedSet;
+    private final String nodesKey;
+    private final String leaseKeyPrefix;
+
+    public RedisClusterLeaseStore(SchedulerRuntimeConfig config) {
+        ArcContainer container = Arc.container();
+        this.dataSource = config.clusterRedisClientName().isPresent()
+                ? container.select(RedisDataSource.class, RedisClientName.Literal.of(config.clusterRedisClientName().get()))
+                        .get()
+                : container.select(RedisDataSource.class).get();
+        this.sortedSet = dataSource.sortedSet(String.class);
+        this.nodesKey = config.clusterRedisKeyPrefix() + ":nodes";
+        this.leaseKeyPrefix = config.clusterRedisKeyPrefix() + ":lease:";
+    }
+
+    @Override
+    public List<String> renewMembership(String nodeId, Duration leaseDuration) {
+        long now = System.currentTimeMillis();
+        sortedSet.zadd(nodesKey, now + leaseDuration.toMillis(), nodeId);
+        sortedSet.zremrangebyscore(nodesKey, new ScoreRange<>(Double.NEGATIVE_INFINITY, true, (double) now, true));
+        return sortedSet.zrangebyscore(nodesKey, new ScoreRange<>((double) now, false, Double.POSITIVE_INFINITY, true));
+    }
+
+    @Override
+    public void leave(String nodeId) {
+        sortedSet.zrem(nodesKey, nodeId);
+    }
+
+    @Override
+    public boolean tryAcquire(String jobIdentity, String nodeId, Duration leaseDuration) {
+        Response response = dataSource.execute("EVAL", ACQUIRE_SCRIPT, "1", leaseKeyPrefix + jobIdentity, nodeId,
+                String.valueOf(Math.max(1, leaseDuration.toMillis())));
+        return response != null && response.toInteger() == 1;
+    }
+
+}
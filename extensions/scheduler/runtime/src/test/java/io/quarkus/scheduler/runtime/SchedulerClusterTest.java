@@ -0,0 +1,149 @@
+package io.quarkus.scheduler.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.scheduler.spi.ClusterLeaseStore;
+
+public class SchedulerClusterTest {
+
+    private static final int NODES = 30;
+    private static final int JOBS = 3000;
+
+    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(2);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testJobsAreShardedAcrossMembers() {
+        InMemoryStore store = new InMemoryStore();
+        List<SchedulerCluster> nodes = new ArrayList<>();
+        for (int i = 0; i < NODES; i++) {
+            SchedulerCluster node = new SchedulerCluster(store, "node-" + i, Duration.ofMinutes(1), executor);
+            nodes.add(node);
+            node.renew();
+        }
+        for (SchedulerCluster node : nodes) {
+            node.renew();
+        }
+
+        Map<String, SchedulerCluster> owners = owners(nodes);
+        Map<SchedulerCluster, Integer> counts = new HashMap<>();
+        for (SchedulerCluster owner : owners.values()) {
+            counts.merge(owner, 1, Integer::sum);
+        }
+        assertEquals(NODES, counts.size());
+        for (int count : counts.values()) {
+            // 100 jobs per node on average
+            assertTrue(count > 50 && count < 150, "Unbalanced sharding: " + counts.values());
+        }
+
+        // Only the jobs of the node that left move to other nodes
+        SchedulerCluster left = nodes.remove(0);
+        store.leave(left.getNodeId());
+        for (SchedulerCluster node : nodes) {
+            node.renew();
+        }
+        Map<String, SchedulerCluster> newOwners = owners(nodes);
+        for (Map.Entry<String, SchedulerCluster> e : owners.entrySet()) {
+            if (e.getValue() != left) {
+                assertEquals(e.getValue(), newOwners.get(e.getKey()));
+            }
+        }
+    }
+
+    @Test
+    public void testJobExecutedOncePerFireTime() throws InterruptedException {
+        InMemoryStore store = new InMemoryStore();
+        SchedulerCluster foo = new SchedulerCluster(store, "foo", Duration.ofMinutes(1), executor);
+        SchedulerCluster bar = new SchedulerCluster(store, "bar", Duration.ofMinutes(1), executor);
+        // Membership unknown, e.g. the store is not reachable yet, so both nodes consider they own the job
+        assertTrue(foo.isOwner("job"));
+        assertTrue(bar.isOwner("job"));
+
+        AtomicInteger executions = new AtomicInteger();
+        Runnable action = new Runnable() {
+            @Override
+            public void run() {
+                executions.incrementAndGet();
+            }
+        };
+        foo.execute("job", Duration.ofMinutes(1), action);
+        bar.execute("job", Duration.ofMinutes(1), action);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+        // The holder extends its lease
+        String holder = store.leases.get("job").nodeId;
+        assertTrue(store.tryAcquire("job", holder, Duration.ofMinutes(1)));
+        assertFalse(store.tryAcquire("job", holder.equals("foo") ? "bar" : "foo", Duration.ofMinutes(1)));
+    }
+
+    private static Map<String, SchedulerCluster> owners(List<SchedulerCluster> nodes) {
+        Map<String, SchedulerCluster> owners = new HashMap<>();
+        for (int job = 0; job < JOBS; job++) {
+            String identity = "job-" + job;
+            for (SchedulerCluster node : nodes) {
+                if (node.isOwner(identity)) {
+                    SchedulerCluster previous = owners.put(identity, node);
+                    assertEquals(null, previous, "Job " + identity + " owned by several nodes");
+                }
+            }
+            assertTrue(owners.containsKey(identity), "Job " + identity + " not owned");
+        }
+        return owners;
+    }
+
+    static class InMemoryStore implements ClusterLeaseStore {
+
+        final Map<String, Long> nodes = new ConcurrentHashMap<>();
+        final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
+        @Override
+        public synchronized List<String> renewMembership(String nodeId, Duration leaseDuration) {
+            long now = System.currentTimeMillis();
+            nodes.put(nodeId, now + leaseDuration.toMillis());
+            nodes.values().removeIf(expiresAt -> expiresAt <= now);
+            return new ArrayList<>(nodes.keySet());
+        }
+
+        @Override
+        public synchronized void leave(String nodeId) {
+            nodes.remove(nodeId);
+        }
+
+        @Override
+        public synchronized boolean tryAcquire(String jobIdentity, String nodeId, Duration leaseDuration) {
+            long now = System.currentTimeMillis();
+            Lease lease = leases.get(jobIdentity);
+            if (lease == null || lease.nodeId.equals(nodeId) || lease.expiresAt <= now) {
+                leases.put(jobIdentity, new Lease(nodeId, now + leaseDuration.toMillis()));
+                return true;
+            }
+            return false;
+        }
+
+        record Lease(String nodeId, long expiresAt) {
+        }
+
+    }
+
+}
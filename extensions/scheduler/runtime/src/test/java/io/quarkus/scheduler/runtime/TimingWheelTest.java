@@ -0,0 +1,93 @@
+package io.quarkus.scheduler.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TimingWheelTest {
+
+    @Test
+    public void testEntriesFireAtDeadline() {
+        Random random = new Random(42);
+        TimingWheel<Integer> wheel = new TimingWheel<>(1000);
+        List<TimingWheel.Entry<Integer>> entries = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            TimingWheel.Entry<Integer> entry = new TimingWheel.Entry<>(i);
+            // Deadlines spread over several levels
+            wheel.schedule(entry, 1001 + random.nextInt(1 << 20));
+            entries.add(entry);
+        }
+        assertEquals(10_000, wheel.size());
+        List<TimingWheel.Entry<Integer>> due = new ArrayList<>();
+        long tick = 1000;
+        while (wheel.size() > 0) {
+            tick += 1 + random.nextInt(100);
+            int from = due.size();
+            wheel.advance(tick, due);
+            for (TimingWheel.Entry<Integer> entry : due.subList(from, due.size())) {
+                assertTrue(entry.deadline() <= tick);
+                assertTrue(entry.deadline() > tick - 101);
+                assertFalse(entry.isScheduled());
+            }
+        }
+        assertEquals(10_000, due.size());
+        for (int i = 1; i < due.size(); i++) {
+            assertTrue(due.get(i - 1).deadline() <= due.get(i).deadline());
+        }
+    }
+
+    @Test
+    public void testCancelAndReschedule() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        TimingWheel.Entry<String> foo = new TimingWheel.Entry<>("foo");
+        TimingWheel.Entry<String> bar = new TimingWheel.Entry<>("bar");
+        wheel.schedule(foo, 100);
+        wheel.schedule(bar, 100);
+        assertTrue(wheel.cancel(foo));
+        assertFalse(wheel.cancel(foo));
+        wheel.schedule(bar, 5000);
+        assertEquals(1, wheel.size());
+
+        List<TimingWheel.Entry<String>> due = new ArrayList<>();
+        wheel.advance(4999, due);
+        assertTrue(due.isEmpty());
+        wheel.advance(5000, due);
+        assertEquals(List.of(bar), due);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testPastDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(10);
+        TimingWheel.Entry<String> foo = new TimingWheel.Entry<>("foo");
+        wheel.schedule(foo, 3);
+        assertEquals(11, foo.deadline());
+        List<TimingWheel.Entry<String>> due = new ArrayList<>();
+        wheel.advance(11, due);
+        assertEquals(List.of(foo), due);
+    }
+
+    @Test
+    public void testDeadlineBeyondRange() {
+        long range = 1L << 42;
+        TimingWheel<String> wheel = new TimingWheel<>(range - 10);
+        TimingWheel.Entry<String> foo = new TimingWheel.Entry<>("foo");
+        TimingWheel.Entry<String> bar = new TimingWheel.Entry<>("bar");
+        wheel.schedule(foo, range + 5);
+        wheel.schedule(bar, 3 * range);
+        List<TimingWheel.Entry<String>> due = new ArrayList<>();
+        wheel.advance(range + 4, due);
+        assertTrue(due.isEmpty());
+        wheel.advance(range + 5, due);
+        assertEquals(List.of(foo), due);
+        assertEquals(1, wheel.size());
+        assertTrue(bar.isScheduled());
+    }
+
+}
@@ -0,0 +1,48 @@
+package io.quarkus.scheduler.spi;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Stores the leases that make the Simple scheduler run each scheduled job once per cluster.
+ * <p>
+ * Every node holds a membership lease, which is renewed periodically. The jobs are sharded across the members, so a node only
+ * attempts to execute the jobs it owns, and it must acquire the lease of the job before each execution. The lease of a job
+ * prevents a duplicate execution while the members disagree on the ownership, e.g. when a node joins or leaves the cluster.
+ * <p>
+ * The extension provides implementations backed by a JDBC datasource and by the Redis client, see
+ * {@code quarkus.scheduler.cluster.store}. An application can provide exactly one CDI bean of this type instead. The scope
+ * must be either {@link jakarta.inject.Singleton} or {@link jakarta.enterprise.context.ApplicationScoped}.
+ * <p>
+ * The methods are never called on an event loop thread. The expiration of a lease is computed from the clock of the node
+ * that acquires it, so the clocks of the nodes must be synchronized.
+ */
+public interface ClusterLeaseStore {
+
+    /**
+     * Registers the node, or extends its membership lease, and removes the expired members.
+     *
+     * @param nodeId the identifier of the node
+     * @param leaseDuration the duration of the membership lease
+     * @return the identifiers of the members whose lease is not expired, including the given node
+     */
+    List<String> renewMembership(String nodeId, Duration leaseDuration);
+
+    /**
+     * Removes the node from the members.
+     *
+     * @param nodeId the identifier of the node
+     */
+    void leave(String nodeId);
+
+    /**
+     * Acquires the lease of a job if it is not held by another node. A node that already holds the lease extends it.
+     *
+     * @param jobIdentity the identity of the job
+     * @param nodeId the identifier of the node
+     * @param leaseDuration the duration of the lease
+     * @return {@code true} if the node holds the lease, {@code false} if another node holds it
+     */
+    boolean tryAcquire(String jobIdentity, String nodeId, Duration leaseDuration);
+
+}
@@ -0,0 +1,28 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.function.Consumer;
+
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class CheckpointMetricsRecorder {
+
+    public Consumer<MetricsFactory> registerCheckpointMetrics(ShutdownContext shutdownContext) {
+        // The metrics factory of the application must not be used after a dev mode restart
+        shutdownContext.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                CoalescingCheckpointStateStore.setMetricsFactory(null);
+            }
+        });
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                CoalescingCheckpointStateStore.setMetricsFactory(metricsFactory);
+            }
+        };
+    }
+
+}
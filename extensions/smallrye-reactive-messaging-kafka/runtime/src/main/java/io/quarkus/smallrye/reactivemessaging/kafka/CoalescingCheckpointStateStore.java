@@ -0,0 +1,245 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.common.TopicPartition;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.smallrye.reactive.messaging.kafka.KafkaConnectorIncomingConfiguration;
+import io.smallrye.reactive.messaging.kafka.commit.CheckpointStateStore;
+import io.smallrye.reactive.messaging.kafka.commit.KafkaCommitHandler;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.vertx.mutiny.core.Context;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Coalesces the processing states persisted to a state store.
+ * <p>
+ * A single write to the state store is in progress at any time. The states persisted in the meantime are merged, keeping the
+ * latest state of each topic-partition, and written at once when the previous write completes. If a flush interval is
+ * configured with {@code checkpoint.[state-store].flush-interval.ms}, they are written once the interval has elapsed since
+ * the first of them was persisted and the previous write has completed. The {@link Uni} returned by
+ * {@link #persistProcessingState(Map)} completes once the states are written, so a persisted state is never acknowledged
+ * before it is stored.
+ * <p>
+ * The states pending when the store is closed are still written, and the delegate is closed once the last write completes.
+ */
+final class CoalescingCheckpointStateStore implements CheckpointStateStore {
+
+    static final String FLUSH_INTERVAL = "flush-interval.ms";
+    static final String LAG_METRIC = "kafka.checkpoint.lag";
+
+    // Set if the metrics are enabled and a metrics extension is present, reset on shutdown
+    private static volatile MetricsFactory metricsFactory;
+
+    static void setMetricsFactory(MetricsFactory metricsFactory) {
+        CoalescingCheckpointStateStore.metricsFactory = metricsFactory;
+    }
+
+    static CheckpointStateStore wrap(CheckpointStateStore delegate, String stateStoreName,
+            KafkaConnectorIncomingConfiguration config, Vertx vertx, String consumerGroupId) {
+        long flushInterval = config.config()
+                .getOptionalValue(KafkaCommitHandler.Strategy.CHECKPOINT + "." + stateStoreName + "." + FLUSH_INTERVAL,
+                        Long.class)
+                .orElse(0L);
+        CoalescingCheckpointStateStore store = new CoalescingCheckpointStateStore(delegate, vertx, flushInterval);
+        MetricsFactory metrics = metricsFactory;
+        if (metrics != null) {
+            metrics.builder(LAG_METRIC)
+                    .description("Time since the oldest processing state not yet written to the state store")
+                    .unit("milliseconds")
+                    .tag("channel", config.getChannel())
+                    .tag("group.id", String.valueOf(consumerGroupId))
+                    .buildGauge(store, CoalescingCheckpointStateStore::lag);
+        }
+        return store;
+    }
+
+    private final CheckpointStateStore delegate;
+    private final Vertx vertx;
+    private final long flushInterval;
+
+    // All the fields below are guarded by this
+    private Map<TopicPartition, ProcessingState<?>> pending = new HashMap<>();
+    private List<UniEmitter<? super Void>> waiters = new ArrayList<>();
+    // The time of the oldest pending state, or zero
+    private long pendingSince;
+    // The time of the oldest state being written, or zero
+    private long writingSince;
+    private boolean writing;
+    private boolean flushScheduled;
+    // The timer fired while a write was in progress
+    private boolean flushDue;
+    private boolean closed;
+    // The context of the latest caller, on which the states are written
+    private Context context;
+
+    CoalescingCheckpointStateStore(CheckpointStateStore delegate, Vertx vertx, long flushInterval) {
+        this.delegate = delegate;
+        this.vertx = vertx;
+        this.flushInterval = flushInterval;
+    }
+
+    @Override
+    public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collection<TopicPartition> partitions) {
+        return delegate.fetchProcessingState(partitions);
+    }
+
+    @Override
+    public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
+        if (state.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return Uni.createFrom().emitter(emitter -> {
+            Context callerContext = Vertx.currentContext();
+            boolean flush;
+            synchronized (this) {
+                if (closed) {
+                    emitter.fail(new IllegalStateException("The checkpoint state store is closed"));
+                    return;
+                }
+                if (callerContext != null) {
+                    context = callerContext;
+                }
+                for (Map.Entry<TopicPartition, ProcessingState<?>> e : state.entrySet()) {
+                    pending.merge(e.getKey(), e.getValue(),
+                            (current, next) -> supersedes(next, current) ? next : current);
+                }
+                waiters.add(emitter);
+                if (pendingSince == 0) {
+                    pendingSince = System.currentTimeMillis();
+                }
+                flush = shouldFlush();
+            }
+            if (flush) {
+                flush();
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        boolean idle;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            idle = !writing && pending.isEmpty();
+        }
+        if (idle) {
+            delegate.close();
+        } else {
+            // Write the pending states now, whatever the flush interval
+            flush();
+        }
+    }
+
+    synchronized long lag() {
+        long since = writingSince != 0 ? writingSince : pendingSince;
+        return since == 0 ? 0 : System.currentTimeMillis() - since;
+    }
+
+    // Must be called while holding the lock
+    private boolean shouldFlush() {
+        if (flushInterval <= 0) {
+            // The pending states are written when the write in progress completes
+            return !writing;
+        }
+        if (flushScheduled) {
+            // The pending states are written when the timer fires, or when the write in progress completes if it fired
+            return false;
+        }
+        flushScheduled = true;
+        Context context = this.context;
+        if (context != null) {
+            // Timers set on a context fire on that context
+            context.runOnContext(() -> vertx.setTimer(flushInterval, ignored -> onTimer()));
+        } else {
+            vertx.setTimer(flushInterval, ignored -> onTimer());
+        }
+        return false;
+    }
+
+    private void onTimer() {
+        synchronized (this) {
+            flushScheduled = false;
+            if (writing) {
+                flushDue = true;
+                return;
+            }
+        }
+        flush();
+    }
+
+    private void flush() {
+        Map<TopicPartition, ProcessingState<?>> batch;
+        List<UniEmitter<? super Void>> batchWaiters;
+        synchronized (this) {
+            if (writing || pending.isEmpty()) {
+                return;
+            }
+            writing = true;
+            batch = pending;
+            batchWaiters = waiters;
+            writingSince = pendingSince;
+            pending = new HashMap<>();
+            waiters = new ArrayList<>();
+            pendingSince = 0;
+        }
+        Uni<Void> write;
+        try {
+            write = delegate.persistProcessingState(batch);
+        } catch (Throwable t) {
+            write = Uni.createFrom().failure(t);
+        }
+        write.subscribe().with(ignored -> completed(batchWaiters, null), failure -> completed(batchWaiters, failure));
+    }
+
+    private void completed(List<UniEmitter<? super Void>> batchWaiters, Throwable failure) {
+        for (UniEmitter<? super Void> waiter : batchWaiters) {
+            if (failure == null) {
+                waiter.complete(null);
+            } else {
+                waiter.fail(failure);
+            }
+        }
+        boolean flush;
+        boolean closeDelegate;
+        Context context;
+        synchronized (this) {
+            writing = false;
+            writingSince = 0;
+            if (closed) {
+                flush = !pending.isEmpty();
+                closeDelegate = !flush;
+            } else {
+                flush = !pending.isEmpty() && (flushDue || shouldFlush());
+                closeDelegate = false;
+            }
+            flushDue = false;
+            context = this.context;
+        }
+        if (closeDelegate) {
+            delegate.close();
+        } else if (flush) {
+            if (context != null) {
+                context.runOnContext(this::flush);
+            } else {
+                flush();
+            }
+        }
+    }
+
+    private static boolean supersedes(ProcessingState<?> state, ProcessingState<?> current) {
+        return ProcessingState.isEmptyOrNull(current)
+                || (!ProcessingState.isEmptyOrNull(state) && state.getOffset() >= current.getOffset());
+    }
+
+}
@@ -62,7 +62,9 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
             SessionFactory sf = persistenceUnit != null
                     ? sessionFactories.select(new PersistenceUnit.PersistenceUnitLiteral(persistenceUnit)).get()
                     : sessionFactories.get();
-            return new HibernateOrmStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType);
+            return CoalescingCheckpointStateStore.wrap(
+                    new HibernateOrmStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType),
+                    HIBERNATE_ORM_STATE_STORE, config, vertx, consumerGroupId);
         }
     }
 
@@ -104,16 +106,24 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
     @Override
     public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
         return Uni.createFrom().deferred(() -> {
-            Object[] entities = state.entrySet().stream()
+            List<CheckpointEntity> entities = state.entrySet().stream()
                     .filter(e -> !ProcessingState.isEmptyOrNull(e.getValue()))
                     .map(e -> CheckpointEntity.from((ProcessingState<? extends CheckpointEntity>) e.getValue(),
                             new CheckpointEntityId(consumerGroupId, e.getKey())))
-                    .toArray();
+                    .collect(Collectors.toList());
+            if (entities.isEmpty()) {
+                return Uni.createFrom().voidItem();
+            }
+            List<CheckpointEntityId> ids = entities.stream().map(CheckpointEntity::getId).collect(Collectors.toList());
             return Vertx.currentContext().executeBlocking(Uni.createFrom().emitter(e -> {
                 Transaction tx = null;
                 try (Session session = sf.openSession()) {
+                    session.setJdbcBatchSize(entities.size());
                     tx = session.beginTransaction();
-                    for (Object entity : entities) {
+                    // Load the existing checkpoints with a single query so that merge does not select them one by one,
+                    // the updates and inserts are then executed in JDBC batches
+                    session.findMultiple(stateType, ids);
+                    for (CheckpointEntity entity : entities) {
                         session.merge(entity);
                     }
                     session.flush();
@@ -1,5 +1,6 @@
 package io.quarkus.smallrye.reactivemessaging.kafka;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -51,7 +52,9 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
             if (!CheckpointEntity.class.isAssignableFrom(stateType)) {
                 throw new IllegalArgumentException("State type needs to extend `CheckpointEntity`");
             }
-            return new HibernateReactiveStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType);
+            return CoalescingCheckpointStateStore.wrap(
+                    new HibernateReactiveStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType),
+                    HIBERNATE_REACTIVE_STATE_STORE, config, vertx, consumerGroupId);
         }
     }
 
@@ -83,7 +86,15 @@ public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>>
                     .map(e -> CheckpointEntity.from((ProcessingState<? extends CheckpointEntity>) e.getValue(),
                             new CheckpointEntityId(consumerGroupId, e.getKey())))
                     .toArray();
-            return sf.withTransaction(s -> s.mergeAll(entities));
+            if (entities.length == 0) {
+                return Uni.createFrom().voidItem();
+            }
+            Object[] ids = Arrays.stream(entities).map(e -> ((CheckpointEntity) e).getId()).toArray();
+            // Load the existing checkpoints with a single query so that merge does not select them one by one,
+            // the updates and inserts are then executed in batches
+            return sf.withTransaction(s -> s.setBatchSize(entities.length)
+                    .find(stateType, ids)
+                    .chain(() -> s.mergeAll(entities)));
         }).runSubscriptionOn(HibernateReactiveStateStore::runOnSafeContext);
     }
 
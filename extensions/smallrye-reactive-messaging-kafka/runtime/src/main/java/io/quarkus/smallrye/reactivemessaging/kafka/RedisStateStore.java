@@ -74,7 +74,8 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
                     return stateCodecFactory.get();
                 }
             }).create(stateType);
-            return new RedisStateStore(rds, consumerGroupId, stateCodec);
+            return CoalescingCheckpointStateStore.wrap(new RedisStateStore(rds, consumerGroupId, stateCodec),
+                    REDIS_STATE_STORE, config, vertx, consumerGroupId);
         }
     }
 
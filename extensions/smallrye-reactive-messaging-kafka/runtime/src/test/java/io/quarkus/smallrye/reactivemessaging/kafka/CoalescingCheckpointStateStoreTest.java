@@ -0,0 +1,354 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.KafkaConnectorIncomingConfiguration;
+import io.smallrye.reactive.messaging.kafka.commit.CheckpointStateStore;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.vertx.mutiny.core.Vertx;
+
+public class CoalescingCheckpointStateStoreTest {
+
+    private static final TopicPartition TP0 = new TopicPartition("prices", 0);
+    private static final TopicPartition TP1 = new TopicPartition("prices", 1);
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    static void startVertx() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    static void closeVertx() {
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    public void testCoalescingDuringWrite() {
+        ControlledStore delegate = new ControlledStore();
+        CoalescingCheckpointStateStore store = new CoalescingCheckpointStateStore(delegate, vertx, 0);
+
+        CompletableFuture<Void> first = persist(store, Map.of(TP0, state(1)));
+        assertEquals(1, delegate.writes.size());
+        assertEquals(Map.of(TP0, state(1)), delegate.writes.get(0));
+
+        // Persisted while the first write is in progress
+        CompletableFuture<Void> second = persist(store, Map.of(TP0, state(5)));
+        CompletableFuture<Void> third = persist(store, Map.of(TP0, state(4), TP1, state(7)));
+        assertEquals(1, delegate.writes.size());
+
+        delegate.complete(0);
+        assertTrue(first.isDone());
+        assertFalse(second.isDone());
+        assertFalse(third.isDone());
+        // A single write, with the latest offset of each partition
+        assertEquals(2, delegate.writes.size());
+        assertEquals(Map.of(TP0, state(5), TP1, state(7)), delegate.writes.get(1));
+
+        delegate.complete(1);
+        assertTrue(second.isDone());
+        assertTrue(third.isDone());
+        assertFalse(second.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testFlushInterval() throws InterruptedException {
+        ControlledStore delegate = new ControlledStore();
+        CoalescingCheckpointStateStore store = new CoalescingCheckpointStateStore(delegate, vertx, 300);
+
+        long start = System.currentTimeMillis();
+        CompletableFuture<Void> first = persist(store, Map.of(TP0, state(1)));
+        persist(store, Map.of(TP0, state(2)));
+        assertEquals(0, delegate.writes.size());
+        delegate.awaitWrites(1);
+        assertTrue(System.currentTimeMillis() - start >= 300);
+        assertEquals(Map.of(TP0, state(2)), delegate.writes.get(0));
+
+        // The interval elapses while the first write is in progress, so the states are written once it completes
+        CompletableFuture<Void> second = persist(store, Map.of(TP0, state(3)));
+        Thread.sleep(600);
+        assertEquals(1, delegate.writes.size());
+        delegate.complete(0);
+        assertTrue(first.isDone());
+        assertEquals(2, delegate.writes.size());
+        assertEquals(Map.of(TP0, state(3)), delegate.writes.get(1));
+
+        // The interval has not elapsed when the second write completes
+        persist(store, Map.of(TP0, state(4)));
+        delegate.complete(1);
+        assertTrue(second.isDone());
+        assertEquals(2, delegate.writes.size());
+        delegate.awaitWrites(3);
+        assertEquals(Map.of(TP0, state(4)), delegate.writes.get(2));
+    }
+
+    @Test
+    public void testFailure() {
+        ControlledStore delegate = new ControlledStore();
+        CoalescingCheckpointStateStore store = new CoalescingCheckpointStateStore(delegate, vertx, 0);
+
+        CompletableFuture<Void> first = persist(store, Map.of(TP0, state(1)));
+        CompletableFuture<Void> second = persist(store, Map.of(TP0, state(2)));
+        CompletableFuture<Void> third = persist(store, Map.of(TP1, state(3)));
+
+        IllegalStateException failure = new IllegalStateException("Unavailable");
+        delegate.failWrite(0, failure);
+        assertSame(failure, failureOf(first));
+        assertEquals(2, delegate.writes.size());
+
+        // All the callers whose states were merged in the failed write are notified
+        delegate.failWrite(1, failure);
+        assertSame(failure, failureOf(second));
+        assertSame(failure, failureOf(third));
+
+        // The store is usable after a failure
+        CompletableFuture<Void> fourth = persist(store, Map.of(TP0, state(4)));
+        delegate.complete(2);
+        assertTrue(fourth.isDone());
+        assertFalse(fourth.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testLagGauge() throws InterruptedException {
+        GaugeCapture metrics = new GaugeCapture();
+        CoalescingCheckpointStateStore.setMetricsFactory(metrics);
+        try {
+            ControlledStore delegate = new ControlledStore();
+            KafkaConnectorIncomingConfiguration config = new KafkaConnectorIncomingConfiguration(
+                    new SmallRyeConfigBuilder()
+                            .withDefaultValue("channel-name", "prices")
+                            .withDefaultValue("value.deserializer", "org.apache.kafka.common.serialization.StringDeserializer")
+                            .build());
+            CheckpointStateStore store = CoalescingCheckpointStateStore.wrap(delegate, "quarkus-redis", config, vertx,
+                    "group");
+            assertEquals(CoalescingCheckpointStateStore.LAG_METRIC, metrics.name);
+            assertNotNull(metrics.gauge);
+            assertEquals(0L, metrics.gauge.get().longValue());
+
+            persist(store, Map.of(TP0, state(1)));
+            persist(store, Map.of(TP0, state(2)));
+            Thread.sleep(50);
+            // The age of the state being written
+            assertTrue(metrics.gauge.get().longValue() >= 50);
+            delegate.complete(0);
+            // The age of the state persisted during the first write
+            long lag = metrics.gauge.get().longValue();
+            assertTrue(lag >= 50);
+            delegate.complete(1);
+            assertEquals(0L, metrics.gauge.get().longValue());
+        } finally {
+            CoalescingCheckpointStateStore.setMetricsFactory(null);
+        }
+    }
+
+    @Test
+    public void testClose() {
+        ControlledStore delegate = new ControlledStore();
+        CoalescingCheckpointStateStore store = new CoalescingCheckpointStateStore(delegate, vertx, 0);
+
+        CompletableFuture<Void> first = persist(store, Map.of(TP0, state(1)));
+        CompletableFuture<Void> second = persist(store, Map.of(TP0, state(2)));
+        store.close();
+        assertFalse(delegate.closed);
+        assertInstanceOf(IllegalStateException.class, failureOf(persist(store, Map.of(TP0, state(3)))));
+
+        // The pending state is written once the write in progress completes
+        delegate.complete(0);
+        assertTrue(first.isDone());
+        assertEquals(Map.of(TP0, state(2)), delegate.writes.get(1));
+        assertFalse(delegate.closed);
+        delegate.complete(1);
+        assertTrue(second.isDone());
+        assertTrue(delegate.closed);
+        assertEquals(2, delegate.writes.size());
+    }
+
+    @Test
+    public void testCloseBeforeFlushInterval() {
+        ControlledStore delegate = new ControlledStore();
+        CoalescingCheckpointStateStore store = new CoalescingCheckpointStateStore(delegate, vertx, 60_000);
+
+        CompletableFuture<Void> first = persist(store, Map.of(TP0, state(1)));
+        assertEquals(0, delegate.writes.size());
+        // The pending state is written without waiting for the flush interval
+        store.close();
+        assertEquals(1, delegate.writes.size());
+        delegate.failWrite(0, new IllegalStateException("Unavailable"));
+        assertTrue(first.isCompletedExceptionally());
+        assertTrue(delegate.closed);
+    }
+
+    @Test
+    public void testCloseIdle() {
+        ControlledStore delegate = new ControlledStore();
+        new CoalescingCheckpointStateStore(delegate, vertx, 0).close();
+        assertTrue(delegate.closed);
+        assertEquals(0, delegate.writes.size());
+    }
+
+    private static CompletableFuture<Void> persist(CheckpointStateStore store, Map<TopicPartition, ProcessingState<?>> state) {
+        return store.persistProcessingState(state).subscribeAsCompletionStage();
+    }
+
+    private static ProcessingState<?> state(long offset) {
+        return new ProcessingState<>("state-" + offset, offset);
+    }
+
+    private static Throwable failureOf(CompletableFuture<Void> result) {
+        assertTrue(result.isCompletedExceptionally());
+        try {
+            result.get();
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return fail();
+    }
+
+    /**
+     * Records the written states, each write completes when the test says so.
+     */
+    static class ControlledStore implements CheckpointStateStore {
+
+        final List<Map<TopicPartition, ProcessingState<?>>> writes = new CopyOnWriteArrayList<>();
+        final List<CompletableFuture<Void>> results = new CopyOnWriteArrayList<>();
+        volatile boolean closed;
+
+        @Override
+        public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collection<TopicPartition> partitions) {
+            return Uni.createFrom().item(Map.of());
+        }
+
+        @Override
+        public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            results.add(result);
+            writes.add(Map.copyOf(state));
+            return Uni.createFrom().completionStage(result);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        void complete(int write) {
+            results.get(write).complete(null);
+        }
+
+        void failWrite(int write, Throwable failure) {
+            results.get(write).completeExceptionally(failure);
+        }
+
+        void awaitWrites(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (writes.size() < count) {
+                if (System.currentTimeMillis() > deadline) {
+                    fail("Expected " + count + " writes, got " + writes.size());
+                }
+                Thread.sleep(10);
+            }
+        }
+
+    }
+
+    static class GaugeCapture implements MetricsFactory, MetricsFactory.MetricBuilder {
+
+        String name;
+        Supplier<Number> gauge;
+
+        @Override
+        public boolean metricsSystemSupported(String name) {
+            return true;
+        }
+
+        @Override
+        public MetricBuilder builder(String name, Type type) {
+            this.name = name;
+            return this;
+        }
+
+        @Override
+        public MetricBuilder description(String description) {
+            return this;
+        }
+
+        @Override
+        public MetricBuilder tag(String key, String value) {
+            return this;
+        }
+
+        @Override
+        public MetricBuilder unit(String unit) {
+            return this;
+        }
+
+        @Override
+        public void buildCounter(Supplier<Number> countFunction) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T, R extends Number> void buildCounter(T obj, Function<T, R> countFunction) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void buildGauge(Supplier<Number> gaugeFunction) {
+            this.gauge = gaugeFunction;
+        }
+
+        @Override
+        public <T, R extends Number> void buildGauge(T obj, Function<T, R> gaugeFunction) {
+            this.gauge = () -> gaugeFunction.apply(obj);
+        }
+
+        @Override
+        public TimeRecorder buildTimer() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Runnable buildTimer(Runnable f) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> Callable<T> buildTimer(Callable<T> f) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> Supplier<T> buildTimer(Supplier<T> f) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
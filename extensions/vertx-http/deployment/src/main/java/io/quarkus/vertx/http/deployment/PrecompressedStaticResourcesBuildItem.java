@@ -0,0 +1,23 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedResource;
+
+/**
+ * Static resources for which compressed variants were generated at build time, keyed by their path relative to
+ * {@code META-INF/resources}.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final Map<String, PrecompressedResource> resources;
+
+    public PrecompressedStaticResourcesBuildItem(Map<String, PrecompressedResource> resources) {
+        this.resources = resources;
+    }
+
+    public Map<String, PrecompressedResource> getResources() {
+        return resources;
+    }
+}
@@ -2,13 +2,27 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
@@ -19,6 +33,7 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
@@ -26,14 +41,21 @@
 import io.quarkus.paths.PathVisitor;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
+import io.quarkus.vertx.http.deployment.spi.GeneratedStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
+import io.quarkus.vertx.http.runtime.StaticResourcesBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedResource;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger LOG = Logger.getLogger(StaticResourcesProcessor.class);
+
     @BuildStep(onlyIf = IsDevelopment.class)
     HotDeploymentWatchedFileBuildItem indexHtmlFile() {
         String staticRoot = StaticResourcesRecorder.META_INF_RESOURCES + "/index.html";
@@ -60,13 +82,105 @@ void collectStaticResources(Capabilities capabilities,
         }
     }
 
+    @BuildStep(onlyIfNot = IsDevelopment.class)
+    void precompressStaticResources(Capabilities capabilities,
+            VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            List<GeneratedStaticResourceBuildItem> generatedStaticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedStaticResources) throws IOException {
+        StaticResourcesBuildTimeConfig config = httpBuildTimeConfig.staticResources();
+        if (!config.precompress() || capabilities.isPresent(Capability.SERVLET)
+                || httpBuildTimeConfig.compressMediaTypes().isEmpty()) {
+            return;
+        }
+        Set<String> compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes().get());
+        List<String> encodings = new ArrayList<>();
+        for (String encoding : config.precompressEncodings()) {
+            if (encoding.equals("br")) {
+                if (Brotli4jLoader.isAvailable()) {
+                    encodings.add(encoding);
+                } else {
+                    LOG.warn("Brotli variants of static resources are not generated, the Brotli4J native library is not"
+                            + " available", Brotli4jLoader.getUnavailabilityCause());
+                }
+            } else if (encoding.equals("gzip")) {
+                encodings.add(encoding);
+            } else {
+                throw new IllegalArgumentException("Unsupported encoding of precompressed static resources: " + encoding
+                        + ", supported encodings are br and gzip");
+            }
+        }
+        if (encodings.isEmpty()) {
+            return;
+        }
+
+        // collect the resources first, variants may already be present
+        final String prefix = StaticResourcesRecorder.META_INF_RESOURCES;
+        Map<String, Path> classpathResources = new HashMap<>();
+        visitRuntimeMetaInfResources(visit -> {
+            String rel = visit.getRelativePath();
+            if (rel.startsWith(prefix) && !Files.isDirectory(visit.getPath())) {
+                classpathResources.putIfAbsent(rel.substring(prefix.length()), visit.getPath());
+            }
+        });
+        Map<String, byte[]> generatedContents = new HashMap<>();
+        for (GeneratedStaticResourceBuildItem generated : generatedStaticResources) {
+            generatedContents.put(generated.getEndpoint(),
+                    generated.isFile() ? Files.readAllBytes(generated.getFile()) : generated.getContent());
+        }
+
+        long minSize = config.precompressMinSize().asLongValue();
+        Map<String, PrecompressedResource> precompressed = new HashMap<>();
+        Set<String> paths = new HashSet<>(classpathResources.keySet());
+        paths.addAll(generatedContents.keySet());
+        for (String path : paths) {
+            String contentType = MimeMapping.getMimeTypeForFilename(path);
+            if (contentType == null || !compressMediaTypes.contains(contentType)) {
+                continue;
+            }
+            byte[] content = generatedContents.containsKey(path) ? generatedContents.get(path)
+                    : Files.readAllBytes(classpathResources.get(path));
+            if (content.length < minSize) {
+                continue;
+            }
+            List<String> available = new ArrayList<>(encodings.size());
+            for (String encoding : encodings) {
+                String variantPath = path + PrecompressedResource.suffix(encoding);
+                if (classpathResources.containsKey(variantPath) || generatedContents.containsKey(variantPath)) {
+                    // provided by the application
+                    available.add(encoding);
+                    continue;
+                }
+                byte[] compressed = compress(encoding, content);
+                if (compressed.length >= content.length) {
+                    continue;
+                }
+                String variantLocation = prefix + variantPath;
+                generatedResources.produce(new GeneratedResourceBuildItem(variantLocation, compressed, false));
+                nativeImageResources.produce(new NativeImageResourceBuildItem(variantLocation));
+                available.add(encoding);
+            }
+            if (!available.isEmpty()) {
+                precompressed.put(path, new PrecompressedResource(etag(content), available));
+            }
+        }
+        LOG.debugf("Precompressed %s static resources", precompressed.size());
+        if (!precompressed.isEmpty()) {
+            precompressedStaticResources.produce(new PrecompressedStaticResourcesBuildItem(precompressed));
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedStaticResources,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(),
+                    precompressedStaticResources.map(PrecompressedStaticResourcesBuildItem::getResources)
+                            .orElse(Map.of()))));
         }
     }
 
@@ -124,6 +238,30 @@ private Set<StaticResourcesBuildItem.Entry> getClasspathResources() {
         return knownPaths;
     }
 
+    private static byte[] compress(String encoding, byte[] content) throws IOException {
+        if (encoding.equals("br")) {
+            return Encoder.compress(content, new Encoder.Parameters().setQuality(11));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(9);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Visits all {@code META-INF/resources} directories and their content found on the runtime classpath
      *
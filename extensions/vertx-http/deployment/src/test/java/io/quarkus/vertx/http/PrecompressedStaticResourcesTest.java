@@ -0,0 +1,116 @@
+package io.quarkus.vertx.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.decoder.Decoder;
+import com.aayushatharva.brotli4j.decoder.DecoderJNI;
+import com.aayushatharva.brotli4j.decoder.DirectDecompress;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+
+public class PrecompressedStaticResourcesTest {
+
+    private static final String SCRIPT = "console.log('This is a precompressed script');\n".repeat(100);
+    private static final String STYLE = "body { color: black; }\n".repeat(100);
+    private static final String PROVIDED_STYLE = "body { color: white; }\n";
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.static-resources.precompress=true\n"), "application.properties")
+                    .addAsResource(new StringAsset(SCRIPT), "META-INF/resources/app.js")
+                    .addAsResource(new StringAsset(STYLE), "META-INF/resources/app.css")
+                    // a variant provided by the application is used as is
+                    .addAsResource(new ByteArrayAsset(gzip(PROVIDED_STYLE)), "META-INF/resources/app.css.gz"));
+
+    @Test
+    public void shouldSendGzipVariant() {
+        Response response = RestAssured.given().header("Accept-Encoding", "gzip").get("/app.js");
+        response.then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", "Accept-Encoding")
+                .header("ETag", endsWith("-gzip\""))
+                .header("Content-Type", is("text/javascript;charset=UTF-8"));
+        assertThat(response.asString()).isEqualTo(SCRIPT);
+
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-None-Match", response.header("ETag"))
+                .get("/app.js")
+                .then()
+                .statusCode(304)
+                .header("ETag", response.header("ETag"));
+    }
+
+    @Test
+    public void shouldSendBrotliVariant() throws IOException {
+        Assumptions.assumeTrue(Brotli4jLoader.isAvailable(), "Brotli4J is not available on this platform");
+        Response response = RestAssured.given().header("Accept-Encoding", "gzip, br").get("/app.js");
+        response.then()
+                .statusCode(200)
+                .header("Content-Encoding", "br")
+                .header("Vary", "Accept-Encoding")
+                .header("ETag", endsWith("-br\""));
+        DirectDecompress decompressed = Decoder.decompress(response.asByteArray());
+        assertThat(decompressed.getResultStatus()).isEqualTo(DecoderJNI.Status.DONE);
+        assertThat(new String(decompressed.getDecompressedData(), StandardCharsets.UTF_8)).isEqualTo(SCRIPT);
+
+        RestAssured.given().header("Accept-Encoding", "br").header("If-None-Match", response.header("ETag"))
+                .get("/app.js")
+                .then()
+                .statusCode(304);
+        // the entity tag of a variant does not match another encoding
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-None-Match", response.header("ETag"))
+                .get("/app.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip");
+    }
+
+    @Test
+    public void shouldSendVariantProvidedByApplication() {
+        Response response = RestAssured.given().header("Accept-Encoding", "gzip").get("/app.css");
+        response.then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", "Accept-Encoding");
+        assertThat(response.asString()).isEqualTo(PROVIDED_STYLE);
+    }
+
+    @Test
+    public void shouldSendOriginalResource() {
+        Response response = RestAssured.given().header("Accept-Encoding", "identity").get("/app.js");
+        response.then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("Vary", "Accept-Encoding");
+        assertThat(response.asString()).isEqualTo(SCRIPT);
+    }
+
+    private static byte[] gzip(String content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,87 @@
+package io.quarkus.vertx.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.awaitility.Awaitility;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.http.runtime.handlers.StaticResourceCache;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+
+public class StaticResourcesMemoryCacheTest {
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.static-resources.memory-cache.enabled=true\n"
+                            + "quarkus.log.category.\"" + StaticResourceCache.class.getName() + "\".level=DEBUG\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html"));
+
+    @Test
+    public void shouldServeCacheHitLikeStaticHandler() {
+        List<String> cached = new CopyOnWriteArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                if (record.getParameters() != null && record.getParameters().length > 0) {
+                    cached.add(String.valueOf(record.getParameters()[0]));
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Logger logger = Logger.getLogger(StaticResourceCache.class.getName());
+        logger.addHandler(handler);
+        try {
+            // the first request is served by the static handler and loads the resource in the cache
+            Response miss = RestAssured.when().get("/index.html");
+            miss.then()
+                    .statusCode(200)
+                    .header("Last-Modified", notNullValue())
+                    .header("Date", notNullValue())
+                    .header("Accept-Ranges", "bytes")
+                    .header("ETag", nullValue());
+            Awaitility.await().atMost(Duration.ofSeconds(10)).until(() -> cached.contains("/index.html"));
+
+            Response hit = RestAssured.when().get("/index.html");
+            hit.then()
+                    .statusCode(200)
+                    .header("Last-Modified", miss.header("Last-Modified"))
+                    .header("Cache-Control", miss.header("Cache-Control"))
+                    .header("Content-Type", miss.header("Content-Type"))
+                    .header("Content-Length", miss.header("Content-Length"))
+                    .header("Vary", miss.header("Vary"))
+                    .header("Accept-Ranges", "bytes")
+                    .header("Date", notNullValue())
+                    .header("ETag", nullValue());
+            assertThat(hit.asString()).isEqualTo(miss.asString()).contains("This is the title of the webpage!");
+
+            RestAssured.given().header("If-Modified-Since", hit.header("Last-Modified"))
+                    .get("/index.html")
+                    .then()
+                    .statusCode(304);
+        } finally {
+            logger.removeHandler(handler);
+        }
+    }
+}
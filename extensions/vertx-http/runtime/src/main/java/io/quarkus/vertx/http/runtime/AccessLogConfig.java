@@ -1,6 +1,9 @@
 package io.quarkus.vertx.http.runtime;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
 import java.util.Set;
 
 import io.smallrye.config.WithDefault;
@@ -37,6 +40,38 @@ public interface AccessLogConfig {
     @WithDefault("common")
     String pattern();
 
+    /**
+     * The format of the access log messages.
+     * <p>
+     * - `text`: messages are formatted according to the {@link #pattern()}
+     * - `json`: messages are single-line JSON objects with one field for each attribute of the {@link #pattern()};
+     * the literal text of the pattern is ignored
+     * <p>
+     * This only applies to the requests of the main router; the Dev UI always shows every request in the `text` format
+     * and the management interface is not logged.
+     */
+    @WithDefault("text")
+    Format format();
+
+    /**
+     * The fraction of requests that are logged, between `0` and `1`.
+     * <p>
+     * If set, each request is logged with this probability, unless it is logged anyway because it matches a rule
+     * from {@link #logIf()}. By default, all requests are logged.
+     * <p>
+     * This only applies to the requests of the main router; the Dev UI always shows every request in the `text` format
+     * and the management interface is not logged.
+     */
+    OptionalDouble sampleRatio();
+
+    /**
+     * Rules that select the requests to log.
+     * <p>
+     * If any rule is set, a request is only logged if it matches at least one of the rules, or if it is selected by
+     * {@link #sampleRatio()}.
+     */
+    LogIfConfig logIf();
+
     /**
      * Set of HTTP headers whose values must be masked when the `%{ALL_REQUEST_HEADERS}` attribute
      * is enabled with the {@link #pattern()} property.
@@ -94,4 +129,74 @@ public interface AccessLogConfig {
      */
     @WithDefault("false")
     boolean consolidateReroutedRequests();
+
+    /**
+     * The way the messages are written if logging is done to a separate file.
+     * <p>
+     * - `writer`: messages are formatted to strings, queued in an unbounded queue and written by a worker thread
+     * through a buffered writer
+     * - `channel`: attribute values are encoded directly into pooled byte buffers, which are queued in a bounded queue
+     * and written in batches through a file channel; see {@link #queueSize()} and {@link #overflowPolicy()}
+     */
+    @WithDefault("writer")
+    FileWriter fileWriter();
+
+    /**
+     * The maximum number of messages waiting to be written to the file, if the `channel` file writer is used.
+     */
+    @WithDefault("8192")
+    int queueSize();
+
+    /**
+     * What happens to a message if the queue of messages waiting to be written is full, if the `channel` file writer is
+     * used.
+     * <p>
+     * - `drop`: the message is dropped; the number of dropped messages is logged periodically
+     * - `block`: the thread that completed the request waits until there is space in the queue
+     * - `sample`: one out of {@link #overflowSampleRate()} messages waits until there is space in the queue, other
+     * messages are dropped
+     * <p>
+     * An event loop thread never waits, so with the `block` and `sample` policies the messages logged on an event loop
+     * thread are dropped as well.
+     */
+    @WithDefault("drop")
+    OverflowPolicy overflowPolicy();
+
+    /**
+     * If the `sample` overflow policy is used, one out of this number of messages waits until there is space in
+     * the queue.
+     */
+    @WithDefault("10")
+    int overflowSampleRate();
+
+    interface LogIfConfig {
+        /**
+         * Requests whose response status code is greater than or equal to this value are logged.
+         */
+        OptionalInt statusAtLeast();
+
+        /**
+         * Requests that take longer than this duration to complete are logged.
+         * <p>
+         * The duration is the response time logged by the {@code %D} attribute, so the request start time is recorded
+         * when this is set, even if {@code quarkus.http.record-request-start-time} is {@code false}.
+         */
+        Optional<Duration> durationAbove();
+    }
+
+    enum Format {
+        TEXT,
+        JSON
+    }
+
+    enum FileWriter {
+        WRITER,
+        CHANNEL
+    }
+
+    enum OverflowPolicy {
+        DROP,
+        BLOCK,
+        SAMPLE
+    }
 }
@@ -0,0 +1,37 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.List;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Build-time configuration of static resources served from {@code META-INF/resources}.
+ */
+public interface StaticResourcesBuildTimeConfig {
+
+    /**
+     * If enabled, compressed variants of static resources are generated when the application is built.
+     * <p>
+     * Only resources whose media type is listed in `quarkus.http.compress-media-types` are compressed.
+     * A precompressed variant is sent instead of the original resource if the client accepts its encoding, so that the
+     * response does not need to be compressed for each request.
+     */
+    @WithDefault("false")
+    boolean precompress();
+
+    /**
+     * The encodings of the precompressed variants, in order of preference.
+     * <p>
+     * Supported values are `br` and `gzip`. The `br` variants are only generated if the Brotli4J native library is
+     * available for the platform that builds the application.
+     */
+    @WithDefault("br,gzip")
+    List<String> precompressEncodings();
+
+    /**
+     * Resources smaller than this size are not precompressed.
+     */
+    @WithDefault("1K")
+    MemorySize precompressMinSize();
+}
@@ -3,6 +3,7 @@
 import java.nio.charset.Charset;
 import java.time.Duration;
 
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.WithDefault;
 
 public interface StaticResourcesConfig {
@@ -53,4 +54,50 @@ public interface StaticResourcesConfig {
      */
     @WithDefault("UTF-8")
     Charset contentEncoding();
+
+    /**
+     * In-memory cache of static resources.
+     */
+    MemoryCacheConfig memoryCache();
+
+    interface MemoryCacheConfig {
+        /**
+         * If enabled, the content of requested static resources is kept in memory, together with precomputed
+         * `Content-Type`, `Content-Length` and `Last-Modified` headers.
+         * <p>
+         * A resource is loaded in the cache by a worker thread after it is requested for the first time, so that the event
+         * loop is never blocked; this first request is served as if the cache was disabled. The cache is never used in dev
+         * mode, where static resources change while the application runs.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * Where the content of the cached resources is kept.
+         * <p>
+         * - `heap`: in byte arrays on the Java heap
+         * - `mapped`: in memory-mapped files, outside the Java heap; resources packaged in a jar are extracted to the
+         * Vert.x file cache first
+         */
+        @WithDefault("heap")
+        Storage storage();
+
+        /**
+         * The maximum total size of the cached resources. When it is exceeded, the least recently used resources are
+         * evicted.
+         */
+        @WithDefault("10M")
+        MemorySize maxSize();
+
+        /**
+         * Resources larger than this size are never cached.
+         */
+        @WithDefault("1M")
+        MemorySize maxEntrySize();
+
+        enum Storage {
+            HEAP,
+            MAPPED
+        }
+    }
 }
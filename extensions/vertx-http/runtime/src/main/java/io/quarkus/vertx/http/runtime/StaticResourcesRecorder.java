@@ -5,12 +5,17 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedResource;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedStaticHandler;
+import io.quarkus.vertx.http.runtime.handlers.StaticResourceCache;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.Route;
@@ -39,7 +44,7 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, PrecompressedResource> precompressedResources) {
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
         Set<String> compressMediaTypes;
         if (httpBuildTimeConfig.enableCompression() && httpBuildTimeConfig.compressMediaTypes().isPresent()) {
@@ -94,6 +99,19 @@ public void handle(RoutingContext ctx) {
             final String indexPage = (config.indexPage().charAt(0) == '/')
                     ? config.indexPage().substring(1)
                     : config.indexPage();
+            final PrecompressedStaticHandler precompressedHandler = precompressedResources.isEmpty() ? null
+                    : new PrecompressedStaticHandler(META_INF_RESOURCES, precompressedResources, "UTF-8",
+                            config.cachingEnabled() ? config.maxAge().toSeconds() : -1);
+            final boolean includeHidden = config.includeHidden();
+            // nothing invalidates the cache when a resource changes in dev mode
+            final boolean memoryCache = config.memoryCache().enabled() && LaunchMode.current() != LaunchMode.DEVELOPMENT;
+            final StaticResourceCache cache = memoryCache
+                    ? new StaticResourceCache(currentCl, META_INF_RESOURCES, config.memoryCache().maxSize().asLongValue(),
+                            config.memoryCache().maxEntrySize().asLongValue(),
+                            config.memoryCache().storage() == StaticResourcesConfig.MemoryCacheConfig.Storage.MAPPED,
+                            "UTF-8", config.cachingEnabled() ? config.maxAge().toSeconds() : -1,
+                            config.enableRangeSupport())
+                    : null;
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
@@ -104,7 +122,16 @@ public void handle(RoutingContext ctx) {
                     }
                     // check effective path, otherwise the index page when path ends with '/'
                     if (knownPaths.contains(rel) || (rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)))) {
+                        String resource = rel.endsWith("/") ? rel.concat(indexPage) : rel;
+                        // hidden files are rejected by the static handler
+                        boolean servable = includeHidden || !resource.contains("/.");
+                        if (servable && precompressedHandler != null && precompressedHandler.handle(ctx, resource)) {
+                            return;
+                        }
                         compressIfNeeded(httpBuildTimeConfig, compressMediaTypes, ctx, rel);
+                        if (servable && cache != null && cache.handle(ctx, resource)) {
+                            return;
+                        }
                         staticHandler.handle(ctx);
                     } else {
                         // make sure we don't lose the correct TCCL to Vert.x...
@@ -116,6 +116,11 @@ public interface VertxHttpBuildTimeConfig {
      */
     OptionalInt compressionLevel();
 
+    /**
+     * Static resources.
+     */
+    StaticResourcesBuildTimeConfig staticResources();
+
     /**
      * Configure Quarkus to serve static files from a local filesystem directory (outside of Java resources)
      *
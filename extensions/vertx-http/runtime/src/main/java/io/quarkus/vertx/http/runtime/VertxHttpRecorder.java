@@ -13,6 +13,7 @@
 import static io.quarkus.vertx.http.runtime.options.HttpServerOptionsUtils.getInsecureRequestStrategy;
 import static io.quarkus.vertx.http.runtime.options.HttpServerTlsConfig.getHttpServerTlsConfigName;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.net.BindException;
@@ -97,6 +98,7 @@
 import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogHandler;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
+import io.quarkus.vertx.http.runtime.filters.accesslog.ChannelAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.JBossLoggingAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.management.ManagementConfig;
@@ -420,7 +422,8 @@ public void finalizeRouter(
             String srcMainJava,
             List<String> knowClasses,
             List<ErrorPageAction> actions,
-            Optional<RuntimeValue<SubmissionPublisher<String>>> publisher) {
+            Optional<RuntimeValue<SubmissionPublisher<String>>> publisher,
+            ShutdownContext shutdown) {
         VertxHttpConfig httpConfig = this.httpConfig.getValue();
         // install the default route at the end
         Router httpRouteRouter = httpRouterRuntimeValue.getValue();
@@ -510,13 +513,32 @@ public void handle(RoutingContext routingContext) {
             AccessLogReceiver receiver;
             if (accessLog.logToFile()) {
                 File outputDir = accessLog.logDirectory().isPresent() ? new File(accessLog.logDirectory().get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName(), accessLog.logSuffix(),
-                        accessLog.rotate());
+                if (accessLog.fileWriter() == AccessLogConfig.FileWriter.CHANNEL) {
+                    receiver = new ChannelAccessLogReceiver(executor, outputDir.toPath(), accessLog.baseFileName(),
+                            accessLog.logSuffix(), accessLog.rotate(), accessLog.queueSize(), accessLog.overflowPolicy(),
+                            accessLog.overflowSampleRate());
+                } else {
+                    receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName(),
+                            accessLog.logSuffix(), accessLog.rotate());
+                }
+                // write the pending messages and release the log file
+                Closeable closeable = (Closeable) receiver;
+                shutdown.addShutdownTask(() -> {
+                    try {
+                        closeable.close();
+                    } catch (IOException e) {
+                        LOGGER.warn("Unable to close the access log", e);
+                    }
+                });
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category());
             }
-            setupAccessLogHandler(mainRouterRuntimeValue, httpRouterRuntimeValue, frameworkRouter, receiver, rootPath,
-                    nonRootPath, accessLog.pattern(), accessLog.consolidateReroutedRequests(), accessLog.excludePattern());
+            AccessLogHandler handler = new AccessLogHandler(receiver, accessLog.pattern(),
+                    accessLog.format() == AccessLogConfig.Format.JSON, accessLog.consolidateReroutedRequests(),
+                    getClass().getClassLoader(), accessLog.excludePattern(), accessLog.sampleRatio(),
+                    accessLog.logIf().statusAtLeast(), accessLog.logIf().durationAbove());
+            setupAccessLogHandler(mainRouterRuntimeValue, httpRouterRuntimeValue, frameworkRouter, handler, rootPath,
+                    nonRootPath);
             quarkusWrapperNeeded = true;
         }
 
@@ -531,9 +553,11 @@ public void logMessage(String message) {
                 }
             };
 
-            setupAccessLogHandler(mainRouterRuntimeValue, httpRouterRuntimeValue, frameworkRouter, receiver, rootPath,
-                    nonRootPath, accessLog.pattern(), accessLog.consolidateReroutedRequests(),
+            AccessLogHandler handler = new AccessLogHandler(receiver, accessLog.pattern(),
+                    accessLog.consolidateReroutedRequests(), getClass().getClassLoader(),
                     accessLog.excludePattern().or(() -> Optional.of("^" + nonRootPath + ".*")));
+            setupAccessLogHandler(mainRouterRuntimeValue, httpRouterRuntimeValue, frameworkRouter, handler, rootPath,
+                    nonRootPath);
             quarkusWrapperNeeded = true;
         }
 
@@ -557,7 +581,9 @@ public void handle(HttpServerRequest event) {
         final boolean mustResumeRequest = httpConfig.limits().maxBodySize().isPresent();
         Handler<HttpServerRequest> delegate = root;
         root = HttpServerCommonHandlers.enforceDuplicatedContext(delegate, mustResumeRequest);
-        if (httpConfig.recordRequestStartTime()) {
+        // the duration of the access log rule is measured from the start of the request
+        if (httpConfig.recordRequestStartTime()
+                || (accessLog.enabled() && accessLog.logIf().durationAbove().isPresent())) {
             httpRouteRouter.route().order(RouteConstants.ROUTE_ORDER_RECORD_START_TIME).handler(new Handler<RoutingContext>() {
                 @Override
                 public void handle(RoutingContext event) {
@@ -626,17 +652,11 @@ public void handle(HttpServerRequest event) {
     private void setupAccessLogHandler(Optional<RuntimeValue<Router>> mainRouterRuntimeValue,
             RuntimeValue<Router> httpRouterRuntimeValue,
             RuntimeValue<Router> frameworkRouter,
-            AccessLogReceiver receiver,
+            AccessLogHandler handler,
             String rootPath,
-            String nonRootPath,
-            String pattern,
-            boolean consolidateReroutedRequests,
-            Optional<String> excludePattern) {
+            String nonRootPath) {
 
         Router httpRouteRouter = httpRouterRuntimeValue.getValue();
-        AccessLogHandler handler = new AccessLogHandler(receiver, pattern, consolidateReroutedRequests,
-                getClass().getClassLoader(),
-                excludePattern);
         if (rootPath.equals("/") || nonRootPath.equals("/")) {
             mainRouterRuntimeValue.orElse(httpRouterRuntimeValue).getValue().route()
                     .order(RouteConstants.ROUTE_ORDER_ACCESS_LOG_HANDLER)
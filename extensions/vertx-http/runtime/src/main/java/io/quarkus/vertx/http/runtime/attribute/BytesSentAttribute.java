@@ -28,6 +28,12 @@ public String readAttribute(final RoutingContext exchange) {
         }
     }
 
+    @Override
+    public long readNumericAttribute(final RoutingContext exchange) {
+        long bytesSent = exchange.response().bytesWritten();
+        return dashIfZero && bytesSent == 0 ? NO_NUMERIC_VALUE : bytesSent;
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("Bytes sent", newValue);
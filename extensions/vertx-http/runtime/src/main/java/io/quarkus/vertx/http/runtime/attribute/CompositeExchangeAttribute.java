@@ -16,6 +16,15 @@ public CompositeExchangeAttribute(ExchangeAttribute[] attributes) {
         this.attributes = copy;
     }
 
+    /**
+     * Returns the attributes this attribute is composed of. The returned array must not be modified.
+     *
+     * @return the attributes
+     */
+    public ExchangeAttribute[] getAttributes() {
+        return attributes;
+    }
+
     @Override
     public String readAttribute(RoutingContext exchange) {
         final StringBuilder sb = new StringBuilder();
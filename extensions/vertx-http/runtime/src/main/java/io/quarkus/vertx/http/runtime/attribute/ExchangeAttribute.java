@@ -8,6 +8,11 @@
  */
 public interface ExchangeAttribute {
 
+    /**
+     * The value returned by {@link #readNumericAttribute(RoutingContext)} if the attribute is not resolved as a number.
+     */
+    long NO_NUMERIC_VALUE = Long.MIN_VALUE;
+
     /**
      * Resolve the attribute from the HTTP server exchange. This may return null if the attribute is not present.
      *
@@ -16,6 +21,18 @@ public interface ExchangeAttribute {
      */
     String readAttribute(final RoutingContext exchange);
 
+    /**
+     * Resolve the attribute from the HTTP server exchange as a number, without creating a string. This is used by the
+     * access log receivers that encode the attribute values themselves.
+     *
+     * @param exchange The exchange
+     * @return The attribute, or {@link #NO_NUMERIC_VALUE} if the attribute must be resolved with
+     *         {@link #readAttribute(RoutingContext)}
+     */
+    default long readNumericAttribute(final RoutingContext exchange) {
+        return NO_NUMERIC_VALUE;
+    }
+
     /**
      * Sets a new value for the attribute. Not all attributes are writable.
      *
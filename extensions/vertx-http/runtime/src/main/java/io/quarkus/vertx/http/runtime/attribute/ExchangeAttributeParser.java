@@ -3,7 +3,9 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
 
 import org.jboss.logging.Logger;
@@ -19,6 +21,9 @@ public class ExchangeAttributeParser {
 
     private static final Logger log = Logger.getLogger(ExchangeAttributeParser.class);
 
+    private static final String ESCAPED_PERCENT = "%%";
+    private static final String ESCAPED_DOLLAR = "$$";
+
     private final List<ExchangeAttributeBuilder> builders;
     private final List<ExchangeAttributeWrapper> wrappers;
 
@@ -59,6 +64,39 @@ public int compare(ExchangeAttributeBuilder o1, ExchangeAttributeBuilder o2) {
      */
     public ExchangeAttribute parse(final String valueString) {
         final List<ExchangeAttribute> attributes = new ArrayList<>();
+        for (String token : split(valueString)) {
+            if (token.equals(ESCAPED_PERCENT) || token.equals(ESCAPED_DOLLAR)) {
+                attributes.add(wrap(new ConstantExchangeAttribute(token.substring(1))));
+            } else {
+                attributes.add(wrap(parseSingleToken(token)));
+            }
+        }
+        if (attributes.size() == 1) {
+            return attributes.get(0);
+        }
+        return new CompositeExchangeAttribute(attributes.toArray(new ExchangeAttribute[attributes.size()]));
+    }
+
+    /**
+     * Parses the provided value string, and returns the attributes it references, keyed by their token, in the order
+     * in which they appear. Literal text is ignored.
+     *
+     * @param valueString
+     * @return the attributes keyed by their token
+     */
+    public Map<String, ExchangeAttribute> parseTokens(final String valueString) {
+        final Map<String, ExchangeAttribute> attributes = new LinkedHashMap<>();
+        for (String token : split(valueString)) {
+            if ((token.startsWith("%") || token.startsWith("$"))
+                    && !token.equals(ESCAPED_PERCENT) && !token.equals(ESCAPED_DOLLAR)) {
+                attributes.putIfAbsent(token, wrap(parseSingleToken(token)));
+            }
+        }
+        return attributes;
+    }
+
+    private static List<String> split(final String valueString) {
+        final List<String> tokens = new ArrayList<>();
         int pos = 0;
         int state = 0; //0 = literal, 1 = %, 2 = %{, 3 = $, 4 = ${, 5 = %<
         for (int i = 0; i < valueString.length(); ++i) {
@@ -67,7 +105,7 @@ public ExchangeAttribute parse(final String valueString) {
                 case 0: {
                     if (c == '%' || c == '$') {
                         if (pos != i) {
-                            attributes.add(wrap(parseSingleToken(valueString.substring(pos, i))));
+                            tokens.add(valueString.substring(pos, i));
                             pos = i;
                         }
                         if (c == '%') {
@@ -85,11 +123,11 @@ public ExchangeAttribute parse(final String valueString) {
                         state = 5;
                     } else if (c == '%') {
                         //literal percent
-                        attributes.add(wrap(new ConstantExchangeAttribute("%")));
+                        tokens.add(ESCAPED_PERCENT);
                         pos = i + 1;
                         state = 0;
                     } else {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        tokens.add(valueString.substring(pos, i + 1));
                         pos = i + 1;
                         state = 0;
                     }
@@ -97,7 +135,7 @@ public ExchangeAttribute parse(final String valueString) {
                 }
                 case 2, 4: {
                     if (c == '}') {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        tokens.add(valueString.substring(pos, i + 1));
                         pos = i + 1;
                         state = 0;
                     }
@@ -108,18 +146,18 @@ public ExchangeAttribute parse(final String valueString) {
                         state = 4;
                     } else if (c == '$') {
                         //literal dollars
-                        attributes.add(wrap(new ConstantExchangeAttribute("$")));
+                        tokens.add(ESCAPED_DOLLAR);
                         pos = i + 1;
                         state = 0;
                     } else {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        tokens.add(valueString.substring(pos, i + 1));
                         pos = i + 1;
                         state = 0;
                     }
                     break;
                 }
                 case 5: {
-                    attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                    tokens.add(valueString.substring(pos, i + 1));
                     pos = i + 1;
                     state = 0;
                     break;
@@ -133,7 +171,7 @@ public ExchangeAttribute parse(final String valueString) {
             case 3:
             case 5: {
                 if (pos != valueString.length()) {
-                    attributes.add(wrap(parseSingleToken(valueString.substring(pos))));
+                    tokens.add(valueString.substring(pos));
                 }
                 break;
             }
@@ -142,10 +180,7 @@ public ExchangeAttribute parse(final String valueString) {
                 throw new RuntimeException("Mismatched braces: " + valueString);
             }
         }
-        if (attributes.size() == 1) {
-            return attributes.get(0);
-        }
-        return new CompositeExchangeAttribute(attributes.toArray(new ExchangeAttribute[attributes.size()]));
+        return tokens;
     }
 
     public ExchangeAttribute parseSingleToken(final String token) {
@@ -0,0 +1,229 @@
+package io.quarkus.vertx.http.runtime.attribute;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * An attribute that renders a set of attributes as a single-line JSON object, with one field per attribute.
+ * <p>
+ * Field names are derived from the attribute tokens: short tokens use the name of the equivalent long token, long
+ * tokens are converted to camel case ({@code %h} and {@code %{REMOTE_HOST}} both become {@code remoteHost}), and
+ * parameterized tokens are prefixed by their type ({@code %{i,User-Agent}} becomes {@code requestHeader.User-Agent}).
+ * Values of numeric attributes are written as JSON numbers, missing values are written as {@code null}.
+ */
+public class JsonExchangeAttribute implements ExchangeAttribute {
+
+    private static final Map<String, String> SHORT_TOKENS = Map.ofEntries(
+            Map.entry(RemoteIPAttribute.REMOTE_IP_SHORT, RemoteIPAttribute.REMOTE_IP),
+            Map.entry(LocalIPAttribute.LOCAL_IP_SHORT, LocalIPAttribute.LOCAL_IP),
+            Map.entry(BytesSentAttribute.BYTES_SENT_SHORT_LOWER, BytesSentAttribute.BYTES_SENT),
+            Map.entry(BytesSentAttribute.BYTES_SENT_SHORT_UPPER, BytesSentAttribute.BYTES_SENT),
+            Map.entry(RemoteHostAttribute.REMOTE_HOST_NAME_SHORT, RemoteHostAttribute.REMOTE_HOST),
+            Map.entry(RequestProtocolAttribute.REQUEST_PROTOCOL_SHORT, RequestProtocolAttribute.REQUEST_PROTOCOL),
+            Map.entry(IdentUsernameAttribute.IDENT_USERNAME, "%{IDENT_USERNAME}"),
+            Map.entry(RequestMethodAttribute.REQUEST_METHOD_SHORT, RequestMethodAttribute.REQUEST_METHOD),
+            Map.entry(RequestMethodAttribute.ORIGINAL_REQUEST_METHOD_SHORT, RequestMethodAttribute.ORIGINAL_REQUEST_METHOD),
+            Map.entry(LocalPortAttribute.LOCAL_PORT_SHORT, LocalPortAttribute.LOCAL_PORT),
+            Map.entry(QueryStringAttribute.QUERY_STRING_SHORT, QueryStringAttribute.QUERY_STRING),
+            Map.entry(QueryStringAttribute.ORIGINAL_QUERY_STRING_SHORT, QueryStringAttribute.ORIGINAL_QUERY_STRING),
+            Map.entry(RequestLineAttribute.REQUEST_LINE_SHORT, RequestLineAttribute.REQUEST_LINE),
+            Map.entry(RequestLineAttribute.ORIGINAL_REQUEST_LINE_SHORT, RequestLineAttribute.ORIGINAL_REQUEST_LINE),
+            Map.entry(ResponseCodeAttribute.RESPONSE_CODE_SHORT, ResponseCodeAttribute.RESPONSE_CODE),
+            Map.entry(DateTimeAttribute.DATE_TIME_SHORT, DateTimeAttribute.DATE_TIME),
+            Map.entry(RemoteUserAttribute.REMOTE_USER_SHORT, RemoteUserAttribute.REMOTE_USER),
+            Map.entry(RequestURLAttribute.REQUEST_URL_SHORT, RequestURLAttribute.REQUEST_URL),
+            Map.entry(RequestURLAttribute.ORIGINAL_REQUEST_URL_SHORT, RequestURLAttribute.ORIGINAL_REQUEST_URL),
+            Map.entry(RequestPathAttribute.REQUEST_PATH_SHORT, RequestPathAttribute.REQUEST_PATH),
+            Map.entry(RequestPathAttribute.ORIGINAL_REQUEST_PATH_SHORT, RequestPathAttribute.ORIGINAL_REQUEST_PATH),
+            Map.entry(LocalServerNameAttribute.LOCAL_SERVER_NAME_SHORT, LocalServerNameAttribute.LOCAL_SERVER_NAME),
+            Map.entry(ResponseTimeAttribute.RESPONSE_TIME_MILLIS_SHORT, ResponseTimeAttribute.RESPONSE_TIME_MILLIS),
+            Map.entry(ResponseTimeAttribute.RESPONSE_TIME_SECONDS_SHORT, "%{RESPONSE_TIME_SECONDS}"),
+            Map.entry(ThreadNameAttribute.THREAD_NAME_SHORT, ThreadNameAttribute.THREAD_NAME));
+
+    private static final Map<String, String> PARAMETERIZED_PREFIXES = Map.of(
+            "i", "requestHeader",
+            "o", "responseHeader",
+            "c", "cookie",
+            "q", "queryParameter",
+            "<q", "originalQueryParameter",
+            "d", "data",
+            "X", "mdc");
+
+    private static final Set<String> NUMERIC_TOKENS = Set.of(
+            BytesSentAttribute.BYTES_SENT,
+            LocalPortAttribute.LOCAL_PORT,
+            ResponseCodeAttribute.RESPONSE_CODE,
+            ResponseTimeAttribute.RESPONSE_TIME_MILLIS,
+            ResponseTimeAttribute.RESPONSE_TIME_MICROS,
+            ResponseTimeAttribute.RESPONSE_TIME_NANOS,
+            "%{RESPONSE_TIME_SECONDS}");
+
+    private final String[] names;
+    private final ExchangeAttribute[] attributes;
+    private final boolean[] numeric;
+
+    /**
+     * @param attributes the attributes keyed by their token, as returned by {@link ExchangeAttributeParser#parseTokens(String)}
+     */
+    public JsonExchangeAttribute(Map<String, ExchangeAttribute> attributes) {
+        Set<String> seen = new LinkedHashSet<>();
+        List<String> names = new ArrayList<>();
+        List<ExchangeAttribute> values = new ArrayList<>();
+        List<Boolean> numeric = new ArrayList<>();
+        for (Map.Entry<String, ExchangeAttribute> e : attributes.entrySet()) {
+            String token = SHORT_TOKENS.getOrDefault(e.getKey(), e.getKey());
+            String name = fieldName(token);
+            if (seen.add(name)) {
+                names.add(name);
+                values.add(e.getValue());
+                numeric.add(NUMERIC_TOKENS.contains(token));
+            }
+        }
+        this.names = new String[names.size()];
+        this.attributes = new ExchangeAttribute[names.size()];
+        this.numeric = new boolean[names.size()];
+        for (int i = 0; i < names.size(); i++) {
+            StringBuilder quoted = new StringBuilder();
+            appendString(quoted, names.get(i));
+            this.names[i] = quoted.toString();
+            this.attributes[i] = values.get(i);
+            this.numeric[i] = numeric.get(i);
+        }
+    }
+
+    /**
+     * @return the names of the fields of the JSON object, in order
+     */
+    public List<String> getFieldNames() {
+        List<String> result = new ArrayList<>(names.length);
+        for (String name : names) {
+            result.add(name.substring(1, name.length() - 1));
+        }
+        return result;
+    }
+
+    @Override
+    public String readAttribute(RoutingContext exchange) {
+        StringBuilder sb = new StringBuilder(64 + 32 * names.length);
+        sb.append('{');
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(names[i]).append(':');
+            String value = attributes[i].readAttribute(exchange);
+            if (value == null) {
+                sb.append("null");
+            } else if (numeric[i] && isNumber(value)) {
+                sb.append(value);
+            } else {
+                appendString(sb, value);
+            }
+        }
+        sb.append('}');
+        return sb.toString();
+    }
+
+    @Override
+    public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
+        throw new ReadOnlyAttributeException("JSON", newValue);
+    }
+
+    static String fieldName(String token) {
+        if (token.startsWith(DateTimeAttribute.CUSTOM_TIME)) {
+            return "time";
+        }
+        String name = token;
+        if (name.startsWith("%{") && name.endsWith("}")) {
+            name = name.substring(2, name.length() - 1);
+            int comma = name.indexOf(',');
+            if (comma > 0) {
+                String prefix = PARAMETERIZED_PREFIXES.get(name.substring(0, comma));
+                if (prefix != null) {
+                    return prefix + "." + name.substring(comma + 1);
+                }
+            }
+        } else if (name.startsWith("${") && name.endsWith("}")) {
+            return name.substring(2, name.length() - 1);
+        } else if (name.startsWith("%") || name.startsWith("$")) {
+            return name.substring(1);
+        }
+        if (name.startsWith("<")) {
+            return camelCase("ORIGINAL_" + name.substring(1));
+        }
+        return camelCase(name);
+    }
+
+    private static String camelCase(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        boolean upper = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '_') {
+                upper = sb.length() > 0;
+            } else if (upper) {
+                sb.append(Character.toUpperCase(c));
+                upper = false;
+            } else {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isNumber(String value) {
+        int length = value.length();
+        if (length == 0 || value.charAt(0) == '.' || value.charAt(length - 1) == '.') {
+            return false;
+        }
+        boolean dot = false;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (dot) {
+                    return false;
+                }
+                dot = true;
+            } else if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void appendString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+}
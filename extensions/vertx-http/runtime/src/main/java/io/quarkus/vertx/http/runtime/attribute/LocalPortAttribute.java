@@ -27,6 +27,12 @@ public String readAttribute(final RoutingContext exchange) {
         return Integer.toString(localAddr.port());
     }
 
+    @Override
+    public long readNumericAttribute(final RoutingContext exchange) {
+        final SocketAddress localAddr = exchange.request().localAddress();
+        return localAddr == null ? NO_NUMERIC_VALUE : localAddr.port();
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("Local port", newValue);
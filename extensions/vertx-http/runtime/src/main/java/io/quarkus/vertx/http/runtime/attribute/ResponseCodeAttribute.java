@@ -22,6 +22,11 @@ public String readAttribute(final RoutingContext exchange) {
         return Integer.toString(exchange.response().getStatusCode());
     }
 
+    @Override
+    public long readNumericAttribute(final RoutingContext exchange) {
+        return exchange.response().getStatusCode();
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         exchange.response().setStatusCode(Integer.parseInt(newValue));
@@ -29,21 +29,10 @@ public ResponseTimeAttribute(TimeUnit timeUnit) {
 
     @Override
     public String readAttribute(RoutingContext exchange) {
-        Long requestStartTime = exchange.get(VertxHttpRecorder.REQUEST_START_TIME);
-        if (requestStartTime == null) {
+        long nanos = responseTimeNanos(exchange);
+        if (nanos < 0) {
             return null;
         }
-        final long nanos;
-        Long first = exchange.get(FIRST_RESPONSE_TIME_NANOS);
-        if (first != null) {
-            nanos = first;
-        } else {
-            nanos = System.nanoTime() - requestStartTime;
-            if (exchange.response().ended()) {
-                //save the response time so it is consistent
-                exchange.put(FIRST_RESPONSE_TIME_NANOS, nanos);
-            }
-        }
         if (timeUnit == TimeUnit.SECONDS) {
             StringBuilder buf = new StringBuilder();
             long millis = TimeUnit.MILLISECONDS.convert(nanos, TimeUnit.NANOSECONDS);
@@ -60,6 +49,36 @@ public String readAttribute(RoutingContext exchange) {
         }
     }
 
+    @Override
+    public long readNumericAttribute(RoutingContext exchange) {
+        if (timeUnit == TimeUnit.SECONDS) {
+            // the value has a fractional part
+            return NO_NUMERIC_VALUE;
+        }
+        long nanos = responseTimeNanos(exchange);
+        return nanos < 0 ? NO_NUMERIC_VALUE : timeUnit.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the response time in nanoseconds, or -1 if the request start time was not recorded
+     */
+    public static long responseTimeNanos(RoutingContext exchange) {
+        Long requestStartTime = exchange.get(VertxHttpRecorder.REQUEST_START_TIME);
+        if (requestStartTime == null) {
+            return -1;
+        }
+        Long first = exchange.get(FIRST_RESPONSE_TIME_NANOS);
+        if (first != null) {
+            return first;
+        }
+        long nanos = System.nanoTime() - requestStartTime;
+        if (exchange.response().ended()) {
+            //save the response time so it is consistent
+            exchange.put(FIRST_RESPONSE_TIME_NANOS, nanos);
+        }
+        return nanos;
+    }
+
     @Override
     public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("Response Time", newValue);
@@ -33,6 +33,11 @@ public String readAttribute(RoutingContext exchange) {
             return val;
         }
 
+        @Override
+        public long readNumericAttribute(RoutingContext exchange) {
+            return attribute.readNumericAttribute(exchange);
+        }
+
         @Override
         public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
             attribute.writeAttribute(exchange, newValue);
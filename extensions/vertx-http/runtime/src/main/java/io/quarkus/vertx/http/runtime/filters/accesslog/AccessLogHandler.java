@@ -18,14 +18,20 @@
 
 package io.quarkus.vertx.http.runtime.filters.accesslog;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
 import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
 import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeParser;
+import io.quarkus.vertx.http.runtime.attribute.JsonExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ResponseTimeAttribute;
 import io.quarkus.vertx.http.runtime.attribute.SubstituteEmptyWrapper;
 import io.quarkus.vertx.http.runtime.filters.OriginalRequestContext;
 import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
@@ -98,20 +104,44 @@ public class AccessLogHandler implements Handler<RoutingContext> {
     private final boolean consolidateReroutedRequests;
     private final ExchangeAttribute tokens;
     private final Pattern excludePattern;
+    // the following are negative if not configured
+    private final double sampleRatio;
+    private final int statusAtLeast;
+    private final long durationAboveNanos;
 
     public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final String formatString,
             boolean consolidateReroutedRequests, ClassLoader classLoader,
             Optional<String> excludePattern) {
+        this(accessLogReceiver, formatString, false, consolidateReroutedRequests, classLoader, excludePattern,
+                OptionalDouble.empty(), OptionalInt.empty(), Optional.empty());
+    }
+
+    public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final String formatString, boolean json,
+            boolean consolidateReroutedRequests, ClassLoader classLoader, Optional<String> excludePattern,
+            OptionalDouble sampleRatio, OptionalInt logIfStatusAtLeast, Optional<Duration> logIfDurationAbove) {
         this.accessLogReceiver = accessLogReceiver;
         this.formatString = handleCommonNames(formatString);
         this.consolidateReroutedRequests = consolidateReroutedRequests;
-        this.tokens = new ExchangeAttributeParser(classLoader, Collections.singletonList(new SubstituteEmptyWrapper("-")))
-                .parse(this.formatString);
+        if (json) {
+            this.tokens = new JsonExchangeAttribute(
+                    new ExchangeAttributeParser(classLoader, Collections.emptyList()).parseTokens(this.formatString));
+        } else {
+            this.tokens = new ExchangeAttributeParser(classLoader,
+                    Collections.singletonList(new SubstituteEmptyWrapper("-")))
+                    .parse(this.formatString);
+        }
         if (excludePattern.isPresent()) {
             this.excludePattern = Pattern.compile(excludePattern.get());
         } else {
             this.excludePattern = null;
         }
+        if (sampleRatio.isPresent() && (sampleRatio.getAsDouble() < 0 || sampleRatio.getAsDouble() > 1)) {
+            throw new IllegalArgumentException(
+                    "Access log sample ratio must be between 0 and 1: " + sampleRatio.getAsDouble());
+        }
+        this.sampleRatio = sampleRatio.orElse(-1);
+        this.statusAtLeast = logIfStatusAtLeast.orElse(-1);
+        this.durationAboveNanos = logIfDurationAbove.map(Duration::toNanos).orElse(-1L);
     }
 
     public AccessLogHandler(final AccessLogReceiver accessLogReceiver, String formatString, boolean consolidateReroutedRequests,
@@ -121,6 +151,9 @@ public AccessLogHandler(final AccessLogReceiver accessLogReceiver, String format
         this.consolidateReroutedRequests = consolidateReroutedRequests;
         this.tokens = attribute;
         this.excludePattern = null;
+        this.sampleRatio = -1;
+        this.statusAtLeast = -1;
+        this.durationAboveNanos = -1;
     }
 
     private static String handleCommonNames(String formatString) {
@@ -152,18 +185,52 @@ public void handle(RoutingContext rc) {
             rc.next();
             return;
         }
-        QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
-            @Override
-            public void handle(Void event) {
-                accessLogReceiver.logMessage(tokens.readAttribute(rc));
+        if (statusAtLeast < 0 && durationAboveNanos < 0) {
+            // no rule that needs the response, so the decision can be made right away
+            if (sampleRatio < 0 || sampled()) {
+                QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
+                    @Override
+                    public void handle(Void event) {
+                        accessLogReceiver.logMessage(rc, tokens);
+                    }
+                });
             }
-        });
+        } else {
+            long start = durationAboveNanos >= 0 ? System.nanoTime() : 0;
+            QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
+                @Override
+                public void handle(Void event) {
+                    if (matches(rc, start) || (sampleRatio >= 0 && sampled())) {
+                        accessLogReceiver.logMessage(rc, tokens);
+                    }
+                }
+            });
+        }
         if (consolidateReroutedRequests) {
             rc.put(OriginalRequestContext.RC_DATA_KEY, new OriginalRequestContext(rc));
         }
         rc.next();
     }
 
+    private boolean matches(RoutingContext rc, long start) {
+        if (statusAtLeast >= 0 && rc.response().getStatusCode() >= statusAtLeast) {
+            return true;
+        }
+        if (durationAboveNanos < 0) {
+            return false;
+        }
+        // the same response time as the %D and %T attributes, measured from the start of the request
+        long duration = ResponseTimeAttribute.responseTimeNanos(rc);
+        if (duration < 0) {
+            duration = System.nanoTime() - start;
+        }
+        return duration > durationAboveNanos;
+    }
+
+    private boolean sampled() {
+        return ThreadLocalRandom.current().nextDouble() < sampleRatio;
+    }
+
     @Override
     public String toString() {
         return "AccessLogHandler{" +
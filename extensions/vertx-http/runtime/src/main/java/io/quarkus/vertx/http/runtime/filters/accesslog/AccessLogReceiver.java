@@ -18,6 +18,9 @@
 
 package io.quarkus.vertx.http.runtime.filters.accesslog;
 
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.vertx.ext.web.RoutingContext;
+
 /**
  * Interface that is used by the access log handler to send data to the log file manager.
  *
@@ -29,4 +32,17 @@ public interface AccessLogReceiver {
 
     void logMessage(final String message);
 
+    /**
+     * Logs the message produced by given attribute.
+     * <p>
+     * By default, the attribute is read as a string and passed to {@link #logMessage(String)}. Receivers may override
+     * this method to avoid creating the string.
+     *
+     * @param exchange the exchange
+     * @param attribute the attribute that produces the message
+     */
+    default void logMessage(final RoutingContext exchange, final ExchangeAttribute attribute) {
+        logMessage(attribute.readAttribute(exchange));
+    }
+
 }
@@ -0,0 +1,530 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.vertx.http.runtime.AccessLogConfig.OverflowPolicy;
+import io.quarkus.vertx.http.runtime.attribute.CompositeExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.vertx.core.Context;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Log receiver that stores logs in a directory under the specified file name, and rotates them after midnight,
+ * like {@link DefaultAccessLogReceiver}.
+ * <p/>
+ * The attribute values are encoded directly into pooled byte buffers by the thread that completed the request,
+ * without creating the whole message as a string. The buffers are queued in a bounded queue and a worker thread
+ * writes them in batches through a {@link FileChannel}. If the queue is full, the message is handled according to
+ * the {@link OverflowPolicy}; an event loop thread never waits for space in the queue.
+ */
+public class ChannelAccessLogReceiver implements AccessLogReceiver, Runnable, Closeable {
+
+    private static final Logger log = Logger.getLogger(ChannelAccessLogReceiver.class);
+
+    private static final String DOT = ".";
+
+    /**
+     * The size of the pooled buffers; longer messages are encoded into buffers that are not pooled
+     */
+    static final int BUFFER_SIZE = 512;
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+    private static final byte[] LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    private final Executor logWriteExecutor;
+
+    private final BlockingQueue<ByteBuffer> pendingMessages;
+
+    private final Queue<ByteBuffer> bufferPool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledBuffers = new AtomicInteger();
+    private final int maxPooledBuffers;
+
+    private final OverflowPolicy overflowPolicy;
+    private final int overflowSampleRate;
+    private final AtomicLong overflowCount = new AtomicLong();
+    private final LongAdder droppedMessages = new LongAdder();
+    private volatile boolean eventLoopOverflowLogged;
+
+    //0 = not running
+    //1 = queued
+    //2 = running
+    @SuppressWarnings("unused")
+    private volatile int state = 0;
+
+    private static final AtomicIntegerFieldUpdater<ChannelAccessLogReceiver> stateUpdater = AtomicIntegerFieldUpdater
+            .newUpdater(ChannelAccessLogReceiver.class, "state");
+
+    // the following fields are only accessed by the thread that writes the messages
+    private final ByteBuffer[] batch = new ByteBuffer[MAX_BATCH_SIZE];
+    private long reportedDroppedMessages;
+    private long changeOverPoint;
+    private String currentDateString;
+    private boolean initialRun = true;
+    private FileChannel channel;
+
+    private volatile boolean forceLogRotation;
+    private volatile boolean closed = false;
+
+    private final Path outputDirectory;
+    private final Path defaultLogFile;
+
+    private final String logBaseName;
+    private final String logNameSuffix; // always starts with a '.' character
+
+    private final boolean rotate;
+
+    public ChannelAccessLogReceiver(final Executor logWriteExecutor, final Path outputDirectory, final String logBaseName,
+            final String logNameSuffix, boolean rotate, int queueSize, OverflowPolicy overflowPolicy,
+            int overflowSampleRate) {
+        if (queueSize < 1) {
+            throw new IllegalArgumentException("Access log queue size must be positive: " + queueSize);
+        }
+        if (overflowSampleRate < 1) {
+            throw new IllegalArgumentException("Access log overflow sample rate must be positive: " + overflowSampleRate);
+        }
+        this.logWriteExecutor = logWriteExecutor;
+        this.outputDirectory = outputDirectory;
+        this.logBaseName = DefaultAccessLogReceiver.effectiveLogBaseName(logBaseName);
+        this.logNameSuffix = DefaultAccessLogReceiver.effectiveLogNameSuffix(logNameSuffix);
+        this.rotate = rotate;
+        this.pendingMessages = new ArrayBlockingQueue<>(queueSize);
+        this.maxPooledBuffers = queueSize;
+        this.overflowPolicy = overflowPolicy;
+        this.overflowSampleRate = overflowSampleRate;
+        this.defaultLogFile = outputDirectory.resolve(this.logBaseName + this.logNameSuffix);
+        calculateChangeOverPoint();
+    }
+
+    private void calculateChangeOverPoint() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.add(Calendar.DATE, 1);
+        SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+        currentDateString = df.format(new Date());
+        // if there is an existing default log file, use the date last modified instead of the current date
+        if (Files.exists(defaultLogFile)) {
+            try {
+                currentDateString = df.format(new Date(Files.getLastModifiedTime(defaultLogFile).toMillis()));
+            } catch (IOException e) {
+                // ignore. use the current date if exception happens.
+            }
+        }
+        changeOverPoint = calendar.getTimeInMillis();
+    }
+
+    @Override
+    public void logMessage(final String message) {
+        ByteBuffer buffer = acquireBuffer();
+        if (!putUtf8(message, buffer) || !putLineSeparator(buffer)) {
+            releaseBuffer(buffer);
+            buffer = encodeUnpooled(message);
+        }
+        enqueue(buffer);
+    }
+
+    @Override
+    public void logMessage(final RoutingContext exchange, final ExchangeAttribute attribute) {
+        if (!(attribute instanceof CompositeExchangeAttribute)) {
+            logMessage(attribute.readAttribute(exchange));
+            return;
+        }
+        // each attribute is read once, a message that does not fit into a pooled buffer continues in a larger buffer
+        ByteBuffer buffer = acquireBuffer();
+        for (ExchangeAttribute part : ((CompositeExchangeAttribute) attribute).getAttributes()) {
+            long number = part.readNumericAttribute(exchange);
+            if (number != ExchangeAttribute.NO_NUMERIC_VALUE) {
+                while (!putLong(number, buffer)) {
+                    buffer = grow(buffer);
+                }
+            } else {
+                String value = part.readAttribute(exchange);
+                if (value != null) {
+                    int start = buffer.position();
+                    while (!putUtf8(value, buffer)) {
+                        buffer.position(start);
+                        buffer = grow(buffer);
+                    }
+                }
+            }
+        }
+        while (!putLineSeparator(buffer)) {
+            buffer = grow(buffer);
+        }
+        enqueue(buffer);
+    }
+
+    private void enqueue(ByteBuffer buffer) {
+        buffer.flip();
+        if (!pendingMessages.offer(buffer)) {
+            switch (overflowPolicy) {
+                case BLOCK:
+                    put(buffer);
+                    break;
+                case SAMPLE:
+                    if (overflowCount.getAndIncrement() % overflowSampleRate == 0) {
+                        put(buffer);
+                    } else {
+                        drop(buffer);
+                    }
+                    break;
+                default:
+                    drop(buffer);
+                    break;
+            }
+        }
+        scheduleWrite();
+    }
+
+    private void put(ByteBuffer buffer) {
+        if (Context.isOnEventLoopThread()) {
+            // an event loop thread must never wait, the message is dropped instead
+            if (!eventLoopOverflowLogged) {
+                eventLoopOverflowLogged = true;
+                log.warnf("The access log queue is full, messages logged on an event loop thread are dropped instead"
+                        + " of waiting for space in the queue with the %s overflow policy", overflowPolicy);
+            }
+            drop(buffer);
+            return;
+        }
+        // make sure the queue is being drained before waiting
+        scheduleWrite();
+        try {
+            pendingMessages.put(buffer);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            drop(buffer);
+        }
+    }
+
+    private void drop(ByteBuffer buffer) {
+        droppedMessages.increment();
+        releaseBuffer(buffer);
+    }
+
+    private void scheduleWrite() {
+        int state = stateUpdater.get(this);
+        if (state == 0) {
+            if (stateUpdater.compareAndSet(this, 0, 1)) {
+                logWriteExecutor.execute(this);
+            }
+        }
+    }
+
+    /**
+     * @return the number of messages dropped because the queue was full
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.sum();
+    }
+
+    /**
+     * processes all queued log messages
+     */
+    @Override
+    public void run() {
+        if (!stateUpdater.compareAndSet(this, 1, 2)) {
+            return;
+        }
+        if (forceLogRotation) {
+            doRotate();
+        } else if (initialRun && Files.exists(defaultLogFile)) {
+            //if there is an existing log file check if it should be rotated
+            long lm = 0;
+            try {
+                lm = Files.getLastModifiedTime(defaultLogFile).toMillis();
+            } catch (IOException e) {
+                log.error("Error rotating access log", e);
+            }
+            Calendar c = Calendar.getInstance();
+            c.setTimeInMillis(changeOverPoint);
+            c.add(Calendar.DATE, -1);
+            if (lm <= c.getTimeInMillis()) {
+                doRotate();
+            }
+        }
+        initialRun = false;
+        int count = 0;
+        ByteBuffer buffer;
+        //only grab at most 1000 messages at a time
+        while (count < MAX_BATCH_SIZE && (buffer = pendingMessages.poll()) != null) {
+            batch[count++] = buffer;
+        }
+        try {
+            if (count > 0) {
+                writeBatch(count);
+            }
+            reportDroppedMessages();
+        } finally {
+            for (int i = 0; i < count; i++) {
+                releaseBuffer(batch[i]);
+                batch[i] = null;
+            }
+            stateUpdater.set(this, 0);
+            //check to see if there is still more messages
+            //if so then run this again
+            if (!pendingMessages.isEmpty() || forceLogRotation) {
+                if (stateUpdater.compareAndSet(this, 0, 1)) {
+                    logWriteExecutor.execute(this);
+                }
+            } else if (closed) {
+                closeChannel();
+            }
+        }
+    }
+
+    /**
+     * For tests only. Blocks the current thread until all messages are written
+     * Just does a busy wait.
+     * <p/>
+     * DO NOT USE THIS OUTSIDE OF A TEST
+     */
+    void awaitWrittenForTest() throws InterruptedException {
+        while (!pendingMessages.isEmpty() || forceLogRotation) {
+            Thread.sleep(10);
+        }
+        while (state != 0) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void writeBatch(int count) {
+        if (System.currentTimeMillis() > changeOverPoint) {
+            doRotate();
+        }
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(defaultLogFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+            }
+            long remaining = 0;
+            for (int i = 0; i < count; i++) {
+                remaining += batch[i].remaining();
+            }
+            while (remaining > 0) {
+                remaining -= channel.write(batch, 0, count);
+            }
+        } catch (IOException e) {
+            log.error("Error writing access log", e);
+        }
+    }
+
+    private void reportDroppedMessages() {
+        long dropped = droppedMessages.sum();
+        if (dropped > reportedDroppedMessages) {
+            log.warnf("%d access log messages were dropped because the queue of messages waiting to be written was full",
+                    dropped - reportedDroppedMessages);
+            reportedDroppedMessages = dropped;
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        } catch (IOException e) {
+            log.error("Error writing access log", e);
+        }
+    }
+
+    private void doRotate() {
+        forceLogRotation = false;
+        if (!rotate) {
+            return;
+        }
+        try {
+            closeChannel();
+            if (!Files.exists(defaultLogFile)) {
+                return;
+            }
+            Path newFile = outputDirectory.resolve(logBaseName + DOT + currentDateString + logNameSuffix);
+            int count = 0;
+            while (Files.exists(newFile)) {
+                ++count;
+                newFile = outputDirectory.resolve(logBaseName + DOT + currentDateString + "-" + count + logNameSuffix);
+            }
+            Files.move(defaultLogFile, newFile);
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        } finally {
+            calculateChangeOverPoint();
+        }
+    }
+
+    /**
+     * forces a log rotation. This rotation is performed in an async manner, you cannot rely on the rotation
+     * being performed immediately after this method returns.
+     */
+    public void rotate() {
+        forceLogRotation = true;
+        if (stateUpdater.compareAndSet(this, 0, 1)) {
+            logWriteExecutor.execute(this);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        if (stateUpdater.compareAndSet(this, 0, 1)) {
+            logWriteExecutor.execute(this);
+        }
+    }
+
+    private ByteBuffer acquireBuffer() {
+        ByteBuffer buffer = bufferPool.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+        pooledBuffers.decrementAndGet();
+        return buffer;
+    }
+
+    private void releaseBuffer(ByteBuffer buffer) {
+        if (!buffer.isDirect() || buffer.capacity() != BUFFER_SIZE) {
+            // not a pooled buffer
+            return;
+        }
+        if (pooledBuffers.incrementAndGet() > maxPooledBuffers) {
+            pooledBuffers.decrementAndGet();
+            return;
+        }
+        buffer.clear();
+        bufferPool.offer(buffer);
+    }
+
+    /**
+     * Copies the content of the buffer into a larger buffer, which is not pooled.
+     */
+    private ByteBuffer grow(ByteBuffer buffer) {
+        ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+        buffer.flip();
+        larger.put(buffer);
+        releaseBuffer(buffer);
+        return larger;
+    }
+
+    private static ByteBuffer encodeUnpooled(String message) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(bytes.length + LINE_SEPARATOR.length);
+        buffer.put(bytes);
+        buffer.put(LINE_SEPARATOR);
+        return buffer;
+    }
+
+    private static boolean putLineSeparator(ByteBuffer buffer) {
+        if (buffer.remaining() < LINE_SEPARATOR.length) {
+            return false;
+        }
+        buffer.put(LINE_SEPARATOR);
+        return true;
+    }
+
+    /**
+     * Encodes the decimal representation of the value into the buffer.
+     *
+     * @return {@code false} if there is not enough space in the buffer, in which case nothing is written
+     */
+    static boolean putLong(long value, ByteBuffer buffer) {
+        if (value == Long.MIN_VALUE) {
+            // the only value that cannot be negated
+            if (buffer.remaining() < LONG_MIN_VALUE.length) {
+                return false;
+            }
+            buffer.put(LONG_MIN_VALUE);
+            return true;
+        }
+        boolean negative = value < 0;
+        long remaining = negative ? -value : value;
+        int digits = 1;
+        for (long i = remaining; i >= 10; i /= 10) {
+            digits++;
+        }
+        if (buffer.remaining() < (negative ? digits + 1 : digits)) {
+            return false;
+        }
+        if (negative) {
+            buffer.put((byte) '-');
+        }
+        int end = buffer.position() + digits;
+        for (int i = end - 1; i >= end - digits; i--) {
+            buffer.put(i, (byte) ('0' + remaining % 10));
+            remaining /= 10;
+        }
+        buffer.position(end);
+        return true;
+    }
+
+    /**
+     * Encodes the value as UTF-8 into the buffer.
+     *
+     * @return {@code false} if there is not enough space in the buffer
+     */
+    static boolean putUtf8(String value, ByteBuffer buffer) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (!buffer.hasRemaining()) {
+                    return false;
+                }
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                if (buffer.remaining() < 2) {
+                    return false;
+                }
+                buffer.put((byte) (0xc0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3f)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                if (buffer.remaining() < 4) {
+                    return false;
+                }
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xf0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3f)));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate, same replacement as String.getBytes()
+                if (!buffer.hasRemaining()) {
+                    return false;
+                }
+                buffer.put((byte) '?');
+            } else {
+                if (buffer.remaining() < 3) {
+                    return false;
+                }
+                buffer.put((byte) (0xe0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3f)));
+                buffer.put((byte) (0x80 | (c & 0x3f)));
+            }
+        }
+        return true;
+    }
+}
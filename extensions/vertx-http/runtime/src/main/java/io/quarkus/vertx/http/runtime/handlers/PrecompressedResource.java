@@ -0,0 +1,47 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.RecordableConstructor;
+
+/**
+ * A static resource for which compressed variants were generated at build time.
+ */
+public class PrecompressedResource {
+
+    private final String etag;
+    private final List<String> encodings;
+
+    /**
+     * @param etag the strong entity tag of the original resource, without quotes
+     * @param encodings the encodings of the available variants, in order of preference
+     */
+    @RecordableConstructor
+    public PrecompressedResource(String etag, List<String> encodings) {
+        this.etag = etag;
+        this.encodings = encodings;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public List<String> getEncodings() {
+        return encodings;
+    }
+
+    /**
+     * @param encoding the content encoding
+     * @return the file name suffix of the variant with the given encoding
+     */
+    public static String suffix(String encoding) {
+        switch (encoding) {
+            case "br":
+                return ".br";
+            case "gzip":
+                return ".gz";
+            default:
+                throw new IllegalArgumentException("Unsupported encoding: " + encoding);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import java.util.List;
+import java.util.Map;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the compressed variants of static resources generated at build time.
+ * <p>
+ * The variant is selected based on the {@code Accept-Encoding} request header and sent with
+ * {@link HttpServerResponse#sendFile(String)}. Each variant has a strong entity tag derived from the content of the
+ * original resource, so conditional requests are answered with {@code 304 Not Modified}.
+ */
+public class PrecompressedStaticHandler {
+
+    private static final String ACCEPT_ENCODING_VARY = HttpHeaders.ACCEPT_ENCODING.toString();
+
+    private final String root;
+    private final Map<String, PrecompressedResource> resources;
+    private final String defaultContentEncoding;
+    private final String cacheControl;
+
+    /**
+     * @param root the classpath directory of the resources
+     * @param resources the precompressed resources, keyed by their path relative to the root
+     * @param defaultContentEncoding the charset of text resources
+     * @param maxAgeSeconds the max age in caching headers, or a negative value if caching is disabled
+     */
+    public PrecompressedStaticHandler(String root, Map<String, PrecompressedResource> resources,
+            String defaultContentEncoding, long maxAgeSeconds) {
+        this.root = root;
+        this.resources = resources;
+        this.defaultContentEncoding = defaultContentEncoding;
+        this.cacheControl = maxAgeSeconds >= 0 ? "public, immutable, max-age=" + maxAgeSeconds : null;
+    }
+
+    /**
+     * Sends a precompressed variant of the given resource, if one is acceptable.
+     *
+     * @param ctx the routing context
+     * @param path the path of the resource relative to the root, index page already resolved
+     * @return {@code true} if the request was handled, {@code false} if the original resource should be served
+     */
+    public boolean handle(RoutingContext ctx, String path) {
+        PrecompressedResource resource = resources.get(path);
+        if (resource == null) {
+            return false;
+        }
+        HttpServerRequest request = ctx.request();
+        // ranges and HEAD requests are left to the regular static handler, which knows the size of the original resource
+        if (request.method() != HttpMethod.GET || request.headers().contains(HttpHeaderNames.RANGE)) {
+            return false;
+        }
+        HttpServerResponse response = ctx.response();
+        response.headers().add(HttpHeaders.VARY, ACCEPT_ENCODING_VARY);
+        String encoding = selectEncoding(request.getHeader(HttpHeaders.ACCEPT_ENCODING), resource.getEncodings());
+        if (encoding == null) {
+            return false;
+        }
+        String etag = "\"" + resource.getEtag() + "-" + encoding + "\"";
+
+        response.putHeader(HttpHeaders.ETAG, etag);
+        if (cacheControl != null) {
+            response.putHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return true;
+        }
+        String contentType = MimeMapping.getMimeTypeForFilename(path);
+        if (contentType != null) {
+            if (contentType.startsWith("text")) {
+                contentType = contentType + ";charset=" + defaultContentEncoding;
+            }
+            response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+        }
+        // any non-identity content encoding prevents the response from being compressed again
+        response.putHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        response.sendFile(root + path + PrecompressedResource.suffix(encoding)).onFailure(ctx::fail);
+        return true;
+    }
+
+    /**
+     * @param acceptEncoding the value of the {@code Accept-Encoding} header, may be {@code null}
+     * @param encodings the available encodings, in order of preference
+     * @return the first available encoding accepted by the client, or {@code null}
+     */
+    static String selectEncoding(String acceptEncoding, List<String> encodings) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return null;
+        }
+        String[] values = acceptEncoding.split(",");
+        for (String encoding : encodings) {
+            if (isAccepted(values, encoding)) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isAccepted(String[] values, String encoding) {
+        boolean wildcard = false;
+        for (String value : values) {
+            int paramIndex = value.indexOf(';');
+            String name = (paramIndex == -1 ? value : value.substring(0, paramIndex)).trim();
+            boolean accepted = paramIndex == -1 || !isZeroQuality(value.substring(paramIndex + 1));
+            if (name.equalsIgnoreCase(encoding)) {
+                return accepted;
+            }
+            if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return wildcard;
+    }
+
+    private static boolean isZeroQuality(String params) {
+        for (String param : params.split(";")) {
+            param = param.trim();
+            if (param.startsWith("q=") || param.startsWith("Q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim()) <= 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String value : ifNoneMatch.split(",")) {
+            value = value.trim();
+            if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
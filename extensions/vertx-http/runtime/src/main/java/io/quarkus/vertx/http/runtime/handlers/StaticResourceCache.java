@@ -0,0 +1,279 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.impl.Utils;
+
+/**
+ * Keeps the content of static resources in memory, on the heap or in memory-mapped files, together with precomputed
+ * response headers, so that a cache hit is a single buffer write.
+ * <p>
+ * A cache hit sends the same headers as the Vert.x {@link io.vertx.ext.web.handler.StaticHandler}, and answers
+ * conditional requests the same way, based on the last modification time of the resource. Like the static handler, it
+ * does not send an {@code ETag}, so that a client sees the same validators whether a request hits the cache or not.
+ * <p>
+ * The total size of the cached resources is bounded; when the bound is exceeded, the least recently used resources are
+ * evicted. Resources are loaded on a worker thread after the first request, which is served by the regular static
+ * handler.
+ */
+public class StaticResourceCache {
+
+    private static final Logger LOG = Logger.getLogger(StaticResourceCache.class);
+
+    private static final CharSequence BYTES = HttpHeaders.createOptimized("bytes");
+    private static final CharSequence ACCEPT_ENCODING = HttpHeaders.createOptimized("accept-encoding");
+
+    private final ClassLoader classLoader;
+    private final String root;
+    private final long maxSize;
+    private final long maxEntrySize;
+    private final boolean mapped;
+    private final String defaultContentEncoding;
+    private final CharSequence cacheControl;
+    private final boolean rangeSupport;
+
+    private final Map<String, CachedResource> resources = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> loading = new ConcurrentHashMap<>();
+    // guarded by this
+    private long size;
+
+    /**
+     * @param classLoader the class loader used to load the resources
+     * @param root the classpath directory of the resources
+     * @param maxSize the maximum total size of the cached resources
+     * @param maxEntrySize the maximum size of a cached resource
+     * @param mapped whether the content is kept in memory-mapped files instead of the heap
+     * @param defaultContentEncoding the charset of text resources
+     * @param maxAgeSeconds the max age in caching headers, or a negative value if caching is disabled
+     * @param rangeSupport whether range requests are supported, in which case the {@code Accept-Ranges} header is sent
+     */
+    public StaticResourceCache(ClassLoader classLoader, String root, long maxSize, long maxEntrySize, boolean mapped,
+            String defaultContentEncoding, long maxAgeSeconds, boolean rangeSupport) {
+        this.classLoader = classLoader;
+        this.root = root;
+        this.maxSize = maxSize;
+        this.maxEntrySize = Math.min(maxEntrySize, maxSize);
+        this.mapped = mapped;
+        this.defaultContentEncoding = defaultContentEncoding;
+        this.cacheControl = maxAgeSeconds >= 0 ? HttpHeaders.createOptimized("public, immutable, max-age=" + maxAgeSeconds)
+                : null;
+        this.rangeSupport = rangeSupport;
+    }
+
+    /**
+     * Sends the given resource from the cache. If the resource is not cached yet, it is loaded on a worker thread.
+     *
+     * @param ctx the routing context
+     * @param path the path of the resource relative to the root, index page already resolved
+     * @return {@code true} if the request was handled, {@code false} if the resource should be served by another handler
+     */
+    public boolean handle(RoutingContext ctx, String path) {
+        HttpServerRequest request = ctx.request();
+        HttpMethod method = request.method();
+        if ((method != HttpMethod.GET && method != HttpMethod.HEAD) || request.headers().contains(HttpHeaderNames.RANGE)) {
+            return false;
+        }
+        CachedResource resource = lookup(path);
+        if (resource == null) {
+            scheduleLoad(ctx.vertx(), path);
+            return false;
+        }
+
+        HttpServerResponse response = ctx.response();
+        if (cacheControl != null && Utils.fresh(ctx, resource.lastModified)) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return true;
+        }
+        MultiMap headers = response.headers();
+        if (rangeSupport) {
+            headers.set(HttpHeaders.ACCEPT_RANGES, BYTES);
+        }
+        headers.set(HttpHeaders.CONTENT_LENGTH, resource.contentLength);
+        if (cacheControl != null) {
+            addIfAbsent(headers, HttpHeaders.CACHE_CONTROL, cacheControl);
+            addIfAbsent(headers, HttpHeaders.LAST_MODIFIED, resource.lastModifiedHeader);
+            if (request.headers().contains(HttpHeaders.ACCEPT_ENCODING)) {
+                addIfAbsent(headers, HttpHeaders.VARY, ACCEPT_ENCODING);
+            }
+        }
+        headers.set(HttpHeaders.DATE, Utils.formatRFC1123DateTime(System.currentTimeMillis()));
+        if (method == HttpMethod.HEAD) {
+            response.end();
+        } else {
+            if (resource.contentType != null) {
+                headers.set(HttpHeaders.CONTENT_TYPE, resource.contentType);
+            }
+            response.end(resource.content);
+        }
+        return true;
+    }
+
+    /**
+     * @return the total size of the cached resources
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    CachedResource get(String path) {
+        return resources.get(path);
+    }
+
+    /**
+     * @return the cached resource, marked as the most recently used, or {@code null}
+     */
+    CachedResource lookup(String path) {
+        CachedResource resource = resources.get(path);
+        if (resource != null) {
+            // a timestamp rather than a shared counter, so that hits on different resources do not contend
+            resource.lastAccess = System.nanoTime();
+        }
+        return resource;
+    }
+
+    private void scheduleLoad(Vertx vertx, String path) {
+        if (loading.putIfAbsent(path, Boolean.TRUE) != null) {
+            return;
+        }
+        vertx.executeBlocking(() -> {
+            try {
+                load(path, vertx);
+            } catch (IOException | UncheckedIOException e) {
+                LOG.debugf(e, "Unable to cache static resource %s", path);
+            } finally {
+                loading.remove(path);
+            }
+            return null;
+        }, false);
+    }
+
+    /**
+     * Loads the given resource in the cache; this method blocks.
+     *
+     * @param path the path of the resource relative to the root
+     * @param vertx the Vert.x instance used to extract resources packaged in a jar, if the content is memory-mapped
+     * @return {@code true} if the resource was cached
+     */
+    boolean load(String path, Vertx vertx) throws IOException {
+        URL url = classLoader.getResource(root + path);
+        if (url == null) {
+            return false;
+        }
+        // the file is resolved like the static handler does, so that the last modification time is the same
+        File file = toFile(url, path, vertx);
+        if (file == null || !file.isFile() || file.length() > maxEntrySize) {
+            return false;
+        }
+        long lastModified = file.lastModified();
+        Buffer content;
+        if (mapped) {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                // the buffer is shared by all responses, it must never be released
+                content = Buffer.buffer(Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(buffer)));
+            }
+        } else {
+            content = Buffer.buffer(Files.readAllBytes(file.toPath()));
+        }
+        if (content.length() > maxEntrySize) {
+            return false;
+        }
+        String contentType = MimeMapping.getMimeTypeForFilename(path);
+        if (contentType != null && contentType.startsWith("text")) {
+            contentType = contentType + ";charset=" + defaultContentEncoding;
+        }
+        put(path, new CachedResource(content, contentType, lastModified));
+        LOG.debugf("Cached static resource %s", path);
+        return true;
+    }
+
+    synchronized void put(String path, CachedResource resource) {
+        resource.lastAccess = System.nanoTime();
+        CachedResource previous = resources.put(path, resource);
+        if (previous != null) {
+            size -= previous.content.length();
+        }
+        size += resource.content.length();
+        while (size > maxSize) {
+            // the cache is expected to hold a moderate number of resources and eviction only happens on a worker
+            // thread when a resource is added, so a scan is cheaper than maintaining an access-ordered structure
+            // on every hit
+            String eldest = null;
+            long eldestAccess = 0;
+            for (Map.Entry<String, CachedResource> e : resources.entrySet()) {
+                if (eldest == null || e.getValue().lastAccess - eldestAccess < 0) {
+                    eldest = e.getKey();
+                    eldestAccess = e.getValue().lastAccess;
+                }
+            }
+            size -= resources.remove(eldest).content.length();
+        }
+    }
+
+    private File toFile(URL url, String path, Vertx vertx) {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return Path.of(url.toURI()).toFile();
+            } catch (URISyntaxException e) {
+                return null;
+            }
+        }
+        if (vertx instanceof VertxInternal) {
+            // extracts the resource to the Vert.x file cache
+            return ((VertxInternal) vertx).resolveFile(root + path);
+        }
+        return null;
+    }
+
+    private static void addIfAbsent(MultiMap headers, CharSequence name, CharSequence value) {
+        if (!headers.contains(name)) {
+            headers.set(name, value);
+        }
+    }
+
+    static final class CachedResource {
+
+        final Buffer content;
+        final CharSequence contentType;
+        final CharSequence contentLength;
+        // in seconds, like the static handler compares it to If-Modified-Since
+        final long lastModified;
+        final CharSequence lastModifiedHeader;
+        // the System#nanoTime() of the last hit
+        volatile long lastAccess;
+
+        CachedResource(Buffer content, String contentType, long lastModified) {
+            this.content = content;
+            this.contentType = contentType != null ? HttpHeaders.createOptimized(contentType) : null;
+            this.contentLength = HttpHeaders.createOptimized(String.valueOf(content.length()));
+            this.lastModified = Utils.secondsFactor(lastModified);
+            this.lastModifiedHeader = HttpHeaders.createOptimized(Utils.formatRFC1123DateTime(lastModified));
+        }
+    }
+}
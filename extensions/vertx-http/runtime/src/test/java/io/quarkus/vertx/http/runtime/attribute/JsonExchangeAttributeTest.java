@@ -0,0 +1,35 @@
+package io.quarkus.vertx.http.runtime.attribute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class JsonExchangeAttributeTest {
+
+    @Test
+    void testFieldNames() {
+        Map<String, ExchangeAttribute> tokens = new ExchangeAttributeParser(getClass().getClassLoader(), List.of())
+                .parseTokens("%h %{REMOTE_IP} %<r [%t] \"%{i,User-Agent}\" %{X,traceId} %{time,yyyy} %b %B %% done");
+        JsonExchangeAttribute json = new JsonExchangeAttribute(tokens);
+        assertEquals(List.of("remoteHost", "remoteIp", "originalRequestLine", "dateTime", "requestHeader.User-Agent",
+                "mdc.traceId", "time", "bytesSent"), json.getFieldNames());
+    }
+
+    @Test
+    void testValues() {
+        Map<String, ExchangeAttribute> tokens = new LinkedHashMap<>();
+        tokens.put("%s", new ConstantExchangeAttribute("200"));
+        tokens.put("%T", new ConstantExchangeAttribute("0.125"));
+        tokens.put("%b", new ConstantExchangeAttribute("-"));
+        tokens.put("%r", new ConstantExchangeAttribute("GET /a?b=\"c\"\\d\n HTTP/1.1"));
+        tokens.put("%{i,X-Id}", new ConstantExchangeAttribute("\u0001"));
+        tokens.put("%u", NullAttribute.INSTANCE);
+        assertEquals("{\"responseCode\":200,\"responseTimeSeconds\":0.125,\"bytesSent\":\"-\","
+                + "\"requestLine\":\"GET /a?b=\\\"c\\\"\\\\d\\n HTTP/1.1\",\"requestHeader.X-Id\":\"\\u0001\","
+                + "\"remoteUser\":null}", new JsonExchangeAttribute(tokens).readAttribute(null));
+    }
+}
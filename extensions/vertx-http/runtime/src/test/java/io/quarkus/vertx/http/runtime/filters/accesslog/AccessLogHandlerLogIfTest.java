@@ -0,0 +1,83 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.quarkus.vertx.http.runtime.VertxHttpRecorder;
+import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.impl.RoutingContextImpl;
+
+public class AccessLogHandlerLogIfTest {
+
+    @Test
+    public void testDurationIsMeasuredFromRequestStart() {
+        // the request started long before it reached the access log handler
+        long start = System.nanoTime() - TimeUnit.SECONDS.toNanos(3);
+        Assertions.assertEquals(List.of("/slow"), handle("/slow", start));
+    }
+
+    @Test
+    public void testFastRequestIsNotLogged() {
+        Assertions.assertEquals(List.of(), handle("/fast", System.nanoTime()));
+    }
+
+    @Test
+    public void testDurationWithoutRequestStartTime() {
+        Assertions.assertEquals(List.of(), handle("/unknown", null));
+    }
+
+    private List<String> handle(String path, Long requestStartTime) {
+        List<String> accessLogEntries = new ArrayList<>();
+        AccessLogReceiver receiver = new AccessLogReceiver() {
+            @Override
+            public void logMessage(String message) {
+                accessLogEntries.add(message);
+            }
+        };
+        AccessLogHandler accessLogHandler = new AccessLogHandler(receiver, "%R", false, false,
+                getClass().getClassLoader(), Optional.empty(), OptionalDouble.empty(), OptionalInt.empty(),
+                Optional.of(Duration.ofSeconds(2)));
+
+        QuarkusRequestWrapper request = Mockito.mock(QuarkusRequestWrapper.class);
+        Mockito.when(request.getCookie(QuarkusRequestWrapper.FAKE_COOKIE_NAME)).thenReturn(request.new QuarkusCookie());
+        Mockito.when(request.path()).thenReturn(path);
+        HttpServerResponse response = Mockito.mock(HttpServerResponse.class);
+        Mockito.when(response.ended()).thenReturn(true);
+        Mockito.when(request.response()).thenReturn(response);
+        List<Handler<Void>> requestDoneHandlers = new ArrayList<>();
+        Mockito.doAnswer(i -> {
+            requestDoneHandlers.add(i.getArgument(0));
+            return null;
+        }).when(request).addRequestDoneHandler(any());
+
+        RoutingContextImpl rc = Mockito.mock(RoutingContextImpl.class);
+        Mockito.when(rc.get(anyString())).thenCallRealMethod();
+        Mockito.when(rc.get(anyString(), any())).thenCallRealMethod();
+        Mockito.when(rc.put(anyString(), any())).thenCallRealMethod();
+        Mockito.when(rc.request()).thenReturn(request);
+        Mockito.when(rc.response()).thenReturn(response);
+        if (requestStartTime != null) {
+            rc.put(VertxHttpRecorder.REQUEST_START_TIME, requestStartTime);
+        }
+
+        accessLogHandler.handle(rc);
+        for (Handler<Void> requestDoneHandler : requestDoneHandlers) {
+            requestDoneHandler.handle(null);
+        }
+        return accessLogEntries;
+    }
+}
@@ -0,0 +1,163 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.vertx.http.runtime.AccessLogConfig.OverflowPolicy;
+import io.quarkus.vertx.http.runtime.attribute.CompositeExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ConstantExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ReadOnlyAttributeException;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.RoutingContext;
+
+class ChannelAccessLogReceiverTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testWriteMessages() throws IOException {
+        try (ChannelAccessLogReceiver receiver = new ChannelAccessLogReceiver(Runnable::run, tempDir, "access", null, false,
+                16, OverflowPolicy.DROP, 1)) {
+            receiver.logMessage("GET /hello 200");
+            receiver.logMessage(null, new CompositeExchangeAttribute(new ExchangeAttribute[] {
+                    new ConstantExchangeAttribute("GET "), new ConstantExchangeAttribute("/h\u00e9llo/\ud83d\ude00"),
+                    new ConstantExchangeAttribute(" 404") }));
+            String longMessage = "x".repeat(ChannelAccessLogReceiver.BUFFER_SIZE * 2);
+            receiver.logMessage(longMessage);
+        }
+
+        assertThat(Files.readAllLines(tempDir.resolve("access.log"), StandardCharsets.UTF_8))
+                .containsExactly("GET /hello 200", "GET /h\u00e9llo/\ud83d\ude00 404",
+                        "x".repeat(ChannelAccessLogReceiver.BUFFER_SIZE * 2));
+    }
+
+    @Test
+    void testDropWhenQueueIsFull() throws IOException {
+        List<Runnable> tasks = new ArrayList<>();
+        ChannelAccessLogReceiver receiver = new ChannelAccessLogReceiver(tasks::add, tempDir, "access", null, false,
+                2, OverflowPolicy.DROP, 1);
+        for (int i = 0; i < 5; i++) {
+            receiver.logMessage("message " + i);
+        }
+        assertThat(receiver.getDroppedMessages()).isEqualTo(3);
+        receiver.close();
+        tasks.forEach(Runnable::run);
+
+        assertThat(Files.readAllLines(tempDir.resolve("access.log"), StandardCharsets.UTF_8))
+                .containsExactly("message 0", "message 1");
+    }
+
+    @Test
+    void testReadAttributesOnce() throws IOException {
+        CountingAttribute path = new CountingAttribute("/" + "x".repeat(ChannelAccessLogReceiver.BUFFER_SIZE), -1);
+        CountingAttribute status = new CountingAttribute(null, 404);
+        try (ChannelAccessLogReceiver receiver = new ChannelAccessLogReceiver(Runnable::run, tempDir, "access", null, false,
+                16, OverflowPolicy.DROP, 1)) {
+            receiver.logMessage(null, new CompositeExchangeAttribute(new ExchangeAttribute[] {
+                    new ConstantExchangeAttribute("GET "), path, new ConstantExchangeAttribute(" "), status }));
+        }
+
+        assertThat(Files.readAllLines(tempDir.resolve("access.log"), StandardCharsets.UTF_8))
+                .containsExactly("GET /" + "x".repeat(ChannelAccessLogReceiver.BUFFER_SIZE) + " 404");
+        assertThat(path.reads.get()).isEqualTo(1);
+        assertThat(status.reads.get()).isEqualTo(0);
+    }
+
+    @Test
+    void testNeverBlockEventLoop() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        ChannelAccessLogReceiver receiver = new ChannelAccessLogReceiver(tasks::add, tempDir, "access", null, false,
+                1, OverflowPolicy.BLOCK, 1);
+        Vertx vertx = Vertx.vertx();
+        try {
+            CompletableFuture<Void> logged = new CompletableFuture<>();
+            vertx.runOnContext(v -> {
+                receiver.logMessage("message 0");
+                receiver.logMessage("message 1");
+                logged.complete(null);
+            });
+            logged.get(10, TimeUnit.SECONDS);
+        } finally {
+            vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+        assertThat(receiver.getDroppedMessages()).isEqualTo(1);
+        receiver.close();
+        tasks.forEach(Runnable::run);
+
+        assertThat(Files.readAllLines(tempDir.resolve("access.log"), StandardCharsets.UTF_8))
+                .containsExactly("message 0");
+    }
+
+    @Test
+    void testPutLong() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        for (long value : new long[] { 0, 7, 10, 404, -42, Long.MAX_VALUE, Long.MIN_VALUE }) {
+            assertThat(ChannelAccessLogReceiver.putLong(value, buffer)).isTrue();
+            buffer.put((byte) ' ');
+        }
+        buffer.flip();
+        assertThat(StandardCharsets.UTF_8.decode(buffer).toString())
+                .isEqualTo("0 7 10 404 -42 " + Long.MAX_VALUE + " " + Long.MIN_VALUE + " ");
+
+        ByteBuffer small = ByteBuffer.allocate(2);
+        assertThat(ChannelAccessLogReceiver.putLong(404, small)).isFalse();
+        assertThat(ChannelAccessLogReceiver.putLong(Long.MIN_VALUE, small)).isFalse();
+        assertThat(small.position()).isZero();
+    }
+
+    @Test
+    void testPutUtf8() {
+        String value = "a\u00e9\u20ac\ud83d\ude00\ud800b";
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        assertThat(ChannelAccessLogReceiver.putUtf8(value, buffer)).isTrue();
+        buffer.flip();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        assertThat(bytes).isEqualTo(value.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(ChannelAccessLogReceiver.putUtf8(value, ByteBuffer.allocate(4))).isFalse();
+    }
+
+    static class CountingAttribute implements ExchangeAttribute {
+
+        final AtomicInteger reads = new AtomicInteger();
+        final String value;
+        final long number;
+
+        CountingAttribute(String value, long number) {
+            this.value = value;
+            this.number = number;
+        }
+
+        @Override
+        public String readAttribute(RoutingContext exchange) {
+            reads.incrementAndGet();
+            return value;
+        }
+
+        @Override
+        public long readNumericAttribute(RoutingContext exchange) {
+            return number < 0 ? NO_NUMERIC_VALUE : number;
+        }
+
+        @Override
+        public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
+            throw new ReadOnlyAttributeException();
+        }
+    }
+}
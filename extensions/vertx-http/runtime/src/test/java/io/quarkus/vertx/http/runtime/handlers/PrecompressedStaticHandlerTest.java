@@ -0,0 +1,36 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class PrecompressedStaticHandlerTest {
+
+    private static final List<String> ENCODINGS = List.of("br", "gzip");
+
+    @Test
+    void testPreferredEncodingSelected() {
+        assertEquals("br", PrecompressedStaticHandler.selectEncoding("gzip, deflate, br", ENCODINGS));
+        assertEquals("gzip", PrecompressedStaticHandler.selectEncoding("gzip, deflate", ENCODINGS));
+        assertEquals("gzip", PrecompressedStaticHandler.selectEncoding("GZIP", List.of("gzip")));
+    }
+
+    @Test
+    void testQualityAndWildcard() {
+        assertEquals("gzip", PrecompressedStaticHandler.selectEncoding("br;q=0, gzip;q=0.5", ENCODINGS));
+        assertEquals("br", PrecompressedStaticHandler.selectEncoding("*", ENCODINGS));
+        assertEquals("gzip", PrecompressedStaticHandler.selectEncoding("br;q=0, *;q=0.1", ENCODINGS));
+        assertNull(PrecompressedStaticHandler.selectEncoding("*;q=0", ENCODINGS));
+    }
+
+    @Test
+    void testNotAcceptable() {
+        assertNull(PrecompressedStaticHandler.selectEncoding(null, ENCODINGS));
+        assertNull(PrecompressedStaticHandler.selectEncoding("", ENCODINGS));
+        assertNull(PrecompressedStaticHandler.selectEncoding("identity", ENCODINGS));
+        assertNull(PrecompressedStaticHandler.selectEncoding("deflate, br", List.of("gzip")));
+    }
+}
@@ -0,0 +1,79 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StaticResourceCacheTest {
+
+    @TempDir
+    Path root;
+
+    URLClassLoader classLoader;
+
+    @BeforeEach
+    void setup() throws IOException {
+        Path resources = Files.createDirectories(root.resolve("META-INF/resources"));
+        Files.writeString(resources.resolve("index.html"), "<html>hello</html>");
+        Files.write(resources.resolve("a.js"), new byte[400]);
+        Files.write(resources.resolve("b.js"), new byte[400]);
+        Files.write(resources.resolve("c.js"), new byte[400]);
+        Files.write(resources.resolve("large.js"), new byte[2000]);
+        classLoader = new URLClassLoader(new URL[] { root.toUri().toURL() }, null);
+    }
+
+    @Test
+    void testHeapEntry() throws IOException {
+        StaticResourceCache cache = new StaticResourceCache(classLoader, "META-INF/resources", 1000, 1000, false, "UTF-8",
+                -1, true);
+        assertThat(cache.load("/index.html", null)).isTrue();
+        StaticResourceCache.CachedResource resource = cache.get("/index.html");
+        assertThat(resource.content.toString(StandardCharsets.UTF_8)).isEqualTo("<html>hello</html>");
+        assertThat(resource.contentType.toString()).isEqualTo("text/html;charset=UTF-8");
+        assertThat(resource.contentLength.toString()).isEqualTo("18");
+        assertThat(resource.lastModified)
+                .isEqualTo(Files.getLastModifiedTime(root.resolve("META-INF/resources/index.html")).toMillis() / 1000 * 1000);
+        assertThat(cache.size()).isEqualTo(18);
+        assertThat(cache.load("/missing.html", null)).isFalse();
+    }
+
+    @Test
+    void testMappedEntry() throws IOException {
+        StaticResourceCache heap = new StaticResourceCache(classLoader, "META-INF/resources", 1000, 1000, false, "UTF-8",
+                -1, true);
+        StaticResourceCache mapped = new StaticResourceCache(classLoader, "META-INF/resources", 1000, 1000, true, "UTF-8",
+                -1, true);
+        assertThat(heap.load("/index.html", null)).isTrue();
+        assertThat(mapped.load("/index.html", null)).isTrue();
+        StaticResourceCache.CachedResource resource = mapped.get("/index.html");
+        assertThat(resource.content.toString(StandardCharsets.UTF_8)).isEqualTo("<html>hello</html>");
+        // the headers do not depend on the storage
+        assertThat(resource.contentLength.toString()).isEqualTo(heap.get("/index.html").contentLength.toString());
+        assertThat(resource.lastModifiedHeader.toString()).isEqualTo(heap.get("/index.html").lastModifiedHeader.toString());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEvicted() throws IOException {
+        StaticResourceCache cache = new StaticResourceCache(classLoader, "META-INF/resources", 1000, 1000, false, "UTF-8",
+                -1, true);
+        assertThat(cache.load("/large.js", null)).isFalse();
+        assertThat(cache.load("/a.js", null)).isTrue();
+        assertThat(cache.load("/b.js", null)).isTrue();
+        // a hit on a.js, so that b.js is the least recently used
+        assertThat(cache.lookup("/a.js")).isNotNull();
+        assertThat(cache.load("/c.js", null)).isTrue();
+        assertThat(cache.get("/a.js")).isNotNull();
+        assertThat(cache.get("/b.js")).isNull();
+        assertThat(cache.get("/c.js")).isNotNull();
+        assertThat(cache.size()).isEqualTo(800);
+    }
+}
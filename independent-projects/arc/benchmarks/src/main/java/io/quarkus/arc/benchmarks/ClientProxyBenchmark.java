@@ -0,0 +1,166 @@
+package io.quarkus.arc.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.processor.BeanArchives;
+import io.quarkus.arc.processor.BeanProcessor;
+import io.quarkus.arc.processor.ResourceOutput;
+
+/**
+ * Measures the overhead of a client proxy of an application scoped bean.
+ * <ul>
+ * <li>{@code direct}: a method invoked on the contextual instance</li>
+ * <li>{@code clientProxy}: the same method invoked on the client proxy, which obtains the contextual instance first</li>
+ * </ul>
+ * The client proxy is generated by the {@link BeanProcessor} when the benchmark is set up, like in a Quarkus build, and the
+ * generated classes are defined by a dedicated class loader.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientProxyBenchmark {
+
+    private ClassLoader oldTccl;
+    private Path componentsProviderFile;
+    private Service proxy;
+    private Service instance;
+
+    @Setup
+    public void setup() throws Exception {
+        Map<String, byte[]> classes = new HashMap<>();
+        componentsProviderFile = Files.createTempFile("arc-benchmark", ComponentsProvider.class.getSimpleName());
+        BeanProcessor.builder()
+                .setName(ClientProxyBenchmark.class.getSimpleName())
+                .setImmutableBeanArchiveIndex(BeanArchives.buildImmutableBeanArchiveIndex(index(Service.class)))
+                .setComputingBeanArchiveIndex(BeanArchives.buildComputingBeanArchiveIndex(getClass().getClassLoader(),
+                        new ConcurrentHashMap<>(), index(Service.class)))
+                .setOutput(new ResourceOutput() {
+                    @Override
+                    public void writeResource(Resource resource) throws IOException {
+                        switch (resource.getType()) {
+                            case JAVA_CLASS:
+                                classes.put(resource.getFullyQualifiedName(), resource.getData());
+                                break;
+                            case SERVICE_PROVIDER:
+                                if (resource.getName().endsWith(ComponentsProvider.class.getName())) {
+                                    Files.write(componentsProviderFile, resource.getData());
+                                }
+                                break;
+                            default:
+                                throw new IllegalArgumentException();
+                        }
+                    }
+                })
+                .build()
+                .process();
+
+        oldTccl = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(new GeneratedClassLoader(getClass().getClassLoader(), classes,
+                componentsProviderFile.toUri().toURL()));
+        Arc.initialize();
+        proxy = Arc.container().instance(Service.class).get();
+        instance = ClientProxy.unwrap(proxy);
+        if (proxy == instance) {
+            throw new IllegalStateException("Client proxy not generated");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Arc.shutdown();
+        Thread.currentThread().setContextClassLoader(oldTccl);
+        Files.deleteIfExists(componentsProviderFile);
+    }
+
+    @Benchmark
+    public int direct() {
+        return instance.increment();
+    }
+
+    @Benchmark
+    public int clientProxy() {
+        return proxy.increment();
+    }
+
+    private static IndexView index(Class<?> clazz) throws IOException {
+        Indexer indexer = new Indexer();
+        try (InputStream stream = ClientProxyBenchmark.class.getClassLoader()
+                .getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+            indexer.index(stream);
+        }
+        return indexer.complete();
+    }
+
+    @ApplicationScoped
+    public static class Service {
+
+        private int counter;
+
+        public int increment() {
+            return ++counter;
+        }
+    }
+
+    static final class GeneratedClassLoader extends ClassLoader {
+
+        private static final String COMPONENTS_PROVIDER_SERVICE = "META-INF/services/" + ComponentsProvider.class.getName();
+
+        private final Map<String, byte[]> classes;
+        private final URL componentsProvider;
+
+        GeneratedClassLoader(ClassLoader parent, Map<String, byte[]> classes, URL componentsProvider) {
+            super(parent);
+            this.classes = classes;
+            this.componentsProvider = componentsProvider;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] data = classes.get(name);
+            if (data == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, data, 0, data.length);
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            if (COMPONENTS_PROVIDER_SERVICE.equals(name)) {
+                return Collections.enumeration(Collections.singleton(componentsProvider));
+            }
+            return super.getResources(name);
+        }
+    }
+}
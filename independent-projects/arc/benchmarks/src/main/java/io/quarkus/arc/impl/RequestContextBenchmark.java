@@ -0,0 +1,140 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.quarkus.arc.InjectableBean;
+
+/**
+ * Measures the lifecycle of a request context, i.e. what happens for each HTTP request.
+ * <ul>
+ * <li>{@code activateDestroy}: a request in which no request scoped bean is used</li>
+ * <li>{@code activateInjectThreeBeansDestroy}: a request in which three request scoped beans are created, then looked up
+ * again as a client proxy would do for each invocation</li>
+ * </ul>
+ * The {@code beans} parameter is the number of request scoped beans in the deployment. The benchmark is declared in the
+ * {@code io.quarkus.arc.impl} package because the request context implementation is not public. Run it with
+ * {@code -prof gc} to see the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestContextBenchmark {
+
+    public enum Instances {
+        COMPUTING_CACHE,
+        INDEXED,
+    }
+
+    @Param({ "COMPUTING_CACHE", "INDEXED" })
+    public Instances instances;
+
+    @Param({ "3", "200" })
+    public int beans;
+
+    private RequestContext context;
+    private RequestScopedBean bean1;
+    private RequestScopedBean bean2;
+    private RequestScopedBean bean3;
+
+    @Setup
+    public void setup() {
+        List<InjectableBean<?>> deployment = new ArrayList<>(beans);
+        for (int i = 0; i < beans; i++) {
+            deployment.add(new RequestScopedBean("bean" + i));
+        }
+        bean1 = (RequestScopedBean) deployment.get(0);
+        bean2 = (RequestScopedBean) deployment.get(beans / 2);
+        bean3 = (RequestScopedBean) deployment.get(beans - 1);
+        Supplier<ContextInstances> contextInstances = switch (instances) {
+            case COMPUTING_CACHE -> ComputingCacheContextInstances::new;
+            case INDEXED -> IndexedContextInstances.supplier(RequestScoped.class, deployment);
+        };
+        context = new RequestContext(new ThreadLocalCurrentContextFactory().create(RequestScoped.class), null, null, null,
+                contextInstances);
+    }
+
+    @Benchmark
+    public void activateDestroy() {
+        context.activate();
+        context.terminate();
+    }
+
+    @Benchmark
+    public void activateInjectThreeBeansDestroy(Blackhole blackhole) {
+        context.activate();
+        try {
+            blackhole.consume(context.get(bean1, new CreationalContextImpl<>(bean1)));
+            blackhole.consume(context.get(bean2, new CreationalContextImpl<>(bean2)));
+            blackhole.consume(context.get(bean3, new CreationalContextImpl<>(bean3)));
+            blackhole.consume(context.get(bean1));
+            blackhole.consume(context.get(bean2));
+            blackhole.consume(context.get(bean3));
+        } finally {
+            context.terminate();
+        }
+    }
+
+    static final class RequestScopedBean implements InjectableBean<Object> {
+
+        private final String identifier;
+
+        RequestScopedBean(String identifier) {
+            this.identifier = identifier;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return identifier;
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return RequestScoped.class;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Set.of(Object.class);
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return Object.class;
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return new Object();
+        }
+
+        @Override
+        public Object get(CreationalContext<Object> creationalContext) {
+            return create(creationalContext);
+        }
+    }
+}
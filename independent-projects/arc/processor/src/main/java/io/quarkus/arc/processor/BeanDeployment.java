@@ -10,6 +10,7 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -18,9 +19,13 @@
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -61,6 +66,8 @@ public class BeanDeployment {
 
     private static final Logger LOGGER = Logger.getLogger(BeanDeployment.class);
 
+    private static final int VALIDATION_BATCH_SIZE = 64;
+
     final String name;
     private final BuildContextImpl buildContext;
 
@@ -291,6 +298,7 @@ void registerScopes() {
     }
 
     RegistrationContext registerBeans(List<BeanRegistrar> beanRegistrars) {
+        long start = System.nanoTime();
         List<InjectionPointInfo> injectionPoints = new ArrayList<>();
         BeanDiscoveryResult beanDiscoveryResult = findBeans(
                 initBeanDefiningAnnotations(beanDefiningAnnotations.values(), stereotypes.keySet()), observers,
@@ -314,7 +322,10 @@ RegistrationContext registerBeans(List<BeanRegistrar> beanRegistrars) {
                     invokerFactory);
         }
 
-        return registerSyntheticBeans(beanRegistrars, buildContext);
+        RegistrationContext registrationContext = registerSyntheticBeans(beanRegistrars, buildContext);
+        LOGGER.debugf("Registered %s beans, %s interceptors and %s decorators in %s ms", beans.size(), interceptors.size(),
+                decorators.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return registrationContext;
     }
 
     void init(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
@@ -516,11 +527,12 @@ private Set<BeanInfo> removeUnusedBeans(Set<BeanInfo> declaresObserver, Set<Bean
     }
 
     ValidationContext validate(List<BeanDeploymentValidator> validators,
-            Consumer<BytecodeTransformer> bytecodeTransformerConsumer) {
+            Consumer<BytecodeTransformer> bytecodeTransformerConsumer, ExecutorService executor) {
+        long start = System.nanoTime();
         // Validate the bean deployment
         List<Throwable> errors = new ArrayList<>();
         // First, validate all beans internally
-        validateBeans(errors, bytecodeTransformerConsumer);
+        validateBeans(errors, bytecodeTransformerConsumer, executor);
         validateInterceptorsAndDecorators(errors, bytecodeTransformerConsumer);
         validateNonAppBeansWithAppDecorators(errors, bytecodeTransformerConsumer);
         ValidationContextImpl validationContext = new ValidationContextImpl(buildContext);
@@ -531,6 +543,7 @@ ValidationContext validate(List<BeanDeploymentValidator> validators,
         for (BeanDeploymentValidator validator : validators) {
             validator.validate(validationContext);
         }
+        LOGGER.debugf("Bean deployment validated in %s ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         return validationContext;
     }
 
@@ -1719,11 +1732,12 @@ private void validateInterceptorsAndDecorators(List<Throwable> errors,
         }
     }
 
-    private void validateBeans(List<Throwable> errors, Consumer<BytecodeTransformer> bytecodeTransformerConsumer) {
+    private void validateBeans(List<Throwable> errors, Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
+            ExecutorService executor) {
 
         Set<String> namespaces = new HashSet<>();
         Map<String, List<BeanInfo>> namedBeans = new HashMap<>();
-        Set<DotName> classesReceivingNoArgsCtor = new HashSet<>();
+        Set<DotName> classesReceivingNoArgsCtor = executor != null ? ConcurrentHashMap.newKeySet() : new HashSet<>();
 
         // this set is only used in strict compatible mode (see `Beans.validateBean()`),
         // so no need to initialize it otherwise
@@ -1736,7 +1750,10 @@ private void validateBeans(List<Throwable> errors, Consumer<BytecodeTransformer>
             }
         }
 
-        for (BeanInfo bean : beans) {
+        // Beans are validated in a stable order so that the errors do not depend on the order of discovery
+        List<BeanInfo> sortedBeans = new ArrayList<>(beans);
+        sortedBeans.sort(Comparator.comparing(BeanInfo::getIdentifier));
+        for (BeanInfo bean : sortedBeans) {
             if (bean.getName() != null) {
                 List<BeanInfo> named = namedBeans.get(bean.getName());
                 if (named == null) {
@@ -1746,7 +1763,13 @@ private void validateBeans(List<Throwable> errors, Consumer<BytecodeTransformer>
                 named.add(bean);
                 findNamespaces(bean, namespaces);
             }
-            bean.validate(errors, bytecodeTransformerConsumer, classesReceivingNoArgsCtor, injectedBeans);
+            if (executor == null) {
+                bean.validate(errors, bytecodeTransformerConsumer, classesReceivingNoArgsCtor, injectedBeans);
+            }
+        }
+        if (executor != null) {
+            validateBeansInParallel(sortedBeans, errors, bytecodeTransformerConsumer, classesReceivingNoArgsCtor,
+                    injectedBeans, executor);
         }
 
         if (!namedBeans.isEmpty()) {
@@ -1794,6 +1817,56 @@ private void validateBeans(List<Throwable> errors, Consumer<BytecodeTransformer>
         }
     }
 
+    /**
+     * The beans are validated in batches of {@value #VALIDATION_BATCH_SIZE}. Each batch collects its errors and bytecode
+     * transformations, which are then applied in the order of beans so that the result does not depend on the scheduling.
+     */
+    private static void validateBeansInParallel(List<BeanInfo> beans, List<Throwable> errors,
+            Consumer<BytecodeTransformer> bytecodeTransformerConsumer, Set<DotName> classesReceivingNoArgsCtor,
+            Set<BeanInfo> injectedBeans, ExecutorService executor) {
+        List<Future<BeanValidationBatch>> batches = new ArrayList<>();
+        for (int i = 0; i < beans.size(); i += VALIDATION_BATCH_SIZE) {
+            List<BeanInfo> batch = beans.subList(i, Math.min(i + VALIDATION_BATCH_SIZE, beans.size()));
+            batches.add(executor.submit(new Callable<BeanValidationBatch>() {
+                @Override
+                public BeanValidationBatch call() {
+                    BeanValidationBatch result = new BeanValidationBatch();
+                    for (BeanInfo bean : batch) {
+                        bean.validate(result.errors, result.transformers::add, classesReceivingNoArgsCtor, injectedBeans);
+                    }
+                    return result;
+                }
+            }));
+        }
+        for (Future<BeanValidationBatch> future : batches) {
+            BeanValidationBatch batch;
+            try {
+                batch = future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while validating beans", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                } else if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+            errors.addAll(batch.errors);
+            for (BytecodeTransformer transformer : batch.transformers) {
+                bytecodeTransformerConsumer.accept(transformer);
+            }
+        }
+    }
+
+    private static final class BeanValidationBatch {
+
+        final List<Throwable> errors = new ArrayList<>();
+        final List<BytecodeTransformer> transformers = new ArrayList<>();
+
+    }
+
     private void validateNonAppBeansWithAppDecorators(List<Throwable> errors,
             Consumer<BytecodeTransformer> bytecodeTransformer) {
         for (BeanInfo bean : beans) {
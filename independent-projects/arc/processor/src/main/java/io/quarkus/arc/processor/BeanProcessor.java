@@ -4,6 +4,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -13,11 +14,11 @@
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -183,7 +184,20 @@ public void initialize(Consumer<BytecodeTransformer> bytecodeTransformerConsumer
      * @return the validation context
      */
     public BeanDeploymentValidator.ValidationContext validate(Consumer<BytecodeTransformer> bytecodeTransformerConsumer) {
-        ValidationContext validationContext = beanDeployment.validate(beanDeploymentValidators, bytecodeTransformerConsumer);
+        return validate(bytecodeTransformerConsumer, null);
+    }
+
+    /**
+     *
+     * @param bytecodeTransformerConsumer Used to register a bytecode transformation
+     * @param executor If not null, the beans are validated in parallel; the errors and bytecode transformations are
+     *        registered in the same order as if they were validated serially
+     * @return the validation context
+     */
+    public BeanDeploymentValidator.ValidationContext validate(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
+            ExecutorService executor) {
+        ValidationContext validationContext = beanDeployment.validate(beanDeploymentValidators, bytecodeTransformerConsumer,
+                executor);
         customAlterableContexts.validate(validationContext, transformUnproxyableClasses, bytecodeTransformerConsumer);
         if (buildCompatibleExtensions != null) {
             buildCompatibleExtensions.runValidation(beanDeployment.getBeanArchiveIndex(),
@@ -202,6 +216,7 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
             ExecutorService executor)
             throws IOException, InterruptedException, ExecutionException {
 
+        long start = System.nanoTime();
         beanDeployment.resourceGenerationStarted();
 
         ReflectionRegistration refReg = reflectionRegistration != null ? reflectionRegistration : this.reflectionRegistration;
@@ -216,7 +231,8 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
         BeanGenerator beanGenerator = new BeanGenerator(annotationLiterals, applicationClassPredicate, privateMembers,
                 generateSources, refReg, existingClasses, beanToGeneratedName,
                 injectionPointAnnotationsPredicate, suppressConditionGenerators);
-        Collection<BeanInfo> beans = beanDeployment.getBeans();
+        // Components are sorted so that the order of resources does not depend on the order of discovery
+        List<BeanInfo> beans = sorted(beanDeployment.getBeans(), BeanInfo::getIdentifier);
         for (BeanInfo bean : beans) {
             beanGenerator.precomputeGeneratedName(bean);
         }
@@ -233,7 +249,7 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
         InterceptorGenerator interceptorGenerator = new InterceptorGenerator(annotationLiterals, applicationClassPredicate,
                 privateMembers, generateSources, refReg, existingClasses, beanToGeneratedName,
                 injectionPointAnnotationsPredicate);
-        Collection<InterceptorInfo> interceptors = beanDeployment.getInterceptors();
+        List<InterceptorInfo> interceptors = sorted(beanDeployment.getInterceptors(), InterceptorInfo::getIdentifier);
         for (InterceptorInfo interceptor : interceptors) {
             interceptorGenerator.precomputeGeneratedName(interceptor);
         }
@@ -241,7 +257,7 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
         DecoratorGenerator decoratorGenerator = new DecoratorGenerator(annotationLiterals, applicationClassPredicate,
                 privateMembers, generateSources, refReg, existingClasses, beanToGeneratedName,
                 injectionPointAnnotationsPredicate);
-        Collection<DecoratorInfo> decorators = beanDeployment.getDecorators();
+        List<DecoratorInfo> decorators = sorted(beanDeployment.getDecorators(), DecoratorInfo::getIdentifier);
         for (DecoratorInfo decorator : decorators) {
             decoratorGenerator.precomputeGeneratedName(decorator);
         }
@@ -252,7 +268,7 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
         ObserverGenerator observerGenerator = new ObserverGenerator(annotationLiterals, applicationClassPredicate,
                 privateMembers, generateSources, refReg, existingClasses, observerToGeneratedName,
                 injectionPointAnnotationsPredicate, allowMocking);
-        Collection<ObserverInfo> observers = beanDeployment.getObservers();
+        List<ObserverInfo> observers = sorted(beanDeployment.getObservers(), ObserverInfo::getIdentifier);
         for (ObserverInfo observer : observers) {
             observerGenerator.precomputeGeneratedName(observer);
         }
@@ -260,14 +276,13 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
         ContextInstancesGenerator contextInstancesGenerator = new ContextInstancesGenerator(generateSources,
                 refReg, beanDeployment, scopeToGeneratedName);
         if (optimizeContextsValue) {
-            contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.APPLICATION.getName());
             contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.REQUEST.getName());
         }
 
         InvokerGenerator invokerGenerator = new InvokerGenerator(generateSources,
                 applicationClassPredicate, beanDeployment, annotationLiterals, reflectionRegistration,
                 injectionPointAnnotationsPredicate);
-        Collection<InvokerInfo> invokers = beanDeployment.getInvokers();
+        List<InvokerInfo> invokers = sorted(beanDeployment.getInvokers(), InvokerInfo::getClassName);
 
         // this is different to `SubclassGenerator` in that it generates support classes
         // for interception of producer methods and synthetic beans and only supports
@@ -282,8 +297,9 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
 
             // Primary tasks include interceptors, decorators, beans and observers
             List<Future<Collection<Resource>>> primaryTasks = new ArrayList<>();
-            // Secondary tasks include client proxies and subclasses - this queue is accessed concurrently
-            ConcurrentLinkedQueue<Future<Collection<Resource>>> secondaryTasks = new ConcurrentLinkedQueue<>();
+            // Secondary tasks include client proxies and subclasses - they are submitted by the task generating the bean,
+            // and collected per bean so that the order of resources does not depend on the scheduling
+            List<List<Future<Collection<Resource>>>> secondaryTasks = new ArrayList<>();
 
             // Generate _ComponentsProvider
             primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
@@ -319,6 +335,9 @@ public Collection<Resource> call() throws Exception {
             }
             // Generate beans
             for (BeanInfo bean : beans) {
+                // Only accessed by the bean task, and read once the task is completed
+                List<Future<Collection<Resource>>> beanSecondaryTasks = new ArrayList<>();
+                secondaryTasks.add(beanSecondaryTasks);
 
                 primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
                     @Override
@@ -330,7 +349,7 @@ public Collection<Resource> call() throws Exception {
 
                                 if (bean.getScope().isNormal()) {
                                     // Generate client proxy
-                                    secondaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                                    beanSecondaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
                                         @Override
                                         public Collection<Resource> call() throws Exception {
                                             Collection<Resource> proxyResources = clientProxyGenerator.generate(bean,
@@ -352,7 +371,7 @@ public Collection<Resource> call() throws Exception {
 
                                 if (bean.isSubclassRequired()) {
                                     // Generate subclass
-                                    secondaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                                    beanSecondaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
                                         @Override
                                         public Collection<Resource> call() throws Exception {
                                             Collection<Resource> subclassResources = subclassGenerator.generate(bean,
@@ -369,7 +388,7 @@ public Collection<Resource> call() throws Exception {
                                 }
 
                                 if (bean.getInterceptionProxy() != null) {
-                                    secondaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                                    beanSecondaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
                                         @Override
                                         public Collection<Resource> call() throws Exception {
                                             Collection<Resource> interceptionResources = interceptionGenerator.generate(bean,
@@ -428,10 +447,7 @@ public Collection<Resource> call() throws Exception {
 
                     @Override
                     public Collection<Resource> call() throws Exception {
-                        Collection<Resource> resources = new ArrayList<>();
-                        resources.addAll(contextInstancesGenerator.generate(BuiltinScope.APPLICATION.getName()));
-                        resources.addAll(contextInstancesGenerator.generate(BuiltinScope.REQUEST.getName()));
-                        return resources;
+                        return contextInstancesGenerator.generate(BuiltinScope.REQUEST.getName());
                     }
                 }));
             }
@@ -439,8 +455,10 @@ public Collection<Resource> call() throws Exception {
             for (Future<Collection<Resource>> future : primaryTasks) {
                 resources.addAll(future.get());
             }
-            for (Future<Collection<Resource>> future : secondaryTasks) {
-                resources.addAll(future.get());
+            for (List<Future<Collection<Resource>>> beanSecondaryTasks : secondaryTasks) {
+                for (Future<Collection<Resource>> future : beanSecondaryTasks) {
+                    resources.addAll(future.get());
+                }
             }
 
         } else {
@@ -526,7 +544,6 @@ public Collection<Resource> call() throws Exception {
 
             if (optimizeContextsValue) {
                 // Generate _ContextInstances
-                resources.addAll(contextInstancesGenerator.generate(BuiltinScope.APPLICATION.getName()));
                 resources.addAll(contextInstancesGenerator.generate(BuiltinScope.REQUEST.getName()));
             }
         }
@@ -534,18 +551,24 @@ public Collection<Resource> call() throws Exception {
         // Generate AnnotationLiterals - at this point all annotation literals must be processed
         if (annotationLiterals.hasLiteralsToGenerate()) {
             AnnotationLiteralGenerator generator = new AnnotationLiteralGenerator(generateSources);
+            // The literals are registered concurrently, so their order is not stable
+            List<Resource> literalResources = new ArrayList<>();
             if (executor != null) {
                 Collection<Future<Collection<Resource>>> annotationTasks = generator.generate(annotationLiterals.getCache(),
                         existingClasses, executor);
                 for (Future<Collection<Resource>> future : annotationTasks) {
-                    resources.addAll(future.get());
+                    literalResources.addAll(future.get());
                 }
             } else {
-                resources.addAll(generator.generate(annotationLiterals.getCache(), existingClasses));
+                literalResources.addAll(generator.generate(annotationLiterals.getCache(), existingClasses));
             }
+            literalResources.sort(Comparator.comparing(Resource::getName));
+            resources.addAll(literalResources);
         }
 
         privateMembers.log();
+        LOGGER.debugf("%s resource generation produced %s resources in %s ms", executor != null ? "Parallel" : "Serial",
+                resources.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
 
         if (output != null) {
             for (Resource resource : resources) {
@@ -584,6 +607,12 @@ public void accept(BytecodeTransformer transformer) {
         return beanDeployment;
     }
 
+    private static <T> List<T> sorted(Collection<T> components, Function<T, String> key) {
+        List<T> result = new ArrayList<>(components);
+        result.sort(Comparator.comparing(key));
+        return result;
+    }
+
     public Predicate<DotName> getInjectionPointAnnotationsPredicate() {
         return injectionPointAnnotationsPredicate;
     }
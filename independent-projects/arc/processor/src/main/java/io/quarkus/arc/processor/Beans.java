@@ -895,11 +895,10 @@ static void validateBean(BeanInfo bean, List<Throwable> errors, Consumer<Bytecod
                         }
                     }
                     if (superName != null) {
-                        if (!classesReceivingNoArgsCtor.contains(beanClass.name())) {
+                        if (classesReceivingNoArgsCtor.add(beanClass.name())) {
                             String superClassName = superName.toString().replace('.', '/');
                             bytecodeTransformerConsumer.accept(new BytecodeTransformer(beanClass.name().toString(),
                                     new NoArgConstructorTransformFunction(superClassName)));
-                            classesReceivingNoArgsCtor.add(beanClass.name());
                         }
 
                     } else if (failIfNotProxyable) {
@@ -990,11 +989,10 @@ static void validateBean(BeanInfo bean, List<Throwable> errors, Consumer<Bytecod
                             }
                         }
                         if (superName != null) {
-                            if (!classesReceivingNoArgsCtor.contains(returnTypeClass.name())) {
+                            if (classesReceivingNoArgsCtor.add(returnTypeClass.name())) {
                                 String superClassName = superName.toString().replace('.', '/');
                                 bytecodeTransformerConsumer.accept(new BytecodeTransformer(returnTypeClass.name().toString(),
                                         new NoArgConstructorTransformFunction(superClassName)));
-                                classesReceivingNoArgsCtor.add(returnTypeClass.name());
                             }
                         } else {
                             errors.add(cannotAddSyntheticNoArgsConstructor(returnTypeClass));
@@ -1049,11 +1047,10 @@ static void validateBean(BeanInfo bean, List<Throwable> errors, Consumer<Bytecod
                         }
                     }
                     if (superName != null) {
-                        if (!classesReceivingNoArgsCtor.contains(beanClass.name())) {
+                        if (classesReceivingNoArgsCtor.add(beanClass.name())) {
                             String superClassName = superName.toString().replace('.', '/');
                             bytecodeTransformerConsumer.accept(new BytecodeTransformer(beanClass.name().toString(),
                                     new NoArgConstructorTransformFunction(superClassName)));
-                            classesReceivingNoArgsCtor.add(beanClass.name());
                         }
                     } else {
                         errors.add(cannotAddSyntheticNoArgsConstructor(beanClass));
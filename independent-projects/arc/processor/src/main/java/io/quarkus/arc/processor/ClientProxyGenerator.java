@@ -32,6 +32,7 @@
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.impl.ContextInstanceSlot;
 import io.quarkus.arc.impl.Mockable;
 import io.quarkus.arc.processor.Methods.MethodKey;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
@@ -64,6 +65,7 @@ public class ClientProxyGenerator extends AbstractGenerator {
     static final String BEAN_FIELD = "bean";
     static final String MOCK_FIELD = "mock";
     static final String CONTEXT_FIELD = "context";
+    static final String SLOT_FIELD = "slot";
 
     private final Predicate<DotName> applicationClassPredicate;
     private final boolean mockable;
@@ -172,6 +174,18 @@ private void createClientProxy(Gizmo gizmo, BeanInfo bean, Consumer<BytecodeTran
                 contextField = null;
             }
 
+            FieldDesc slotField;
+            if (BuiltinScope.APPLICATION.is(bean.getScope())) {
+                // The slot holding the contextual instance never changes
+                slotField = cc.field(SLOT_FIELD, fc -> {
+                    fc.private_();
+                    fc.final_();
+                    fc.setType(ContextInstanceSlot.class);
+                });
+            } else {
+                slotField = null;
+            }
+
             cc.constructor(mc -> {
                 ParamVar id = mc.parameter("id", String.class);
                 mc.body(bc -> {
@@ -187,6 +201,10 @@ private void createClientProxy(Gizmo gizmo, BeanInfo bean, Consumer<BytecodeTran
                         Expr contexts = bc.invokeInterface(MethodDescs.ARC_CONTAINER_GET_CONTEXTS, arc, scope);
                         bc.set(cc.this_().field(contextField), bc.withList(contexts).get(0));
                     }
+                    if (slotField != null) {
+                        bc.set(cc.this_().field(slotField), bc.invokeStatic(MethodDescs.CLIENT_PROXIES_GET_APP_SCOPED_SLOT,
+                                cc.this_().field(contextField), beanVar));
+                    }
 
                     bc.return_();
                 });
@@ -205,9 +223,9 @@ private void createClientProxy(Gizmo gizmo, BeanInfo bean, Consumer<BytecodeTran
 
                     Expr ret;
                     if (BuiltinScope.APPLICATION.is(bean.getScope())) {
-                        // Application context is stored in a field and is always active
+                        // Application context and the slot of the bean are stored in fields, the context is always active
                         ret = b0.invokeStatic(MethodDescs.CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE,
-                                cc.this_().field(contextField), cc.this_().field(beanField));
+                                cc.this_().field(slotField), cc.this_().field(contextField), cc.this_().field(beanField));
                     } else if (singleContextNormalScopes.contains(bean.getScope().getDotName())) {
                         ret = b0.invokeStatic(MethodDescs.CLIENT_PROXIES_GET_SINGLE_CONTEXT_DELEGATE,
                                 cc.this_().field(contextField), cc.this_().field(beanField));
@@ -33,6 +33,7 @@
 import io.quarkus.arc.InjectableReferenceProvider;
 import io.quarkus.arc.InterceptorCreator;
 import io.quarkus.arc.impl.ClientProxies;
+import io.quarkus.arc.impl.ContextInstanceSlot;
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.impl.DecoratorDelegateProvider;
 import io.quarkus.arc.impl.FixedValueSupplier;
@@ -192,8 +193,12 @@ private MethodDescs() {
     static final ConstructorDesc REMOVED_BEAN_IMPL = ConstructorDesc.of(RemovedBeanImpl.class,
             InjectableBean.Kind.class, String.class, Set.class, Set.class);
 
+    static final MethodDesc CLIENT_PROXIES_GET_APP_SCOPED_SLOT = MethodDesc.of(ClientProxies.class,
+            "getApplicationScopedSlot", ContextInstanceSlot.class, InjectableContext.class, InjectableBean.class);
+
     static final MethodDesc CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE = MethodDesc.of(ClientProxies.class,
-            "getApplicationScopedDelegate", Object.class, InjectableContext.class, InjectableBean.class);
+            "getApplicationScopedDelegate", Object.class, ContextInstanceSlot.class, InjectableContext.class,
+            InjectableBean.class);
 
     static final MethodDesc CLIENT_PROXIES_GET_SINGLE_CONTEXT_DELEGATE = MethodDesc.of(ClientProxies.class,
             "getSingleContextDelegate", Object.class, InjectableContext.class, InjectableBean.class);
@@ -0,0 +1,200 @@
+package io.quarkus.arc.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.BeanCreator;
+import io.quarkus.arc.SyntheticCreationalContext;
+import io.quarkus.arc.processor.ResourceOutput.Resource;
+
+public class BeanProcessorParallelTest {
+
+    // Five validation batches of 64 beans
+    private static final int SYNTHETIC_BEANS = 320;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testGenerateResources() throws Exception {
+        List<String> serial = generate(null);
+        List<String> parallel = generate(executor);
+        assertEquals(new HashSet<>(serial), new HashSet<>(parallel));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(parallel, generate(executor));
+        }
+    }
+
+    @Test
+    public void testValidate() throws IOException {
+        List<String> serial = validate(null);
+        assertEquals(2, serial.size());
+        assertEquals(serial, validate(executor));
+    }
+
+    @Test
+    public void testValidateBatches() throws IOException {
+        List<String> serial = validateBatches(null);
+        assertEquals(1, serial.size());
+        assertTrue(serial.get(0).contains(FinalAppScoped.class.getName()), serial.get(0));
+        assertEquals(serial, validateBatches(executor));
+    }
+
+    private List<String> generate(ExecutorService executor)
+            throws IOException, InterruptedException, ExecutionException {
+        BeanProcessor processor = initialize(AppScoped.class, ReqScoped.class, Client.class, Producer.class);
+        processor.processValidationErrors(processor.validate(unsupportedTransformer(), executor));
+        List<String> names = new ArrayList<>();
+        for (Resource resource : processor.generateResources(ReflectionRegistration.NOOP, new HashSet<>(),
+                unsupportedTransformer(), false, executor)) {
+            names.add(resource.getName());
+        }
+        assertFalse(names.isEmpty());
+        return names;
+    }
+
+    private List<String> validate(ExecutorService executor) throws IOException {
+        BeanProcessor processor = initialize(FinalAppScoped.class, AppScoped.class, FinalReqScoped.class);
+        List<String> errors = new ArrayList<>();
+        for (Throwable error : processor.validate(unsupportedTransformer(), executor).getDeploymentProblems()) {
+            errors.add(error.getMessage());
+        }
+        return errors;
+    }
+
+    private List<String> validateBatches(ExecutorService executor) throws IOException {
+        BeanProcessor processor = initialize(new BeanRegistrar() {
+            @Override
+            public void register(RegistrationContext context) {
+                for (int i = 0; i < SYNTHETIC_BEANS; i++) {
+                    context.configure(String.class).identifier("synthetic-" + i).creator(StringCreator.class).done();
+                }
+            }
+        }, FinalAppScoped.class);
+        // The beans are validated in the order of their identifiers, the failing bean must not be in the first batch
+        List<BeanInfo> beans = new ArrayList<>(processor.getBeanDeployment().getBeans());
+        beans.sort(Comparator.comparing(BeanInfo::getIdentifier));
+        int failing = 0;
+        while (!beans.get(failing).getBeanClass().toString().equals(FinalAppScoped.class.getName())) {
+            failing++;
+        }
+        assertTrue(failing >= 64, "The failing bean is validated in the first batch: " + failing);
+        List<String> errors = new ArrayList<>();
+        for (Throwable error : processor.validate(unsupportedTransformer(), executor).getDeploymentProblems()) {
+            errors.add(error.getMessage());
+        }
+        return errors;
+    }
+
+    private static BeanProcessor initialize(Class<?>... classes) throws IOException {
+        return initialize(null, classes);
+    }
+
+    private static BeanProcessor initialize(BeanRegistrar registrar, Class<?>... classes) throws IOException {
+        IndexView index = BeanArchives.buildImmutableBeanArchiveIndex(Index.of(classes));
+        BeanProcessor.Builder builder = BeanProcessor.builder()
+                .setImmutableBeanArchiveIndex(index)
+                .setComputingBeanArchiveIndex(BeanArchives.buildComputingBeanArchiveIndex(
+                        BeanProcessorParallelTest.class.getClassLoader(), new ConcurrentHashMap<>(), index));
+        if (registrar != null) {
+            builder.addBeanRegistrar(registrar);
+        }
+        BeanProcessor processor = builder.build();
+        processor.registerCustomContexts();
+        processor.registerScopes();
+        processor.registerSyntheticInjectionPoints(processor.registerBeans());
+        processor.getBeanDeployment().initBeanByTypeMap();
+        processor.registerSyntheticObservers();
+        processor.initialize(unsupportedTransformer(), List.of());
+        return processor;
+    }
+
+    private static Consumer<BytecodeTransformer> unsupportedTransformer() {
+        return new Consumer<BytecodeTransformer>() {
+            @Override
+            public void accept(BytecodeTransformer transformer) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @ApplicationScoped
+    static class AppScoped {
+
+        String ping() {
+            return "app";
+        }
+    }
+
+    @RequestScoped
+    static class ReqScoped {
+
+        String ping() {
+            return "req";
+        }
+    }
+
+    @Dependent
+    static class Client {
+
+        @Inject
+        AppScoped app;
+
+        @Inject
+        ReqScoped req;
+    }
+
+    @Dependent
+    static class Producer {
+
+        @Produces
+        @ApplicationScoped
+        Set<String> names() {
+            return Set.of("foo");
+        }
+    }
+
+    @ApplicationScoped
+    static final class FinalAppScoped {
+    }
+
+    @RequestScoped
+    static final class FinalReqScoped {
+    }
+
+    public static class StringCreator implements BeanCreator<String> {
+
+        @Override
+        public String create(SyntheticCreationalContext<String> context) {
+            return "synthetic";
+        }
+    }
+}
@@ -4,6 +4,8 @@
 
 import jakarta.enterprise.context.ApplicationScoped;
 
+import io.quarkus.arc.InjectableBean;
+
 class ApplicationContext extends AbstractSharedContext {
 
     ApplicationContext() {
@@ -18,4 +20,13 @@ class ApplicationContext extends AbstractSharedContext {
     public Class<? extends Annotation> getScope() {
         return ApplicationScoped.class;
     }
+
+    /**
+     *
+     * @param bean
+     * @return the slot holding the instance of the given bean, or {@code null} if the instances are not slot-indexed
+     */
+    ContextInstanceSlot getSlot(InjectableBean<?> bean) {
+        return instances instanceof SlotContextInstances slots ? slots.getSlot(bean.getIdentifier()) : null;
+    }
 }
@@ -126,7 +126,6 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean str
         Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings = new HashMap<>();
         Map<String, Set<String>> qualifierNonbindingMembers = new HashMap<>();
         Set<String> qualifiers = new HashSet<>();
-        Supplier<ContextInstances> applicationContextInstances = null;
         Supplier<ContextInstances> requestContextInstances = null;
         this.currentContextFactory = currentContextFactory == null ? new ThreadLocalCurrentContextFactory()
                 : currentContextFactory;
@@ -155,9 +154,6 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean str
             transitiveInterceptorBindings.putAll(c.getTransitiveInterceptorBindings());
             qualifierNonbindingMembers.putAll(c.getQualifierNonbindingMembers());
             qualifiers.addAll(c.getQualifiers());
-            if (applicationContextInstances == null) {
-                applicationContextInstances = c.getContextInstances().get(ApplicationScoped.class);
-            }
             if (requestContextInstances == null) {
                 requestContextInstances = c.getContextInstances().get(RequestScoped.class);
             }
@@ -202,18 +198,19 @@ public List<RemovedBean> get() {
         this.registeredQualifiers = new Qualifiers(qualifiers, qualifierNonbindingMembers);
         this.registeredInterceptorBindings = new InterceptorBindings(interceptorBindings, transitiveInterceptorBindings);
 
-        ApplicationContext applicationContext = applicationContextInstances != null
-                ? new ApplicationContext(applicationContextInstances.get())
-                : new ApplicationContext();
+        ApplicationContext applicationContext = new ApplicationContext(
+                new SlotContextInstances(ApplicationScoped.class, this.beans));
         RequestContext requestContext = new RequestContext(this.currentContextFactory.create(RequestScoped.class),
                 notifierOrNull(Set.of(Initialized.Literal.REQUEST, Any.Literal.INSTANCE)),
                 notifierOrNull(Set.of(BeforeDestroyed.Literal.REQUEST, Any.Literal.INSTANCE)),
                 notifierOrNull(Set.of(Destroyed.Literal.REQUEST, Any.Literal.INSTANCE)),
-                requestContextInstances != null ? requestContextInstances : ComputingCacheContextInstances::new);
+                requestContextInstances != null ? requestContextInstances
+                        : IndexedContextInstances.supplier(RequestScoped.class, this.beans));
         SessionContext sessionContext = new SessionContext(this.currentContextFactory.create(SessionScoped.class),
                 notifierOrNull(Set.of(Initialized.Literal.SESSION, Any.Literal.INSTANCE)),
                 notifierOrNull(Set.of(BeforeDestroyed.Literal.SESSION, Any.Literal.INSTANCE)),
-                notifierOrNull(Set.of(Destroyed.Literal.SESSION, Any.Literal.INSTANCE)), ComputingCacheContextInstances::new);
+                notifierOrNull(Set.of(Destroyed.Literal.SESSION, Any.Literal.INSTANCE)),
+                IndexedContextInstances.supplier(SessionScoped.class, this.beans));
 
         Contexts.Builder contextsBuilder = new Contexts.Builder(
                 requestContext,
@@ -9,6 +9,7 @@
 import jakarta.enterprise.context.spi.Contextual;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.ContextInstanceHandle;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
 
@@ -17,6 +18,24 @@ public final class ClientProxies {
     private ClientProxies() {
     }
 
+    // This method is called once, when the client proxy of an application scoped bean is created
+    public static ContextInstanceSlot getApplicationScopedSlot(InjectableContext applicationContext,
+            InjectableBean<?> bean) {
+        return applicationContext instanceof ApplicationContext context ? context.getSlot(bean) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T getApplicationScopedDelegate(ContextInstanceSlot slot, InjectableContext applicationContext,
+            InjectableBean<T> bean) {
+        if (slot != null) {
+            ContextInstanceHandle<?> handle = slot.getIfPresent();
+            if (handle != null) {
+                return (T) handle.get();
+            }
+        }
+        return getApplicationScopedDelegate(applicationContext, bean);
+    }
+
     public static <T> T getApplicationScopedDelegate(InjectableContext applicationContext, InjectableBean<T> bean) {
         T result = applicationContext.get(bean);
         if (result == null) {
@@ -0,0 +1,89 @@
+package io.quarkus.arc.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.ContextInstanceHandle;
+
+/**
+ * Holds the contextual instance of a single bean in the application context.
+ * <p>
+ * The slots are created when the container is initialized, see {@link SlotContextInstances}. The client proxy of an
+ * application scoped bean obtains its slot once, when the proxy is created, so that the lookup of the contextual instance
+ * is a read of the slot.
+ */
+public final class ContextInstanceSlot {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(ContextInstanceSlot.class, "value", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new Error(e);
+        }
+    }
+
+    // null, a pending marker or a context instance handle
+    private volatile Object value;
+
+    ContextInstanceSlot() {
+    }
+
+    /**
+     *
+     * @return the handle of the contextual instance, or {@code null} if no instance exists or it is being created
+     */
+    public ContextInstanceHandle<?> getIfPresent() {
+        Object value = this.value;
+        return value instanceof ContextInstanceHandle<?> handle ? handle : null;
+    }
+
+    ContextInstanceHandle<?> computeIfAbsent(Supplier<ContextInstanceHandle<?>> supplier) {
+        for (;;) {
+            Object value = this.value;
+            if (value == null) {
+                IndexedContextInstances.Pending pending = new IndexedContextInstances.Pending();
+                if (VALUE.compareAndSet(this, null, pending)) {
+                    ContextInstanceHandle<?> handle;
+                    try {
+                        handle = supplier.get();
+                    } catch (Throwable e) {
+                        this.value = null;
+                        pending.complete();
+                        throw e;
+                    }
+                    this.value = handle;
+                    pending.complete();
+                    return handle;
+                }
+            } else if (value instanceof IndexedContextInstances.Pending pending) {
+                if (pending.owner == Thread.currentThread()) {
+                    // Reentrant creation, the nested instance is not stored, like with ComputingCacheContextInstances
+                    return supplier.get();
+                }
+                pending.await();
+            } else {
+                return (ContextInstanceHandle<?>) value;
+            }
+        }
+    }
+
+    ContextInstanceHandle<?> remove() {
+        for (;;) {
+            Object value = this.value;
+            if (value == null) {
+                return null;
+            } else if (value instanceof IndexedContextInstances.Pending pending) {
+                if (pending.owner == Thread.currentThread()) {
+                    return null;
+                }
+                pending.await();
+            } else if (VALUE.compareAndSet(this, value, null)) {
+                return (ContextInstanceHandle<?>) value;
+            }
+        }
+    }
+
+}
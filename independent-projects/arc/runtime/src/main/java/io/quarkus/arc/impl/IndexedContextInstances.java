@@ -0,0 +1,283 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.InjectableBean;
+
+/**
+ * Context instances backed by arrays, where each bean of the scope is assigned a slot when the container is initialized.
+ * <p>
+ * Unlike {@link ComputingCacheContextInstances}, no map is allocated for each context state and the lookup of an existing
+ * instance is an array read. The slots are split in pages of {@value #PAGE_SIZE} which are only allocated when an instance
+ * of one of their beans is created, so that a context state in which no bean is used costs a single object, whatever the
+ * number of beans of the scope.
+ * <p>
+ * No lock is used: a slot holds a {@link Pending} marker while its instance is created, and the other threads which need
+ * the instance wait for the creation to complete.
+ */
+public final class IndexedContextInstances implements ContextInstances {
+
+    private static final int PAGE_BITS = 4;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private static final VarHandle PAGES;
+    private static final VarHandle PAGE = MethodHandles.arrayElementVarHandle(Object[][].class);
+    private static final VarHandle ELEMENT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            PAGES = MethodHandles.lookup().findVarHandle(IndexedContextInstances.class, "pages", Object[][].class);
+        } catch (ReflectiveOperationException e) {
+            throw new Error(e);
+        }
+    }
+
+    /**
+     *
+     * @param scope
+     * @param beans
+     * @return a supplier of context instances for the beans with the given scope
+     */
+    public static Supplier<ContextInstances> supplier(Class<? extends Annotation> scope, List<InjectableBean<?>> beans) {
+        Map<String, Integer> slots = new HashMap<>();
+        for (InjectableBean<?> bean : beans) {
+            if (scope.equals(bean.getScope())) {
+                slots.put(bean.getIdentifier(), slots.size());
+            }
+        }
+        Map<String, Integer> immutableSlots = Map.copyOf(slots);
+        return new Supplier<ContextInstances>() {
+            @Override
+            public ContextInstances get() {
+                return new IndexedContextInstances(immutableSlots);
+            }
+        };
+    }
+
+    private final Map<String, Integer> slots;
+
+    private volatile Object[][] pages;
+
+    IndexedContextInstances(Map<String, Integer> slots) {
+        this.slots = slots;
+    }
+
+    @Override
+    public ContextInstanceHandle<?> computeIfAbsent(String id, Supplier<ContextInstanceHandle<?>> supplier) {
+        int slot = slot(id);
+        Object[] page = page(slot, true);
+        int index = slot & PAGE_MASK;
+        for (;;) {
+            Object value = ELEMENT.getVolatile(page, index);
+            if (value == null) {
+                Pending pending = new Pending();
+                if (ELEMENT.compareAndSet(page, index, null, pending)) {
+                    ContextInstanceHandle<?> handle;
+                    try {
+                        handle = supplier.get();
+                    } catch (Throwable e) {
+                        ELEMENT.setVolatile(page, index, null);
+                        pending.complete();
+                        throw e;
+                    }
+                    ELEMENT.setVolatile(page, index, handle);
+                    pending.complete();
+                    return handle;
+                }
+            } else if (value instanceof Pending pending) {
+                if (pending.owner == Thread.currentThread()) {
+                    // Reentrant creation, the nested instance is not stored, like with ComputingCacheContextInstances
+                    return supplier.get();
+                }
+                pending.await();
+            } else {
+                return (ContextInstanceHandle<?>) value;
+            }
+        }
+    }
+
+    @Override
+    public ContextInstanceHandle<?> getIfPresent(String id) {
+        int slot = slot(id);
+        Object[] page = page(slot, false);
+        if (page == null) {
+            return null;
+        }
+        Object value = ELEMENT.getVolatile(page, slot & PAGE_MASK);
+        return value instanceof Pending ? null : (ContextInstanceHandle<?>) value;
+    }
+
+    @Override
+    public ContextInstanceHandle<?> remove(String id) {
+        return remove(slot(id));
+    }
+
+    @Override
+    public Set<ContextInstanceHandle<?>> getAllPresent() {
+        Set<ContextInstanceHandle<?>> result = new HashSet<>();
+        Object[][] pages = this.pages;
+        if (pages != null) {
+            for (int i = 0; i < pages.length; i++) {
+                Object[] page = (Object[]) PAGE.getVolatile(pages, i);
+                if (page != null) {
+                    for (int j = 0; j < page.length; j++) {
+                        Object value = ELEMENT.getVolatile(page, j);
+                        if (value instanceof ContextInstanceHandle<?> handle) {
+                            result.add(handle);
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void removeEach(Consumer<? super ContextInstanceHandle<?>> action) {
+        Object[][] pages = this.pages;
+        if (pages == null) {
+            return;
+        }
+        for (int i = 0; i < pages.length; i++) {
+            Object[] page = (Object[]) PAGE.getVolatile(pages, i);
+            if (page != null) {
+                for (int j = 0; j < page.length; j++) {
+                    if (ELEMENT.getVolatile(page, j) != null) {
+                        ContextInstanceHandle<?> handle = remove((i << PAGE_BITS) + j);
+                        if (handle != null && action != null) {
+                            action.accept(handle);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private ContextInstanceHandle<?> remove(int slot) {
+        Object[] page = page(slot, false);
+        if (page == null) {
+            return null;
+        }
+        int index = slot & PAGE_MASK;
+        for (;;) {
+            Object value = ELEMENT.getVolatile(page, index);
+            if (value == null) {
+                return null;
+            } else if (value instanceof Pending pending) {
+                if (pending.owner == Thread.currentThread()) {
+                    return null;
+                }
+                pending.await();
+            } else if (ELEMENT.compareAndSet(page, index, value, null)) {
+                return (ContextInstanceHandle<?>) value;
+            }
+        }
+    }
+
+    private int slot(String id) {
+        Integer slot = slots.get(id);
+        if (slot == null) {
+            throw new IllegalArgumentException("Unknown bean identifier: " + id);
+        }
+        return slot;
+    }
+
+    private Object[] page(int slot, boolean create) {
+        Object[][] pages = this.pages;
+        if (pages == null) {
+            if (!create) {
+                return null;
+            }
+            Object[][] newPages = new Object[(slots.size() + PAGE_MASK) >>> PAGE_BITS][];
+            pages = (Object[][]) PAGES.compareAndExchange(this, null, newPages);
+            if (pages == null) {
+                pages = newPages;
+            }
+        }
+        int pageIndex = slot >>> PAGE_BITS;
+        Object[] page = (Object[]) PAGE.getVolatile(pages, pageIndex);
+        if (page == null && create) {
+            // The last page is only as large as needed
+            Object[] newPage = new Object[Math.min(PAGE_SIZE, slots.size() - (pageIndex << PAGE_BITS))];
+            page = (Object[]) PAGE.compareAndExchange(pages, pageIndex, null, newPage);
+            if (page == null) {
+                page = newPage;
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Marks a slot whose instance is being created.
+     */
+    static final class Pending {
+
+        private static final VarHandle LATCH;
+
+        static {
+            try {
+                LATCH = MethodHandles.lookup().findVarHandle(Pending.class, "latch", CountDownLatch.class);
+            } catch (ReflectiveOperationException e) {
+                throw new Error(e);
+            }
+        }
+
+        final Thread owner = Thread.currentThread();
+
+        private volatile boolean completed;
+
+        // Only allocated if another thread needs to wait for the instance
+        private volatile CountDownLatch latch;
+
+        void complete() {
+            completed = true;
+            CountDownLatch latch = this.latch;
+            if (latch != null) {
+                latch.countDown();
+            }
+        }
+
+        void await() {
+            if (completed) {
+                return;
+            }
+            CountDownLatch latch = this.latch;
+            if (latch == null) {
+                CountDownLatch newLatch = new CountDownLatch(1);
+                latch = (CountDownLatch) LATCH.compareAndExchange(this, null, newLatch);
+                if (latch == null) {
+                    latch = newLatch;
+                }
+            }
+            // The owner either sees the latch or completed the creation before it was set
+            if (completed) {
+                return;
+            }
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    latch.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.InjectableBean;
+
+/**
+ * Context instances of a context which is shared by the whole application, where each bean of the scope is assigned a
+ * {@link ContextInstanceSlot} when the container is initialized.
+ * <p>
+ * There is a single instance of this class per context, so all the slots are allocated upfront and never change. This
+ * makes it possible for a client proxy to keep a reference to the slot of its bean.
+ */
+final class SlotContextInstances implements ContextInstances {
+
+    private final Map<String, ContextInstanceSlot> slots;
+    private final ContextInstanceSlot[] slotArray;
+
+    SlotContextInstances(Class<? extends Annotation> scope, List<InjectableBean<?>> beans) {
+        Map<String, ContextInstanceSlot> slots = new HashMap<>();
+        List<ContextInstanceSlot> slotList = new ArrayList<>();
+        for (InjectableBean<?> bean : beans) {
+            if (scope.equals(bean.getScope())) {
+                ContextInstanceSlot slot = new ContextInstanceSlot();
+                slots.put(bean.getIdentifier(), slot);
+                slotList.add(slot);
+            }
+        }
+        this.slots = Map.copyOf(slots);
+        this.slotArray = slotList.toArray(new ContextInstanceSlot[0]);
+    }
+
+    /**
+     *
+     * @param id
+     * @return the slot of the given bean
+     * @throws IllegalArgumentException if the bean does not belong to the scope
+     */
+    ContextInstanceSlot getSlot(String id) {
+        ContextInstanceSlot slot = slots.get(id);
+        if (slot == null) {
+            throw new IllegalArgumentException("Unknown bean identifier: " + id);
+        }
+        return slot;
+    }
+
+    @Override
+    public ContextInstanceHandle<?> computeIfAbsent(String id, Supplier<ContextInstanceHandle<?>> supplier) {
+        return getSlot(id).computeIfAbsent(supplier);
+    }
+
+    @Override
+    public ContextInstanceHandle<?> getIfPresent(String id) {
+        ContextInstanceSlot slot = slots.get(id);
+        return slot != null ? slot.getIfPresent() : null;
+    }
+
+    @Override
+    public ContextInstanceHandle<?> remove(String id) {
+        // InjectableContext#destroy(Contextual) is a no-op for a bean which does not belong to the scope
+        ContextInstanceSlot slot = slots.get(id);
+        return slot != null ? slot.remove() : null;
+    }
+
+    @Override
+    public Set<ContextInstanceHandle<?>> getAllPresent() {
+        Set<ContextInstanceHandle<?>> result = new HashSet<>();
+        for (ContextInstanceSlot slot : slotArray) {
+            ContextInstanceHandle<?> handle = slot.getIfPresent();
+            if (handle != null) {
+                result.add(handle);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void removeEach(Consumer<? super ContextInstanceHandle<?>> action) {
+        for (ContextInstanceSlot slot : slotArray) {
+            ContextInstanceHandle<?> handle = slot.remove();
+            if (handle != null && action != null) {
+                action.accept(handle);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.InjectableBean;
+
+public class IndexedContextInstancesTest {
+
+    private final TestBean foo = new TestBean("foo", RequestScoped.class);
+    private final TestBean bar = new TestBean("bar", RequestScoped.class);
+    private final TestBean baz = new TestBean("baz", Dependent.class);
+
+    @Test
+    public void testInstances() {
+        ContextInstances instances = IndexedContextInstances.supplier(RequestScoped.class, List.of(foo, bar, baz)).get();
+        assertNull(instances.getIfPresent("foo"));
+        assertTrue(instances.getAllPresent().isEmpty());
+        assertNull(instances.remove("foo"));
+
+        ContextInstanceHandle<?> fooHandle = instances.computeIfAbsent("foo", () -> handle(foo));
+        assertSame(fooHandle, instances.computeIfAbsent("foo", () -> handle(foo)));
+        assertSame(fooHandle, instances.getIfPresent("foo"));
+        assertNull(instances.getIfPresent("bar"));
+        ContextInstanceHandle<?> barHandle = instances.computeIfAbsent("bar", () -> handle(bar));
+        assertEquals(Set.of(fooHandle, barHandle), instances.getAllPresent());
+
+        assertSame(fooHandle, instances.remove("foo"));
+        assertNull(instances.getIfPresent("foo"));
+        assertEquals(Set.of(barHandle), instances.getAllPresent());
+
+        List<ContextInstanceHandle<?>> removed = new ArrayList<>();
+        instances.removeEach(removed::add);
+        assertEquals(List.of(barHandle), removed);
+        assertTrue(instances.getAllPresent().isEmpty());
+
+        // Only the beans of the scope have a slot
+        assertThrows(IllegalArgumentException.class, () -> instances.getIfPresent("baz"));
+    }
+
+    @Test
+    public void testNestedComputation() {
+        ContextInstances instances = IndexedContextInstances.supplier(RequestScoped.class, List.of(foo, bar)).get();
+        // The creation of an instance may require the instance of another bean of the same scope
+        ContextInstanceHandle<?> fooHandle = instances.computeIfAbsent("foo", () -> {
+            instances.computeIfAbsent("bar", () -> handle(bar));
+            return handle(foo);
+        });
+        assertSame(fooHandle, instances.getIfPresent("foo"));
+        assertEquals(2, instances.getAllPresent().size());
+    }
+
+    @Test
+    public void testConcurrentComputation() throws Exception {
+        ContextInstances instances = IndexedContextInstances.supplier(RequestScoped.class, List.of(foo, bar)).get();
+        AtomicInteger created = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ContextInstanceHandle<?>>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return instances.computeIfAbsent("foo", () -> {
+                        created.incrementAndGet();
+                        return handle(foo);
+                    });
+                }));
+            }
+            start.countDown();
+            ContextInstanceHandle<?> first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<ContextInstanceHandle<?>> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, created.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ContextInstanceHandle<?> handle(TestBean bean) {
+        return new ContextInstanceHandleImpl<>(bean, bean.getIdentifier(), new CreationalContextImpl<>(bean));
+    }
+
+    static class TestBean implements InjectableBean<String> {
+
+        private final String identifier;
+        private final Class<? extends Annotation> scope;
+
+        TestBean(String identifier, Class<? extends Annotation> scope) {
+            this.identifier = identifier;
+            this.scope = scope;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return identifier;
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return scope;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Set.of(String.class);
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return String.class;
+        }
+
+        @Override
+        public String create(CreationalContext<String> creationalContext) {
+            return identifier;
+        }
+
+        @Override
+        public String get(CreationalContext<String> creationalContext) {
+            return create(creationalContext);
+        }
+    }
+}
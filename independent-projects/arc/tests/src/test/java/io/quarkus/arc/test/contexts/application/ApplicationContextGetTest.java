@@ -36,6 +36,15 @@ public void testGet() {
                 .isThrownBy(() -> appContext.get(boomBean, new CreationalContextImpl<>(boomBean)));
     }
 
+    @Test
+    public void testDestroyUnknownBean() {
+        InjectableContext appContext = Arc.container().getActiveContext(ApplicationScoped.class);
+        InjectableBean<Boom> boomBean = Arc.container().instance(Boom.class).getBean();
+        // The bean does not belong to the context, nothing is destroyed
+        appContext.destroy(boomBean);
+        assertNotNull(Arc.container().instance(Boom.class).get());
+    }
+
     @Singleton
     public static class Boom {
 
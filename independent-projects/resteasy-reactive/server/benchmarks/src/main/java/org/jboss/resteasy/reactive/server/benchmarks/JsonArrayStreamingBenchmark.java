@@ -0,0 +1,369 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+import org.jboss.resteasy.reactive.common.ResteasyReactiveConfig;
+import org.jboss.resteasy.reactive.common.core.UnmanagedBeanFactory;
+import org.jboss.resteasy.reactive.common.model.ResourceWriter;
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
+import org.jboss.resteasy.reactive.common.util.ServerMediaType;
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
+import org.jboss.resteasy.reactive.server.handlers.PublisherResponseHandler;
+import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Measures {@link PublisherResponseHandler} streaming a {@link Multi} of {@code elements} items to a response that
+ * accepts every write immediately.
+ * <ul>
+ * <li>{@code jsonArray}: the {@code application/json} response, written as a single JSON array in chunks of the output
+ * buffer size</li>
+ * <li>{@code ndjson}: the {@code application/x-ndjson} response, written one item per write, which is how JSON arrays
+ * were written before they were chunked</li>
+ * </ul>
+ * The number of writes received by the response and the size of the largest one are printed at the end of each
+ * benchmark; run with {@code -prof gc} to compare the allocation rates. The tasks that the handler submits to the
+ * context executor, to let the event loop run other tasks, are run once the handler returns, like an event loop
+ * would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonArrayStreamingBenchmark {
+    private static final int OUTPUT_BUFFER_SIZE = 8192;
+
+    @Param({ "100", "100000" })
+    public int elements;
+
+    private final PublisherResponseHandler handler = new PublisherResponseHandler();
+    private Deployment deployment;
+    private RuntimeResource jsonArray;
+    private RuntimeResource ndjson;
+    private Multi<Item> items;
+
+    /**
+     * The writes received by the response of the last request.
+     */
+    @State(Scope.Thread)
+    public static class Writes {
+        long writes;
+        long peakWriteBytes;
+
+        void reset() {
+            writes = 0;
+            peakWriteBytes = 0;
+        }
+
+        @TearDown(Level.Trial)
+        public void report() {
+            System.out.printf("%n%d writes per response, the largest one of %d bytes%n", writes, peakWriteBytes);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        ServerSerialisers serialisers = new ServerSerialisers();
+        ResourceWriter writer = new ResourceWriter()
+                .setFactory(new UnmanagedBeanFactory<>(new ItemWriter()))
+                .setMediaTypeStrings(List.of(MediaType.APPLICATION_JSON, RestMediaType.APPLICATION_NDJSON))
+                .setConstraint(RuntimeType.SERVER);
+        serialisers.addWriter(Item.class, writer);
+        deployment = new Deployment(null, null, serialisers, null, null, "", null, null, null, null, null,
+                Collections.emptyList(), new ArrayList<>(), Collections.emptyList(), null, false,
+                new ResteasyReactiveConfig(10240, 128, OUTPUT_BUFFER_SIZE, true, true), Map.of());
+        jsonArray = resource(MediaType.APPLICATION_JSON_TYPE);
+        ndjson = resource(RestMediaType.APPLICATION_NDJSON_TYPE);
+        items = Multi.createFrom().range(0, elements)
+                .map(i -> new Item(i, "element-" + i));
+    }
+
+    @Benchmark
+    public void jsonArray(Writes writes, Blackhole bh) throws Exception {
+        stream(jsonArray, writes, bh);
+    }
+
+    @Benchmark
+    public void ndjson(Writes writes, Blackhole bh) throws Exception {
+        stream(ndjson, writes, bh);
+    }
+
+    private void stream(RuntimeResource target, Writes writes, Blackhole bh) throws Exception {
+        writes.reset();
+        BenchmarkRequestContext context = new BenchmarkRequestContext(deployment, writes, bh);
+        context.restart(target);
+        context.setResult(items);
+        handler.handle(context);
+        context.runTasks();
+        if (!context.ended) {
+            throw new IllegalStateException("The response was not ended");
+        }
+    }
+
+    private static RuntimeResource resource(MediaType mediaType) {
+        return new RuntimeResource("GET", null, null,
+                new ServerMediaType(List.of(mediaType), StandardCharsets.UTF_8.name(), false), List.of(), null, null,
+                new ServerRestHandler[0], "items", new Class[0], Item.class, false, false, Resource.class,
+                new ResteasyReactiveResourceInfo("items", Resource.class, new Class[0], true, Resource.class.getName()),
+                Map.of(), null, null, Map.of());
+    }
+
+    public static class Resource {
+        public Multi<Item> items() {
+            return Multi.createFrom().empty();
+        }
+    }
+
+    public static class Item {
+        final int id;
+        final byte[] name;
+
+        Item(int id, String name) {
+            this.id = id;
+            this.name = name.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    static class ItemWriter implements MessageBodyWriter<Item> {
+        private static final byte[] ID = "{\"id\":".getBytes(StandardCharsets.UTF_8);
+        private static final byte[] NAME = ",\"name\":\"".getBytes(StandardCharsets.UTF_8);
+        private static final byte[] END = "\"}".getBytes(StandardCharsets.UTF_8);
+
+        @Override
+        public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return type == Item.class;
+        }
+
+        @Override
+        public void writeTo(Item item, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                MultivaluedMap<String, Object> httpHeaders, OutputStream out) throws IOException {
+            out.write(ID);
+            out.write(Integer.toString(item.id).getBytes(StandardCharsets.US_ASCII));
+            out.write(NAME);
+            out.write(item.name);
+            out.write(END);
+        }
+    }
+
+    /**
+     * A request whose response completes every write immediately and whose context executor queues the tasks until
+     * {@link #runTasks()} is called.
+     */
+    static class BenchmarkRequestContext extends ResteasyReactiveRequestContext implements ServerHttpResponse {
+        private final Writes writes;
+        private final Blackhole bh;
+        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+        private final Executor executor = tasks::add;
+        private boolean headWritten;
+        boolean ended;
+
+        BenchmarkRequestContext(Deployment deployment, Writes writes, Blackhole bh) {
+            super(deployment, null, new ServerRestHandler[0], new ServerRestHandler[0]);
+            this.writes = writes;
+            this.bh = bh;
+        }
+
+        void runTasks() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+
+        @Override
+        public ServerHttpRequest serverRequest() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ServerHttpResponse serverResponse() {
+            return this;
+        }
+
+        @Override
+        public boolean resumeExternalProcessing() {
+            return false;
+        }
+
+        @Override
+        public Runnable registerTimer(long millis, Runnable task) {
+            tasks.add(task);
+            return () -> tasks.remove(task);
+        }
+
+        @Override
+        protected Executor getEventLoop() {
+            return executor;
+        }
+
+        @Override
+        public Executor getContextExecutor() {
+            return executor;
+        }
+
+        @Override
+        protected void setQueryParamsFrom(String uri) {
+        }
+
+        @Override
+        public ServerHttpResponse setStatusCode(int code) {
+            return this;
+        }
+
+        @Override
+        public ServerHttpResponse end() {
+            ended = true;
+            return this;
+        }
+
+        @Override
+        public boolean headWritten() {
+            return headWritten;
+        }
+
+        @Override
+        public ServerHttpResponse end(byte[] data) {
+            written(data);
+            return end();
+        }
+
+        @Override
+        public ServerHttpResponse end(String data) {
+            return end(data.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public ServerHttpResponse addResponseHeader(CharSequence name, CharSequence value) {
+            return this;
+        }
+
+        @Override
+        public ServerHttpResponse setResponseHeader(CharSequence name, CharSequence value) {
+            return this;
+        }
+
+        @Override
+        public ServerHttpResponse setResponseHeader(CharSequence name, Iterable<CharSequence> values) {
+            return this;
+        }
+
+        @Override
+        public Iterable<Map.Entry<String, String>> getAllResponseHeaders() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public String getResponseHeader(String name) {
+            return null;
+        }
+
+        @Override
+        public void removeResponseHeader(String name) {
+        }
+
+        @Override
+        public boolean closed() {
+            return false;
+        }
+
+        @Override
+        public ServerHttpResponse setChunked(boolean chunked) {
+            return this;
+        }
+
+        @Override
+        public ServerHttpResponse write(byte[] data, Consumer<Throwable> asyncResultHandler) {
+            written(data);
+            asyncResultHandler.accept(null);
+            return this;
+        }
+
+        @Override
+        public CompletionStage<Void> write(byte[] data) {
+            written(data);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        private void written(byte[] data) {
+            headWritten = true;
+            writes.writes++;
+            writes.peakWriteBytes = Math.max(writes.peakWriteBytes, data.length);
+            bh.consume(data);
+        }
+
+        @Override
+        public ServerHttpResponse sendFile(String path, long offset, long length) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public OutputStream createResponseOutputStream() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setPreCommitListener(Consumer<ResteasyReactiveRequestContext> task) {
+        }
+
+        @Override
+        public ServerHttpResponse addCloseHandler(Runnable onClose) {
+            return this;
+        }
+
+        @Override
+        public boolean isWriteQueueFull() {
+            return false;
+        }
+
+        @Override
+        public ServerHttpResponse addDrainHandler(Runnable onDrain) {
+            return this;
+        }
+
+        @Override
+        public void reset() {
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@link RequestMapper#map(String)} with a large number of templates.
+ * <ul>
+ * <li>{@code FLAT}: a single literal segment per template, e.g. {@code /resource42}</li>
+ * <li>{@code DEEP}: several literal segments per template, sharing long prefixes, e.g. {@code /api/v4/group2/resource42}</li>
+ * <li>{@code PARAMETERIZED}: several path parameters per template, e.g.
+ * {@code /tenants/{tenant}/resource42/{id}/items/{item}}</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestMapperBenchmark {
+    private static final int PATHS = 1024;
+
+    public enum Routes {
+        FLAT,
+        DEEP,
+        PARAMETERIZED,
+    }
+
+    @Param({ "FLAT", "DEEP", "PARAMETERIZED" })
+    public Routes routes;
+
+    @Param({ "100", "4000" })
+    public int templates;
+
+    private RequestMapper<String> mapper;
+    private String[] paths;
+    private int index;
+
+    @Setup
+    public void setup() {
+        ArrayList<RequestMapper.RequestPath<String>> list = new ArrayList<>(templates);
+        for (int i = 0; i < templates; i++) {
+            String template = template(i);
+            list.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+        }
+        mapper = new RequestMapper<>(list);
+
+        Random random = new Random(42);
+        paths = new String[PATHS];
+        for (int i = 0; i < PATHS; i++) {
+            paths[i] = path(random.nextInt(templates));
+        }
+    }
+
+    @Benchmark
+    public RequestMapper.RequestMatch<String> map() {
+        String path = paths[index];
+        index = (index + 1) & (PATHS - 1);
+        return mapper.map(path);
+    }
+
+    private String template(int i) {
+        return switch (routes) {
+            case FLAT -> "/resource" + i;
+            case DEEP -> "/api/v" + (i % 5) + "/group" + (i % 20) + "/resource" + i + "/details";
+            case PARAMETERIZED -> "/tenants/{tenant}/resource" + i + "/{id}/items/{item}";
+        };
+    }
+
+    private String path(int i) {
+        return switch (routes) {
+            case FLAT -> "/resource" + i;
+            case DEEP -> "/api/v" + (i % 5) + "/group" + (i % 20) + "/resource" + i + "/details";
+            case PARAMETERIZED -> "/tenants/acme/resource" + i + "/" + (i * 31) + "/items/" + (i * 17);
+        };
+    }
+}
@@ -0,0 +1,4 @@
+package org.jboss.resteasy.reactive.server.benchmarks.jmh_generated;
+public class JsonArrayStreamingBenchmark_Writes_jmhType extends JsonArrayStreamingBenchmark_Writes_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.jboss.resteasy.reactive.server.benchmarks.jmh_generated;
+public class JsonArrayStreamingBenchmark_jmhType extends JsonArrayStreamingBenchmark_jmhType_B3 {
+}
+
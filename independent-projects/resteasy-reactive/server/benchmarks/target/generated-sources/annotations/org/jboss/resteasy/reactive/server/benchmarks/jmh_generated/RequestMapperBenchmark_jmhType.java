@@ -0,0 +1,4 @@
+package org.jboss.resteasy.reactive.server.benchmarks.jmh_generated;
+public class RequestMapperBenchmark_jmhType extends RequestMapperBenchmark_jmhType_B3 {
+}
+
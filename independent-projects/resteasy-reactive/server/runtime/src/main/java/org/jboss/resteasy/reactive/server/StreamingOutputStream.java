@@ -7,4 +7,11 @@
  * if they are being called in a streaming context
  */
 public class StreamingOutputStream extends ByteArrayOutputStream {
+
+    public StreamingOutputStream() {
+    }
+
+    public StreamingOutputStream(int size) {
+        super(size);
+    }
 }
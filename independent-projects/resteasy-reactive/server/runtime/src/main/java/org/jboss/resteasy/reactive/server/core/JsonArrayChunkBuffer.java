@@ -0,0 +1,91 @@
+package org.jboss.resteasy.reactive.server.core;
+
+import java.io.OutputStream;
+
+import org.jboss.resteasy.reactive.server.StreamingOutputStream;
+
+/**
+ * Accumulates the elements of a JSON array that is streamed to the client, so that several elements can be sent in a
+ * single chunk instead of one write per element.
+ * <p>
+ * The elements are serialized directly after their separator into the same buffer, which is handed over to the
+ * response with {@link #take()} once it holds at least {@code chunkSize} bytes, so the memory held by a streamed array
+ * stays bounded by the chunk size regardless of the number of elements.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class JsonArrayChunkBuffer {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final int chunkSize;
+    private final StreamingOutputStream buffer;
+    private boolean started;
+
+    /**
+     * @param chunkSize the number of bytes after which the buffer is considered full
+     */
+    public JsonArrayChunkBuffer(int chunkSize) {
+        this.chunkSize = Math.max(chunkSize, 1);
+        // one element commonly overflows the chunk, leave some room for it
+        this.buffer = new StreamingOutputStream(this.chunkSize + (this.chunkSize >> 2));
+    }
+
+    /**
+     * Writes the opening bracket or the separator of the next element.
+     *
+     * @return the stream the element must be serialized into
+     */
+    public OutputStream nextElement() {
+        buffer.write(started ? ',' : '[');
+        started = true;
+        return buffer;
+    }
+
+    /**
+     * @return whether at least one element has been added
+     */
+    public boolean hasElements() {
+        return started;
+    }
+
+    /**
+     * @return whether the buffered bytes should be sent
+     */
+    public boolean isFull() {
+        return buffer.size() >= chunkSize;
+    }
+
+    /**
+     * @return whether there are no buffered bytes
+     */
+    public boolean isEmpty() {
+        return buffer.size() == 0;
+    }
+
+    /**
+     * @return the buffered bytes, the buffer is empty afterwards
+     */
+    public byte[] take() {
+        if (buffer.size() == 0) {
+            return EMPTY;
+        }
+        byte[] data = buffer.toByteArray();
+        buffer.reset();
+        return data;
+    }
+
+    /**
+     * Closes the array.
+     *
+     * @return the remaining buffered bytes, including the closing bracket
+     */
+    public byte[] finish() {
+        if (!started) {
+            buffer.write('[');
+            started = true;
+        }
+        buffer.write(']');
+        return take();
+    }
+}
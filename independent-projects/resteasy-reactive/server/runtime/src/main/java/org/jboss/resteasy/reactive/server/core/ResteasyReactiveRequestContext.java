@@ -234,7 +234,7 @@ public void setupInitialMatchAndRestart(RequestMapper.RequestMatch<RestInitialHa
      * @return true if a restart occurred
      */
     public boolean restartWithNextInitialMatch() {
-        initialMatch = new RequestMapper<>(deployment.getClassMappers()).continueMatching(getPathWithoutPrefix(), initialMatch);
+        initialMatch = deployment.getClassMapper().continueMatching(getPathWithoutPrefix(), initialMatch);
         if (initialMatch == null) {
             return false;
         }
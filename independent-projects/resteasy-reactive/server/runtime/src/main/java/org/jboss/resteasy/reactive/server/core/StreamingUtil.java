@@ -1,6 +1,7 @@
 package org.jboss.resteasy.reactive.server.core;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -58,6 +59,16 @@ public static CompletionStage<?> send(ResteasyReactiveRequestContext context,
     }
 
     private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Object entity) throws IOException {
+        StreamingOutputStream baos = new StreamingOutputStream();
+        serialiseEntity(context, entity, baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Serializes a single element of a stream with the writer matching the response media type.
+     */
+    public static void serialiseEntity(ResteasyReactiveRequestContext context, Object entity, OutputStream out)
+            throws IOException {
         ServerSerialisers serialisers = context.getDeployment().getSerialisers();
         Class<?> entityClass = entity.getClass();
         Type entityType = context.getGenericReturnType();
@@ -67,13 +78,12 @@ private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Ob
         MessageBodyWriter<Object>[] writers = (MessageBodyWriter<Object>[]) serialisers
                 .findWriters(null, entityClass, mediaType, RuntimeType.SERVER)
                 .toArray(ServerSerialisers.NO_WRITER);
-        StreamingOutputStream baos = new StreamingOutputStream();
         boolean wrote = false;
         for (MessageBodyWriter<Object> writer : writers) {
             if (writer.isWriteable(entityClass, entityType, context.getAllAnnotations(), mediaType)) {
                 // FIXME: spec doesn't really say what headers we should use here
                 writer.writeTo(entity, entityClass, entityType, context.getAllAnnotations(), mediaType,
-                        new QuarkusMultivaluedHashMap<>(), baos);
+                        new QuarkusMultivaluedHashMap<>(), out);
                 wrote = true;
                 break;
             }
@@ -82,7 +92,6 @@ private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Ob
             throw new IllegalStateException(
                     "Could not find MessageBodyWriter for " + entityClass + " / " + entityType + " as " + mediaType);
         }
-        return baos.toByteArray();
     }
 
     public static void setHeaders(ResteasyReactiveRequestContext context, ServerHttpResponse response,
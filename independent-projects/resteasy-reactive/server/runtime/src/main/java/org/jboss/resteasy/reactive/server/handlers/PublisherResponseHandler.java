@@ -7,9 +7,11 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.sse.OutboundSseEvent;
@@ -18,11 +20,13 @@
 import org.jboss.resteasy.reactive.RestMulti;
 import org.jboss.resteasy.reactive.common.util.RestMediaType;
 import org.jboss.resteasy.reactive.common.util.ServerMediaType;
+import org.jboss.resteasy.reactive.server.core.JsonArrayChunkBuffer;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.core.SseUtil;
 import org.jboss.resteasy.reactive.server.core.StreamingUtil;
 import org.jboss.resteasy.reactive.server.jaxrs.OutboundSseEventImpl;
 import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer.Phase;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 import org.jboss.resteasy.reactive.server.spi.StreamingResponse;
 
@@ -126,26 +130,8 @@ public void onNext(Object item) {
         }
 
         private List<StreamingResponseCustomizer> determineCustomizers(boolean isFirst) {
-            // we only need to obtain the customizers from the Publisher if it's the first time we are sending data and the Publisher has customizable data
-            // at this point no matter the type of RestMulti we can safely obtain the headers and status
-            if (isFirst && (publisher instanceof RestMulti<?> restMulti)) {
-                Map<String, List<String>> headers = restMulti.getHeaders();
-                Integer status = restMulti.getStatus();
-                if (headers.isEmpty() && (status == null)) {
-                    return staticCustomizers;
-                }
-                List<StreamingResponseCustomizer> result = new ArrayList<>(staticCustomizers.size() + 2);
-                result.addAll(staticCustomizers); // these are added first so that the result specific values will take precedence if there are conflicts
-                if (!headers.isEmpty()) {
-                    result.add(new StreamingResponseCustomizer.AddHeadersCustomizer(headers));
-                }
-                if (status != null) {
-                    result.add(new StreamingResponseCustomizer.StatusCustomizer(status));
-                }
-                return result;
-            }
-
-            return staticCustomizers;
+            // we only need to obtain the customizers from the Publisher if it's the first time we are sending data
+            return isFirst ? firstItemCustomizers(publisher, staticCustomizers) : staticCustomizers;
         }
 
         @Override
@@ -196,6 +182,223 @@ protected String messageSuffix() {
         }
     }
 
+    /**
+     * Streams the items as the elements of a single JSON array.
+     * <p>
+     * Items emitted synchronously when they are requested, like the items of a {@code Multi} created from an iterable,
+     * are coalesced in chunks of the output buffer size instead of being written one by one, and more items are only
+     * requested while the write queue of the connection is not full, so the memory used by large arrays stays flat.
+     * At most {@link #MAX_SYNCHRONOUS_CHUNKS} chunks are written before the requests resume in a new task of the request
+     * context, so that a large or infinite synchronous stream doesn't hold the event loop.
+     * Items emitted asynchronously are written as soon as they are received.
+     */
+    @SuppressWarnings("rawtypes")
+    private static class JsonArrayMultiSubscriber extends AbstractMultiSubscriber {
+
+        static final int MAX_SYNCHRONOUS_CHUNKS = 16;
+
+        private final Publisher publisher;
+        private final JsonArrayChunkBuffer chunks;
+        // ensures that items are requested by a single thread at a time, without recursion
+        private final AtomicInteger requestsInProgress = new AtomicInteger();
+
+        // guarded by this
+        private List<StreamingResponseCustomizer> customizers;
+        private Thread requestingThread;
+        private boolean received;
+        private boolean awaitingDrain;
+        private boolean done;
+
+        JsonArrayMultiSubscriber(ResteasyReactiveRequestContext requestContext,
+                List<StreamingResponseCustomizer> staticCustomizers, Publisher publisher, long demand) {
+            super(requestContext, staticCustomizers, demand);
+            this.publisher = publisher;
+            this.chunks = new JsonArrayChunkBuffer(
+                    requestContext.getDeployment().getResteasyReactiveConfig().getOutputBufferSize());
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+            requestItems();
+        }
+
+        @Override
+        public void onNext(Object item) {
+            boolean emittedAsynchronously;
+            Throwable failure = null;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                if (customizers == null) {
+                    customizers = firstItemCustomizers(publisher, staticCustomizers);
+                }
+                emittedAsynchronously = requestingThread != Thread.currentThread();
+                try {
+                    StreamingUtil.serialiseEntity(requestContext, item, chunks.nextElement());
+                    if (emittedAsynchronously) {
+                        writeChunk();
+                    } else {
+                        received = true;
+                    }
+                } catch (Throwable t) {
+                    done = true;
+                    failure = t;
+                }
+            }
+            if (failure != null) {
+                // need to cancel because the exception didn't come from the Multi
+                subscription.cancel();
+                handleException(requestContext, failure);
+            } else if (emittedAsynchronously && !awaitDrain()) {
+                requestItems();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            byte[] data;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                if (customizers == null) {
+                    customizers = firstItemCustomizers(publisher, staticCustomizers);
+                }
+                data = chunks.finish();
+            }
+            ServerHttpResponse response = requestContext.serverResponse();
+            StreamingUtil.setHeaders(requestContext, response, customizers);
+            response.write(data).handle((v, t) -> {
+                super.onComplete();
+                return null;
+            });
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            synchronized (this) {
+                done = true;
+            }
+            super.onError(t);
+        }
+
+        private void requestItems() {
+            if (requestsInProgress.getAndIncrement() != 0) {
+                // the thread currently requesting items will request once more
+                return;
+            }
+            int missed = 1;
+            do {
+                requestWhileSynchronous();
+                missed = requestsInProgress.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void requestWhileSynchronous() {
+            Thread current = Thread.currentThread();
+            int writtenChunks = 0;
+            for (;;) {
+                synchronized (this) {
+                    if (done || awaitingDrain) {
+                        return;
+                    }
+                    requestingThread = current;
+                    received = false;
+                }
+                subscription.request(demand);
+                synchronized (this) {
+                    requestingThread = null;
+                    if (done) {
+                        return;
+                    }
+                    if (!received) {
+                        // the next items are emitted asynchronously, don't hold back the buffered ones meanwhile
+                        writeChunk();
+                        return;
+                    }
+                    if (!chunks.isFull()) {
+                        continue;
+                    }
+                    writeChunk();
+                }
+                if (awaitDrain()) {
+                    return;
+                }
+                if (++writtenChunks == MAX_SYNCHRONOUS_CHUNKS) {
+                    // let the other tasks of the event loop run before requesting more items
+                    executor().execute(this::requestItems);
+                    return;
+                }
+            }
+        }
+
+        private Executor executor() {
+            Executor executor = requestContext.getContextExecutor();
+            if (executor != null) {
+                return executor;
+            }
+            return task -> requestContext.registerTimer(0, task);
+        }
+
+        // guarded by this
+        private void writeChunk() {
+            if (chunks.isEmpty()) {
+                return;
+            }
+            ServerHttpResponse response = requestContext.serverResponse();
+            byte[] data = chunks.take();
+            if (response.closed()) {
+                return;
+            }
+            StreamingUtil.setHeaders(requestContext, response, customizers);
+            response.write(data, this::onWritten);
+        }
+
+        private void onWritten(Throwable t) {
+            if (t == null) {
+                return;
+            }
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+            }
+            subscription.cancel();
+            handleException(requestContext, t);
+        }
+
+        /**
+         * @return {@code true} if the write queue of the connection is full, in which case items are requested again
+         *         once it is drained
+         */
+        private synchronized boolean awaitDrain() {
+            ServerHttpResponse response = requestContext.serverResponse();
+            if (done || !response.isWriteQueueFull()) {
+                return false;
+            }
+            awaitingDrain = true;
+            response.addDrainHandler(this::onDrain);
+            // the queue may have been drained before the handler was registered
+            awaitingDrain = response.isWriteQueueFull();
+            return awaitingDrain;
+        }
+
+        private void onDrain() {
+            synchronized (this) {
+                // the drain handler stays registered, only the first call after awaitDrain() is relevant
+                if (!awaitingDrain) {
+                    return;
+                }
+                awaitingDrain = false;
+            }
+            requestItems();
+        }
+    }
+
     static abstract class AbstractMultiSubscriber implements Subscriber<Object> {
         protected final ResteasyReactiveRequestContext requestContext;
         protected final List<StreamingResponseCustomizer> staticCustomizers;
@@ -258,6 +461,29 @@ protected void handleException(ResteasyReactiveRequestContext requestContext, Th
 
     private static final Logger log = Logger.getLogger(PublisherResponseHandler.class);
 
+    @SuppressWarnings("rawtypes")
+    private static List<StreamingResponseCustomizer> firstItemCustomizers(Publisher publisher,
+            List<StreamingResponseCustomizer> staticCustomizers) {
+        // at this point no matter the type of RestMulti we can safely obtain the headers and status
+        if (publisher instanceof RestMulti<?> restMulti) {
+            Map<String, List<String>> headers = restMulti.getHeaders();
+            Integer status = restMulti.getStatus();
+            if (headers.isEmpty() && (status == null)) {
+                return staticCustomizers;
+            }
+            List<StreamingResponseCustomizer> result = new ArrayList<>(staticCustomizers.size() + 2);
+            result.addAll(staticCustomizers); // these are added first so that the result specific values will take precedence if there are conflicts
+            if (!headers.isEmpty()) {
+                result.add(new StreamingResponseCustomizer.AddHeadersCustomizer(headers));
+            }
+            if (status != null) {
+                result.add(new StreamingResponseCustomizer.StatusCustomizer(status));
+            }
+            return result;
+        }
+        return staticCustomizers;
+    }
+
     private static final ServerRestHandler[] AWOL = new ServerRestHandler[] {
             requestContext -> {
                 throw new IllegalStateException("FAILURE: should never be restarted");
@@ -333,6 +559,10 @@ private void handleStreaming(ResteasyReactiveRequestContext requestContext, Publ
             demand = rest.getDemand();
             encodeAsJsonArray = rest.encodeAsJsonArray();
         }
+        if (json && encodeAsJsonArray) {
+            result.subscribe(new JsonArrayMultiSubscriber(requestContext, streamingResponseCustomizers, result, demand));
+            return;
+        }
         result.subscribe(new StreamingMultiSubscriber(requestContext, streamingResponseCustomizers, result, json, demand,
                 encodeAsJsonArray));
     }
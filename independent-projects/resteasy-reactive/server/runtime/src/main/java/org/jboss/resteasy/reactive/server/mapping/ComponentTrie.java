@@ -0,0 +1,217 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A trie of the components that follow the stem of the templates that share the same stem. Literal components are
+ * looked up by hash and path parameters that use the default regex are skipped up to the next {@code /}, so the
+ * lookup does not need to try all the templates one after another.
+ * <p>
+ * Templates are identified by their index in the sorted list of templates with the same stem. The lookup returns
+ * the smallest index of a template that matches the path, which is the template that
+ * {@link RequestMapper} would have chosen if it tried all the templates in order. Templates that contain a custom
+ * regex are not part of the trie and must be tried separately.
+ */
+class ComponentTrie {
+
+    static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private static final int[] NO_INDEXES = new int[0];
+
+    /**
+     * The indexes of the templates whose components end at this node, sorted
+     */
+    private final int[] templates;
+    /**
+     * The boolean indicating whether the template with given index allows a prefix match
+     */
+    private final boolean[] prefixTemplates;
+    /**
+     * The distinct lengths of the literal components that follow this node
+     */
+    private final int[] literalLengths;
+    private final LiteralTable[] literals;
+    /**
+     * The node following a path parameter, if any
+     */
+    private final ComponentTrie param;
+    /**
+     * The smallest and the largest template index in this node and all its descendants
+     */
+    private final int minIndex;
+    private final int maxIndex;
+
+    private ComponentTrie(int[] templates, boolean[] prefixTemplates, int[] literalLengths, LiteralTable[] literals,
+            ComponentTrie param, int minIndex, int maxIndex) {
+        this.templates = templates;
+        this.prefixTemplates = prefixTemplates;
+        this.literalLengths = literalLengths;
+        this.literals = literals;
+        this.param = param;
+        this.minIndex = minIndex;
+        this.maxIndex = maxIndex;
+    }
+
+    /**
+     * @param path the path to match
+     * @param matchPos the position in the path following the stem
+     * @param startIdx the smallest template index to consider
+     * @return the smallest index of a template not less than {@code startIdx} that matches the path,
+     *         or {@link #NO_MATCH}
+     */
+    int find(String path, int matchPos, int startIdx) {
+        return find(path, matchPos, startIdx, NO_MATCH);
+    }
+
+    private int find(String path, int matchPos, int startIdx, int best) {
+        if (minIndex >= best || maxIndex < startIdx) {
+            // nothing better can be found in this subtree
+            return best;
+        }
+        for (int i = 0; i < templates.length; i++) {
+            int index = templates[i];
+            if (index >= best) {
+                break;
+            }
+            if (index >= startIdx && RequestMapper.isMatchEnd(path, matchPos, prefixTemplates[i])) {
+                best = index;
+                break;
+            }
+        }
+        int pathLength = path.length();
+        for (int i = 0; i < literalLengths.length; i++) {
+            int length = literalLengths[i];
+            if (matchPos + length > pathLength) {
+                break;
+            }
+            ComponentTrie next = literals[i].get(path, matchPos, length);
+            if (next != null) {
+                best = next.find(path, matchPos + length, startIdx, best);
+            }
+        }
+        if (param != null && matchPos < pathLength) {
+            int end = path.indexOf('/', matchPos);
+            best = param.find(path, end == -1 ? pathLength : end, startIdx, best);
+        }
+        return best;
+    }
+
+    /**
+     * An open addressing hash table of literal components with the same length, that can be queried with a region
+     * of the path without creating a substring.
+     */
+    private static final class LiteralTable {
+
+        private final String[] keys;
+        private final ComponentTrie[] values;
+        private final int mask;
+
+        private LiteralTable(Map<String, ComponentTrie> children) {
+            int size = Integer.highestOneBit(Math.max(children.size() * 2 - 1, 1)) << 1;
+            keys = new String[size];
+            values = new ComponentTrie[size];
+            mask = size - 1;
+            for (Map.Entry<String, ComponentTrie> entry : children.entrySet()) {
+                int slot = spread(entry.getKey().hashCode()) & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = entry.getKey();
+                values[slot] = entry.getValue();
+            }
+        }
+
+        ComponentTrie get(String path, int offset, int length) {
+            // same as String.hashCode() of the region
+            int hash = 0;
+            for (int i = offset; i < offset + length; i++) {
+                hash = 31 * hash + path.charAt(i);
+            }
+            int slot = spread(hash) & mask;
+            String key;
+            while ((key = keys[slot]) != null) {
+                if (path.regionMatches(offset, key, 0, length)) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    static class Builder {
+
+        private final List<Integer> templates = new ArrayList<>();
+        private final List<Boolean> prefixTemplates = new ArrayList<>();
+        private final Map<String, Builder> literals = new LinkedHashMap<>();
+        private Builder param;
+
+        /**
+         * Adds a template that contains no custom regex components. Templates must be added in the order of their index.
+         *
+         * @param index the index of the template
+         * @param template the template
+         * @param prefixTemplate whether the template allows a prefix match
+         */
+        void add(int index, URITemplate template, boolean prefixTemplate) {
+            Builder node = this;
+            for (int i = 1; i < template.components.length; ++i) {
+                URITemplate.TemplateComponent component = template.components[i];
+                if (component.type == URITemplate.Type.LITERAL) {
+                    node = node.literals.computeIfAbsent(component.literalText, k -> new Builder());
+                } else if (component.type == URITemplate.Type.DEFAULT_REGEX) {
+                    if (node.param == null) {
+                        node.param = new Builder();
+                    }
+                    node = node.param;
+                } else {
+                    throw new IllegalArgumentException("Custom regex templates are not supported: " + template);
+                }
+            }
+            node.templates.add(index);
+            node.prefixTemplates.add(prefixTemplate);
+        }
+
+        ComponentTrie build() {
+            int minIndex = templates.isEmpty() ? NO_MATCH : templates.get(0);
+            int maxIndex = templates.isEmpty() ? -1 : templates.get(templates.size() - 1);
+            // group the literal components by length, the lookup tries them from the shortest to the longest
+            TreeMap<Integer, Map<String, ComponentTrie>> byLength = new TreeMap<>();
+            for (Map.Entry<String, Builder> entry : literals.entrySet()) {
+                ComponentTrie child = entry.getValue().build();
+                minIndex = Math.min(minIndex, child.minIndex);
+                maxIndex = Math.max(maxIndex, child.maxIndex);
+                byLength.computeIfAbsent(entry.getKey().length(), k -> new LinkedHashMap<>()).put(entry.getKey(), child);
+            }
+            int[] literalLengths = new int[byLength.size()];
+            LiteralTable[] literalTables = new LiteralTable[byLength.size()];
+            int i = 0;
+            for (Map.Entry<Integer, Map<String, ComponentTrie>> entry : byLength.entrySet()) {
+                literalLengths[i] = entry.getKey();
+                literalTables[i] = new LiteralTable(entry.getValue());
+                i++;
+            }
+            ComponentTrie paramChild = null;
+            if (param != null) {
+                paramChild = param.build();
+                minIndex = Math.min(minIndex, paramChild.minIndex);
+                maxIndex = Math.max(maxIndex, paramChild.maxIndex);
+            }
+            int[] templateIndexes = templates.isEmpty() ? NO_INDEXES : new int[templates.size()];
+            boolean[] prefix = new boolean[templates.size()];
+            for (int j = 0; j < templates.size(); j++) {
+                templateIndexes[j] = templates.get(j);
+                prefix[j] = prefixTemplates.get(j);
+            }
+            return new ComponentTrie(templateIndexes, prefix, literalLengths, literalTables, paramChild, minIndex, maxIndex);
+        }
+    }
+}
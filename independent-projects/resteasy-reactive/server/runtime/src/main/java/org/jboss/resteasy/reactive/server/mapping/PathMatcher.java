@@ -15,7 +15,10 @@
  * <p>
  *
  * @author Stuart Douglas
+ *
+ * @deprecated only used by the deprecated {@link RequestMapper#getRequestPaths()}
  */
+@Deprecated(forRemoval = true)
 @SuppressWarnings("ForLoopReplaceableByForEach")
 class PathMatcher<T> implements Dumpable {
 
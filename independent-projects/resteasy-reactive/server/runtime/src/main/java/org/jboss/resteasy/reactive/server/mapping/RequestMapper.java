@@ -6,20 +6,34 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 
 public class RequestMapper<T> {
 
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
+    private static final String DEFAULT_STEM = "/";
+    /**
+     * The number of templates with the same stem above which the templates are looked up using a {@link ComponentTrie}
+     * instead of trying them one after another
+     */
+    private static final int COMPONENT_TRIE_THRESHOLD = 16;
+    /**
+     * The array capturing the path parameter values, see {@link #params()}
+     */
+    private static final ThreadLocal<String[]> PARAMS = new ThreadLocal<>();
 
-    private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
-    private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
+    /**
+     * The templates grouped by their stem, except for the templates whose stem is {@code /}
+     */
+    private final StemTrie<TemplateGroup<T>> requestPaths;
+    /**
+     * The templates whose stem is {@code /}, these are tried last
+     */
+    private final TemplateGroup<T> defaultPaths;
     private final ArrayList<RequestPath<T>> templates;
     final int maxParams;
 
     public RequestMapper(ArrayList<RequestPath<T>> templates) {
-        pathMatcherBuilder = new PathMatcher.Builder<>();
         this.templates = templates;
         int max = 0;
         Map<String, ArrayList<RequestPath<T>>> aggregates = new HashMap<>();
@@ -31,34 +45,38 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
             paths.add(i);
             max = Math.max(max, i.template.countPathParamNames());
         }
-        aggregates.forEach(new BiConsumer<>() {
-            @Override
-            public void accept(String stem, ArrayList<RequestPath<T>> list) {
-                Collections.sort(list);
-                pathMatcherBuilder.addPrefixPath(stem, list);
+        StemTrie.Builder<TemplateGroup<T>> trieBuilder = new StemTrie.Builder<>();
+        TemplateGroup<T> defaultPaths = null;
+        for (Map.Entry<String, ArrayList<RequestPath<T>>> entry : aggregates.entrySet()) {
+            ArrayList<RequestPath<T>> list = entry.getValue();
+            Collections.sort(list);
+            if (DEFAULT_STEM.equals(entry.getKey())) {
+                defaultPaths = new TemplateGroup<>(list);
+            } else {
+                trieBuilder.put(entry.getKey(), new TemplateGroup<>(list));
             }
-        });
+        }
         maxParams = max;
-        requestPaths = pathMatcherBuilder.build();
+        this.defaultPaths = defaultPaths;
+        requestPaths = trieBuilder.build();
     }
 
     /**
      * Match the path to the UriTemplates. Returns the best match, meaning the least remaining path after match.
      *
      * @param path path to search UriTemplate for
-     * @return best RequestMatch, or null if the path has no match
+     * @return best RequestMatch, or null if the path has no match; its {@link RequestMatch#pathParamValues} are only valid
+     *         until the next match of the current thread
      */
     public RequestMatch<T> map(String path) {
-        List<PathMatcher.PathMatch<ArrayList<RequestPath<T>>>> matches = requestPaths.match(path);
-        for (int i = 0; i < matches.size(); i++) {
-            var result = mapFromPathMatcher(path, matches.get(i), 0);
-            if (result != null) {
-                return result;
-            }
+        String[] params = params();
+        var result = mapFromStems(path, requestPaths, null, params);
+        if (result != null) {
+            return result;
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        return mapFromPathMatcher(path, requestPaths.defaultMatch(path), 0);
+        return mapFromPathMatcher(path, defaultPaths, 1, 0, params);
     }
 
     /**
@@ -72,38 +90,75 @@ public RequestMatch<T> continueMatching(String path, RequestMatch<T> lastMatch)
             return null;
         }
 
-        var initialMatchesList = requestPaths.match(path);
-        for (int i = 0; i < initialMatchesList.size(); i++) {
-            var result = mapFromPathMatcher(path, initialMatchesList.get(i), 0);
+        String[] params = params();
+        var result = mapFromStems(path, requestPaths, lastMatch, params);
+        if (result != null) {
+            return result;
+        }
+
+        // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
+        return continueMatching(path, defaultPaths, 1, lastMatch, params);
+    }
+
+    /**
+     * Returns the array capturing the path parameter values of the candidates. A single array is used by all the mappers
+     * of a thread, and the match returned to the caller keeps it.
+     */
+    private String[] params() {
+        if (maxParams == 0) {
+            return EMPTY_STRING_ARRAY;
+        }
+        String[] params = PARAMS.get();
+        if (params == null || params.length < maxParams) {
+            params = new String[maxParams];
+            PARAMS.set(params);
+        }
+        return params;
+    }
+
+    /**
+     * Tries the templates of all stems that are a prefix of the path, from the longest stem to the shortest one.
+     *
+     * @param lastMatch if not {@code null}, only the templates following the last match are tried
+     */
+    private RequestMatch<T> mapFromStems(String path, StemTrie<TemplateGroup<T>> node, RequestMatch<T> lastMatch,
+            String[] params) {
+        StemTrie<TemplateGroup<T>> next = node.next(path);
+        if (next != null) {
+            var result = mapFromStems(path, next, lastMatch, params);
             if (result != null) {
-                int idx = nextMatchStartingIndex(initialMatchesList.get(i), lastMatch);
-                RequestMatch<T> match = mapFromPathMatcher(path, initialMatchesList.get(i), idx);
-                if (match != null) {
-                    return match;
-                }
+                return result;
             }
         }
+        if (node.value() == null) {
+            return null;
+        }
+        if (lastMatch == null) {
+            return mapFromPathMatcher(path, node.value(), node.length(), 0, params);
+        }
+        return continueMatching(path, node.value(), node.length(), lastMatch, params);
+    }
 
-        // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        var initialMatches = requestPaths.defaultMatch(path);
-        var result = mapFromPathMatcher(path, initialMatches, 0);
+    private RequestMatch<T> continueMatching(String path, TemplateGroup<T> initialMatches, int stemLength,
+            RequestMatch<T> lastMatch, String[] params) {
+        var result = mapFromPathMatcher(path, initialMatches, stemLength, 0, params);
         if (result != null) {
             int idx = nextMatchStartingIndex(initialMatches, lastMatch);
-            return mapFromPathMatcher(path, initialMatches, idx);
+            return mapFromPathMatcher(path, initialMatches, stemLength, idx, params);
         }
         return null;
     }
 
-    private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
-            RequestMatch<T> current) {
-        if (initialMatches.getValue() == null || initialMatches.getValue().isEmpty()) {
+    private int nextMatchStartingIndex(TemplateGroup<T> initialMatches, RequestMatch<T> current) {
+        if (initialMatches == null || initialMatches.paths.isEmpty()) {
             return -1;
         }
-        for (int i = 0; i < initialMatches.getValue().size(); i++) {
-            if (initialMatches.getValue().get(i).template == current.template) {
+        ArrayList<RequestPath<T>> paths = initialMatches.paths;
+        for (int i = 0; i < paths.size(); i++) {
+            if (paths.get(i).template == current.template) {
                 i++;
 
-                if (i < initialMatches.getValue().size()) {
+                if (i < paths.size()) {
                     return i;
                 }
                 return -1;
@@ -113,97 +168,181 @@ private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T
         return -1;
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
-    private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
-            int startIdx) {
-        var value = initialMatches.getValue();
-        if (value == null || startIdx < 0) {
+    private RequestMatch<T> mapFromPathMatcher(String path, TemplateGroup<T> group, int stemLength, int startIdx,
+            String[] params) {
+        if (group == null || startIdx < 0) {
             return null;
         }
+        ArrayList<RequestPath<T>> value = group.paths;
+        if (group.components == null) {
+            for (int index = startIdx; index < value.size(); index++) {
+                RequestMatch<T> result = matchTemplate(path, value.get(index), stemLength, params);
+                if (result != null) {
+                    return result;
+                }
+            }
+            return null;
+        }
+        int best = group.components.find(path, stemLength, startIdx);
+        // templates with a custom regex are not in the trie, so try those that take precedence over the best match
+        for (int index : group.customRegexTemplates) {
+            if (index >= best) {
+                break;
+            }
+            if (index >= startIdx) {
+                RequestMatch<T> result = matchTemplate(path, value.get(index), stemLength, params);
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+        return best == ComponentTrie.NO_MATCH ? null : matchTemplate(path, value.get(best), stemLength, params);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private RequestMatch<T> matchTemplate(String path, RequestPath<T> potentialMatch, int stemLength, String[] params) {
         int pathLength = path.length();
-        for (int index = startIdx; index < value.size(); index++) {
-            RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
-            int paramCount = 0;
-            boolean matched = true;
-            boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatches.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
-                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
-                    // exclude any path end slash when matching a subdir, but include it in the matched length
-                    boolean endSlash = matchPos < path.length() && path.charAt(path.length() - 1) == '/';
-                    Matcher matcher = segment.pattern.matcher(
-                            endSlash ? path.substring(0, path.length() - 1) : path);
-                    matched = matcher.find(matchPos);
-                    if (!matched || matcher.start() != matchPos) {
-                        break;
-                    }
-                    matchPos = matcher.end();
-                    if (endSlash) {
-                        matchPos++;
-                    }
-                    for (String group : segment.groups) {
-                        params[paramCount++] = matcher.group(group);
-                    }
-                } else if (segment.type == URITemplate.Type.LITERAL) {
-                    //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
-                        matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
-                    }
-                    if (!matched) {
-                        break;
-                    }
-                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
-                    if (matchPos == pathLength) {
+        int paramCount = 0;
+        boolean matched = true;
+        boolean prefixAllowed = potentialMatch.prefixTemplate;
+        int matchPos = stemLength;
+        for (int i = 1; i < potentialMatch.template.components.length; ++i) {
+            URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
+            if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
+                // exclude any path end slash when matching a subdir, but include it in the matched length
+                boolean endSlash = matchPos < path.length() && path.charAt(path.length() - 1) == '/';
+                Matcher matcher = segment.pattern.matcher(
+                        endSlash ? path.substring(0, path.length() - 1) : path);
+                matched = matcher.find(matchPos);
+                if (!matched || matcher.start() != matchPos) {
+                    break;
+                }
+                matchPos = matcher.end();
+                if (endSlash) {
+                    matchPos++;
+                }
+                for (String group : segment.groups) {
+                    params[paramCount++] = matcher.group(group);
+                }
+            } else if (segment.type == URITemplate.Type.LITERAL) {
+                //make sure the literal text is the same
+                if (matchPos + segment.literalText.length() > pathLength) {
+                    matched = false;
+                    break; //too long
+                }
+                for (int pos = 0; pos < segment.literalText.length(); ++pos) {
+                    if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
                         matched = false;
                         break;
                     }
-                    int start = matchPos;
-                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
-                        matchPos++;
-                    }
-                    params[paramCount++] = path.substring(start, matchPos);
                 }
+                if (!matched) {
+                    break;
+                }
+            } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
+                if (matchPos == pathLength) {
+                    matched = false;
+                    break;
+                }
+                int start = matchPos;
+                while (matchPos < pathLength && path.charAt(matchPos) != '/') {
+                    matchPos++;
+                }
+                params[paramCount++] = path.substring(start, matchPos);
             }
-            if (!matched) {
-                continue;
-            }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
+        }
+        if (!matched) {
+            return null;
+        }
+        if (isMatchEnd(path, matchPos, prefixAllowed)) {
             boolean fullMatch = matchPos == pathLength;
-            boolean doPrefixMatch = false;
-            if (!fullMatch) {
-                //according to the spec every template ends with (/.*)?
-                if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
-                    doPrefixMatch = prefixAllowed || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
-                } else if (path.charAt(matchPos) == '/') {
-                    doPrefixMatch = prefixAllowed || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
+            String remaining;
+            if (fullMatch) {
+                remaining = "";
+            } else {
+                if (matchPos == 1) {
+                    remaining = path;
+                } else {
+                    remaining = path.substring(matchPos);
                 }
             }
-            if (fullMatch || doPrefixMatch) {
-                String remaining;
-                if (fullMatch) {
-                    remaining = "";
+            // clear the values left by this thread's previous matches and by the candidates that did not match
+            Arrays.fill(params, paramCount, params.length, null);
+            return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
+        }
+        return null;
+    }
+
+    /**
+     * @return whether a template matched up to given position matches the whole path
+     */
+    static boolean isMatchEnd(String path, int matchPos, boolean prefixAllowed) {
+        int pathLength = path.length();
+        if (matchPos == pathLength) {
+            return true;
+        }
+        //according to the spec every template ends with (/.*)?
+        if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
+            return prefixAllowed || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
+        } else if (path.charAt(matchPos) == '/') {
+            return prefixAllowed || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
+        }
+        return false;
+    }
+
+    /**
+     * The templates with the same stem, sorted
+     */
+    private static class TemplateGroup<T> implements Dumpable {
+        final ArrayList<RequestPath<T>> paths;
+        /**
+         * The trie of the templates without a custom regex, or {@code null} if there are only a few templates
+         */
+        final ComponentTrie components;
+        /**
+         * The indexes of the templates with a custom regex, sorted
+         */
+        final int[] customRegexTemplates;
+
+        TemplateGroup(ArrayList<RequestPath<T>> paths) {
+            this.paths = paths;
+            if (paths.size() <= COMPONENT_TRIE_THRESHOLD) {
+                this.components = null;
+                this.customRegexTemplates = null;
+                return;
+            }
+            ComponentTrie.Builder builder = new ComponentTrie.Builder();
+            List<Integer> customRegex = new ArrayList<>();
+            for (int i = 0; i < paths.size(); i++) {
+                RequestPath<T> path = paths.get(i);
+                if (hasCustomRegex(path.template)) {
+                    customRegex.add(i);
                 } else {
-                    if (matchPos == 1) {
-                        remaining = path;
-                    } else {
-                        remaining = path.substring(matchPos);
-                    }
+                    builder.add(i, path.template, path.prefixTemplate);
                 }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
+            }
+            this.components = builder.build();
+            this.customRegexTemplates = new int[customRegex.size()];
+            for (int i = 0; i < customRegex.size(); i++) {
+                customRegexTemplates[i] = customRegex.get(i);
+            }
+        }
+
+        private static boolean hasCustomRegex(URITemplate template) {
+            for (URITemplate.TemplateComponent component : template.components) {
+                if (component.type == URITemplate.Type.CUSTOM_REGEX) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void dump(int level) {
+            for (RequestPath<T> path : paths) {
+                path.dump(level);
             }
         }
-        return null;
     }
 
     public static class RequestPath<T> implements Dumpable, Comparable<RequestPath<T>> {
@@ -245,7 +384,8 @@ public int compareTo(RequestPath<T> o) {
         /**
          * The matched parameters in order.
          * <p>
-         * Note that this array may be larger than required, and padded with null values at the end
+         * Note that this array may be larger than required, and padded with null values at the end. The array is reused by
+         * the next match of the same thread, so the values must be read before another path is mapped.
          */
         public final String[] pathParamValues;
         public final String remaining;
@@ -266,10 +406,28 @@ public String toString() {
 
     public void dump() {
         this.requestPaths.dump(0);
+        if (defaultPaths != null) {
+            System.err.println(DEFAULT_STEM + ": ");
+            defaultPaths.dump(2);
+        }
     }
 
+    /**
+     * @deprecated the templates are no longer looked up using a {@link PathMatcher}, the returned matcher is created from
+     *             the templates on each invocation and is not used to map the requests; use {@link #getTemplates()} instead
+     */
+    @Deprecated(forRemoval = true)
     public PathMatcher<ArrayList<RequestPath<T>>> getRequestPaths() {
-        return requestPaths;
+        PathMatcher.Builder<ArrayList<RequestPath<T>>> builder = new PathMatcher.Builder<>();
+        Map<String, ArrayList<RequestPath<T>>> aggregates = new HashMap<>();
+        for (RequestPath<T> i : templates) {
+            aggregates.computeIfAbsent(i.template.stem, k -> new ArrayList<>()).add(i);
+        }
+        for (Map.Entry<String, ArrayList<RequestPath<T>>> entry : aggregates.entrySet()) {
+            Collections.sort(entry.getValue());
+            builder.addPrefixPath(entry.getKey(), entry.getValue());
+        }
+        return builder.build();
     }
 
     public ArrayList<RequestPath<T>> getTemplates() {
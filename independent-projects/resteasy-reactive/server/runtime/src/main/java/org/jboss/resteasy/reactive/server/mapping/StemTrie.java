@@ -0,0 +1,144 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * A radix tree of template stems. Each node represents a prefix of one or more stems and holds the value
+ * of the stem that ends at that node, if any.
+ * <p>
+ * Starting at the root and repeatedly calling {@link #next(String)} visits all nodes whose prefix is also
+ * a prefix of the path, from the shortest to the longest, so the lookup cost only depends on the length of the path
+ * and not on the number of stems. No objects are allocated during the lookup.
+ */
+class StemTrie<T> implements Dumpable {
+
+    private static final char[] NO_CHARS = new char[0];
+
+    /**
+     * The part of the stem between the parent node and this node
+     */
+    private final String label;
+    /**
+     * The length of the whole prefix represented by this node
+     */
+    private final int length;
+    private final T value;
+    /**
+     * The first characters of the children labels, sorted
+     */
+    private final char[] firstChars;
+    private final StemTrie<T>[] children;
+
+    private StemTrie(String label, int length, T value, char[] firstChars, StemTrie<T>[] children) {
+        this.label = label;
+        this.length = length;
+        this.value = value;
+        this.firstChars = firstChars;
+        this.children = children;
+    }
+
+    /**
+     * Returns the child node whose prefix is also a prefix of given path, or {@code null} if there is none.
+     */
+    StemTrie<T> next(String path) {
+        if (length >= path.length() || firstChars.length == 0) {
+            return null;
+        }
+        int index = Arrays.binarySearch(firstChars, path.charAt(length));
+        if (index < 0) {
+            return null;
+        }
+        StemTrie<T> child = children[index];
+        return path.regionMatches(length, child.label, 0, child.label.length()) ? child : null;
+    }
+
+    /**
+     * @return the length of the prefix represented by this node
+     */
+    int length() {
+        return length;
+    }
+
+    /**
+     * @return the value of the stem that ends at this node, or {@code null}
+     */
+    T value() {
+        return value;
+    }
+
+    @Override
+    public void dump(int level) {
+        dump(level, "");
+    }
+
+    private void dump(int level, String prefix) {
+        String stem = prefix + label;
+        if (value != null) {
+            indent(level);
+            System.err.println(stem + ": ");
+            if (value instanceof Dumpable) {
+                ((Dumpable) value).dump(level + 2);
+            }
+        }
+        for (StemTrie<T> child : children) {
+            child.dump(level, stem);
+        }
+    }
+
+    static class Builder<T> {
+
+        private final TreeMap<String, T> stems = new TreeMap<>();
+
+        void put(String stem, T value) {
+            if (stem.isEmpty()) {
+                throw new IllegalArgumentException("Stem not specified");
+            }
+            stems.put(stem, value);
+        }
+
+        StemTrie<T> build() {
+            return build("", "", new ArrayList<>(stems.keySet()));
+        }
+
+        /**
+         * @param label the part of the prefix that is not shared with the parent node
+         * @param prefix the whole prefix
+         * @param keys sorted stems that start with the prefix
+         */
+        @SuppressWarnings("unchecked")
+        private StemTrie<T> build(String label, String prefix, List<String> keys) {
+            T value = stems.get(prefix);
+            List<StemTrie<T>> children = new ArrayList<>();
+            int start = !keys.isEmpty() && prefix.equals(keys.get(0)) ? 1 : 0;
+            while (start < keys.size()) {
+                // all stems starting with the same character after the prefix go into the same child
+                char c = keys.get(start).charAt(prefix.length());
+                int end = start + 1;
+                while (end < keys.size() && keys.get(end).charAt(prefix.length()) == c) {
+                    end++;
+                }
+                // the keys are sorted, so the common prefix of the first and the last key is common to all of them
+                String childPrefix = commonPrefix(keys.get(start), keys.get(end - 1));
+                children.add(build(childPrefix.substring(prefix.length()), childPrefix, keys.subList(start, end)));
+                start = end;
+            }
+            char[] firstChars = children.isEmpty() ? NO_CHARS : new char[children.size()];
+            for (int i = 0; i < children.size(); i++) {
+                firstChars[i] = children.get(i).label.charAt(0);
+            }
+            return new StemTrie<>(label, prefix.length(), value, firstChars, children.toArray(new StemTrie[0]));
+        }
+
+        private static String commonPrefix(String a, String b) {
+            int length = Math.min(a.length(), b.length());
+            int i = 0;
+            while (i < length && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return a.substring(0, i);
+        }
+    }
+}
@@ -13,7 +13,10 @@
  * This class does not actually implement the map interface to avoid implementing unnecessary operations.
  *
  * @author Stuart Douglas
+ *
+ * @deprecated only used by the deprecated {@link RequestMapper#getRequestPaths()}
  */
+@Deprecated(forRemoval = true)
 class SubstringMap<V> {
     private static final int ALL_BUT_LAST_BIT = ~1;
 
@@ -0,0 +1,56 @@
+package org.jboss.resteasy.reactive.server.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class JsonArrayChunkBufferTest {
+
+    @Test
+    void testEmptyArray() {
+        JsonArrayChunkBuffer chunks = new JsonArrayChunkBuffer(16);
+        assertTrue(chunks.isEmpty());
+        assertFalse(chunks.hasElements());
+        assertEquals(0, chunks.take().length);
+        assertEquals("[]", new String(chunks.finish(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testElements() throws IOException {
+        JsonArrayChunkBuffer chunks = new JsonArrayChunkBuffer(1024);
+        for (String element : new String[] { "1", "\"two\"", "{\"three\":3}" }) {
+            chunks.nextElement().write(element.getBytes(StandardCharsets.UTF_8));
+        }
+        assertTrue(chunks.hasElements());
+        assertFalse(chunks.isFull());
+        assertEquals("[1,\"two\",{\"three\":3}]", new String(chunks.finish(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testChunks() throws IOException {
+        JsonArrayChunkBuffer chunks = new JsonArrayChunkBuffer(10);
+        ByteArrayOutputStream sent = new ByteArrayOutputStream();
+        StringBuilder expected = new StringBuilder("[");
+        int chunkCount = 0;
+        for (int i = 0; i < 100; i++) {
+            chunks.nextElement().write(String.valueOf(i).getBytes(StandardCharsets.UTF_8));
+            expected.append(i == 0 ? "" : ",").append(i);
+            if (chunks.isFull()) {
+                byte[] chunk = chunks.take();
+                assertTrue(chunk.length >= 10 && chunk.length < 14, String.valueOf(chunk.length));
+                assertTrue(chunks.isEmpty());
+                sent.write(chunk);
+                chunkCount++;
+            }
+        }
+        sent.write(chunks.finish());
+        assertEquals(expected.append(']').toString(), sent.toString(StandardCharsets.UTF_8));
+        assertTrue(chunkCount > 20, String.valueOf(chunkCount));
+    }
+}
@@ -0,0 +1,155 @@
+package io.quarkus.it.quartz;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.TriggerBuilder;
+import org.quartz.impl.SchedulerRepository;
+import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.impl.jdbcjobstore.JobStoreTX;
+import org.quartz.simpl.SimpleThreadPool;
+import org.quartz.utils.ConnectionProvider;
+import org.quartz.utils.DBConnectionManager;
+
+import io.agroal.api.AgroalDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.quartz.runtime.jdbc.QuarkusStdJDBCDelegate;
+import io.quarkus.test.junit.QuarkusTest;
+
+/**
+ * Runs a second scheduler instance in the cluster of the application, both acquiring the triggers of their own partition.
+ */
+@QuarkusTest
+public class PartitionedTriggerAcquisitionTest {
+
+    private static final String OTHER_INSTANCE = "otherInstanceId";
+    private static final String GROUP = "partitioned";
+    private static final int TRIGGERS = 8;
+    private static final int FIRINGS = 5;
+
+    @Inject
+    Scheduler quartz;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Test
+    public void testEachTriggerFiresOnce() throws SchedulerException {
+        Scheduler other = startOtherInstance();
+        try {
+            Date startAt = new Date(System.currentTimeMillis() + 1000);
+            for (int i = 0; i < TRIGGERS; i++) {
+                quartz.scheduleJob(JobBuilder.newJob(RecordingJob.class).withIdentity("job-" + i, GROUP).build(),
+                        TriggerBuilder.newTrigger()
+                                .withIdentity("trigger-" + i, GROUP)
+                                .startAt(startAt)
+                                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                                        .withIntervalInMilliseconds(500)
+                                        .withRepeatCount(FIRINGS - 1))
+                                .build());
+            }
+
+            await().atMost(Duration.ofSeconds(30)).until(() -> RecordingJob.FIRINGS.size() == TRIGGERS * FIRINGS);
+            // No firing is executed by both instances
+            await().during(Duration.ofSeconds(1)).atMost(Duration.ofSeconds(2))
+                    .until(() -> RecordingJob.EXECUTIONS.get() == TRIGGERS * FIRINGS);
+            assertEquals(TRIGGERS * FIRINGS, RecordingJob.FIRINGS.size());
+        } finally {
+            other.shutdown(true);
+            rebindApplicationScheduler();
+            for (int i = 0; i < TRIGGERS; i++) {
+                quartz.deleteJob(JobKey.jobKey("job-" + i, GROUP));
+            }
+        }
+
+        Timer lockWait = registry.find("quartz.jobstore.lock.wait").tag("lock", "TRIGGER_ACCESS").timer();
+        assertNotNull(lockWait);
+        assertTrue(lockWait.count() > 0);
+        assertNotNull(registry.find("quartz.jobstore.lock.wait").tag("lock", "STATE_ACCESS").timer());
+    }
+
+    private Scheduler startOtherInstance() throws SchedulerException {
+        DBConnectionManager.getInstance().addConnectionProvider(OTHER_INSTANCE, new ConnectionProvider() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return dataSource.getConnection();
+            }
+
+            @Override
+            public void shutdown() {
+            }
+
+            @Override
+            public void initialize() {
+            }
+        });
+        Properties props = new Properties();
+        props.put(StdSchedulerFactory.PROP_SCHED_INSTANCE_NAME, quartz.getSchedulerName());
+        props.put(StdSchedulerFactory.PROP_SCHED_INSTANCE_ID, OTHER_INSTANCE);
+        props.put(StdSchedulerFactory.PROP_THREAD_POOL_CLASS, SimpleThreadPool.class.getName());
+        props.put(StdSchedulerFactory.PROP_THREAD_POOL_PREFIX + ".threadCount", "5");
+        props.put(StdSchedulerFactory.PROP_JOB_STORE_CLASS, JobStoreTX.class.getName());
+        props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".driverDelegateClass", QuarkusStdJDBCDelegate.class.getName());
+        props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".dataSource", OTHER_INSTANCE);
+        props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".isClustered", "true");
+        props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".clusterCheckinInterval", "1000");
+        props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".acquireTriggersWithinLock", "false");
+        props.put(StdSchedulerFactory.PROP_SCHED_SCHEDULER_THREADS_INHERIT_CONTEXT_CLASS_LOADER_OF_INITIALIZING_THREAD, "true");
+        // The scheduler repository of Quartz is keyed by the instance name, which is shared by the members of the cluster
+        Scheduler other;
+        SchedulerRepository.getInstance().remove(quartz.getSchedulerName());
+        try {
+            other = new StdSchedulerFactory(props).getScheduler();
+        } finally {
+            rebindApplicationScheduler();
+        }
+        other.start();
+        return other;
+    }
+
+    private void rebindApplicationScheduler() throws SchedulerException {
+        SchedulerRepository repository = SchedulerRepository.getInstance();
+        repository.remove(quartz.getSchedulerName());
+        repository.bind(quartz);
+    }
+
+    public static class RecordingJob implements Job {
+
+        // The trigger and the scheduled fire time of each execution
+        static final Set<String> FIRINGS = ConcurrentHashMap.newKeySet();
+        static final AtomicInteger EXECUTIONS = new AtomicInteger();
+
+        @Override
+        public void execute(JobExecutionContext context) {
+            FIRINGS.add(context.getTrigger().getKey().getName() + "@" + context.getScheduledFireTime().getTime());
+            EXECUTIONS.incrementAndGet();
+        }
+
+    }
+
+}